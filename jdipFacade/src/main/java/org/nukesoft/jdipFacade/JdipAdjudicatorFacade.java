@@ -25,6 +25,7 @@ import org.nukesoft.jdipFacade.exception.JdipException;
 import org.nukesoft.jdipFacade.exception.StateError;
 
 import java.io.File;
+import java.util.concurrent.ExecutorService;
 
 
 /**
@@ -34,9 +35,9 @@ import java.io.File;
  * @author Ryan Michela
  */
 public class JdipAdjudicatorFacade {
-    private static String jdipRootPath;
-    private static boolean isVariantManagerInitialized = false;
-    private static ImplementationStrategy strategy;
+    private static volatile String jdipRootPath;
+    private static volatile boolean isVariantManagerInitialized = false;
+    private static volatile ImplementationStrategy strategy;
 
     /**
      * Instantiates a <code>JdipAdjudicatorFacade</code> and initializes the <code>VariantManager</code>.
@@ -59,7 +60,7 @@ public class JdipAdjudicatorFacade {
      * @param strategy     the <code>ImplementationStrategy</code> to use.
      * @throws JdipException
      */
-    public static void initializeJdip(String jdipRootPath, ImplementationStrategy strategy)
+    public static synchronized void initializeJdip(String jdipRootPath, ImplementationStrategy strategy)
             throws JdipException {
         JdipAdjudicatorFacade.strategy = strategy;
         JdipAdjudicatorFacade.jdipRootPath = jdipRootPath;
@@ -88,6 +89,39 @@ public class JdipAdjudicatorFacade {
         }
     }
 
+    /**
+     * Gets a batch adjudicator which adjudicates games in parallel, using
+     * a fixed pool of the given number of threads. The batch adjudicator
+     * should be shut down when no longer needed.
+     *
+     * @param nThreads the number of adjudication threads
+     * @return the <code>JdipBatchAdjudicator</code>
+     */
+    public static JdipBatchAdjudicator getBatchAdjudicator(int nThreads) {
+        if (isVariantManagerInitialized) {
+            return new JdipBatchAdjudicator(strategy, nThreads);
+        } else {
+            throw new StateError("Cannot create a batch adjudicator without first setting jdipRootPath.");
+        }
+    }
+
+    /**
+     * Gets a batch adjudicator which adjudicates games using the given
+     * <code>ExecutorService</code> (for example, one that creates a virtual
+     * thread per task). The caller remains responsible for shutting down the
+     * <code>ExecutorService</code>.
+     *
+     * @param executor the executor to run adjudications on
+     * @return the <code>JdipBatchAdjudicator</code>
+     */
+    public static JdipBatchAdjudicator getBatchAdjudicator(ExecutorService executor) {
+        if (isVariantManagerInitialized) {
+            return new JdipBatchAdjudicator(strategy, executor);
+        } else {
+            throw new StateError("Cannot create a batch adjudicator without first setting jdipRootPath.");
+        }
+    }
+
     /**
      * Adjudicate a world.
      *
@@ -96,20 +130,28 @@ public class JdipAdjudicatorFacade {
      */
     public static boolean adjudicate(JdipWorld worldFacade) {
         if (isVariantManagerInitialized) {
-            World world = worldFacade.getWorld();
-            //adjudicate
-            Adjudicator stdJudge = new StdAdjudicator(worldFacade.getStrategy().getOrderFactory(), world.getLastTurnState());
-            stdJudge.process();
-            //advance turn state
-            TurnState nextTurnState = stdJudge.getNextTurnState();
-            if (nextTurnState != null) {
-                world.setTurnState(nextTurnState);
-                return true;
-            } else {
-                return false;
-            }
+            return adjudicate(worldFacade.getWorld(), worldFacade.getStrategy());
         } else {
             throw new StateError("Cannot adjudicate a world factory without first setting jdipRootPath.");
         }
     }
+
+    /**
+     * Adjudicates the last turn state of a world, and advances the world to the
+     * next turn state. Worlds do not share adjudication state, so this may be
+     * called concurrently for different worlds.
+     */
+    static boolean adjudicate(World world, ImplementationStrategy strategy) {
+        //adjudicate
+        Adjudicator stdJudge = new StdAdjudicator(strategy.getOrderFactory(), world.getLastTurnState());
+        stdJudge.process();
+        //advance turn state
+        TurnState nextTurnState = stdJudge.getNextTurnState();
+        if (nextTurnState != null) {
+            world.setTurnState(nextTurnState);
+            return true;
+        } else {
+            return false;
+        }
+    }
 }
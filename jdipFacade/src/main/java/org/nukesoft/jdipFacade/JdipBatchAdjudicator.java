@@ -0,0 +1,169 @@
+/*
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation; either version 2 of the License, or
+ *  (at your option) any later version.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, write to the Free Software
+ *  Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+ */
+package org.nukesoft.jdipFacade;
+
+import info.jdip.world.World;
+import org.nukesoft.jdipFacade.exception.JdipException;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+
+/**
+ * Adjudicates many independent games in parallel.
+ * <p>
+ * Each game is adjudicated exactly as <code>JdipAdjudicatorFacade.adjudicate()</code>
+ * would; games are independent, so they may be adjudicated concurrently. A
+ * single <code>JdipWorld</code> must not be adjudicated (or otherwise modified)
+ * by more than one thread at a time.
+ * <p>
+ * Failures are reported per game, in the <code>JdipBatchResult</code>; a
+ * failed game does not affect the rest of the batch.
+ *
+ * @see JdipAdjudicatorFacade#getBatchAdjudicator(int)
+ */
+public class JdipBatchAdjudicator {
+    private final ImplementationStrategy strategy;
+    private final ExecutorService executor;
+    private final boolean isExecutorOwned;
+
+    JdipBatchAdjudicator(ImplementationStrategy strategy, int nThreads) {
+        if (nThreads < 1) {
+            throw new IllegalArgumentException("nThreads < 1");
+        }
+        this.strategy = strategy;
+        this.executor = Executors.newFixedThreadPool(nThreads);
+        this.isExecutorOwned = true;
+    }
+
+    JdipBatchAdjudicator(ImplementationStrategy strategy, ExecutorService executor) {
+        if (executor == null) {
+            throw new IllegalArgumentException("null executor");
+        }
+        this.strategy = strategy;
+        this.executor = executor;
+        this.isExecutorOwned = false;
+    }
+
+    /**
+     * Adjudicates each world, advancing it to its next turn state.
+     *
+     * @param worlds the worlds to adjudicate; each world may appear only once
+     * @return a result for each world, in iteration order of <code>worlds</code>
+     * @throws JdipException if interrupted while waiting for adjudication to complete
+     */
+    public JdipBatchResult[] adjudicate(Collection<JdipWorld> worlds)
+            throws JdipException {
+        Set<JdipWorld> seen = Collections.newSetFromMap(new IdentityHashMap<JdipWorld, Boolean>());
+        List<Callable<JdipBatchResult>> tasks = new ArrayList<>(worlds.size());
+        for (final JdipWorld world : worlds) {
+            if (!seen.add(world)) {
+                throw new IllegalArgumentException("world appears more than once in batch");
+            }
+            tasks.add(new Callable<JdipBatchResult>() {
+                public JdipBatchResult call() {
+                    return adjudicate(null, world, false);
+                }
+            });
+        }
+        return invokeAll(tasks);
+    }
+
+    /**
+     * Loads each saved game, adjudicates it, and optionally saves the
+     * adjudicated game back to the same file.
+     *
+     * @param files the saved games to adjudicate
+     * @param save  if <code>true</code>, each adjudicated game is saved to the file it was loaded from
+     * @return a result for each file, in iteration order of <code>files</code>
+     * @throws JdipException if interrupted while waiting for adjudication to complete
+     */
+    public JdipBatchResult[] adjudicateFiles(Collection<File> files, final boolean save)
+            throws JdipException {
+        List<Callable<JdipBatchResult>> tasks = new ArrayList<>(files.size());
+        for (final File file : files) {
+            tasks.add(new Callable<JdipBatchResult>() {
+                public JdipBatchResult call() {
+                    return adjudicate(file, null, save);
+                }
+            });
+        }
+        return invokeAll(tasks);
+    }
+
+    /**
+     * Shuts down the thread pool, if it was created by this batch adjudicator.
+     * An <code>ExecutorService</code> supplied by the caller is not shut down.
+     */
+    public void shutdown() {
+        if (isExecutorOwned) {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * Adjudicates a single game; never throws, failures are recorded in the result.
+     */
+    private JdipBatchResult adjudicate(File file, JdipWorld worldFacade, boolean save) {
+        final long start = System.nanoTime();
+        boolean advanced = false;
+        try {
+            if (worldFacade == null) {
+                worldFacade = new JdipWorld(World.open(file), strategy);
+            }
+            advanced = JdipAdjudicatorFacade.adjudicate(worldFacade.getWorld(), worldFacade.getStrategy());
+            if (save) {
+                World.save(file, worldFacade.getWorld());
+            }
+            return new JdipBatchResult(file, worldFacade, advanced, null, System.nanoTime() - start);
+        } catch (IOException e) {
+            return new JdipBatchResult(file, worldFacade, advanced,
+                    new JdipException("Error reading or writing " + file, e), System.nanoTime() - start);
+        } catch (RuntimeException e) {
+            return new JdipBatchResult(file, worldFacade, advanced,
+                    new JdipException("Error adjudicating game", e), System.nanoTime() - start);
+        }
+    }
+
+    private JdipBatchResult[] invokeAll(List<Callable<JdipBatchResult>> tasks)
+            throws JdipException {
+        try {
+            List<Future<JdipBatchResult>> futures = executor.invokeAll(tasks);
+            JdipBatchResult[] results = new JdipBatchResult[futures.size()];
+            for (int i = 0; i < results.length; i++) {
+                results[i] = futures.get(i).get();
+            }
+            return results;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new JdipException("Interrupted during batch adjudication", e);
+        } catch (ExecutionException e) {
+            // adjudicate() records failures in the result; only an Error gets here
+            throw new JdipException("Error adjudicating game", e.getCause());
+        }
+    }
+}
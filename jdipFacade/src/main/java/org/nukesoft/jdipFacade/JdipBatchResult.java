@@ -0,0 +1,98 @@
+/*
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation; either version 2 of the License, or
+ *  (at your option) any later version.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, write to the Free Software
+ *  Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+ */
+package org.nukesoft.jdipFacade;
+
+import org.nukesoft.jdipFacade.exception.JdipException;
+
+import java.io.File;
+
+
+/**
+ * The outcome of adjudicating one game in a batch.
+ *
+ * @see JdipBatchAdjudicator
+ */
+public class JdipBatchResult {
+    private final File file;
+    private final JdipWorld world;
+    private final boolean advanced;
+    private final JdipException exception;
+    private final long elapsedNanos;
+
+    JdipBatchResult(File file, JdipWorld world, boolean advanced, JdipException exception, long elapsedNanos) {
+        this.file = file;
+        this.world = world;
+        this.advanced = advanced;
+        this.exception = exception;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    /**
+     * Gets the file the game was loaded from.
+     *
+     * @return the file, or <code>null</code> if the game was not loaded from a file
+     */
+    public File getFile() {
+        return file;
+    }
+
+    /**
+     * Gets the adjudicated world.
+     *
+     * @return the world, or <code>null</code> if the game could not be loaded
+     */
+    public JdipWorld getWorld() {
+        return world;
+    }
+
+    /**
+     * Determines if adjudication succeeded.
+     *
+     * @return <code>true</code> if the game was adjudicated (and saved, if requested)
+     */
+    public boolean isSuccessful() {
+        return exception == null;
+    }
+
+    /**
+     * Determines if the world was advanced to a new turn state. This is the
+     * same value returned by <code>JdipAdjudicatorFacade.adjudicate()</code>.
+     *
+     * @return <code>true</code> if there is a new turn state
+     */
+    public boolean isAdvanced() {
+        return advanced;
+    }
+
+    /**
+     * Gets the reason adjudication failed.
+     *
+     * @return the exception, or <code>null</code> if adjudication succeeded
+     */
+    public JdipException getException() {
+        return exception;
+    }
+
+    /**
+     * Gets the time taken to load (if required), adjudicate, and save
+     * (if requested) this game. Time spent waiting for a thread is not included.
+     *
+     * @return elapsed time in nanoseconds
+     */
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+}
@@ -889,6 +889,13 @@ public class ClientFrame extends JFrame {
      * is no longer reflected in its saved state.
      */
     public final void fireStateModified() {
+        // the current TurnState may have been paged out by the World
+        final World w = getWorld();
+        final TurnState ts = getTurnState();
+        if (w != null && ts != null) {
+            w.setTurnStateModified(ts);
+        }
+
         synchronized (fireLock) {
             firePropertyChange(EVT_MODIFIED_STATE, false, true);
         }
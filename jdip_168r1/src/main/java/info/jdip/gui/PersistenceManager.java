@@ -87,6 +87,7 @@ public class PersistenceManager {
     private ClientFrame clientFrame = null;
     private boolean isChanged = false;
     private File fileName = null;
+    private boolean isIndexedFile = false;    // format of fileName
     private PropertyChangeListener modListener = null;
 
     /**
@@ -288,6 +289,7 @@ public class PersistenceManager {
             World world = NewGameDialog.displayDialog(clientFrame);
             if (world != null) {
                 fileName = null;
+                isIndexedFile = GeneralPreferencePanel.getSaveIndexed();
                 setChanged(false);
                 setSaveEnabled(true);
                 clientFrame.getClientMenu().setSelected(ClientMenu.EDIT_EDIT_MODE, false);
@@ -318,6 +320,7 @@ public class PersistenceManager {
 
             if (world != null) {
                 fileName = null;
+                isIndexedFile = GeneralPreferencePanel.getSaveIndexed();
                 setChanged(false);
                 setSaveEnabled(true);
                 clientFrame.getClientMenu().setSelected(ClientMenu.EDIT_EDIT_MODE, false);
@@ -373,7 +376,9 @@ public class PersistenceManager {
 
             // get file name
             if (file != null) {
+                // 'save as' uses the preferred format
                 fileName = file;
+                isIndexedFile = GeneralPreferencePanel.getSaveIndexed();
                 boolean returnValue = writeGameFile();
                 setTitle(); // in case write fails; we have chosen the file name
                 GeneralPreferencePanel.setRecentFileName(fileName);
@@ -402,7 +407,7 @@ public class PersistenceManager {
             if (file != null) {
 
                 try {
-                    World.save(file, clientFrame.getWorld());
+                    World.save(file, clientFrame.getWorld(), GeneralPreferencePanel.getSaveIndexed());
                     // DO NOT clear changed flag, though.
                     // Update recent file name list
                     GeneralPreferencePanel.setRecentFileName(file);
@@ -557,6 +562,7 @@ public class PersistenceManager {
     // reads in a game file
     private World readGameFile(File file)
             throws Exception {
+        final boolean indexed = World.isIndexedFile(file);
         World w = World.open(file);
 
         // check if variant is available; if not, inform user.
@@ -575,6 +581,8 @@ public class PersistenceManager {
             }
         }
 
+        // games are saved in the format they were read
+        isIndexedFile = indexed;
         return w;
     }// readGameFile()
 
@@ -596,7 +604,7 @@ public class PersistenceManager {
 
             // save data, update saved flags
             logger.trace( "saving world....");
-            World.save(fileName, w);
+            World.save(fileName, w, isIndexedFile);
 
             logger.trace( "world saved ok.");
             setChanged(false);
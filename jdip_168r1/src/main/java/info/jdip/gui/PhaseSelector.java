@@ -27,9 +27,6 @@ import info.jdip.world.Phase;
 import info.jdip.world.TurnState;
 import info.jdip.world.World;
 
-import java.util.Arrays;
-import java.util.Set;
-
 /**
  * Manages all (except for select) items in the History menu.
  * <p>
@@ -39,9 +36,6 @@ import java.util.Set;
 public class PhaseSelector {
     private World currentWorld = null;
     private TurnState currentTS = null;
-    private int currentPos = 0;
-    private int maxPos = 0;
-    private Phase[] phases = null;
     private ClientFrame parent = null;
     private ClientMenu menu = null;
     private PhasePCL pcl = null;
@@ -67,8 +61,11 @@ public class PhaseSelector {
      * Go to the Previous phase, if possible.
      */
     public void previous() {
-        if (currentPos > 0) {
-            parent.fireTurnstateChanged(currentWorld.getTurnState(phases[currentPos - 1]));
+        if (currentTS != null) {
+            final TurnState previousTS = currentWorld.lowerTurnState(currentTS.getPhase());
+            if (previousTS != null) {
+                parent.fireTurnstateChanged(previousTS);
+            }
         }
     }// previous()
 
@@ -76,8 +73,11 @@ public class PhaseSelector {
      * Go to the next phase, if possible.
      */
     public void next() {
-        if (currentPos < maxPos) {
-            parent.fireTurnstateChanged(currentWorld.getTurnState(phases[currentPos + 1]));
+        if (currentTS != null) {
+            final TurnState nextTS = currentWorld.higherTurnState(currentTS.getPhase());
+            if (nextTS != null) {
+                parent.fireTurnstateChanged(nextTS);
+            }
         }
     }// previous()
 
@@ -101,14 +101,18 @@ public class PhaseSelector {
      * Get the total number of phases.
      */
     public int getPhaseCount() {
-        return maxPos + 1;
+        return (currentWorld == null) ? 0 : currentWorld.getPhaseSet().size();
     }// getPhaseCount()
 
     /**
      * Get the current phase position.
      */
     public int getCurrentPhasePosition() {
-        return currentPos;
+        if (currentWorld == null || currentTS == null) {
+            return 0;
+        }
+
+        return currentWorld.getPhaseSet().headSet(currentTS.getPhase()).size();
     }// getCurrentPhasePosition()
 
 
@@ -124,9 +128,6 @@ public class PhaseSelector {
             // reset our data
             currentWorld = null;
             currentTS = null;
-            phases = null;
-            currentPos = 0;
-            maxPos = 0;
         } else {
             // enable menu options
             //
@@ -158,17 +159,8 @@ public class PhaseSelector {
 
 
     private void setCurrentPosition() {
-        // get set, convert to array
-        Set<Phase> set = currentWorld.getPhaseSet();
-        phases = set.toArray(new Phase[set.size()]);
-
-        // set max size
-        maxPos = phases.length - 1;
-
-        // find current position in array
-        Phase currentPhase = currentTS.getPhase();
-        currentPos = Arrays.binarySearch(phases, currentPhase);
-        if (currentPos < 0) {
+        // the current phase must be in the World
+        if (!currentWorld.getPhaseSet().contains(currentTS.getPhase())) {
             throw new IllegalStateException("bad position!");
         }
 
@@ -182,8 +174,14 @@ public class PhaseSelector {
      * Update Next/Previous menu items
      */
     private void updateNextPrevious() {
-        menu.setEnabled(ClientMenu.HISTORY_PREVIOUS, (currentPos > 0));
-        menu.setEnabled(ClientMenu.HISTORY_NEXT, (currentPos < maxPos));
+        if (currentWorld == null || currentTS == null) {
+            menu.setEnabled(ClientMenu.HISTORY_PREVIOUS, false);
+            menu.setEnabled(ClientMenu.HISTORY_NEXT, false);
+        } else {
+            final Phase currentPhase = currentTS.getPhase();
+            menu.setEnabled(ClientMenu.HISTORY_PREVIOUS, (currentWorld.getPhaseSet().lower(currentPhase) != null));
+            menu.setEnabled(ClientMenu.HISTORY_NEXT, (currentWorld.getPhaseSet().higher(currentPhase) != null));
+        }
     }// updateNextPrevious()
 
 
@@ -200,15 +198,11 @@ public class PhaseSelector {
             menu.setEnabled(ClientMenu.REPORTS_RESULTS, currentTS.isResolved());
 
             // last results available? (if a turnstate is available, and we are not at initial position)
-            if (currentPos <= 0) {
-                menu.setEnabled(ClientMenu.REPORTS_PREVIOUS_RESULTS, false);
+            TurnState previousTS = currentWorld.lowerTurnState(currentTS.getPhase());
+            if (previousTS != null) {
+                menu.setEnabled(ClientMenu.REPORTS_PREVIOUS_RESULTS, previousTS.isResolved());
             } else {
-                TurnState previousTS = currentWorld.getTurnState(phases[currentPos - 1]);
-                if (previousTS != null) {
-                    menu.setEnabled(ClientMenu.REPORTS_PREVIOUS_RESULTS, previousTS.isResolved());
-                } else {
-                    menu.setEnabled(ClientMenu.REPORTS_PREVIOUS_RESULTS, false);
-                }
+                menu.setEnabled(ClientMenu.REPORTS_PREVIOUS_RESULTS, false);
             }
         }
     }// updateResults()
@@ -66,6 +66,7 @@ public class GeneralPreferencePanel extends PreferencePanel {
     public static final String NODE_SAVE_WINDOW_SETTINGS = "saveWindowSettings";
     public static final String NODE_DEFAULT_GAME_DIR = "defaultGameDir";
     public static final String NODE_SHOW_RESOLUTION_RESULTS = "showResolutionResults";
+    public static final String NODE_SAVE_INDEXED = "saveIndexed";
 
     // recent files (w/o #) [if enabled]
     public static final String NODE_RECENT_FILE = "lastFile";
@@ -94,6 +95,7 @@ public class GeneralPreferencePanel extends PreferencePanel {
     private static final String GPP_SAVE_DIR_TEXT = "GPP.save_dir_text";
     private static final String GPP_SAVE_DIR_BUTTON = "GPP.save_dir_button";
     private static final String GPP_SHOW_RESOLUTION_RESULTS = "GPP.show_resolution_results";
+    private static final String GPP_SAVE_INDEXED = "GPP.save_indexed";
     private static final String GPP_CLEAR_MRU_BUTTON = "GPP.clearmru.button";
     private static final String GPP_CLEAR_MRU_TEXT = "GPP.clearmru.text";
     private static final String GPP_MAP_LABEL_PREFIX = "GPP.map.label.level.";
@@ -116,6 +118,7 @@ public class GeneralPreferencePanel extends PreferencePanel {
     private final AssocJComboBox orderSorting;    // order sorting type
     private final AssocJComboBox mapLabels;        // map label level
     private final JCheckBox showResolution;
+    private final JCheckBox saveIndexed;    // save games in the indexed format
     private ClientFrame cf = null;
 
 
@@ -127,6 +130,8 @@ public class GeneralPreferencePanel extends PreferencePanel {
 
         showResolution = new JCheckBox(Utils.getLocalString(GPP_SHOW_RESOLUTION_RESULTS));
 
+        saveIndexed = new JCheckBox(Utils.getLocalString(GPP_SAVE_INDEXED));
+
         saveDir = new JTextField();
         saveDir.setEditable(false);
         browseSaveDir = new JButton(Utils.getLocalString(GPP_SAVE_DIR_BUTTON));
@@ -200,12 +205,12 @@ public class GeneralPreferencePanel extends PreferencePanel {
 
         // layout
         int h1[] = {BORDER, 0, 8, 0, 8, 0, 8, 0, 3, 0, 7, 36,    // upto row 12
-                0, 3, 0, 10, 0, 8, 0, BORDER};
+                0, 3, 0, 10, 0, 8, 0, 8, 0, BORDER};
         int w1[] = {BORDER, 10, 0, 5, 0, BORDER};
 
         HIGLayout l1 = new HIGLayout(w1, h1);
         l1.setColumnWeight(3, 1);
-        l1.setRowWeight(19, 1);
+        l1.setRowWeight(21, 1);
         setLayout(l1);
 
 
@@ -228,8 +233,11 @@ public class GeneralPreferencePanel extends PreferencePanel {
         add(saveDir, c.rcwh(15, 3, 1, 1, "lr"));
         add(browseSaveDir, c.rcwh(15, 5, 1, 1, "lrtb"));
 
+        // save format
+        add(saveIndexed, c.rcwh(17, 2, 4, 1, "l"));
+
         // clear MRU
-        add(clrPanel, c.rcwh(17, 2, 4, 1, "l"));
+        add(clrPanel, c.rcwh(19, 2, 4, 1, "l"));
 
     }// GeneralPreferencePanel()
 
@@ -450,6 +458,14 @@ public class GeneralPreferencePanel extends PreferencePanel {
         return getSetting(NODE_SHOW_RESOLUTION_RESULTS, true);
     }
 
+    /**
+     * Returns if games should be saved in the indexed format, which
+     * earlier versions of jDip cannot open. Defaults to false.
+     */
+    public static boolean getSaveIndexed() {
+        return getSetting(NODE_SAVE_INDEXED, false);
+    }
+
     /**
      * Returns a given setting from preferences
      */
@@ -540,6 +556,7 @@ public class GeneralPreferencePanel extends PreferencePanel {
         prefs.putBoolean(NODE_SAVE_WINDOW_SETTINGS, saveWindowSettings.isSelected());
         prefs.put(NODE_DEFAULT_GAME_DIR, saveDir.getText());
         prefs.putBoolean(NODE_SHOW_RESOLUTION_RESULTS, showResolution.isSelected());
+        prefs.putBoolean(NODE_SAVE_INDEXED, saveIndexed.isSelected());
 
         // map settings
         prefs.put(NODE_MAP_LABEL_LEVEL, (String) mapLabels.getSelectedValue());
@@ -561,6 +578,7 @@ public class GeneralPreferencePanel extends PreferencePanel {
     public void setDefault() {
         saveWindowSettings.setSelected(false);
         showResolution.setSelected(false);
+        saveIndexed.setSelected(false);
         saveDir.setText("");
 
         reverseSort.setSelected(false);
@@ -582,6 +600,7 @@ public class GeneralPreferencePanel extends PreferencePanel {
         saveWindowSettings.setSelected(prefs.getBoolean(NODE_SAVE_WINDOW_SETTINGS, false));
         showResolution.setSelected(prefs.getBoolean(NODE_SHOW_RESOLUTION_RESULTS, true));
         saveDir.setText(prefs.get(NODE_DEFAULT_GAME_DIR, ""));
+        saveIndexed.setSelected(prefs.getBoolean(NODE_SAVE_INDEXED, false));
 
         reverseSort.setSelected(prefs.getBoolean(NODE_ORDER_SORTING_REVERSE, false));
 
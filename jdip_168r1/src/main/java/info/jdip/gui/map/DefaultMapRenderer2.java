@@ -178,7 +178,7 @@ public class DefaultMapRenderer2 extends MapRenderer2 {
     // layers for Z-ordering
     private static final String LAYER_1 = "Layer1";
     private static final String LAYER_2 = "Layer2";
-    private static final String[] Z_LAYER_NAMES = {HIGHEST_ORDER_LAYER, LAYER_1, LAYER_2};
+    static final String[] Z_LAYER_NAMES = {HIGHEST_ORDER_LAYER, LAYER_1, LAYER_2};
     private static final DMR2RenderCommandFactory rcf;    // default render command factory instance.
 
     static {
@@ -1014,16 +1014,7 @@ public class DefaultMapRenderer2 extends MapRenderer2 {
      */
     private SVGElement makeUnitUse(Unit u, Province province, boolean isDislodged) {
         // determine symbol ID
-        String symbolID = null;
-        if (u.getType().equals(Unit.Type.FLEET)) {
-            symbolID = (isDislodged) ? SYMBOL_DISLODGED_FLEET : SYMBOL_FLEET;
-        } else if (u.getType().equals(Unit.Type.ARMY)) {
-            symbolID = (isDislodged) ? SYMBOL_DISLODGED_ARMY : SYMBOL_ARMY;
-        } else if (u.getType().equals(Unit.Type.WING)) {
-            symbolID = (isDislodged) ? SYMBOL_DISLODGED_WING : SYMBOL_WING;
-        } else {
-            throw new IllegalArgumentException("undefined or unknown unit type");
-        }
+        String symbolID = getUnitSymbolID(u.getType(), isDislodged);
 
         // get symbol size data
         MapMetadata.SymbolSize symbolSize = mapMeta.getSymbolSize(symbolID);
@@ -1038,11 +1029,27 @@ public class DefaultMapRenderer2 extends MapRenderer2 {
     }// makeUnitUse()
 
 
+    /**
+     * Returns the symbol ID for a unit of the given type, dislodged or not.
+     */
+    static String getUnitSymbolID(Unit.Type unitType, boolean isDislodged) {
+        if (unitType.equals(Unit.Type.FLEET)) {
+            return (isDislodged) ? SYMBOL_DISLODGED_FLEET : SYMBOL_FLEET;
+        } else if (unitType.equals(Unit.Type.ARMY)) {
+            return (isDislodged) ? SYMBOL_DISLODGED_ARMY : SYMBOL_ARMY;
+        } else if (unitType.equals(Unit.Type.WING)) {
+            return (isDislodged) ? SYMBOL_DISLODGED_WING : SYMBOL_WING;
+        }
+
+        throw new IllegalArgumentException("undefined or unknown unit type");
+    }// getUnitSymbolID()
+
+
     /**
      * Returns the CSS class for power fills.
      * If the power starts with a number, the a capital X is prepended.
      */
-    private String getUnitCSSClass(Power power) {
+    static String getUnitCSSClass(Power power) {
         StringBuilder sb = new StringBuilder(power.getName().length() + 4);
         sb.append("unit");
         sb.append(getPowerName(power));
@@ -1054,7 +1061,7 @@ public class DefaultMapRenderer2 extends MapRenderer2 {
      * Returns the CSS class for Supply Center fills. Returns SC_NOPOWER if power is null.
      * If the power starts with a number, the a capital X is prepended.
      */
-    private String getSCCSSClass(Power power) {
+    static String getSCCSSClass(Power power) {
         if (power == null) {
             return SC_NOPOWER;
         }
@@ -1070,7 +1077,7 @@ public class DefaultMapRenderer2 extends MapRenderer2 {
      * Creates the power name, and prepends an "X" if power name starts with a digit.
      * Does not accept null arguments.
      */
-    private String getPowerName(Power power) {
+    static String getPowerName(Power power) {
         String name = power.getName().toLowerCase();
 
         if (Character.isDigit(name.charAt(0))) {
@@ -1414,11 +1421,11 @@ public class DefaultMapRenderer2 extends MapRenderer2 {
         }
 
         public String getPowerCSS(Power power) {
-            return DefaultMapRenderer2.this.getPowerName(power);
+            return getPowerName(power);
         }
 
         public String getUnitCSS(Power power) {
-            return DefaultMapRenderer2.this.getUnitCSSClass(power);
+            return getUnitCSSClass(power);
         }
 
         public String getSymbolName(Unit.Type unitType) {
@@ -0,0 +1,691 @@
+//
+//  @(#)HeadlessMapRenderer.java	1.00	10/2026
+//
+//
+//  This program is free software; you can redistribute it and/or modify
+//  it under the terms of the GNU General Public License as published by
+//  the Free Software Foundation; either version 2 of the License, or
+//  (at your option) any later version.
+//
+//  This program is distributed in the hope that it will be useful,
+//  but WITHOUT ANY WARRANTY; without even the implied warranty of
+//  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//  GNU General Public License for more details.
+//
+//  You should have received a copy of the GNU General Public License
+//  along with this program; if not, write to the Free Software
+//  Foundation, Inc., 675 Mass Ave, Cambridge, MA 02139, USA.
+//  Or from http://www.gnu.org/
+//
+package info.jdip.gui.map;
+
+import info.jdip.gui.order.GUIMoveExplicit;
+import info.jdip.gui.order.GUIOrder;
+import info.jdip.gui.order.GUIOrderFactory;
+import info.jdip.order.Build;
+import info.jdip.order.Convoy;
+import info.jdip.order.DefineState;
+import info.jdip.order.Disband;
+import info.jdip.order.Hold;
+import info.jdip.order.Move;
+import info.jdip.order.Orderable;
+import info.jdip.order.Remove;
+import info.jdip.order.Retreat;
+import info.jdip.order.Support;
+import info.jdip.order.Waive;
+import info.jdip.world.Position;
+import info.jdip.world.Power;
+import info.jdip.world.Province;
+import info.jdip.world.TurnState;
+import info.jdip.world.Unit;
+import info.jdip.world.World;
+import info.jdip.world.variant.VariantManager;
+import info.jdip.world.variant.data.MapGraphic;
+import info.jdip.world.variant.data.SymbolPack;
+import info.jdip.world.variant.data.Variant;
+import org.apache.batik.dom.svg.SAXSVGDocumentFactory;
+import org.apache.batik.dom.svg.SVGDOMImplementation;
+import org.apache.batik.dom.util.DOMUtilities;
+import org.apache.batik.transcoder.TranscoderException;
+import org.apache.batik.transcoder.TranscoderInput;
+import org.apache.batik.transcoder.TranscoderOutput;
+import org.apache.batik.transcoder.image.ImageTranscoder;
+import org.apache.batik.util.CSSConstants;
+import org.apache.batik.util.SVGConstants;
+import org.apache.batik.util.XMLResourceDescriptor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.w3c.dom.Document;
+import org.w3c.dom.Node;
+import org.w3c.dom.svg.SVGDocument;
+import org.w3c.dom.svg.SVGElement;
+import org.w3c.dom.svg.SVGGElement;
+import org.xml.sax.SAXException;
+import org.xml.sax.XMLReader;
+
+import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.parsers.SAXParserFactory;
+import javax.xml.transform.Transformer;
+import javax.xml.transform.TransformerFactory;
+import javax.xml.transform.dom.DOMSource;
+import javax.xml.transform.stream.StreamResult;
+import java.awt.geom.Point2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+
+
+/**
+ * Renders map images (SVG or PNG) of a TurnState, without a MapPanel,
+ * ClientFrame, or any AWT windows. This is intended for server-side use;
+ * the <code>java.awt.headless</code> system property should be set to
+ * <code>true</code> when no display is available.
+ * <p>
+ * The map SVG for each Variant, MapGraphic, and SymbolPack is parsed,
+ * symbol-injected, and checked only once; the resulting base document
+ * (with empty supply center, unit, and order layers) is cached. Each render
+ * clones the base document, and only adds supply centers, units, orders, and
+ * province hilites to the clone. Rendering is similar to that of
+ * DefaultMapRenderer2 with its default settings; all orders are shown.
+ * <p>
+ * HeadlessMapRenderer objects are immutable, and may be used concurrently
+ * by any number of threads. Orders are drawn using GUIOrder copies of the
+ * TurnState orders, so the orders themselves are never altered.
+ */
+public final class HeadlessMapRenderer {
+    private static final Logger logger = LoggerFactory.getLogger(HeadlessMapRenderer.class);
+    private static final Map<String, HeadlessMapRenderer> cache = new ConcurrentHashMap<>();
+    private static final GUIOrderFactory guiOrderFactory = new GUIOrderFactory();
+    private static final byte[] PNG_SIGNATURE = {(byte) 137, 80, 78, 71, 13, 10, 26, 10};
+    private static final int PNG_COMPRESSION_LEVEL = 3;
+
+    // base document, and parsed metadata
+    private final SVGDocument baseDoc;
+    private final MapMetadata mapMeta;
+
+    // paths (child indices from the document element) to elements in the base document
+    private final int[] scLayerPath;
+    private final int[] unitLayerPath;
+    private final int[] dislodgedUnitLayerPath;
+    private final int[] briefLabelLayerPath;
+    private final int[] fullLabelLayerPath;
+    private final int[][] hilitePaths;            // indexed by Province index; null if none
+    private final Map<Power, int[][]> orderPaths;    // power order groups, indexed by z-order
+
+    static {
+        // Batik's default XMLReader may not be present; unless one has been set
+        // (e.g., by ClientFrame), use the JAXP XMLReader, as ClientFrame does.
+        try {
+            Class.forName(XMLResourceDescriptor.getXMLParserClassName());
+        } catch (ClassNotFoundException e) {
+            try {
+                XMLReader xmlReader = SAXParserFactory.newInstance().newSAXParser().getXMLReader();
+                XMLResourceDescriptor.setXMLParserClassName(xmlReader.getClass().getName());
+                logger.debug("Batik XMLReader: {}", XMLResourceDescriptor.getXMLParserClassName());
+            } catch (ParserConfigurationException | SAXException e2) {
+                logger.error("No XMLReader available", e2);
+            }
+        }
+    }
+
+
+    /**
+     * Creates a HeadlessMapRenderer. Use getInstance() instead, so that
+     * base documents are cached.
+     */
+    private HeadlessMapRenderer(Variant variant, MapGraphic mg, SymbolPack sp, info.jdip.world.Map worldMap)
+            throws MapException {
+        try {
+            SymbolInjector si = new SymbolInjector(variant, mg, sp, false);
+            si.inject();
+            baseDoc = transform(si.getDocument(),
+                    VariantManager.getVariantPackageJarURL(variant).toString());
+        } catch (Exception e) {
+            throw new MapException("Cannot load map \"" + mg.getName() + "\" for variant \""
+                    + variant.getName() + "\".", e);
+        }
+
+        mapMeta = new MapMetadata(baseDoc, worldMap, sp, false);
+
+        // check symbols and layers
+        Map<?, ?> symbols = SVGUtils.tagFinderSVG(Arrays.asList(DefaultMapRenderer2.SYMBOLS), baseDoc.getRootElement());
+        for (String symbol : DefaultMapRenderer2.SYMBOLS) {
+            if (symbols.get(symbol) == null) {
+                throw new MapException("Missing required <symbol> or <g> element with id=\"" + symbol + "\".");
+            } else if (mapMeta.getSymbolSize(symbol) == null) {
+                throw new MapException("Missing required <jdipNS:SYMBOLSIZE> element for symbol name \"" + symbol + "\"");
+            }
+        }
+
+        HashMap<String, Node> layerMap = new HashMap<>(11);
+        SVGUtils.tagFinderSVG(layerMap, Arrays.asList(DefaultMapRenderer2.LAYERS), baseDoc.getRootElement());
+        for (String layer : DefaultMapRenderer2.LAYERS) {
+            if (layerMap.get(layer) == null) {
+                throw new MapException("Missing required layer (<g> element) with id=\"" + layer + "\".");
+            }
+        }
+
+        // create the per-power order groups, exactly as DefaultMapRenderer2 does
+        final Power[] powers = worldMap.getPowers();
+        final int nLayers = DefaultMapRenderer2.Z_LAYER_NAMES.length;
+        final SVGElement[][] orderGroups = new SVGElement[powers.length][nLayers];
+        for (int z = (nLayers - 1); z >= 0; z--) {
+            Node orderLayer;
+            if (z == 0) {
+                orderLayer = layerMap.get(DefaultMapRenderer2.HIGHEST_ORDER_LAYER);
+            } else {
+                orderLayer = createGroup(DefaultMapRenderer2.Z_LAYER_NAMES[z]);
+                layerMap.get(DefaultMapRenderer2.LAYER_ORDERS).appendChild(orderLayer);
+            }
+
+            for (int i = 0; i < powers.length; i++) {
+                orderGroups[i][z] = createGroup(DefaultMapRenderer2.getPowerName(powers[i]) + '_' + z);
+                orderLayer.appendChild(orderGroups[i][z]);
+            }
+        }
+
+        // paths can only be determined once the base document is complete
+        scLayerPath = getPath(layerMap.get(DefaultMapRenderer2.LAYER_SC));
+        unitLayerPath = getPath(layerMap.get(DefaultMapRenderer2.LAYER_UNITS));
+        dislodgedUnitLayerPath = getPath(layerMap.get(DefaultMapRenderer2.LAYER_DISLODGED_UNITS));
+        briefLabelLayerPath = getPath(layerMap.get(DefaultMapRenderer2.LABEL_LAYER_BRIEF));
+        fullLabelLayerPath = getPath(layerMap.get(DefaultMapRenderer2.LABEL_LAYER_FULL));
+
+        orderPaths = new HashMap<>(powers.length * 2);
+        for (int i = 0; i < powers.length; i++) {
+            int[][] paths = new int[nLayers][];
+            for (int z = 0; z < nLayers; z++) {
+                paths[z] = getPath(orderGroups[i][z]);
+            }
+            orderPaths.put(powers[i], paths);
+        }
+
+        // province hilites: groups with an ID of an underscore followed by a province name
+        final Province[] provinces = worldMap.getProvinces();
+        hilitePaths = new int[provinces.length][];
+
+        List<String> uscoreProvList = new ArrayList<>(provinces.length * 2);
+        for (Province province : provinces) {
+            for (String shortName : province.getShortNames()) {
+                uscoreProvList.add('_' + shortName);
+            }
+        }
+
+        Map<?, ?> hilites = SVGUtils.tagFinderSVG(uscoreProvList, baseDoc.getRootElement(), true);
+        int n = 0;
+        for (Province province : provinces) {
+            for (int i = 0; i < province.getShortNames().length; i++) {
+                SVGElement element = (SVGElement) hilites.get(uscoreProvList.get(n++));
+                if (element != null) {
+                    // as with DefaultMapRenderer2, the last matching element is used
+                    hilitePaths[province.getIndex()] = getPath(element);
+                }
+            }
+        }
+    }// HeadlessMapRenderer()
+
+
+    /**
+     * Gets the HeadlessMapRenderer for the Variant, MapGraphic, and SymbolPack
+     * of the given World. The MapGraphic and SymbolPack are determined
+     * in the same manner as by the MapPanel.
+     */
+    public static HeadlessMapRenderer getInstance(World world)
+            throws MapException {
+        World.VariantInfo vi = world.getVariantInfo();
+        Variant variant = (vi.getVariantName() == null) ? null
+                : VariantManager.getVariant(vi.getVariantName(), vi.getVariantVersion());
+        if (variant == null) {
+            throw new MapException("Variant \"" + vi.getVariantName() + "\" not found.");
+        }
+
+        MapGraphic mg = variant.getMapGrapic(vi.getMapName());
+        if (mg == null) {
+            mg = variant.getDefaultMapGraphic();
+            if (mg == null) {
+                throw new MapException("Map \"" + vi.getMapName() + "\" not found for variant \""
+                        + vi.getVariantName() + "\".");
+            }
+        }
+
+        SymbolPack sp = VariantManager.getSymbolPack(mg, vi.getSymbolPackName(), vi.getSymbolPackVersion());
+        return getInstance(variant, mg, sp, world.getMap());
+    }// getInstance()
+
+
+    /**
+     * Gets the HeadlessMapRenderer for the given Variant, MapGraphic, and
+     * SymbolPack. The (world) Map must be a Map of the given Variant; it is
+     * only used if the base document is not already cached.
+     */
+    public static HeadlessMapRenderer getInstance(Variant variant, MapGraphic mg, SymbolPack sp,
+                                                  info.jdip.world.Map worldMap)
+            throws MapException {
+        if (variant == null || mg == null || sp == null || worldMap == null) {
+            throw new IllegalArgumentException();
+        }
+
+        final String key = variant.getName() + '\u0000' + variant.getVersion() + '\u0000'
+                + mg.getName() + '\u0000' + sp.getName() + '\u0000' + sp.getVersion();
+
+        HeadlessMapRenderer renderer = cache.get(key);
+        if (renderer == null) {
+            // concurrent first requests may both load; only one is kept
+            renderer = new HeadlessMapRenderer(variant, mg, sp, worldMap);
+            final HeadlessMapRenderer existing = cache.putIfAbsent(key, renderer);
+            if (existing != null) {
+                renderer = existing;
+            } else {
+                logger.debug("Cached base map document for {}, {}, {}", variant.getName(), mg.getName(), sp.getName());
+            }
+        }
+
+        return renderer;
+    }// getInstance()
+
+
+    /**
+     * Removes all cached base documents.
+     */
+    public static void clearCache() {
+        cache.clear();
+    }// clearCache()
+
+
+    /**
+     * Returns the MapMetadata for this renderer. This must not be closed.
+     */
+    public MapMetadata getMapMetadata() {
+        return mapMeta;
+    }// getMapMetadata()
+
+
+    /**
+     * Renders the given TurnState into a new SVG Document.
+     * <p>
+     * The label setting must be one of MapRenderer2.VALUE_LABELS_NONE,
+     * VALUE_LABELS_BRIEF, or VALUE_LABELS_FULL.
+     */
+    public SVGDocument render(TurnState ts, String labels) {
+        if (ts == null) {
+            throw new IllegalArgumentException();
+        }
+
+        final SVGDocument doc = (SVGDocument) baseDoc.cloneNode(true);
+        final Position position = ts.getPosition();
+        final Province[] provinces = ts.getWorld().getMap().getProvinces();
+
+        // labels
+        setVisibility((SVGElement) find(doc, briefLabelLayerPath),
+                MapRenderer2.VALUE_LABELS_BRIEF.equals(labels));
+        setVisibility((SVGElement) find(doc, fullLabelLayerPath),
+                MapRenderer2.VALUE_LABELS_FULL.equals(labels));
+
+        // supply centers, province hilites, and units
+        final Node scLayer = find(doc, scLayerPath);
+        final Node unitLayer = find(doc, unitLayerPath);
+        final Node dislodgedUnitLayer = find(doc, dislodgedUnitLayerPath);
+        final MapMetadata.SymbolSize scSize = mapMeta.getSymbolSize(DefaultMapRenderer2.SYMBOL_SC);
+
+        for (Province province : provinces) {
+            if (province.hasSupplyCenter()) {
+                final Power owner = position.getSupplyCenterOwner(province);
+                final Point2D.Float pos = mapMeta.getSCPt(province);
+                scLayer.appendChild(SVGUtils.createUseElement(doc, DefaultMapRenderer2.SYMBOL_SC, null,
+                        DefaultMapRenderer2.getSCCSSClass(owner), pos.x, pos.y, scSize));
+
+                final int[] path = hilitePaths[province.getIndex()];
+                if (owner != null && path != null) {
+                    ((SVGElement) find(doc, path)).setAttributeNS(null, SVGConstants.SVG_CLASS_ATTRIBUTE,
+                            DefaultMapRenderer2.getPowerName(owner));
+                }
+            }
+
+            Unit unit = position.getUnit(province);
+            if (unit != null) {
+                unitLayer.appendChild(makeUnitUse(doc, unit, province, false));
+            }
+
+            unit = position.getDislodgedUnit(province);
+            if (unit != null) {
+                dislodgedUnitLayer.appendChild(makeUnitUse(doc, unit, province, true));
+            }
+        }
+
+        // orders
+        final HeadlessMapInfo mapInfo = new HeadlessMapInfo(ts, doc);
+        for (Orderable order : ts.getAllOrders()) {
+            final GUIOrder guiOrder = toGUIOrder(order);
+            if (guiOrder == null) {
+                logger.debug("Order {} cannot be drawn", order);
+            } else {
+                guiOrder.updateDOM(mapInfo);
+            }
+        }
+
+        return doc;
+    }// render()
+
+
+    /**
+     * Renders the given TurnState, and writes it as SVG to the given Writer.
+     */
+    public void writeSVG(TurnState ts, String labels, Writer writer)
+            throws IOException {
+        DOMUtilities.writeDocument(render(ts, labels), writer);
+        writer.flush();
+    }// writeSVG()
+
+
+    /**
+     * Renders the given TurnState into a new image. If width is greater
+     * than zero, the image is scaled to that width; otherwise, the SVG size
+     * is used.
+     */
+    public BufferedImage renderImage(TurnState ts, String labels, float width)
+            throws TranscoderException {
+        BufferedImageTranscoder transcoder = new BufferedImageTranscoder();
+        if (width > 0.0f) {
+            transcoder.addTranscodingHint(ImageTranscoder.KEY_WIDTH, width);
+        }
+
+        transcoder.transcode(new TranscoderInput(render(ts, labels)), null);
+        return transcoder.image;
+    }// renderImage()
+
+
+    /**
+     * Renders the given TurnState, and writes it as a PNG image to the
+     * given OutputStream. The image is scaled as per renderImage().
+     */
+    public void writePNG(TurnState ts, String labels, float width, OutputStream os)
+            throws TranscoderException, IOException {
+        writePNG(renderImage(ts, labels, width), os);
+        os.flush();
+    }// writePNG()
+
+
+    /**
+     * Writes an image as a non-interlaced 8-bit RGBA PNG.
+     * <p>
+     * Both the Batik and ImageIO PNG encoders always use maximum compression,
+     * which is far more expensive than rendering the image itself. Instead,
+     * each row uses the 'Sub' filter, which suits the large areas of flat color
+     * on maps, with fast compression.
+     */
+    private static void writePNG(BufferedImage image, OutputStream os)
+            throws IOException {
+        final int width = image.getWidth();
+        final int height = image.getHeight();
+
+        DataOutputStream dos = new DataOutputStream(os);
+        dos.write(PNG_SIGNATURE);
+
+        ByteArrayOutputStream chunk = new ByteArrayOutputStream(64 * 1024);
+        DataOutputStream header = new DataOutputStream(chunk);
+        header.writeInt(width);
+        header.writeInt(height);
+        header.writeByte(8);    // bit depth
+        header.writeByte(6);    // color type: RGBA
+        header.writeByte(0);    // compression: deflate
+        header.writeByte(0);    // filter method
+        header.writeByte(0);    // no interlace
+        writeChunk(dos, "IHDR", chunk);
+
+        chunk.reset();
+        Deflater deflater = new Deflater(PNG_COMPRESSION_LEVEL);
+        try (DeflaterOutputStream dfos = new DeflaterOutputStream(chunk, deflater, 64 * 1024)) {
+            final int[] argb = new int[width];
+            final byte[] row = new byte[1 + (width * 4)];
+            row[0] = 1;    // filter: Sub
+            for (int y = 0; y < height; y++) {
+                image.getRGB(0, y, width, 1, argb, 0, width);
+                int prev = 0;
+                for (int x = 0, i = 1; x < width; x++, i += 4) {
+                    final int p = argb[x];
+                    row[i] = (byte) ((p >> 16) - (prev >> 16));
+                    row[i + 1] = (byte) ((p >> 8) - (prev >> 8));
+                    row[i + 2] = (byte) (p - prev);
+                    row[i + 3] = (byte) ((p >>> 24) - (prev >>> 24));
+                    prev = p;
+                }
+                dfos.write(row);
+            }
+        } finally {
+            deflater.end();
+        }
+        writeChunk(dos, "IDAT", chunk);
+
+        chunk.reset();
+        writeChunk(dos, "IEND", chunk);
+        dos.flush();
+    }// writePNG()
+
+
+    /**
+     * Writes a PNG chunk: length, type, data, and CRC.
+     */
+    private static void writeChunk(DataOutputStream dos, String type, ByteArrayOutputStream data)
+            throws IOException {
+        final byte[] typeBytes = type.getBytes(StandardCharsets.US_ASCII);
+        CRC32 crc = new CRC32();
+        crc.update(typeBytes);
+        crc.update(data.toByteArray());
+
+        dos.writeInt(data.size());
+        dos.write(typeBytes);
+        data.writeTo(dos);
+        dos.writeInt((int) crc.getValue());
+    }// writeChunk()
+
+
+    /**
+     * Creates a Unit of the given type / owner color, via a &lt;use&gt; symbol.
+     */
+    private SVGElement makeUnitUse(SVGDocument doc, Unit u, Province province, boolean isDislodged) {
+        String symbolID = DefaultMapRenderer2.getUnitSymbolID(u.getType(), isDislodged);
+        Point2D.Float pos = (isDislodged) ? mapMeta.getDislodgedUnitPt(province, u.getCoast())
+                : mapMeta.getUnitPt(province, u.getCoast());
+        return SVGUtils.createUseElement(doc, symbolID, null, DefaultMapRenderer2.getUnitCSSClass(u.getPower()),
+                pos.x, pos.y, mapMeta.getSymbolSize(symbolID));
+    }// makeUnitUse()
+
+
+    /**
+     * Creates a new, unattached, SVG G element in the base document.
+     */
+    private SVGGElement createGroup(String id) {
+        SVGGElement group = (SVGGElement) baseDoc.createElementNS(
+                SVGDOMImplementation.SVG_NAMESPACE_URI, SVGConstants.SVG_G_TAG);
+        group.setAttributeNS(null, SVGConstants.SVG_ID_ATTRIBUTE, id);
+        return group;
+    }// createGroup()
+
+
+    /**
+     * Creates a new GUIOrder equivalent to the given order, or null if
+     * the order type is not drawable.
+     */
+    private static GUIOrder toGUIOrder(Orderable order) {
+        GUIOrder guiOrder;
+        if (order instanceof Retreat) {
+            guiOrder = guiOrderFactory.createGUIRetreat();
+        } else if (order instanceof GUIMoveExplicit) {
+            guiOrder = guiOrderFactory.createGUIMoveExplicit();
+        } else if (order instanceof Move) {
+            guiOrder = guiOrderFactory.createGUIMove();
+        } else if (order instanceof Hold) {
+            guiOrder = guiOrderFactory.createGUIHold();
+        } else if (order instanceof Support) {
+            guiOrder = guiOrderFactory.createGUISupport();
+        } else if (order instanceof Convoy) {
+            guiOrder = guiOrderFactory.createGUIConvoy();
+        } else if (order instanceof Disband) {
+            guiOrder = guiOrderFactory.createGUIDisband();
+        } else if (order instanceof Build) {
+            guiOrder = guiOrderFactory.createGUIBuild();
+        } else if (order instanceof Remove) {
+            guiOrder = guiOrderFactory.createGUIRemove();
+        } else if (order instanceof Waive) {
+            guiOrder = guiOrderFactory.createGUIWaive();
+        } else if (order instanceof DefineState) {
+            guiOrder = guiOrderFactory.createGUIDefineState();
+        } else {
+            return null;
+        }
+
+        guiOrder.deriveFrom(order);
+        return guiOrder;
+    }// toGUIOrder()
+
+
+    /**
+     * Returns the child indices leading from the document element to the given node.
+     */
+    private static int[] getPath(Node node) {
+        final Node root = node.getOwnerDocument().getDocumentElement();
+        final List<Integer> indices = new ArrayList<>();
+        for (Node n = node; n != root; n = n.getParentNode()) {
+            int idx = 0;
+            for (Node sib = n.getPreviousSibling(); sib != null; sib = sib.getPreviousSibling()) {
+                idx++;
+            }
+            indices.add(0, idx);
+        }
+
+        final int[] path = new int[indices.size()];
+        for (int i = 0; i < path.length; i++) {
+            path[i] = indices.get(i);
+        }
+        return path;
+    }// getPath()
+
+
+    /**
+     * Finds the node with the given path, in a clone of the base document.
+     */
+    private static Node find(Document doc, int[] path) {
+        Node node = doc.getDocumentElement();
+        for (int idx : path) {
+            node = node.getFirstChild();
+            for (int i = 0; i < idx; i++) {
+                node = node.getNextSibling();
+            }
+        }
+        return node;
+    }// find()
+
+
+    /**
+     * Sets the (CSS) visibility of an element.
+     */
+    private static void setVisibility(SVGElement element, boolean value) {
+        element.setAttributeNS(null, CSSConstants.CSS_VISIBILITY_PROPERTY,
+                (value) ? CSSConstants.CSS_VISIBLE_VALUE : CSSConstants.CSS_HIDDEN_VALUE);
+    }// setVisibility()
+
+
+    /**
+     * Converts the symbol-injected XML document into an SVG document, as
+     * the MapPanel does, so that URIs within the variant jar resolve.
+     */
+    private static SVGDocument transform(Document inDoc, String uri)
+            throws Exception {
+        Transformer transformer = TransformerFactory.newInstance().newTransformer();
+        StringWriter sw = new StringWriter();
+        transformer.transform(new DOMSource(inDoc), new StreamResult(sw));
+
+        SAXSVGDocumentFactory f = new SAXSVGDocumentFactory(XMLResourceDescriptor.getXMLParserClassName());
+        return f.createSVGDocument(uri, new StringReader(sw.toString()));
+    }// transform()
+
+
+    /**
+     * ImageTranscoder which keeps the transcoded image.
+     */
+    private static class BufferedImageTranscoder extends ImageTranscoder {
+        private BufferedImage image = null;
+
+        public BufferedImage createImage(int width, int height) {
+            return new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        }// createImage()
+
+        public void writeImage(BufferedImage img, TranscoderOutput output) {
+            image = img;
+        }// writeImage()
+    }// nested class BufferedImageTranscoder
+
+
+    /**
+     * MapInfo for drawing orders into a rendered (cloned) document.
+     */
+    private class HeadlessMapInfo extends GUIOrder.MapInfo {
+        private final SVGDocument doc;
+        private final Map<Power, SVGGElement[]> groups;
+
+        public HeadlessMapInfo(TurnState ts, SVGDocument doc) {
+            super(ts);
+            this.doc = doc;
+            this.groups = new HashMap<>(orderPaths.size() * 2);
+        }// HeadlessMapInfo()
+
+        public MapMetadata getMapMetadata() {
+            return mapMeta;
+        }
+
+        public String getPowerCSS(Power power) {
+            return DefaultMapRenderer2.getPowerName(power);
+        }
+
+        public String getUnitCSS(Power power) {
+            return DefaultMapRenderer2.getUnitCSSClass(power);
+        }
+
+        public String getSymbolName(Unit.Type unitType) {
+            return DefaultMapRenderer2.getUnitSymbolID(unitType, false);
+        }
+
+        public SVGDocument getDocument() {
+            return doc;
+        }
+
+        public Power[] getDisplayablePowers() {
+            Power[] powers = super.getDisplayablePowers();
+            if (powers == null) {
+                return ts.getWorld().getMap().getPowers();
+            }
+
+            return powers;
+        }// getDisplayablePowers()
+
+        public SVGGElement getPowerSVGGElement(Power p, int z) {
+            SVGGElement[] elements = groups.get(p);
+            if (elements == null) {
+                final int[][] paths = orderPaths.get(p);
+                elements = new SVGGElement[paths.length];
+                for (int i = 0; i < paths.length; i++) {
+                    elements[i] = (SVGGElement) find(doc, paths[i]);
+                }
+                groups.put(p, elements);
+            }
+
+            return elements[z];
+        }// getPowerSVGGElement()
+    }// nested class HeadlessMapInfo
+
+}// class HeadlessMapRenderer
@@ -31,6 +31,7 @@ import org.slf4j.Logger;
 import org.w3c.dom.Element;
 import org.w3c.dom.Node;
 import org.w3c.dom.NodeList;
+import org.w3c.dom.svg.SVGDocument;
 
 import java.awt.geom.Point2D;
 import java.util.HashMap;
@@ -229,6 +230,7 @@ public class MapMetadata {
      */
     private static final Point2D.Float POINT_ZERO = new Point2D.Float(0.0f, 0.0f);
     private final MapPanel mp;
+    private final info.jdip.world.Map worldMap;
     // instance variables
     private final Map<Province, InfoEntry> infoMap;                // placement info
     private final HashMap<Object, Object> displayProps;        // display info Todo: this map is very strangely used
@@ -257,13 +259,31 @@ public class MapMetadata {
      */
     public MapMetadata(MapPanel mp, SymbolPack sp, boolean supressPlacementErrors)
             throws MapException {
+        this(mp, mp.getSVGDocument(), mp.getWorld().getMap(), sp, supressPlacementErrors);
+    }// MapMetadata()
+
+
+    /**
+     * Create a MapMetadata Object from the given SVG Document, without a
+     * MapPanel. Otherwise identical to the MapPanel-based constructor.
+     */
+    public MapMetadata(SVGDocument doc, info.jdip.world.Map worldMap, SymbolPack sp, boolean supressPlacementErrors)
+            throws MapException {
+        this(null, doc, worldMap, sp, supressPlacementErrors);
+    }// MapMetadata()
+
+
+    private MapMetadata(MapPanel mp, SVGDocument doc, info.jdip.world.Map worldMap,
+                        SymbolPack sp, boolean supressPlacementErrors)
+            throws MapException {
         this.mp = mp;
+        this.worldMap = worldMap;
         this.sp = sp;
         this.supressPlacementErrors = supressPlacementErrors;
         infoMap = new HashMap<>(113);
         displayProps = new HashMap<>(47);
 
-        Element root = mp.getSVGDocument().getRootElement();
+        Element root = doc.getRootElement();
         parseDisplayMetadata(root);
         parsePlacements(root);
         parseOrderDrawingData(root);
@@ -285,7 +305,9 @@ public class MapMetadata {
      * Clean up any resources used by this object
      */
     public void close() {
-        mp.getClientFrame().fireMMDReady(null);    // VERY important
+        if (mp != null) {
+            mp.getClientFrame().fireMMDReady(null);    // VERY important
+        }
         infoMap.clear();
         displayProps.clear();
     }// close()
@@ -536,7 +558,7 @@ public class MapMetadata {
                 String provinceName = elProvince.getAttribute(ATT_NAME);
 
                 // Strip of coast text, and lookup Province
-                Province province = mp.getWorld().getMap().getProvince(Coast.getProvinceName(provinceName));
+                Province province = worldMap.getProvince(Coast.getProvinceName(provinceName));
                 if (province == null) {
                     throw new MapException("SVG error in PROVINCE tag: Province name=\"" + provinceName + "\" not recognized.");
                 }
@@ -579,7 +601,7 @@ public class MapMetadata {
 
         // verify: make sure each province has at least one InfoEntry.
         // if we are supressing errors, fill in with empty data.
-        Province[] provinces = mp.getWorld().getMap().getProvinces();
+        Province[] provinces = worldMap.getProvinces();
         for (Province province : provinces) {
             if (infoMap.get(province) == null) {
                 if (supressPlacementErrors) {
@@ -723,7 +745,7 @@ public class MapMetadata {
         // POWERCOLOR(S)
         el = getElement(orderRoot, EL_POWERCOLORS);
         checkElement(EL_POWERCOLORS, el);
-        info.jdip.world.Map map = mp.getWorld().getMap();
+        info.jdip.world.Map map = worldMap;
         nl = el.getChildNodes();
         for (int i = 0; i < nl.getLength(); i++) {
             Node node = nl.item(i);
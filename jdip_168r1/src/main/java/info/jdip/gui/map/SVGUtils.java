@@ -27,6 +27,7 @@ import org.apache.batik.dom.svg.SVGDOMImplementation;
 import org.apache.batik.dom.util.XLinkSupport;
 import org.apache.batik.swing.JSVGCanvas;
 import org.apache.batik.util.SVGConstants;
+import org.apache.batik.util.XMLConstants;
 import org.w3c.dom.Element;
 import org.w3c.dom.NamedNodeMap;
 import org.w3c.dom.Node;
@@ -150,7 +151,8 @@ public class SVGUtils {
                 SVGConstants.SVG_USE_TAG);
         useElement.setAttributeNS(null, SVGConstants.SVG_X_ATTRIBUTE, floatToString(x));
         useElement.setAttributeNS(null, SVGConstants.SVG_Y_ATTRIBUTE, floatToString(y));
-        useElement.setAttributeNS(XLinkSupport.XLINK_NAMESPACE_URI, SVGConstants.SVG_HREF_ATTRIBUTE, symbolName);
+        useElement.setAttributeNS(XLinkSupport.XLINK_NAMESPACE_URI,
+                XMLConstants.XLINK_PREFIX + ":" + SVGConstants.SVG_HREF_ATTRIBUTE, symbolName);
 
         if (symbolSize != null) {
             useElement.setAttributeNS(null, SVGConstants.SVG_WIDTH_ATTRIBUTE, symbolSize.getWidth());
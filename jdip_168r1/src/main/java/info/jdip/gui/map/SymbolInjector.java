@@ -73,6 +73,17 @@ public class SymbolInjector {
      */
     public SymbolInjector(ClientFrame cf, Variant variant, MapGraphic mg, SymbolPack sp)
             throws IOException, SAXException, ParserConfigurationException {
+        this(variant, mg, sp, cf.getValidating());
+    }// SymbolInjector()
+
+
+    /**
+     * Create a SymbolInjector, without a ClientFrame.
+     * <p>
+     * Throws an IOException if URL resolving fails.
+     */
+    public SymbolInjector(Variant variant, MapGraphic mg, SymbolPack sp, boolean validating)
+            throws IOException, SAXException, ParserConfigurationException {
         if (variant == null || mg == null || sp == null) {
             throw new IllegalArgumentException();
         }
@@ -89,7 +100,7 @@ public class SymbolInjector {
         try (InputStream is = new BufferedInputStream(url.openStream())) {
             DocumentBuilderFactory dbf = DocumentBuilderFactory.newInstance();
             dbf.setNamespaceAware(true);    // essential!
-            dbf.setValidating(cf.getValidating());
+            dbf.setValidating(validating);
             DocumentBuilder docBuilder = dbf.newDocumentBuilder();
             docBuilder.setErrorHandler(new XMLErrorHandler());
             FastEntityResolver.attach(docBuilder);
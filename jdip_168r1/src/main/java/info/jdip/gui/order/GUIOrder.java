@@ -251,8 +251,9 @@ public interface GUIOrder extends Orderable {
             return turnState;
         }
 
-        public void setTurnState(TurnState turnState) {
+        public synchronized void setTurnState(TurnState turnState) {
             this.turnState = turnState;
+            this.rc = null;
         }
 
         public AdjustmentInfoMap getAdjustmenInfoMap() {
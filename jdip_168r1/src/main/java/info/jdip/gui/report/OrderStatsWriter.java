@@ -25,25 +25,16 @@ package info.jdip.gui.report;
 import info.jdip.gui.ClientFrame;
 import info.jdip.gui.dialog.TextViewer;
 import info.jdip.misc.Utils;
-import info.jdip.order.Convoy;
-import info.jdip.order.Hold;
-import info.jdip.order.Move;
 import info.jdip.order.OrderFormatOptions;
-import info.jdip.order.Orderable;
-import info.jdip.order.Support;
-import info.jdip.order.result.OrderResult;
-import info.jdip.order.result.Result;
+import info.jdip.order.OrderStats;
 import info.jdip.world.Phase;
 import info.jdip.world.Power;
 import info.jdip.world.TurnState;
-import info.jdip.world.Unit;
 import info.jdip.world.World;
 
 import javax.swing.*;
 import java.text.DecimalFormat;
 import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.List;
 
 /**
  * Order Statistics
@@ -160,7 +151,7 @@ public class OrderStatsWriter {
             // [year] [%] [%] ... [%} [avg-%]
             //
             final Phase phase = mptd.getPhase();
-            final Stats[] stats = mptd.getStats();
+            final OrderStats[] stats = mptd.getStats();
 
             sb.append((((row & 1) == 0) ? TR_HIGHLIGHT : "<tr>"));
 
@@ -192,7 +183,7 @@ public class OrderStatsWriter {
                         throw new IllegalStateException();
                 }
 
-                if (stats[i].isEliminated || value < 0.0f) {
+                if (stats[i].isEliminated() || value < 0.0f) {
                     // don't add to average, don't print 0% (just empty),
                     // don't increment nPowers
                     sb.append("<td></td>");
@@ -234,12 +225,10 @@ public class OrderStatsWriter {
      * ONLY Movement TURNS are used to create statistical data.
      */
     public MovePhaseTurnData[] collectData() {
-        List<TurnState> turns = world.getAllTurnStates();
-        ArrayList<MovePhaseTurnData> data = new ArrayList<>(turns.size());
+        ArrayList<MovePhaseTurnData> data = new ArrayList<>(world.getPhaseSet().size());
 
-        for (TurnState turn : turns) {
-            if (turn.isResolved() &&
-                    Phase.PhaseType.MOVEMENT.equals(turn.getPhase().getPhaseType())) {
+        for (TurnState turn : world.getTurnStates()) {
+            if (OrderStats.isCollectable(turn)) {
                 data.add(new MovePhaseTurnData(turn));
             }
         }
@@ -253,36 +242,27 @@ public class OrderStatsWriter {
      */
     private class MovePhaseTurnData {
         private final Phase phase;
-        private final Stats[] stats;
+        private final OrderStats[] stats;
 
         public MovePhaseTurnData(TurnState ts) {
-            if (!ts.getPhase().getPhaseType().equals(Phase.PhaseType.MOVEMENT)) {
-                throw new IllegalArgumentException();
-            }
-
-            if (!ts.isResolved()) {
-                throw new IllegalArgumentException();
-            }
-
             this.phase = ts.getPhase();
-            this.stats = new Stats[allPowers.length];
-            collectStats(ts);
+            this.stats = OrderStats.collect(ts, allPowers);
         }// MovePhaseTurnData()
 
         public Phase getPhase() {
             return phase;
         }
 
-        public Stats[] getStats() {
+        public OrderStats[] getStats() {
             return stats;
         }// getStats()
 
-        public Stats getStats(Power p) {
+        public OrderStats getStats(Power p) {
             if (p == null) {
                 throw new IllegalArgumentException();
             }
 
-            for (Stats stat : stats) {
+            for (OrderStats stat : stats) {
                 if (p.equals(stat.getPower())) {
                     return stat;
                 }
@@ -291,178 +271,7 @@ public class OrderStatsWriter {
             throw new IllegalStateException();
         }// getStats()
 
-
-        private void collectStats(TurnState ts) {
-            // create order-result mapping
-            HashMap<Orderable, Boolean> resultMap = new HashMap<>(53);
-            for (Result obj : ts.getResultList()) {
-                if (obj instanceof OrderResult) {
-                    OrderResult ordRes = (OrderResult) obj;
-
-                    // we only map SUCCESSFULL orders.
-                    if (ordRes.getResultType() == OrderResult.ResultType.SUCCESS) {
-                        resultMap.put(ordRes.getOrder(), Boolean.TRUE);
-                    }
-                }
-            }
-
-            // create statistics
-            for (int i = 0; i < allPowers.length; i++) {
-                Stats s = new Stats(allPowers[i]);
-
-                s.isEliminated = ts.getPosition().isEliminated(allPowers[i]);
-
-                for (Orderable order : ts.getOrders(allPowers[i])) {
-                    s.nOrders++;
-
-                    final boolean success = (resultMap.get(order) == Boolean.TRUE);
-
-                    if (order instanceof Move) {
-                        s.nMoves++;
-                        if (success) {
-                            s.nMovesOK++;
-                        }
-                    } else if (order instanceof Hold) {
-                        s.nHolds++;
-                        if (success) {
-                            s.nHoldsOK++;
-                        }
-                    } else if (order instanceof Convoy) {
-                        s.nConvoys++;
-                        if (success) {
-                            s.nConvoysOK++;
-                        }
-                    } else if (order instanceof Support) {
-                        s.nSupports++;
-                        if (success) {
-                            s.nSupportsOK++;
-                        }
-
-                        // self support?
-                        final Support sup = (Support) order;
-                        final Unit supUnit = ts.getPosition().getUnit(sup.getSupportedSrc().getProvince());
-                        if (supUnit != null) {
-                            if (sup.getPower().equals(supUnit.getPower())) {
-                                s.nSupportsSelf++;
-                                if (success) {
-                                    s.nSupportsSelfOK++;
-                                }
-                            }
-                        }
-                    }
-                }
-
-                stats[i] = s;
-            }
-        }// collectStats()
-
     }// inner class MovePhaseTurnData
 
-    private class Stats {
-        private final Power power;            // power for which these stats apply
-        public boolean isEliminated = false;
-        public int nOrders = 0;                // total # of orders
-        public int nMoves = 0;
-        public int nConvoys = 0;
-        public int nHolds = 0;
-        public int nSupports = 0;            // supports to any unit
-        public int nSupportsSelf = 0;        // supports of own units
-        public int nMovesOK = 0;            // successful Move orders
-        public int nConvoysOK = 0;            // successful Convoy orders
-        public int nHoldsOK = 0;            // successful Hold orders
-        public int nSupportsOK = 0;            // # successful total supports
-        public int nSupportsSelfOK = 0;        // # successful self-supports
-
-        // other data to collect (per-power)
-        // # of units total
-        // # of units moving?
-        // # of units dislodged?
-        //
-        public Stats(Power p) {
-            if (p == null) {
-                throw new IllegalArgumentException();
-            }
-
-            this.power = p;
-        }// Stats()
-
-        /**
-         * Get the Power
-         */
-        public Power getPower() {
-            return power;
-        }// getPower()
-
-        /**
-         * Calculate percent successful orders (all orders)
-         */
-        public float getOverallSuccess() {
-            if (getTotal() == 0) {
-                return 0.0f;
-            }
-
-            final int success = (nMovesOK + nConvoysOK + nHoldsOK + nSupportsOK);
-            return ((float) success / (float) getTotal());
-        }
-
-        /**
-         * Calculate percent support orders (successfull or failed),
-         * of all total orders.
-         */
-        public float getPercentSupport() {
-            if (getTotal() == 0) {
-                return 0.0f;
-            }
-
-            return ((float) nSupports / (float) getTotal());
-        }
-
-        /**
-         * Calculate percent SELF support orders (successfull or failed),
-         * of all total orders.
-         */
-        public float getPercentSelfSupport() {
-            if (getTotal() == 0) {
-                return 0.0f;
-            }
-
-            return ((float) nSupportsSelf / (float) getTotal());
-        }
-
-        /**
-         * Calculate percent NON-SELF support orders (successfull or failed),
-         * of all total orders.
-         */
-        public float getPercentNonSelfSupport() {
-            assert (nSupports >= nSupportsSelf);
-            if (getTotal() == 0) {
-                return 0.0f;
-            }
-
-            return ((float) (nSupports - nSupportsSelf) / (float) getTotal());
-        }
-
-        /**
-         * Calculate percent successful Move orders.
-         * Returns negative # if no Move orders
-         */
-        public float getPercentMoveSuccess() {
-            if (nMoves == 0) {
-                return -1.0f;
-            }
-
-            return ((float) nMovesOK / (float) nMoves);
-        }// getPercentMoveSuccess()
-
-
-        /**
-         * Get total orders
-         */
-        private int getTotal() {
-            return (nMoves + nConvoys + nHolds + nSupports);
-        }// getTotal()
-
-    }// inner class Stats
-
 
 }// class OrderStatsWriter
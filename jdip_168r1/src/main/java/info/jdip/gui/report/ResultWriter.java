@@ -26,6 +26,7 @@ import info.jdip.gui.ClientFrame;
 import info.jdip.gui.dialog.TextViewer;
 import info.jdip.misc.Help;
 import info.jdip.misc.Utils;
+import info.jdip.order.OrderFormat;
 import info.jdip.order.OrderFormatOptions;
 import info.jdip.order.Orderable;
 import info.jdip.order.result.OrderResult;
@@ -202,7 +203,7 @@ public class ResultWriter {
         resultList = null;
 
         // Print results, by power.
-        StringBuffer sb = new StringBuffer(4096);
+        StringBuilder sb = new StringBuilder(4096);
         for (Power power : allPowers) {
             // SKIP power if eliminated.
             if (!position.isEliminated(power)) {
@@ -229,7 +230,7 @@ public class ResultWriter {
     /**
      * Print non order results for a power.
      */
-    private void printNonOrderResultsForPower(StringBuffer sb, Power power, List<Result> results) {
+    private void printNonOrderResultsForPower(StringBuilder sb, Power power, List<Result> results) {
         StringBuilder text = new StringBuilder(1024);
 
         boolean foundAnOtherResult = false;
@@ -258,15 +259,14 @@ public class ResultWriter {
      * there are multiple failure reasons, they are indented underneath
      * the order.
      */
-    private void printOrderResultsForPower(StringBuffer sb, Power power, List results) {
+    private void printOrderResultsForPower(StringBuilder sb, Power power, List<Result> results) {
         // create a mapping of orders -> a list of results. As we find results, add
         // it to the map.
         LinkedHashMap<Orderable, List<OrderResult>> ordMap = new LinkedHashMap<>(17);
         ArrayList<OrderResult> substList = new ArrayList<>();
 
-        Iterator iter = results.iterator();
-        while (iter.hasNext()) {
-            OrderResult or = (OrderResult) iter.next();
+        for (Result r : results) {
+            OrderResult or = (OrderResult) r;
             Orderable order = or.getOrder();
 
             // only use orders for the given power.
@@ -295,14 +295,11 @@ public class ResultWriter {
         sb.append("<div class=\"indent1cm\">\n");
 
         boolean substOrderFound = false;
-        iter = substList.iterator();
-        while (iter.hasNext()) {
+        for (OrderResult or : substList) {
             substOrderFound = true;
 
-            OrderResult or = (OrderResult) iter.next();
-
             if (or.getOrder() != null) {
-                sb.append(or.getOrder().toFormattedString(ofo));    // use OrderFormat
+                OrderFormat.format(ofo, or.getOrder(), sb);
             }
 
             sb.append(" <i>");
@@ -317,16 +314,12 @@ public class ResultWriter {
 
 
         // iterate through ordMap, chaining the results, if there are more than one.
-        iter = ordMap.values().iterator();
-        while (iter.hasNext()) {
+        for (List<OrderResult> list : ordMap.values()) {
             Orderable order = null;
             boolean hasFailed = false;
-            List list = (List) iter.next();
 
             // find if we have failed or not
-            Iterator it = list.iterator();
-            while (it.hasNext()) {
-                OrderResult or = (OrderResult) it.next();
+            for (OrderResult or : list) {
                 ResultType rt = or.getResultType();
 
                 order = or.getOrder();
@@ -343,10 +336,10 @@ public class ResultWriter {
             // underline order if failure
             if (hasFailed) {
                 sb.append("<u>");
-                sb.append(order.toFormattedString(ofo));
+                OrderFormat.format(ofo, order, sb);
                 sb.append("</u>");
             } else {
-                sb.append(order.toFormattedString(ofo));
+                OrderFormat.format(ofo, order, sb);
             }
 
             // print the messages; they should always be in italics.
@@ -355,9 +348,7 @@ public class ResultWriter {
             // make a list of non-empty messages. (strings)
             //
             List<String> nonEmptyList = new ArrayList<>(list.size());
-            it = list.iterator();
-            while (it.hasNext()) {
-                OrderResult or = (OrderResult) it.next();
+            for (OrderResult or : list) {
                 final String msg = or.getMessage(ofo);
                 if (msg.length() > 0) {
                     nonEmptyList.add(msg);
@@ -369,9 +360,9 @@ public class ResultWriter {
             } else {
                 sb.append("<div class=\"indent1cm\" style=\"margin-bottom:3pt;\">");
 
-                it = nonEmptyList.iterator();
+                Iterator<String> it = nonEmptyList.iterator();
                 while (it.hasNext()) {
-                    final String msg = (String) it.next();
+                    final String msg = it.next();
                     sb.append("<i> ");
                     sb.append(msg);
                     sb.append(" </i>\n");
@@ -228,17 +228,17 @@ public class SCHistoryWriter {
         // add initial phase
         turnList.add(world.getInitialTurnState());
 
-        Iterator iter = world.getAllTurnStates().iterator();
+        Iterator<TurnState> iter = world.getTurnStates().iterator();
         while (iter.hasNext()) {
             // we want the RETREAT or MOVE phase for a fall season,
             // but not both (a unit could retreat into a SC; thus we need to check)
             //
-            TurnState ts = (TurnState) iter.next();
+            TurnState ts = iter.next();
             Phase phase = ts.getPhase();
             if (phase.getSeasonType() == Phase.SeasonType.FALL) {
                 if (phase.getPhaseType() == Phase.PhaseType.MOVEMENT) {
                     if (iter.hasNext()) {
-                        TurnState nextTS = (TurnState) iter.next();
+                        TurnState nextTS = iter.next();
                         if (nextTS.getPhase().getPhaseType() == Phase.PhaseType.RETREAT) {
                             ts = nextTS;
                         }
@@ -316,18 +316,18 @@ public class SCHistoryWriter {
         sb.append(makeSCCountTableRow(world.getInitialTurnState()));
 
         // make all other rows.
-        Iterator iter = world.getAllTurnStates().iterator();
+        Iterator<TurnState> iter = world.getTurnStates().iterator();
         while (iter.hasNext()) {
             // we want the RETREAT or MOVE phase for a fall season,
             // but not both.
             // (a unit could retreat into a SC; thus we need to check)
             //
-            TurnState ts = (TurnState) iter.next();
+            TurnState ts = iter.next();
             Phase phase = ts.getPhase();
             if (phase.getSeasonType() == Phase.SeasonType.FALL) {
                 if (phase.getPhaseType() == Phase.PhaseType.MOVEMENT) {
                     if (iter.hasNext()) {
-                        TurnState nextTS = (TurnState) iter.next();
+                        TurnState nextTS = iter.next();
                         if (nextTS.getPhase().getPhaseType() == Phase.PhaseType.RETREAT) {
                             ts = nextTS;
                         }
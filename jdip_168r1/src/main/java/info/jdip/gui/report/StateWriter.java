@@ -27,6 +27,7 @@ import info.jdip.gui.dialog.TextViewer;
 import info.jdip.misc.Help;
 import info.jdip.misc.Utils;
 import info.jdip.order.Order;
+import info.jdip.order.OrderFormat;
 import info.jdip.order.OrderFormatOptions;
 import info.jdip.order.Orderable;
 import info.jdip.process.Adjustment;
@@ -267,7 +268,7 @@ public class StateWriter {
                 if (orders.size() > 0) {
                     for (Orderable orderable : orders) {
                         Order order = (Order) orderable;
-                        sb.append(order.toFormattedString(ofo));
+                        OrderFormat.format(ofo, order, sb);
                         sb.append("<br>\n");
                     }
 
@@ -79,6 +79,7 @@ public class UndoResolve extends XAbstractUndoableEdit {
             // set as resolved
             resolvedTS.setResultList(resolvedTSResults);
             resolvedTS.setResolved(true);
+            world.setTurnStateModified(resolvedTS);
 
             // nextTS:
             //
@@ -109,6 +110,7 @@ public class UndoResolve extends XAbstractUndoableEdit {
             // set as unresolved
             resolvedTS.setResultList(new LinkedList<>());
             resolvedTS.setResolved(false);
+            world.setTurnStateModified(resolvedTS);
 
             // nextTS:
             //
@@ -0,0 +1,430 @@
+//
+//  @(#)ArchiveIndexer.java	1.00	10/2026
+//
+//
+//  This program is free software; you can redistribute it and/or modify
+//  it under the terms of the GNU General Public License as published by
+//  the Free Software Foundation; either version 2 of the License, or
+//  (at your option) any later version.
+//
+//  This program is distributed in the hope that it will be useful,
+//  but WITHOUT ANY WARRANTY; without even the implied warranty of
+//  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//  GNU General Public License for more details.
+//
+//  You should have received a copy of the GNU General Public License
+//  along with this program; if not, write to the Free Software
+//  Foundation, Inc., 675 Mass Ave, Cambridge, MA 02139, USA.
+//  Or from http://www.gnu.org/
+//
+package info.jdip.judge.archive;
+
+import info.jdip.judge.parser.JudgeImport;
+import info.jdip.order.OrderFactory;
+import info.jdip.order.OrderStats;
+import info.jdip.world.Position;
+import info.jdip.world.Power;
+import info.jdip.world.Province;
+import info.jdip.world.TurnState;
+import info.jdip.world.World;
+import info.jdip.world.metadata.GameMetadata;
+import info.jdip.world.variant.VariantManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+
+/**
+ * Imports directory trees of judge archives (game histories and listings)
+ * into a game store, and indexes them.
+ * <p>
+ * Archives are imported in parallel. Each game is saved to the store, and its
+ * supply center, unit and order statistics are added to the store's
+ * {@link GameIndex}, so that they may be queried without re-parsing the
+ * archives. Archives which are unchanged since they were last indexed are not
+ * imported again; stored games whose archives no longer exist are removed.
+ * <p>
+ * Files which are not judge games (e.g., other mail) are skipped.
+ */
+public final class ArchiveIndexer {
+    private static final Logger logger = LoggerFactory.getLogger(ArchiveIndexer.class);
+
+    /**
+     * Directory name where variants are stored
+     */
+    private static final String VARIANT_DIR = "variants";
+
+    /**
+     * Extension of stored games
+     */
+    public static final String STORE_EXTENSION = ".jdip";
+
+    // instance variables
+    private final File storeDir;
+    private final OrderFactory orderFactory;
+    private int threads = Runtime.getRuntime().availableProcessors();
+    private int nImported;
+    private int nReused;
+    private int nSkipped;
+    private int nFailed;
+
+
+    /**
+     * Creates an ArchiveIndexer for the given store directory. Variants
+     * must be loaded (via VariantManager) before indexing.
+     */
+    public ArchiveIndexer(File storeDir) {
+        if (storeDir == null) {
+            throw new IllegalArgumentException();
+        }
+
+        this.storeDir = storeDir;
+        this.orderFactory = OrderFactory.getDefault();
+    }// ArchiveIndexer()
+
+
+    /**
+     * Sets the number of threads used to import archives.
+     */
+    public void setThreads(int value) {
+        if (value < 1) {
+            throw new IllegalArgumentException("threads: " + value);
+        }
+
+        threads = value;
+    }// setThreads()
+
+
+    /**
+     * Imports all archives within the given files and directories (which are
+     * searched recursively), writes the index, and returns it.
+     */
+    public GameIndex index(List<File> roots)
+            throws IOException {
+        if (!storeDir.isDirectory() && !storeDir.mkdirs()) {
+            throw new IOException("Cannot create store directory: " + storeDir);
+        }
+
+        nImported = 0;
+        nReused = 0;
+        nSkipped = 0;
+        nFailed = 0;
+
+        final long startTime = System.currentTimeMillis();
+
+        // previously indexed games, by source
+        final HashMap<String, GameIndex.Game> oldGames = new HashMap<>();
+        for (GameIndex.Game game : GameIndex.read(storeDir).getGames()) {
+            oldGames.put(game.getSource(), game);
+        }
+
+        final List<Path> files = findFiles(roots);
+        final ExecutorService executor = Executors.newFixedThreadPool(Math.min(threads, Math.max(1, files.size())));
+        try {
+            // submit unchanged archives as already-completed tasks, so that
+            // games are indexed in file order
+            final List<Future<GameIndex.Game>> futures = new ArrayList<>(files.size());
+            for (final Path path : files) {
+                final File file = path.toFile();
+                final GameIndex.Game oldGame = oldGames.get(path.toString());
+                if (oldGame != null && oldGame.getSourceLength() == file.length()
+                        && oldGame.getSourceModified() == file.lastModified()
+                        && new File(storeDir, oldGame.getStorePath()).isFile()) {
+                    futures.add(CompletableFuture.completedFuture(oldGame));
+                    nReused++;
+                } else {
+                    futures.add(executor.submit(() -> importGame(path)));
+                }
+            }
+
+            final List<GameIndex.Game> games = new ArrayList<>(files.size());
+            for (int i = 0; i < futures.size(); i++) {
+                try {
+                    final GameIndex.Game game = futures.get(i).get();
+                    if (game == null) {
+                        nSkipped++;
+                    } else {
+                        games.add(game);
+                    }
+                } catch (ExecutionException e) {
+                    nFailed++;
+                    logger.warn("Cannot import {}: {}", files.get(i), e.getCause().toString());
+                }
+            }
+            nImported = games.size() - nReused;
+
+            final GameIndex index = new GameIndex(storeDir, games);
+            index.write();
+            removeUnreferenced(games);
+
+            logger.info("Indexed {} games from {} files in {} ms: {} imported, {} unchanged, {} skipped, {} failed",
+                    games.size(), files.size(), System.currentTimeMillis() - startTime,
+                    nImported, nReused, nSkipped, nFailed);
+            return index;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Indexing interrupted", e);
+        } finally {
+            executor.shutdownNow();
+        }
+    }// index()
+
+
+    /**
+     * Returns the number of archives imported by the last index()
+     */
+    public int getImportedCount() {
+        return nImported;
+    }// getImportedCount()
+
+    /**
+     * Returns the number of archives not imported by the last index(), because they were unchanged
+     */
+    public int getReusedCount() {
+        return nReused;
+    }// getReusedCount()
+
+    /**
+     * Returns the number of files skipped by the last index(), because they were not games
+     */
+    public int getSkippedCount() {
+        return nSkipped;
+    }// getSkippedCount()
+
+    /**
+     * Returns the number of archives which could not be imported by the last index()
+     */
+    public int getFailedCount() {
+        return nFailed;
+    }// getFailedCount()
+
+
+    /**
+     * Finds all regular files within the given roots, excluding the store
+     * directory, in sorted order.
+     */
+    private List<Path> findFiles(List<File> roots)
+            throws IOException {
+        final Path storePath = storeDir.toPath().toAbsolutePath().normalize();
+        final ArrayList<Path> files = new ArrayList<>();
+        for (File root : roots) {
+            try (Stream<Path> stream = Files.walk(root.toPath().toAbsolutePath().normalize())) {
+                files.addAll(stream
+                        .filter(path -> !path.startsWith(storePath) && Files.isRegularFile(path))
+                        .sorted()
+                        .collect(Collectors.toList()));
+            }
+        }
+
+        return files;
+    }// findFiles()
+
+
+    /**
+     * Imports, stores, and creates the index entries for the given archive.
+     * Returns null if the archive is not a game.
+     */
+    private GameIndex.Game importGame(Path path)
+            throws IOException {
+        final File file = path.toFile();
+        final long length = file.length();
+        final long modified = file.lastModified();
+
+        final World world;
+        try (Reader reader = new BufferedReader(new FileReader(file))) {
+            final JudgeImport ji = new JudgeImport(orderFactory, reader, null);
+            if (!JudgeImport.JI_RESULT_NEWWORLD.equals(ji.getResult()) || ji.getWorld() == null) {
+                logger.debug("Not a game: {}", path);
+                return null;
+            }
+
+            world = ji.getWorld();
+        }
+
+        final GameMetadata gmd = world.getGameMetadata();
+        final String judgeName = (gmd.getJudgeName() == null) ? "" : gmd.getJudgeName();
+        final String gameName = (gmd.getGameName() == null) ? "" : gmd.getGameName();
+        final String variantName = world.getVariantInfo().getVariantName();
+
+        // games are stored by variant; the source path checksum distinguishes
+        // archives of the same game
+        final CRC32 crc = new CRC32();
+        crc.update(path.toString().getBytes(StandardCharsets.UTF_8));
+        final String storePath = toFileName(variantName) + "/" + toFileName(judgeName) + "_"
+                + toFileName(gameName) + "_" + Long.toHexString(crc.getValue()) + STORE_EXTENSION;
+
+        final File storeFile = new File(storeDir, storePath);
+        final File parent = storeFile.getParentFile();
+        if (!parent.isDirectory() && !parent.mkdirs() && !parent.isDirectory()) {
+            throw new IOException("Cannot create directory: " + parent);
+        }
+        World.save(storeFile, world, true);
+
+        final GameIndex.Game game = new GameIndex.Game(path.toString(), length, modified, storePath,
+                judgeName, gameName, variantName, world.getLastTurnState().isEnded());
+        final Power[] powers = world.getMap().getPowers();
+        for (TurnState ts : world.getTurnStates()) {
+            addEntries(game, ts, powers);
+        }
+
+        logger.debug("Imported {} as {}", path, storePath);
+        return game;
+    }// importGame()
+
+
+    /**
+     * Adds an Entry for each Power in the given TurnState
+     */
+    private static void addEntries(GameIndex.Game game, TurnState ts, Power[] powers) {
+        final Position position = ts.getPosition();
+        final OrderStats[] orderStats = OrderStats.isCollectable(ts) ? OrderStats.collect(ts, powers) : null;
+
+        for (int p = 0; p < powers.length; p++) {
+            final Power power = powers[p];
+            final Province[] scs = position.getOwnedSupplyCenters(power);
+            final String[] scNames = new String[scs.length];
+            for (int i = 0; i < scs.length; i++) {
+                scNames[i] = scs[i].getShortName();
+            }
+
+            final int[] stats = (orderStats == null) ? null : toArray(orderStats[p]);
+            game.add(new GameIndex.Entry(game, ts.getPhase(), power.getName(), position.isEliminated(power),
+                    position.getUnitProvinces(power).length, position.getDislodgedUnitProvinces(power).length,
+                    scNames, stats));
+        }
+    }// addEntries()
+
+
+    /**
+     * Converts OrderStats to the array stored in an Entry
+     */
+    private static int[] toArray(OrderStats orderStats) {
+        final int[] stats = new int[GameIndex.Entry.N_STATS];
+        stats[GameIndex.Entry.ORDERS] = orderStats.getOrderCount();
+        stats[GameIndex.Entry.MOVES] = orderStats.getMoveCount();
+        stats[GameIndex.Entry.MOVES_OK] = orderStats.getMoveSuccessCount();
+        stats[GameIndex.Entry.HOLDS] = orderStats.getHoldCount();
+        stats[GameIndex.Entry.HOLDS_OK] = orderStats.getHoldSuccessCount();
+        stats[GameIndex.Entry.SUPPORTS] = orderStats.getSupportCount();
+        stats[GameIndex.Entry.SUPPORTS_OK] = orderStats.getSupportSuccessCount();
+        stats[GameIndex.Entry.SUPPORTS_SELF] = orderStats.getSelfSupportCount();
+        stats[GameIndex.Entry.SUPPORTS_SELF_OK] = orderStats.getSelfSupportSuccessCount();
+        stats[GameIndex.Entry.CONVOYS] = orderStats.getConvoyCount();
+        stats[GameIndex.Entry.CONVOYS_OK] = orderStats.getConvoySuccessCount();
+        return stats;
+    }// toArray()
+
+
+    /**
+     * Deletes stored games which are not referenced by the given Games.
+     */
+    private void removeUnreferenced(List<GameIndex.Game> games)
+            throws IOException {
+        final Set<Path> referenced = new HashSet<>();
+        for (GameIndex.Game game : games) {
+            referenced.add(new File(storeDir, game.getStorePath()).toPath().toAbsolutePath().normalize());
+        }
+
+        final List<Path> unreferenced;
+        try (Stream<Path> stream = Files.walk(storeDir.toPath().toAbsolutePath().normalize())) {
+            unreferenced = stream
+                    .filter(path -> path.toString().endsWith(STORE_EXTENSION) && !referenced.contains(path))
+                    .collect(Collectors.toList());
+        }
+
+        for (Path path : unreferenced) {
+            logger.debug("Removing {}", path);
+            Files.deleteIfExists(path);
+        }
+    }// removeUnreferenced()
+
+
+    /**
+     * Replaces characters which may not be valid in file names
+     */
+    private static String toFileName(String name) {
+        return name.isEmpty() ? "_" : name.replaceAll("[^A-Za-z0-9._-]", "_");
+    }// toFileName()
+
+
+    /**
+     * Command-line entry point
+     */
+    public static void main(String[] args)
+            throws Exception {
+        File storeDir = null;
+        File variantsDir = new File(System.getProperty("user.dir", "."), VARIANT_DIR);
+        String threads = null;
+        final List<File> roots = new ArrayList<>();
+
+        for (String arg : args) {
+            if (arg.startsWith("-out:")) {
+                storeDir = new File(getValue(arg));
+            } else if (arg.startsWith("-variants:")) {
+                variantsDir = new File(getValue(arg));
+            } else if (arg.startsWith("-threads:")) {
+                threads = getValue(arg);
+            } else if (arg.startsWith("-")) {
+                printUsageAndExit();
+            } else {
+                roots.add(new File(arg));
+            }
+        }
+
+        if (storeDir == null || roots.isEmpty()) {
+            printUsageAndExit();
+        }
+
+        final ArchiveIndexer indexer = new ArchiveIndexer(storeDir);
+        try {
+            if (threads != null) {
+                indexer.setThreads(Integer.parseInt(threads));
+            }
+        } catch (IllegalArgumentException e) {
+            logger.error("Invalid argument: {}", e.getMessage());
+            printUsageAndExit();
+        }
+
+        VariantManager.init(new File[]{variantsDir}, false);
+        indexer.index(roots);
+        System.exit(indexer.getFailedCount());
+    }// main()
+
+
+    private static String getValue(String arg) {
+        return arg.substring(arg.indexOf(':') + 1);
+    }// getValue()
+
+
+    private static void printUsageAndExit() {
+        System.out.println("USAGE: ArchiveIndexer -out:dir [options] <file-or-dir> [<file-or-dir> ...]");
+        System.out.println("  -out:dir         game store directory; the index is written to dir/" + GameIndex.INDEX_FILE_NAME);
+        System.out.println("  -threads:n       import archives on n threads (default: number of processors)");
+        System.out.println("  -variants:dir    variant directory (default: ./" + VARIANT_DIR + ")");
+        System.out.println();
+        System.out.println("  Directories are searched recursively. The exit code is the number of failed archives.");
+        System.exit(1);
+    }// printUsageAndExit()
+
+}// class ArchiveIndexer
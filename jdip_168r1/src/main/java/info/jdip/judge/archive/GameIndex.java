@@ -0,0 +1,557 @@
+//
+//  @(#)GameIndex.java	1.00	10/2026
+//
+//
+//  This program is free software; you can redistribute it and/or modify
+//  it under the terms of the GNU General Public License as published by
+//  the Free Software Foundation; either version 2 of the License, or
+//  (at your option) any later version.
+//
+//  This program is distributed in the hope that it will be useful,
+//  but WITHOUT ANY WARRANTY; without even the implied warranty of
+//  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//  GNU General Public License for more details.
+//
+//  You should have received a copy of the GNU General Public License
+//  along with this program; if not, write to the Free Software
+//  Foundation, Inc., 675 Mass Ave, Cambridge, MA 02139, USA.
+//  Or from http://www.gnu.org/
+//
+package info.jdip.judge.archive;
+
+import info.jdip.world.Phase;
+import info.jdip.world.World;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+
+/**
+ * An index of imported judge games, held in a game store directory.
+ * <p>
+ * Each game is saved (in the indexed game file format) within the store
+ * directory. The index holds, for each game, an Entry for every phase and
+ * power: supply center ownership, unit counts, and (for resolved Movement
+ * phases) the order statistics computed by the Order Statistics report.
+ * Entries may be found by game name, variant, phase and power, without
+ * opening the games themselves.
+ * <p>
+ * The index is written as a single compressed file. A GameIndex is
+ * not modified once created, and is threadsafe.
+ */
+public final class GameIndex {
+    /**
+     * Name of the index file within the store directory
+     */
+    public static final String INDEX_FILE_NAME = "index.dat";
+
+    // file constants
+    private static final int MAGIC = 0x4A474931;    // "JGI1"
+    private static final int FORMAT_VERSION = 1;
+
+    // instance variables
+    private final File directory;
+    private final List<Game> games;
+    private final List<Entry> entries;
+    private final HashMap<String, List<Entry>> byGame = new HashMap<>();
+    private final HashMap<String, List<Entry>> byVariant = new HashMap<>();
+    private final HashMap<Phase, List<Entry>> byPhase = new HashMap<>();
+    private final HashMap<String, List<Entry>> byPower = new HashMap<>();
+
+
+    /**
+     * Creates a GameIndex of the given Games, held in the given store directory.
+     */
+    GameIndex(File directory, List<Game> games) {
+        if (directory == null || games == null) {
+            throw new IllegalArgumentException();
+        }
+
+        this.directory = directory;
+        this.games = Collections.unmodifiableList(new ArrayList<>(games));
+
+        final ArrayList<Entry> list = new ArrayList<>();
+        for (Game game : games) {
+            for (Entry entry : game.getEntries()) {
+                list.add(entry);
+                add(byGame, toKey(game.getGameName()), entry);
+                add(byVariant, toKey(game.getVariantName()), entry);
+                add(byPhase, entry.getPhase(), entry);
+                add(byPower, toKey(entry.getPowerName()), entry);
+            }
+        }
+
+        list.trimToSize();
+        this.entries = Collections.unmodifiableList(list);
+    }// GameIndex()
+
+
+    /**
+     * Reads the index of the given store directory. If the directory
+     * has no index, an empty GameIndex is returned.
+     */
+    public static GameIndex read(File directory)
+            throws IOException {
+        final File file = new File(directory, INDEX_FILE_NAME);
+        if (!file.exists()) {
+            return new GameIndex(directory, Collections.emptyList());
+        }
+
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(
+                new GZIPInputStream(new FileInputStream(file), 65536)))) {
+            if (in.readInt() != MAGIC || in.readInt() != FORMAT_VERSION) {
+                throw new IOException("Not a game index, or unsupported version: " + file);
+            }
+
+            final int nGames = in.readInt();
+            final ArrayList<Game> games = new ArrayList<>(nGames);
+            for (int i = 0; i < nGames; i++) {
+                games.add(readGame(in));
+            }
+
+            return new GameIndex(directory, games);
+        }
+    }// read()
+
+
+    /**
+     * Writes the index to the store directory. The index is first written
+     * to a temporary file, so that readers never see a partial index.
+     */
+    void write()
+            throws IOException {
+        final File tmpFile = File.createTempFile(INDEX_FILE_NAME, ".tmp", directory);
+        boolean isMoved = false;
+        try {
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(
+                    new GZIPOutputStream(new FileOutputStream(tmpFile), 65536)))) {
+                out.writeInt(MAGIC);
+                out.writeInt(FORMAT_VERSION);
+                out.writeInt(games.size());
+                for (Game game : games) {
+                    writeGame(out, game);
+                }
+            }
+
+            Files.move(tmpFile.toPath(), new File(directory, INDEX_FILE_NAME).toPath(),
+                    StandardCopyOption.REPLACE_EXISTING);
+            isMoved = true;
+        } finally {
+            if (!isMoved && !tmpFile.delete()) {
+                tmpFile.deleteOnExit();
+            }
+        }
+    }// write()
+
+
+    /**
+     * Returns the store directory
+     */
+    public File getDirectory() {
+        return directory;
+    }// getDirectory()
+
+
+    /**
+     * Returns all Games, in the order indexed
+     */
+    public List<Game> getGames() {
+        return games;
+    }// getGames()
+
+
+    /**
+     * Returns all Entries
+     */
+    public List<Entry> getEntries() {
+        return entries;
+    }// getEntries()
+
+
+    /**
+     * Finds the Entries matching all of the given values; null values match
+     * any value. Game, variant and power names are not case-sensitive.
+     * Entries are returned in the order indexed.
+     */
+    public List<Entry> find(String gameName, String variantName, Phase phase, String powerName) {
+        // start with the smallest list of candidates
+        List<Entry> candidates = entries;
+        if (gameName != null) {
+            candidates = smaller(candidates, get(byGame, toKey(gameName)));
+        }
+        if (variantName != null) {
+            candidates = smaller(candidates, get(byVariant, toKey(variantName)));
+        }
+        if (phase != null) {
+            candidates = smaller(candidates, get(byPhase, phase));
+        }
+        if (powerName != null) {
+            candidates = smaller(candidates, get(byPower, toKey(powerName)));
+        }
+
+        final ArrayList<Entry> result = new ArrayList<>(candidates.size());
+        for (Entry entry : candidates) {
+            final Game game = entry.getGame();
+            if ((gameName == null || game.getGameName().equalsIgnoreCase(gameName))
+                    && (variantName == null || game.getVariantName().equalsIgnoreCase(variantName))
+                    && (phase == null || phase.equals(entry.getPhase()))
+                    && (powerName == null || entry.getPowerName().equalsIgnoreCase(powerName))) {
+                result.add(entry);
+            }
+        }
+
+        return result;
+    }// find()
+
+
+    /**
+     * Opens the stored World of the given Game.
+     */
+    public World open(Game game)
+            throws IOException {
+        return World.open(new File(directory, game.getStorePath()));
+    }// open()
+
+
+    private static <K> void add(HashMap<K, List<Entry>> map, K key, Entry entry) {
+        map.computeIfAbsent(key, k -> new ArrayList<>()).add(entry);
+    }// add()
+
+
+    private static <K> List<Entry> get(HashMap<K, List<Entry>> map, K key) {
+        final List<Entry> list = map.get(key);
+        return (list == null) ? Collections.emptyList() : list;
+    }// get()
+
+
+    private static List<Entry> smaller(List<Entry> a, List<Entry> b) {
+        return (b.size() < a.size()) ? b : a;
+    }// smaller()
+
+
+    private static String toKey(String name) {
+        return name.toLowerCase(Locale.ENGLISH);
+    }// toKey()
+
+
+    private static void writeGame(DataOutputStream out, Game game)
+            throws IOException {
+        out.writeUTF(game.source);
+        out.writeLong(game.sourceLength);
+        out.writeLong(game.sourceModified);
+        out.writeUTF(game.storePath);
+        out.writeUTF(game.judgeName);
+        out.writeUTF(game.gameName);
+        out.writeUTF(game.variantName);
+        out.writeBoolean(game.isEnded);
+
+        out.writeInt(game.entries.size());
+        for (Entry entry : game.entries) {
+            out.writeUTF(entry.phase.getBriefName());
+            out.writeUTF(entry.powerName);
+            out.writeBoolean(entry.isEliminated);
+            out.writeShort(entry.unitCount);
+            out.writeShort(entry.dislodgedCount);
+            out.writeShort(entry.supplyCenters.length);
+            for (String sc : entry.supplyCenters) {
+                out.writeUTF(sc);
+            }
+
+            out.writeBoolean(entry.orderStats != null);
+            if (entry.orderStats != null) {
+                for (int value : entry.orderStats) {
+                    out.writeShort(value);
+                }
+            }
+        }
+    }// writeGame()
+
+
+    private static Game readGame(DataInputStream in)
+            throws IOException {
+        final Game game = new Game(in.readUTF(), in.readLong(), in.readLong(), in.readUTF(),
+                in.readUTF(), in.readUTF(), in.readUTF(), in.readBoolean());
+
+        final int nEntries = in.readInt();
+        for (int i = 0; i < nEntries; i++) {
+            final String phaseName = in.readUTF();
+            final Phase phase = Phase.parse(phaseName);
+            if (phase == null) {
+                throw new IOException("Invalid phase in game index: " + phaseName);
+            }
+
+            final String powerName = in.readUTF();
+            final boolean isEliminated = in.readBoolean();
+            final int unitCount = in.readShort();
+            final int dislodgedCount = in.readShort();
+            final String[] supplyCenters = new String[in.readShort()];
+            for (int n = 0; n < supplyCenters.length; n++) {
+                supplyCenters[n] = in.readUTF();
+            }
+
+            int[] orderStats = null;
+            if (in.readBoolean()) {
+                orderStats = new int[Entry.N_STATS];
+                for (int n = 0; n < orderStats.length; n++) {
+                    orderStats[n] = in.readShort();
+                }
+            }
+
+            game.add(new Entry(game, phase, powerName, isEliminated, unitCount, dislodgedCount,
+                    supplyCenters, orderStats));
+        }
+
+        return game;
+    }// readGame()
+
+
+    /**
+     * An indexed game
+     */
+    public static final class Game {
+        private final String source;
+        private final long sourceLength;
+        private final long sourceModified;
+        private final String storePath;
+        private final String judgeName;
+        private final String gameName;
+        private final String variantName;
+        private final boolean isEnded;
+        private final ArrayList<Entry> entries = new ArrayList<>();
+
+        Game(String source, long sourceLength, long sourceModified, String storePath,
+             String judgeName, String gameName, String variantName, boolean isEnded) {
+            this.source = source;
+            this.sourceLength = sourceLength;
+            this.sourceModified = sourceModified;
+            this.storePath = storePath;
+            this.judgeName = judgeName;
+            this.gameName = gameName;
+            this.variantName = variantName;
+            this.isEnded = isEnded;
+        }// Game()
+
+        void add(Entry entry) {
+            entries.add(entry);
+        }// add()
+
+        /**
+         * Returns the path of the imported archive file
+         */
+        public String getSource() {
+            return source;
+        }
+
+        /**
+         * Returns the length of the archive file, when imported
+         */
+        public long getSourceLength() {
+            return sourceLength;
+        }
+
+        /**
+         * Returns the last-modified time of the archive file, when imported
+         */
+        public long getSourceModified() {
+            return sourceModified;
+        }
+
+        /**
+         * Returns the path of the stored game, relative to the store directory
+         */
+        public String getStorePath() {
+            return storePath;
+        }
+
+        public String getJudgeName() {
+            return judgeName;
+        }
+
+        public String getGameName() {
+            return gameName;
+        }
+
+        public String getVariantName() {
+            return variantName;
+        }
+
+        /**
+         * Returns true if the game has ended
+         */
+        public boolean isEnded() {
+            return isEnded;
+        }
+
+        /**
+         * Returns the Entries of this Game, by phase, and then power
+         */
+        public List<Entry> getEntries() {
+            return Collections.unmodifiableList(entries);
+        }
+
+        public String toString() {
+            return judgeName + ":" + gameName + " (" + variantName + ")";
+        }
+    }// nested class Game
+
+
+    /**
+     * The state of a power in a phase of an indexed game.
+     * <p>
+     * Order statistics, as collected by {@link info.jdip.order.OrderStats},
+     * are only present for resolved Movement phases.
+     */
+    public static final class Entry {
+        // order statistics indices
+        static final int ORDERS = 0;
+        static final int MOVES = 1;
+        static final int MOVES_OK = 2;
+        static final int HOLDS = 3;
+        static final int HOLDS_OK = 4;
+        static final int SUPPORTS = 5;
+        static final int SUPPORTS_OK = 6;
+        static final int SUPPORTS_SELF = 7;
+        static final int SUPPORTS_SELF_OK = 8;
+        static final int CONVOYS = 9;
+        static final int CONVOYS_OK = 10;
+        static final int N_STATS = 11;
+
+        private final Game game;
+        private final Phase phase;
+        private final String powerName;
+        private final boolean isEliminated;
+        private final int unitCount;
+        private final int dislodgedCount;
+        private final String[] supplyCenters;
+        private final int[] orderStats;
+
+        Entry(Game game, Phase phase, String powerName, boolean isEliminated, int unitCount,
+              int dislodgedCount, String[] supplyCenters, int[] orderStats) {
+            this.game = game;
+            this.phase = phase;
+            this.powerName = powerName;
+            this.isEliminated = isEliminated;
+            this.unitCount = unitCount;
+            this.dislodgedCount = dislodgedCount;
+            this.supplyCenters = supplyCenters;
+            this.orderStats = orderStats;
+        }// Entry()
+
+        public Game getGame() {
+            return game;
+        }
+
+        public Phase getPhase() {
+            return phase;
+        }
+
+        public String getPowerName() {
+            return powerName;
+        }
+
+        public boolean isEliminated() {
+            return isEliminated;
+        }
+
+        /**
+         * Returns the number of (non-dislodged) units
+         */
+        public int getUnitCount() {
+            return unitCount;
+        }
+
+        public int getDislodgedCount() {
+            return dislodgedCount;
+        }
+
+        /**
+         * Returns the number of supply centers owned
+         */
+        public int getSupplyCenterCount() {
+            return supplyCenters.length;
+        }
+
+        /**
+         * Returns the short names of the supply centers owned
+         */
+        public String[] getSupplyCenters() {
+            return supplyCenters.clone();
+        }
+
+        /**
+         * Returns true if order statistics are present
+         */
+        public boolean hasOrderStats() {
+            return orderStats != null;
+        }
+
+        public int getOrderCount() {
+            return getStat(ORDERS);
+        }
+
+        public int getMoveCount() {
+            return getStat(MOVES);
+        }
+
+        public int getMoveSuccessCount() {
+            return getStat(MOVES_OK);
+        }
+
+        public int getHoldCount() {
+            return getStat(HOLDS);
+        }
+
+        public int getHoldSuccessCount() {
+            return getStat(HOLDS_OK);
+        }
+
+        public int getSupportCount() {
+            return getStat(SUPPORTS);
+        }
+
+        public int getSupportSuccessCount() {
+            return getStat(SUPPORTS_OK);
+        }
+
+        public int getSelfSupportCount() {
+            return getStat(SUPPORTS_SELF);
+        }
+
+        public int getSelfSupportSuccessCount() {
+            return getStat(SUPPORTS_SELF_OK);
+        }
+
+        public int getConvoyCount() {
+            return getStat(CONVOYS);
+        }
+
+        public int getConvoySuccessCount() {
+            return getStat(CONVOYS_OK);
+        }
+
+        private int getStat(int index) {
+            return (orderStats == null) ? 0 : orderStats[index];
+        }
+
+        public String toString() {
+            return game + " " + phase.getBriefName() + " " + powerName + ": "
+                    + supplyCenters.length + " SC, " + unitCount + " units";
+        }
+    }// nested class Entry
+
+}// class GameIndex
@@ -53,6 +53,9 @@ public class AdjustmentParser {
      * Parsed on a per-line basis.
      */
     public static final String ADJUST_REGEX = "(?i)([\\p{Alnum}\\-_]*):\\D*(\\d+)\\D+(\\d+)\\D+((\\d+)).*\\.";
+    // compiled patterns
+    private static final Pattern HEADER_PATTERN = Pattern.compile(HEADER_REGEX);
+    private static final Pattern ADJUST_PATTERN = Pattern.compile(ADJUST_REGEX);
     // CONSTANTS
     // empty string
     private static final String[] EMPTY = new String[0];
@@ -61,7 +64,6 @@ public class AdjustmentParser {
 
     private List<OwnerInfo> ownerList = null;
     private List<AdjustInfo> adjustList = null;
-    private Pattern regexAdjust = null;
 
     private OwnerInfo[] ownerInfo = null;
     private AdjustInfo[] adjustInfo = null;
@@ -162,19 +164,13 @@ public class AdjustmentParser {
         ownerList = new LinkedList<>();
         adjustList = new LinkedList<>();
 
-        // create patterns
-        regexAdjust = Pattern.compile(ADJUST_REGEX);
-
-        // Create HEADER_REGEX pattern
-        Pattern header = Pattern.compile(HEADER_REGEX);
-
         // search for HEADER_REGEX
         // create a block of text
         BufferedReader br = new BufferedReader(new StringReader(input));
 
         String line = br.readLine();
         while (line != null) {
-            Matcher m = header.matcher(line);
+            Matcher m = HEADER_PATTERN.matcher(line);
             if (m.lookingAt()) {
                 parseOwnerBlock(ParserUtils.parseBlock(br));
                 parseAdjustmentBlock(ParserUtils.parseBlock(br));
@@ -195,7 +191,6 @@ public class AdjustmentParser {
         adjustList.clear();
         ownerList = null;
         adjustList = null;
-        regexAdjust = null;
     }// parseInput()
 
     /**
@@ -275,7 +270,7 @@ public class AdjustmentParser {
         String[] lines = text.split("\\n");
 
         for (String line : lines) {
-            Matcher m = regexAdjust.matcher(line);
+            Matcher m = ADJUST_PATTERN.matcher(line);
 
             if (m.find()) {
                 adjustList.add(new AdjustInfo(
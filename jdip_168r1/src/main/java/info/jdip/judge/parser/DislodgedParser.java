@@ -74,6 +74,14 @@ public class DislodgedParser {
     // CONSTANTS
     // empty string
     private static final String[] EMPTY = new String[0];
+    // compiled patterns
+    private static final Pattern HEADER_PATTERN = Pattern.compile(HEADER_REGEX);
+    private static final Pattern HEADER_END_PATTERN = Pattern.compile(HEADER_END_REGEX);
+    private static final Pattern DISLODGED_PATTERN = Pattern.compile(DISLODGED_REGEX);
+    private static final Pattern[] DESTROYED_PATTERNS = {
+            Pattern.compile(DESTROYED_REGEX_1),
+            Pattern.compile(DESTROYED_REGEX_2)
+    };
     // INSTANCE VARIABLES
     private DislodgedInfo[] dislodgedInfo = null;
     private Phase phase = null;
@@ -153,10 +161,6 @@ public class DislodgedParser {
             throws IOException {
         logger.trace("DislodgedParser::parseInput()");
 
-        // Create HEADER_REGEX pattern, HEADER_END_REGEX pattern
-        Pattern header = Pattern.compile(HEADER_REGEX);
-        Pattern endHeader = Pattern.compile(HEADER_END_REGEX);
-
         // search for HEADER_REGEX
         // keep searching until we find an empty line, or HEADER_END_REGEX.
         //
@@ -165,7 +169,7 @@ public class DislodgedParser {
 
         String line = br.readLine();
         while (line != null) {
-            Matcher m = header.matcher(line);
+            Matcher m = HEADER_PATTERN.matcher(line);
             if (m.lookingAt()) {
                 boolean inBlock = false;
                 line = br.readLine();
@@ -175,7 +179,7 @@ public class DislodgedParser {
                         // if we are 'end header regex', we end
                         // though typically having a zero-length trimmed line will do that too
                         //
-                        Matcher endM = endHeader.matcher(line);
+                        Matcher endM = HEADER_END_PATTERN.matcher(line);
                         if (endM.lookingAt()) {
                             break;
                         }
@@ -214,7 +218,6 @@ public class DislodgedParser {
         // cleanup
         br.close();
         line = null;
-        header = null;
 
 		/*
 		System.out.println("(DislodgedParser) text:");
@@ -225,13 +228,6 @@ public class DislodgedParser {
         // create a list of Dislodged units
         List<DislodgedInfo> disList = new LinkedList<>();
 
-        // Create patterns
-        Pattern[] destroyeds = new Pattern[2];
-        destroyeds[0] = Pattern.compile(DESTROYED_REGEX_1);
-        destroyeds[1] = Pattern.compile(DESTROYED_REGEX_2);
-
-        Pattern dislodged = Pattern.compile(DISLODGED_REGEX);
-
         // parse accum line-by-line, looking for DESTROYED_REGEX and
         // DISLODGED_REGEX.
         //
@@ -243,7 +239,7 @@ public class DislodgedParser {
 
             boolean foundMatch = false;
 
-            for (Pattern destroyed : destroyeds) {
+            for (Pattern destroyed : DESTROYED_PATTERNS) {
                 Matcher m = destroyed.matcher(line);
                 if (m.lookingAt()) {
                     disList.add(new DislodgedInfo(
@@ -258,7 +254,7 @@ public class DislodgedParser {
             }
 
             if (!foundMatch) {
-                Matcher m = dislodged.matcher(line);
+                Matcher m = DISLODGED_PATTERN.matcher(line);
                 if (m.lookingAt()) {
                     // parse location-list predicate
                     String[] retreatLocs = m.group(4).split(DISLODGED_SPLIT_REGEX);
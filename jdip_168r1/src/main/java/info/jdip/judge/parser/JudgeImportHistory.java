@@ -22,7 +22,9 @@
 //
 package info.jdip.judge.parser;
 
+import info.jdip.judge.parser.JudgeOrderParser.OrderLines;
 import info.jdip.judge.parser.TurnParser.Turn;
+import info.jdip.judge.parser.TurnParser.TurnReader;
 import info.jdip.misc.Utils;
 import info.jdip.order.Build;
 import info.jdip.order.Disband;
@@ -52,11 +54,20 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.ListIterator;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.MatchResult;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.regex.PatternSyntaxException;
@@ -64,6 +75,11 @@ import java.util.regex.PatternSyntaxException;
 /**
  * Processes an entire game history to create a world.
  * <p>
+ * The history is read one Turn at a time. The orders, dislodged units, and
+ * supply center ownership of each Turn are parsed on a pool of worker threads,
+ * while Turns are applied to the World in order. Only a bounded number of
+ * Turns are held in memory.
+ * <p>
  * TODO:
  * <br>positioning units with orders that failed parsing (e.g., a move to Switzerland (swi))
  */
@@ -77,6 +93,14 @@ final class JudgeImportHistory {
     public static final String PARSE_REGEX = "(?i)the\\snext\\sphase\\s.*will\\sbe\\s(\\p{Alpha}+)\\sfor\\s(\\p{Alpha}+)\\sof\\s((\\p{Digit}+))";
     public static final String END_FOF_GAME = "(?i)the game is over";
     public static final String START_POSITIONS = "(?i)Subject:\\s\\p{Alpha}+:\\p{Alnum}+\\s-\\s(\\p{Alpha})(\\p{Digit}+)(\\p{Alpha})";
+    // compiled patterns
+    private static final Pattern PARSE_PATTERN = Pattern.compile(PARSE_REGEX);
+    private static final Pattern END_OF_GAME_PATTERN = Pattern.compile(END_FOF_GAME);
+    private static final Pattern START_POSITIONS_PATTERN = Pattern.compile(START_POSITIONS);
+    // Turn parsing: worker threads, and the maximum number of Turns being parsed (or waiting to be applied)
+    private static final int PARSE_THREADS = Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors()));
+    private static final int MAX_PENDING_TURNS = 4 * PARSE_THREADS;
+    private static final AtomicInteger threadCount = new AtomicInteger();
     // constants
     private static final String STDADJ_MV_UNIT_DESTROYED = "STDADJ_MV_UNIT_DESTROYED";
     private static final String JIH_BAD_POSITION = "JP.import.badposition";
@@ -149,34 +173,31 @@ final class JudgeImportHistory {
     private void processTurns()
             throws IOException, PatternSyntaxException {
         // break data up into turns
-        Turn[] turns = new TurnParser(jp.getText()).getTurns();
-        //System.out.println("# of turns: "+turns.length);
-
-        // find first movement phase, if any
-        int firstMovePhase = -1;
-        for (int i = 0; i < turns.length; i++) {
-            if (turns[i].getPhase() != null) {
-                if (turns[i].getPhase().getPhaseType() == Phase.PhaseType.MOVEMENT) {
-                    firstMovePhase = i;
-                    break;
-                }
-            }
-        }
-
-        // If we couldn't find the first movement phase... perhaps the game is just starting
-        if (firstMovePhase == -1) {
-            // Try to use the text info to create the game at its starting positions
-            try {
-                createStartingPositions();
-                // Don't do the rest of this method, it will all fail.
-                return;
-            } catch (IOException e) {
-                throw new IOException(Utils.getLocalString(JIH_NO_MOVEMENT_PHASE));
-            }
+        final TurnReader reader = new TurnReader(jp.getTextReader());
+        reader.setSearchPattern(START_POSITIONS_PATTERN);
+
+        final ExecutorService executor = Executors.newFixedThreadPool(PARSE_THREADS, r -> {
+            Thread t = new Thread(r, "JudgeImport-" + threadCount.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+
+        try {
+            processTurns(new TurnSource(reader, executor), reader);
+        } finally {
+            executor.shutdownNow();
+            reader.close();
         }
+    }// processTurns()
 
-        //System.out.println("First move phase: "+firstMovePhase);
 
+    /**
+     * Processes Turns as they become available. Only the last three Turns are
+     * retained; the final Turn is processed differently, so each Turn is
+     * processed once the following Turn is available.
+     */
+    private void processTurns(TurnSource source, TurnReader reader)
+            throws IOException {
         // get home supply center information from the oldPosition object
         // and store it in HSCInfo object array, so that it can be set during each successive
         // turn.
@@ -190,52 +211,63 @@ final class JudgeImportHistory {
         }
         homeSCInfo = hscList.toArray(new HSCInfo[hscList.size()]);
 
-        // process all but the final phase
-        for (int i = firstMovePhase; i < turns.length - 1; i++) {
-            //System.out.println("processing turn: "+i+"; phase = "+turns[i].getPhase());
-            if (i == 0) {
-                procTurn(turns[i], null, null, false);
-            } else if (i == 1) {
-                procTurn(turns[i], turns[i - 1], null, false);
-            } else {
-                procTurn(turns[i], turns[i - 1], turns[i - 2], false);
+        // process all but the final phase, starting with the first movement phase (if any)
+        ParsedTurn thirdTurn = null;
+        ParsedTurn prevTurn = null;
+        ParsedTurn turn = source.next();
+        boolean hasMovePhase = false;
+        while (turn != null) {
+            if (turn.getPhase() != null && turn.getPhase().getPhaseType() == Phase.PhaseType.MOVEMENT) {
+                hasMovePhase = true;
             }
+
+            final ParsedTurn nextTurn = source.next();
+            if (nextTurn == null) {
+                break;
+            }
+
+            if (hasMovePhase) {
+                procTurn(turn, prevTurn, thirdTurn, false);
+            }
+
+            thirdTurn = prevTurn;
+            prevTurn = turn;
+            turn = nextTurn;
         }
-        // process the last turn once more, but as the final turn, to allow proper positioning.
-        finalTurn = true;
-        if (turns.length == 1) {
-            procTurn(turns[turns.length - 1], null, null, true);
-        } else if (turns.length == 2) {
-            procTurn(turns[turns.length - 1], turns[turns.length - 2], null, true);
-        } else if (turns.length >= 3) {
-            procTurn(turns[turns.length - 1], turns[turns.length - 2], turns[turns.length - 3], true);
+
+        // If we couldn't find the first movement phase... perhaps the game is just starting
+        if (!hasMovePhase) {
+            // Try to use the text info to create the game at its starting positions
+            try {
+                createStartingPositions(reader.getSearchMatch());
+                // Don't do the rest of this method, it will all fail.
+                return;
+            } catch (IOException e) {
+                throw new IOException(Utils.getLocalString(JIH_NO_MOVEMENT_PHASE));
+            }
         }
 
-        Pattern endofgame = Pattern.compile(END_FOF_GAME);
+        // process the last turn once more, but as the final turn, to allow proper positioning.
+        finalTurn = true;
+        procTurn(turn, prevTurn, thirdTurn, true);
 
-        Matcher e = endofgame.matcher(turns[turns.length - 1].getText());
+        Matcher e = END_OF_GAME_PATTERN.matcher(turn.getText());
 
         if (!e.find()) {
 
             // create last (un-resolved) turnstate
-            makeLastTurnState(turns[turns.length - 1]);
+            makeLastTurnState(turn);
 
             // reprocess the last turn, again, not as final, so it looks right for viewing.
             finalTurn = false;
-            if (turns.length == 1) {
-                procTurn(turns[turns.length - 1], null, null, false);
-            } else if (turns.length == 2) {
-                procTurn(turns[turns.length - 1], turns[turns.length - 2], null, false);
-            } else if (turns.length >= 3) {
-                procTurn(turns[turns.length - 1], turns[turns.length - 2], turns[turns.length - 3], false);
-            }
+            procTurn(turn, prevTurn, thirdTurn, false);
         } else {
             // The imported game has ended
             // Reprocess the last turn, again, not as final, so it looks right for viewing.
             finalTurn = false;
-            procTurn(turns[turns.length - 1], turns[turns.length - 2], turns[turns.length - 3], false);
+            procTurn(turn, prevTurn, thirdTurn, false);
             // Set the game as ended.
-            TurnState ts = world.getTurnState(turns[turns.length - 1].getPhase());
+            TurnState ts = world.getTurnState(turn.getPhase());
             VictoryConditions vc = world.getVictoryConditions();
             RuleOptions ruleOpts = world.getRuleOptions();
             Adjustment.AdjustmentInfoMap adjMap = Adjustment.getAdjustmentInfo(ts, ruleOpts, world.getMap().getPowers());
@@ -254,8 +286,10 @@ final class JudgeImportHistory {
     /**
      * Processes a single turn.
      */
-    private void processSingleTurn(Turn turn)
+    private void processSingleTurn(Turn singleTurn)
             throws IOException, PatternSyntaxException {
+        final ParsedTurn turn = new ParsedTurn(singleTurn).call();
+
         // get home supply center information from the oldPosition object
         // and store it in HSCInfo object array, so that it can be set during each successive
         // turn.
@@ -293,7 +327,7 @@ final class JudgeImportHistory {
      * This is not the best way to process the turns, especially the adjustment phase,
      * but it works.
      */
-    private void procTurn(Turn turn, Turn prevTurn, Turn thirdTurn, boolean positionPlacement)
+    private void procTurn(ParsedTurn turn, ParsedTurn prevTurn, ParsedTurn thirdTurn, boolean positionPlacement)
             throws IOException {
         Phase phase = turn.getPhase();
         if (phase != null) {
@@ -384,7 +418,7 @@ final class JudgeImportHistory {
      * <p>
      * This method ensures that TurnState objects are properly (and consistently) initialized.
      */
-    private TurnState makeTurnState(Turn turn, boolean positionPlacement) {
+    private TurnState makeTurnState(ParsedTurn turn, boolean positionPlacement) {
         // does the turnstate already exist?
         // it could, if we are importing orders into an already-existing game.
         //
@@ -413,7 +447,7 @@ final class JudgeImportHistory {
     /**
      * Old method
      */
-    private void procMove(Turn turn, final boolean positionPlacement)
+    private void procMove(ParsedTurn turn, final boolean positionPlacement)
             throws IOException {
         procMove(turn, positionPlacement, false);
     }// procMove()
@@ -422,7 +456,7 @@ final class JudgeImportHistory {
     /**
      * Process a Movement phase turn
      */
-    private void procMove(Turn turn, final boolean positionPlacement, final boolean isRetreatMoveProcessing)
+    private void procMove(ParsedTurn turn, final boolean positionPlacement, final boolean isRetreatMoveProcessing)
             throws IOException {
         logger.debug("positionPlacement={}, isRetreatMoveProcessing={}", positionPlacement,isRetreatMoveProcessing);
         if (turn == null) {
@@ -441,8 +475,7 @@ final class JudgeImportHistory {
         copyPreviousLastOccupierInfo(ts);
 
         // parse orders, and create orders for each unit
-        final JudgeOrderParser jop = new JudgeOrderParser(map, orderFactory, turn.getText());
-        final NJudgeOrder[] nJudgeOrders = jop.getNJudgeOrders();
+        final NJudgeOrder[] nJudgeOrders = turn.getNJudgeOrders();
 
         // get Position. Remember, this position contains no units.
         Position position = ts.getPosition();
@@ -649,13 +682,11 @@ final class JudgeImportHistory {
         // process dislodged unit info, to determine retreat paths
         // correct dislodged results are created here, and the old dislodged
         // results are removed
-        DislodgedParser dislodgedParser = new DislodgedParser(ts.getPhase(), turn.getText());
-        makeDislodgedResults(ts.getPhase(), results, position, dislodgedParser.getDislodgedInfo(), positionPlacement);
+        makeDislodgedResults(ts.getPhase(), results, position, turn.getDislodgedInfo(), positionPlacement);
 
         // process adjustment info ownership info (if any)
         //
-        AdjustmentParser adjParser = new AdjustmentParser(map, turn.getText());
-        procAdjustmentBlock(adjParser.getOwnership(), ts, position);
+        procAdjustmentBlock(turn.getOwnership(), ts, position);
 
         // check for elimination
         position.setEliminationStatus(map.getPowers());
@@ -672,7 +703,7 @@ final class JudgeImportHistory {
     /**
      * Process a Retreat phase turn
      */
-    private void procRetreat(Turn turn, boolean positionPlacement)
+    private void procRetreat(ParsedTurn turn, boolean positionPlacement)
             throws IOException {
         logger.trace("Starting processing retreat.");
         if (turn == null) return;
@@ -685,8 +716,7 @@ final class JudgeImportHistory {
         logger.info("Phase: {}, positionPlacement: {} ", ts.getPhase(),  positionPlacement);
 
         // parse orders, and create orders for each unit
-        JudgeOrderParser jop = new JudgeOrderParser(map, orderFactory, turn.getText());
-        NJudgeOrder[] nJudgeOrders = jop.getNJudgeOrders();
+        NJudgeOrder[] nJudgeOrders = turn.getNJudgeOrders();
 
         // Copy previous phase positions
         copyPreviousPositions(ts);
@@ -791,8 +821,7 @@ final class JudgeImportHistory {
         }
 
         // process adjustment info ownership info (if any)
-        AdjustmentParser adjParser = new AdjustmentParser(map, turn.getText());
-        procAdjustmentBlock(adjParser.getOwnership(), ts, position);
+        procAdjustmentBlock(turn.getOwnership(), ts, position);
 
         // check for elimination
         ts.getPosition().setEliminationStatus(map.getPowers());
@@ -809,7 +838,7 @@ final class JudgeImportHistory {
     /**
      * Process an Adjustment phase turn
      */
-    private void procAdjust(Turn turn, boolean positionPlacement)
+    private void procAdjust(ParsedTurn turn, boolean positionPlacement)
             throws IOException {
         if (turn == null) {
             return;
@@ -823,8 +852,7 @@ final class JudgeImportHistory {
         logger.debug("Phase: {}", ts.getPhase());
 
         // parse orders, and create orders for each unit
-        final JudgeOrderParser jop = new JudgeOrderParser(map, orderFactory, turn.getText());
-        final NJudgeOrder[] nJudgeOrders = jop.getNJudgeOrders();
+        final NJudgeOrder[] nJudgeOrders = turn.getNJudgeOrders();
 
         // Copy previous phase positions
         copyPreviousPositions(ts);
@@ -1205,14 +1233,14 @@ final class JudgeImportHistory {
         }
     }// makeDislodgedResults()
 
-    private void createStartingPositions() throws IOException {
+    /**
+     * Creates the starting TurnState, given the first match of START_POSITIONS
+     * in the text (or null).
+     */
+    private void createStartingPositions(MatchResult m) throws IOException {
         Phase phase = null;
 
-        // determine the next phase by reading through the turn text.
-        Pattern pattern = Pattern.compile(START_POSITIONS);
-        Matcher m = pattern.matcher(jp.getText());
-
-        if (m.find()) {
+        if (m != null) {
             StringBuilder sb = new StringBuilder(64);
             sb.append(m.group(1));
             sb.append(' ');
@@ -1255,14 +1283,12 @@ final class JudgeImportHistory {
      * <p>
      * If parsing fails, no last turnstate will be created.
      */
-    private void makeLastTurnState(Turn lastTurn)
+    private void makeLastTurnState(ParsedTurn lastTurn)
             throws IOException {
         Phase phase = null;
 
         // determine the next phase by reading through the turn text.
-        Pattern pattern = Pattern.compile(PARSE_REGEX);
-
-        Matcher m = pattern.matcher(lastTurn.getText());
+        Matcher m = PARSE_PATTERN.matcher(lastTurn.getText());
 
         if (m.find()) {
             StringBuilder sb = new StringBuilder(64);
@@ -1318,6 +1344,170 @@ final class JudgeImportHistory {
     }// enableWings()
 
 
+    /**
+     * Supplies parsed Turns, in order. Turns are read ahead, and parsed by the
+     * executor; at most MAX_PENDING_TURNS are read but not yet returned.
+     */
+    private final class TurnSource {
+        private final TurnReader reader;
+        private final ExecutorService executor;
+        private final ArrayDeque<Future<ParsedTurn>> pending = new ArrayDeque<>(MAX_PENDING_TURNS);
+        private boolean isEOF = false;
+
+        TurnSource(TurnReader reader, ExecutorService executor) {
+            this.reader = reader;
+            this.executor = executor;
+        }// TurnSource()
+
+        /**
+         * Returns the next parsed Turn, or null if there are no more Turns.
+         */
+        ParsedTurn next()
+                throws IOException {
+            while (!isEOF && pending.size() < MAX_PENDING_TURNS) {
+                final Turn turn = reader.next();
+                if (turn == null) {
+                    isEOF = true;
+                } else {
+                    pending.add(executor.submit(new ParsedTurn(turn)));
+                }
+            }
+
+            final Future<ParsedTurn> future = pending.poll();
+            if (future == null) {
+                return null;
+            }
+
+            try {
+                return future.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Judge import interrupted");
+            } catch (ExecutionException e) {
+                throw new IOException(e.getCause());
+            }
+        }// next()
+    }// inner class TurnSource
+
+
+    /**
+     * A Turn, with its orders, dislodged units, and supply center ownership parsed.
+     * Parsing (call()) may occur on any thread; a ParsedTurn is then only used by
+     * the thread applying Turns to the World.
+     * <p>
+     * Parsing errors are not thrown until the information is used, since not all
+     * Turns are processed. The parsed NJudgeOrders are only used once; each later
+     * use creates new Orders from the order lines, since Orders are modified by
+     * validation.
+     */
+    private final class ParsedTurn implements Callable<ParsedTurn> {
+        private final Turn turn;
+        private OrderLines orderLines = null;
+        private NJudgeOrder[] nJudgeOrders = null;
+        private DislodgedParser.DislodgedInfo[] dislodgedInfo = null;
+        private AdjustmentParser.OwnerInfo[] ownerInfo = null;
+        private Exception orderError = null;
+        private Exception dislodgedError = null;
+        private Exception ownerError = null;
+
+        ParsedTurn(Turn turn) {
+            this.turn = turn;
+        }// ParsedTurn()
+
+        /**
+         * Parses the information required by the Turn's phase type.
+         */
+        public ParsedTurn call() {
+            try {
+                orderLines = JudgeOrderParser.findOrderLines(turn.getText());
+                nJudgeOrders = new JudgeOrderParser(map, orderFactory, orderLines).getNJudgeOrders();
+            } catch (IOException | RuntimeException e) {
+                orderError = e;
+            }
+
+            final Phase.PhaseType phaseType = (turn.getPhase() == null) ? null : turn.getPhase().getPhaseType();
+            if (phaseType == Phase.PhaseType.MOVEMENT) {
+                parseDislodged();
+            }
+
+            if (phaseType == Phase.PhaseType.MOVEMENT || phaseType == Phase.PhaseType.RETREAT) {
+                parseOwnership();
+            }
+
+            return this;
+        }// call()
+
+        Phase getPhase() {
+            return turn.getPhase();
+        }
+
+        String getText() {
+            return turn.getText();
+        }
+
+        /**
+         * Returns the NJudgeOrders; Orders are never shared between calls.
+         */
+        NJudgeOrder[] getNJudgeOrders()
+                throws IOException {
+            rethrow(orderError);
+
+            if (nJudgeOrders != null) {
+                final NJudgeOrder[] orders = nJudgeOrders;
+                nJudgeOrders = null;
+                return orders;
+            }
+
+            return new JudgeOrderParser(map, orderFactory, orderLines).getNJudgeOrders();
+        }// getNJudgeOrders()
+
+        DislodgedParser.DislodgedInfo[] getDislodgedInfo()
+                throws IOException {
+            if (dislodgedInfo == null && dislodgedError == null) {
+                parseDislodged();
+            }
+
+            rethrow(dislodgedError);
+            return dislodgedInfo;
+        }// getDislodgedInfo()
+
+        AdjustmentParser.OwnerInfo[] getOwnership()
+                throws IOException {
+            if (ownerInfo == null && ownerError == null) {
+                parseOwnership();
+            }
+
+            rethrow(ownerError);
+            return ownerInfo;
+        }// getOwnership()
+
+        private void parseDislodged() {
+            try {
+                dislodgedInfo = new DislodgedParser(turn.getPhase(), turn.getText()).getDislodgedInfo();
+            } catch (IOException | RuntimeException e) {
+                dislodgedError = e;
+            }
+        }// parseDislodged()
+
+        private void parseOwnership() {
+            try {
+                ownerInfo = new AdjustmentParser(map, turn.getText()).getOwnership();
+            } catch (IOException | RuntimeException e) {
+                ownerError = e;
+            }
+        }// parseOwnership()
+
+        private void rethrow(Exception e)
+                throws IOException {
+            if (e instanceof IOException) {
+                throw (IOException) e;
+            } else if (e != null) {
+                throw (RuntimeException) e;
+            }
+        }// rethrow()
+    }// inner class ParsedTurn
+
+
     /**
      * Home Supply Center information
      */
@@ -88,6 +88,11 @@ public class JudgeOrderParser {
      * Recognize an order line; all orders must begin with this.
      */
     private static final String ORDER_PREFIX = "^\\s*[\\p{Alnum}\\-\\_]+:\\s+";
+    // compiled patterns
+    private static final Pattern MOVE_HEADER_PATTERN = Pattern.compile(MOVE_ORDER_HEADER);
+    private static final Pattern RETREAT_HEADER_PATTERN = Pattern.compile(RETREAT_ORDER_HEADER);
+    private static final Pattern ADJUSTMENT_HEADER_PATTERN = Pattern.compile(ADJUSTMENT_ORDER_HEADER);
+    private static final Pattern ORDER_PREFIX_PATTERN = Pattern.compile(ORDER_PREFIX);
     private final info.jdip.world.Map map;
     private final NJudgeOrderParser parser;
     private final OrderFactory orderFactory;
@@ -101,10 +106,21 @@ public class JudgeOrderParser {
     public JudgeOrderParser(final info.jdip.world.Map map,
                             final OrderFactory orderFactory, final String input)
             throws IOException, PatternSyntaxException {
+        this(map, orderFactory, findOrderLines(input));
+    }// JudgeOrderParser
+
+
+    /**
+     * Create a JudgeOrderParser from order lines already found by findOrderLines().
+     * Each JudgeOrderParser creates new Orders.
+     */
+    JudgeOrderParser(final info.jdip.world.Map map,
+                     final OrderFactory orderFactory, final OrderLines orderLines)
+            throws IOException {
         this.map = map;
         this.parser = new NJudgeOrderParser();
         this.orderFactory = orderFactory;
-        parseInput(input);
+        parseOrders(orderLines);
     }// JudgeOrderParser
 
 
@@ -125,35 +141,31 @@ public class JudgeOrderParser {
 
     /**
      * Looks for the header line. When the appropriate phase header is found, this method
-     * sets the PhaseType and calls the phase-specific parser. This analyzes input line-by-line.
+     * sets the PhaseType and collects the order lines that follow. This analyzes input
+     * line-by-line; no Orders are created.
      */
-    private void parseInput(String input)
-            throws IOException, PatternSyntaxException {
+    static OrderLines findOrderLines(String input)
+            throws IOException {
         // search for header input. once found, shuttle all input to the appropriate
         // handler type.
-        Pattern hm = Pattern.compile(MOVE_ORDER_HEADER);
-        Pattern hr = Pattern.compile(RETREAT_ORDER_HEADER);
-        Pattern ha = Pattern.compile(ADJUSTMENT_ORDER_HEADER);
-
-        // create List
-        List<NJudgeOrder> orderList = new ArrayList<>(64);
+        PhaseType phaseType = null;
 
         BufferedReader br = new BufferedReader(new StringReader(input));
         String line = ParserUtils.getNextLongLine(br);
         while (line != null) {
-            Matcher m = hm.matcher(line);
+            Matcher m = MOVE_HEADER_PATTERN.matcher(line);
             if (m.lookingAt()) {
                 phaseType = PhaseType.MOVEMENT;
                 break;
             }
 
-            m = hr.matcher(line);
+            m = RETREAT_HEADER_PATTERN.matcher(line);
             if (m.lookingAt()) {
                 phaseType = PhaseType.RETREAT;
                 break;
             }
 
-            m = ha.matcher(line);
+            m = ADJUSTMENT_HEADER_PATTERN.matcher(line);
             if (m.lookingAt()) {
                 phaseType = PhaseType.ADJUSTMENT;
                 break;
@@ -162,43 +174,74 @@ public class JudgeOrderParser {
             line = ParserUtils.getNextLongLine(br);
         }
 
-        // parse based on type
-        parseOrders(br, phaseType, orderList);
+        // only lines starting with ORDER_PREFIX are orders
+        List<String> lines = new ArrayList<>(64);
+        line = ParserUtils.getNextLongLine(br).trim();
+        while (line != null) {
+            Matcher m = ORDER_PREFIX_PATTERN.matcher(line);
+            if (m.lookingAt()) {
+                lines.add(line);
+            } else {
+                logger.debug("stopped at line: {}", line);
+                break;
+            }
+
+            line = ParserUtils.getNextLongLine(br);
+        }
 
         // cleanup
         br.close();
 
-        // create array
-        nJudgeOrders = orderList.toArray(new NJudgeOrder[orderList.size()]);
-    }// parseInput()
+        return new OrderLines(phaseType, lines.toArray(new String[lines.size()]));
+    }// findOrderLines()
 
 
     /**
-     * Parse move and retreat orders
+     * Parse move, retreat, and adjustment orders
      */
-    private void parseOrders(BufferedReader br,
-                             PhaseType phaseType, List<NJudgeOrder> orderList)
-            throws IOException, PatternSyntaxException {
-        final Pattern prefix = Pattern.compile(ORDER_PREFIX);
+    private void parseOrders(OrderLines orderLines)
+            throws IOException {
+        phaseType = orderLines.getPhaseType();
 
-        String line = ParserUtils.getNextLongLine(br).trim();
+        final String[] lines = orderLines.getLines();
+        nJudgeOrders = new NJudgeOrder[lines.length];
 
         try {
-            while (line != null) {
-                // only parse lines starting with ORDER_PREFIX
-                Matcher m = prefix.matcher(line);
-                if (m.lookingAt()) {
-                    orderList.add(parser.parse(map, orderFactory, phaseType, line));
-                } else {
-                    logger.debug("stopped at line: {}", line);
-                    break;
-                }
-
-                line = ParserUtils.getNextLongLine(br);
+            for (int i = 0; i < lines.length; i++) {
+                nJudgeOrders[i] = parser.parse(map, orderFactory, phaseType, lines[i]);
             }
         } catch (OrderException oe) {
             throw new IOException(oe.getMessage(), oe);
         }
-    }// moveAndRetreatParser()
+    }// parseOrders()
+
+
+    /**
+     * The order lines of a phase, and the phase type given by the header.
+     * This is immutable, and may be shared between threads.
+     */
+    static final class OrderLines {
+        private final PhaseType phaseType;
+        private final String[] lines;
+
+        OrderLines(PhaseType phaseType, String[] lines) {
+            this.phaseType = phaseType;
+            this.lines = lines;
+        }// OrderLines()
+
+        /**
+         * The PhaseType, or null if no header was found
+         */
+        PhaseType getPhaseType() {
+            return phaseType;
+        }
+
+        /**
+         * The (trimmed) order lines
+         */
+        String[] getLines() {
+            return lines;
+        }
+    }// nested class OrderLines
 
 }// class JudgeOrderParser
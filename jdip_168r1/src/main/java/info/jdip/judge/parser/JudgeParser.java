@@ -29,6 +29,7 @@ import info.jdip.world.Phase;
 import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.Reader;
+import java.io.StringReader;
 import java.util.LinkedList;
 import java.util.StringTokenizer;
 import java.util.regex.Matcher;
@@ -45,7 +46,9 @@ import java.util.regex.PatternSyntaxException;
  * if it is a game listing, returns the rest of the text. Determines if it is a
  * game history by looking for a consecutive Date: / Subject: line pair
  * <p>
- * Parses the rest of the file into a String for sub-parsing.
+ * Parses the rest of the file into a String for sub-parsing. The rest of a game
+ * history is not read until required, and may instead be read incrementally via
+ * getTextReader().
  */
 public class JudgeParser {
     public static final String JP_TYPE_LISTING = "Listing";
@@ -55,6 +58,15 @@ public class JudgeParser {
     public static final String JP_TYPE_UNDEFINED = "Undefined";
     // constants
     private static final String JP_NO_COLONS = "JP.jp.nocolons";
+    // compiled patterns
+    // double () on last capture group because of buggy behavior!? WTF?
+    private static final Pattern DOUBLE_COLON_PATTERN = Pattern.compile("\\W*judge\\W*(\\S*)\\W*game\\W*(\\S*)\\W*variant\\W*((\\S*))", Pattern.CASE_INSENSITIVE);
+    private static final Pattern PLAYER_LIST_PATTERN = Pattern.compile("(?i)following players");
+    private static final Pattern MOVE_HEADER_PATTERN = Pattern.compile(JudgeOrderParser.MOVE_ORDER_HEADER);
+    private static final Pattern RETREAT_HEADER_PATTERN = Pattern.compile(JudgeOrderParser.RETREAT_ORDER_HEADER);
+    private static final Pattern ADJUSTMENT_HEADER_PATTERN = Pattern.compile(JudgeOrderParser.ADJUSTMENT_ORDER_HEADER);
+    private static final Pattern GAME_STARTING_PATTERN = Pattern.compile(JudgeOrderParser.GAME_STARTING_HEADER);
+    private static final Pattern STARTING_POSITION_PATTERN = Pattern.compile(JudgeOrderParser.STARTING_POSITION_REGEX);
     // instance variables
     private final static int READ_AHEAD_LENGTH = 7200;
     private final BufferedReader reader;
@@ -66,6 +78,7 @@ public class JudgeParser {
     private String[] playerEmails;
     private String[] playerNames;
     private String text = null;
+    private String historyStart = null;    // Date: and Subject: lines of a history whose text is not yet read
     private String initialText = null;
     private String type = JP_TYPE_UNDEFINED;
 
@@ -138,15 +151,42 @@ public class JudgeParser {
      * This the "rest" of the text after parsing judge/player info; <br>
      * if it is a history, it is every line INCLUDING and AFTER the first Date: line.
      */
-    public String getText() {
+    public String getText()
+            throws IOException {
+        if (historyStart != null) {
+            makeRestOfText(historyStart);
+            historyStart = null;
+        }
+
         return text;
     }
 
+    /**
+     * Returns a Reader for the rest of the text; this is the same text as given
+     * by getText(). If the text of a history has not yet been read, it is read
+     * from the Reader as required; this can only be done once.
+     */
+    public Reader getTextReader()
+            throws IOException {
+        if (historyStart != null) {
+            final Reader r = new PrefixedReader(historyStart + '\n', reader);
+            historyStart = null;
+            return r;
+        }
+
+        if (text == null) {
+            throw new IOException("text already read");
+        }
+
+        return new StringReader(text);
+    }// getTextReader()
+
     /**
      * Prepend the given string in front of the stored text
      */
-    public String prependText(String s) {
-        text = s + text;
+    public String prependText(String s)
+            throws IOException {
+        text = s + getText();
         return text;
     }
 
@@ -167,18 +207,14 @@ public class JudgeParser {
      */
     private void findDoubleColonLine()
             throws IOException, PatternSyntaxException {
-        // regex pattern
         // regex is case-insensitive
         // capture groups are in order
-        // double () on last capture group because of buggy behavior!? WTF?
-        Pattern pattern = Pattern.compile("\\W*judge\\W*(\\S*)\\W*game\\W*(\\S*)\\W*variant\\W*((\\S*))", Pattern.CASE_INSENSITIVE);
-
         // find :: line
         String line = reader.readLine();
         while (line != null) {
             if (line.trim().contains("::")) {
                 // attempt to parse via regex. If it fails, read another line.
-                Matcher m = pattern.matcher(line);
+                Matcher m = DOUBLE_COLON_PATTERN.matcher(line);
                 if (m.find()) {
                     judgeName = m.group(1);
                     gameName = m.group(2);
@@ -201,9 +237,6 @@ public class JudgeParser {
      */
     private void findPlayerList()
             throws IOException, PatternSyntaxException {
-        // our pattern for finding the player list
-        Pattern pattern = Pattern.compile("(?i)following players");
-
         reader.mark(READ_AHEAD_LENGTH);
         int count = 0;
 
@@ -211,7 +244,7 @@ public class JudgeParser {
         while (line != null && count < READ_AHEAD_LENGTH) {
             count += line.length();
 
-            Matcher m = pattern.matcher(line);
+            Matcher m = PLAYER_LIST_PATTERN.matcher(line);
             if (m.find()) {
                 LinkedList<String> names = new LinkedList<>();
                 LinkedList<String> email = new LinkedList<>();
@@ -301,10 +334,10 @@ public class JudgeParser {
                     sb.append('\n');
                     sb.append(line2);
 
-                    // set the rest of the text.
+                    // the rest of the text is read when required.
                     // prepend the already-parsed Date: and Subject: lines
                     initialText = initSB.toString();
-                    makeRestOfText(sb.toString());
+                    historyStart = sb.toString();
                     return;
                 }
             } else {
@@ -319,19 +352,15 @@ public class JudgeParser {
 
         // we are not a history.
         // Next we try to find a result header.
-        Pattern hm = Pattern.compile(JudgeOrderParser.MOVE_ORDER_HEADER);
-        Pattern hr = Pattern.compile(JudgeOrderParser.RETREAT_ORDER_HEADER);
-        Pattern ha = Pattern.compile(JudgeOrderParser.ADJUSTMENT_ORDER_HEADER);
-
         reader.reset();
         count = 0;
         line = reader.readLine();
         while (line != null && count < READ_AHEAD_LENGTH) {
             count += line.length();
             line = line.trim();    // needed for Patterns to work properly
-            Matcher m_hm = hm.matcher(line);
-            Matcher m_hr = hr.matcher(line);
-            Matcher m_ha = ha.matcher(line);
+            Matcher m_hm = MOVE_HEADER_PATTERN.matcher(line);
+            Matcher m_hr = RETREAT_HEADER_PATTERN.matcher(line);
+            Matcher m_ha = ADJUSTMENT_HEADER_PATTERN.matcher(line);
             if (m_hm.lookingAt() ||
                     m_hr.lookingAt() ||
                     m_ha.lookingAt()) {
@@ -350,16 +379,13 @@ public class JudgeParser {
         }
 
         // Try to find a game starting message
-        Pattern gs = Pattern.compile(JudgeOrderParser.GAME_STARTING_HEADER);
-        Pattern sp = Pattern.compile(JudgeOrderParser.STARTING_POSITION_REGEX);
-
         reader.reset();
         count = 0;
         line = reader.readLine();
         while (line != null && count < READ_AHEAD_LENGTH) {
             count += line.length();
-            Matcher m_gs = gs.matcher(line);
-            Matcher m_sp = sp.matcher(line);
+            Matcher m_gs = GAME_STARTING_PATTERN.matcher(line);
+            Matcher m_sp = STARTING_POSITION_PATTERN.matcher(line);
             if (m_gs.lookingAt()) {
                 type = JP_TYPE_GAMESTART;
             }
@@ -409,4 +435,36 @@ public class JudgeParser {
         text = sb.toString();
     }// makeRestOfText()
 
+
+    /**
+     * Reads the given text, and then the rest of the given Reader.
+     */
+    private static final class PrefixedReader extends Reader {
+        private final String prefix;
+        private final Reader in;
+        private int pos = 0;
+
+        PrefixedReader(String prefix, Reader in) {
+            this.prefix = prefix;
+            this.in = in;
+        }// PrefixedReader()
+
+        public int read(char[] cbuf, int off, int len)
+                throws IOException {
+            if (pos < prefix.length()) {
+                final int n = Math.min(len, prefix.length() - pos);
+                prefix.getChars(pos, pos + n, cbuf, off);
+                pos += n;
+                return n;
+            }
+
+            return in.read(cbuf, off, len);
+        }// read()
+
+        public void close()
+                throws IOException {
+            in.close();
+        }// close()
+    }// nested class PrefixedReader
+
 }// class JudgeParser
@@ -56,6 +56,10 @@ public class PositionParser {
      * Note: a space is not always present between the colon and the unit type.
      */
     public static final String PARSE_REGEX = "^([\\p{Alnum}\\-\\_]+):\\s*([\\p{Alnum}\\-\\_]+)\\s+(([^\\.]+))\\.";
+    // compiled patterns
+    private static final Pattern HEADER_PATTERN_1 = Pattern.compile(HEADER_REGEX_1);
+    private static final Pattern HEADER_PATTERN_2 = Pattern.compile(HEADER_REGEX_2);
+    private static final Pattern PARSE_PATTERN = Pattern.compile(PARSE_REGEX);
     // il8n constants
     private static final String PP_UNKNOWN_PHASE = "JP.posparser.badphase";
     // instance variables
@@ -143,9 +147,6 @@ public class PositionParser {
             throws IOException, PatternSyntaxException {
         // search for header input. once found, shuttle all input to the appropriate
         // handler type.
-        Pattern pp1 = Pattern.compile(HEADER_REGEX_1);
-        Pattern pp2 = Pattern.compile(HEADER_REGEX_2);
-
         // init
         List<PositionInfo> posList = new LinkedList<>();
         BufferedReader br = new BufferedReader(new StringReader(input));
@@ -153,14 +154,14 @@ public class PositionParser {
         // header parse loop
         String line = ParserUtils.getNextLongLine(br);
         while (line != null) {
-            Matcher m = pp1.matcher(line);
+            Matcher m = HEADER_PATTERN_1.matcher(line);
             if (m.lookingAt()) {
                 phase = makePhase(null, m.group(1), m.group(2));
                 parsePositions(br, posList);
                 break;
             }
 
-            m = pp2.matcher(line);
+            m = HEADER_PATTERN_2.matcher(line);
             if (m.lookingAt()) {
                 phase = makePhase(m.group(1), m.group(2), m.group(3));
                 parsePositions(br, posList);
@@ -180,11 +181,9 @@ public class PositionParser {
      */
     private void parsePositions(BufferedReader br, List<PositionInfo> posList)
             throws IOException, PatternSyntaxException {
-        Pattern mrp = Pattern.compile(PARSE_REGEX);
-
         String line = ParserUtils.getNextLongLine(br);
         while (line != null) {
-            Matcher m = mrp.matcher(line);
+            Matcher m = PARSE_PATTERN.matcher(line);
             if (m.find()) {
                 posList.add(new PositionInfo(m.group(1), m.group(2), ParserUtils.filter(m.group(3))));
             } else {
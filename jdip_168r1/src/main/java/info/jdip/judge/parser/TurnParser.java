@@ -27,8 +27,10 @@ import info.jdip.world.Phase;
 
 import java.io.BufferedReader;
 import java.io.IOException;
+import java.io.Reader;
 import java.io.StringReader;
 import java.util.LinkedList;
+import java.util.regex.MatchResult;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.regex.PatternSyntaxException;
@@ -58,6 +60,10 @@ public class TurnParser {
     private static final String TP_NO_SUBJECT = "JP.turn.nosubject";
     private static final String TP_BAD_PHASE = "JP.turn.badphase";
     private static final String TP_BAD_SUBJECT = "JP.turn.badsubject";
+    // compiled patterns
+    private static final Pattern SUBJ_PHASE_PATTERN = Pattern.compile(SUBJ_PHASE_REGEX);
+    private static final Pattern SUBJ_PHASE_PATTERN_OLD = Pattern.compile(SUBJ_PHASE_REGEX_OLD);
+    private static final Pattern RESULT_SUBJ_PATTERN = Pattern.compile(RESULT_SUBJ_REGEX);
     // instance variables
     private Turn[] turns = null;
 
@@ -84,81 +90,159 @@ public class TurnParser {
      */
     private void parseTurns(String input)
             throws IOException, PatternSyntaxException {
-        // patterns
-        Pattern subjPhasePattern = Pattern.compile(SUBJ_PHASE_REGEX);
-        Pattern subjPhasePatternOld = Pattern.compile(SUBJ_PHASE_REGEX_OLD);
-        Pattern isResultsPattern = Pattern.compile(RESULT_SUBJ_REGEX);
+        LinkedList<Turn> turnList = new LinkedList<>();
+        TurnReader reader = new TurnReader(new StringReader(input));
 
+        Turn turn = reader.next();
+        while (turn != null) {
+            turnList.add(turn);
+            turn = reader.next();
+        }
 
-        LinkedList<Turn> turnList = new LinkedList<>();
-        BufferedReader reader = new BufferedReader(new StringReader(input));
-
-        String line = reader.readLine();
-        StringBuffer sb = null;
-        Turn turn = new Turn();            // current turn
-        Turn lastTurn = null;            // previous turn
-
-        while (line != null) {
-            int pos = line.toLowerCase().indexOf("date:");
-            if (pos >= 0 && pos < 10) {
-                turn.setDateLine(line);
-
-                // set the subject line; if not present, throw an error (shouldn't occur)
-                String nextLine = reader.readLine();
-                if (!nextLine.toLowerCase().contains("subject:")) {
-                    throw new IOException(Utils.getLocalString(TP_NO_SUBJECT));
-                } else if (isResultsPattern.matcher(nextLine).find()) {
-                    turn.setSubjectLine(nextLine);
-
-                    // regex parse the subject line
-                    Matcher m = subjPhasePattern.matcher(nextLine);
-                    Matcher m_o = subjPhasePatternOld.matcher(nextLine);
-                    if (m.find()) {
-                        Phase phase = Phase.parse(m.group(0).trim());
-                        if (phase == null) {
-                            throw new IOException(Utils.getLocalString(TP_BAD_PHASE, m.group(0).trim()));
-                        }
+        // convert to array
+        turns = turnList.toArray(new Turn[turnList.size()]);
+    }// parseTurns()
+
+
+    /**
+     * Reads Turns from a History, one at a time. Only the text of the
+     * Turn being read is held in memory.
+     */
+    public static class TurnReader {
+        private final BufferedReader reader;
+        private Turn turn = new Turn();     // current turn
+        private Turn lastTurn = null;       // previous turn; returned when the next turn is detected
+        private StringBuilder sb = null;
+        private Pattern searchPattern = null;
+        private MatchResult searchMatch = null;
+
+        /**
+         * Create a TurnReader
+         */
+        public TurnReader(Reader in) {
+            reader = (in instanceof BufferedReader) ? (BufferedReader) in : new BufferedReader(in, 8192);
+        }// TurnReader()
 
-                        turn.setPhase(phase);
-                    } else if (m_o.find()) {
-                        Phase phase = Phase.parse(m_o.group(0).trim());
-                        if (phase == null) {
-                            throw new IOException(Utils.getLocalString(TP_BAD_PHASE, m_o.group(0).trim()));
+
+        /**
+         * Searches every line read for the given Pattern; the first match
+         * is available from getSearchMatch().
+         */
+        public void setSearchPattern(Pattern pattern) {
+            searchPattern = pattern;
+            searchMatch = null;
+        }// setSearchPattern()
+
+
+        /**
+         * Returns the first match of the search Pattern in the lines read
+         * so far, or null.
+         */
+        public MatchResult getSearchMatch() {
+            return searchMatch;
+        }// getSearchMatch()
+
+
+        /**
+         * Returns the next Turn, or null if there are no more Turns.
+         */
+        public Turn next()
+                throws IOException {
+            String line = readLine();
+            while (line != null) {
+                int pos = line.toLowerCase().indexOf("date:");
+                if (pos >= 0 && pos < 10) {
+                    turn.setDateLine(line);
+
+                    // set the subject line; if not present, throw an error (shouldn't occur)
+                    String nextLine = readLine();
+                    if (nextLine == null || !nextLine.toLowerCase().contains("subject:")) {
+                        throw new IOException(Utils.getLocalString(TP_NO_SUBJECT));
+                    } else if (RESULT_SUBJ_PATTERN.matcher(nextLine).find()) {
+                        turn.setSubjectLine(nextLine);
+                        turn.setPhase(parsePhase(nextLine));
+
+                        final Turn completed = lastTurn;
+                        if (completed != null) {
+                            completed.setText(sb.toString());
                         }
 
-                        turn.setPhase(phase);
-                    } else {
-                        throw new IOException(Utils.getLocalString(TP_BAD_SUBJECT, nextLine));
-                    }
+                        lastTurn = turn;
+                        turn = new Turn();
+                        sb = new StringBuilder(512);
 
-                    if (lastTurn != null) {
-                        lastTurn.setText(sb.toString());
-                        turnList.add(lastTurn);
-                        lastTurn = null;
+                        if (completed != null) {
+                            return completed;
+                        }
                     }
+                } else if (sb != null) {
+                    // accumulate text
+                    sb.append(line);
+                    sb.append('\n');
+                }
+
+                line = readLine();
+            }
+
+            // last turn
+            final Turn completed = lastTurn;
+            if (completed != null) {
+                completed.setText(sb.toString());
+                lastTurn = null;
+                sb = null;
+            }
+
+            return completed;
+        }// next()
+
 
-                    lastTurn = turn;
-                    turn = new Turn();
-                    sb = new StringBuffer(512);
+        /**
+         * Closes the underlying Reader
+         */
+        public void close()
+                throws IOException {
+            reader.close();
+        }// close()
+
+
+        /**
+         * Reads a line, checking it against the search Pattern (if any)
+         */
+        private String readLine()
+                throws IOException {
+            final String line = reader.readLine();
+            if (line != null && searchPattern != null && searchMatch == null) {
+                final Matcher m = searchPattern.matcher(line);
+                if (m.find()) {
+                    searchMatch = m.toMatchResult();
                 }
-            } else if (sb != null) {
-                // accumulate text
-                sb.append(line);
-                sb.append('\n');
             }
 
-            line = reader.readLine();
-        }
+            return line;
+        }// readLine()
 
-        // add last turn
-        if (lastTurn != null) {
-            lastTurn.setText(sb.toString());
-            turnList.add(lastTurn);
-        }
 
-        // convert to array
-        turns = turnList.toArray(new Turn[turnList.size()]);
-    }// parseTurns()
+        /**
+         * Regex parse the phase from the subject line
+         */
+        private static Phase parsePhase(String subjectLine)
+                throws IOException {
+            Matcher m = SUBJ_PHASE_PATTERN.matcher(subjectLine);
+            if (!m.find()) {
+                m = SUBJ_PHASE_PATTERN_OLD.matcher(subjectLine);
+                if (!m.find()) {
+                    throw new IOException(Utils.getLocalString(TP_BAD_SUBJECT, subjectLine));
+                }
+            }
+
+            Phase phase = Phase.parse(m.group(0).trim());
+            if (phase == null) {
+                throw new IOException(Utils.getLocalString(TP_BAD_PHASE, m.group(0).trim()));
+            }
+
+            return phase;
+        }// parsePhase()
+    }// nested class TurnReader
 
 
     /**
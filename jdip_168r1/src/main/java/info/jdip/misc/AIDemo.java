@@ -12,6 +12,7 @@ package info.jdip.misc;
 
 import info.jdip.order.Order;
 import info.jdip.order.OrderFactory;
+import info.jdip.process.Simulation;
 import info.jdip.world.Coast;
 import info.jdip.world.Location;
 import info.jdip.world.Map;
@@ -83,10 +84,10 @@ public class AIDemo {
         Position position = createPosition(world);
 
         // create order sets
-        createOrders(world.getMap(), position);
+        List<List<Order>> orderSets = createOrders(world.getMap(), position);
 
         // evaluate order sets
-
+        evaluateOrders(world, orderSets);
 
     }// AIDemo()
 
@@ -253,9 +254,10 @@ public class AIDemo {
      * All non-russian, non-german units will not be given orders (they will
      * Hold by default).
      * <p>
-     * We return an Array of Lists (a somewhat unusual construct...)
+     * We return a List of order sets; each order set contains the
+     * Russian orders, and one set of German orders.
      */
-    private void createOrders(Map map, Position pos) {
+    private List<List<Order>> createOrders(Map map, Position pos) {
         // get the OrderFactory. The default order factory is OrderFactory.getDefault().
         OrderFactory orderFactory = OrderFactory.getDefault();
 
@@ -361,6 +363,17 @@ public class AIDemo {
         ));
 
 
+        List<List<Order>> orderSets = new ArrayList<>();
+
+        List<Order> orderSet = new ArrayList<>(russianOrders);
+        orderSet.addAll(germanOrders1);
+        orderSets.add(orderSet);
+
+        orderSet = new ArrayList<>(russianOrders);
+        orderSet.addAll(germanOrders2);
+        orderSets.add(orderSet);
+
+        return orderSets;
     }// createOrders()
 
 
@@ -374,23 +387,49 @@ public class AIDemo {
 
     /**
      * Evaluate orders, stopping when we have reached our goal
-     * (occupying Warsaw).
+     * (occupying Warsaw, without any German units being dislodged).
      * <p>
      * Note that there are many ways to evaluate the success of an order set.
-     * One method is to use the Position object, and check where units are.
-     * Another method is to look at the order results via TurnState.getResultList().
-     * Iterating through the OrderResults, once can determine which orders are
-     * successful and (if adjudicator statistical reporting is enabled) the
-     * attack:defense statistics involved).
+     * Here, we use a Simulation, which is forked from the current TurnState.
+     * Each order set is adjudicated against the same Position; the World
+     * is not modified. The Outcome of each adjudication lists the units that
+     * moved, the units that were dislodged, and any supply center changes,
+     * and gives the resulting Position.
+     * <p>
+     * A Simulation of the following phase can be obtained from the Outcome,
+     * if we wanted to look more than one phase ahead.
      */
-    private void evaluateOrders(World world, Position position, List[] orderSets) {
-		/*
-			we will evaluate by finding the BEST order that takes the sc
-			(first check via hasUnit())
-			
-			then the one with the most attack strength
-			
-		*/
+    private void evaluateOrders(World world, List<List<Order>> orderSets) {
+        final Map map = world.getMap();
+        final Power germany = map.getPower("germany");
+        final Province warsaw = map.getProvince("war");
+
+        Simulation simulation = Simulation.fork(world.getLastTurnState());
+
+        for (int i = 0; i < orderSets.size(); i++) {
+            Simulation.Outcome outcome = simulation.adjudicate(orderSets.get(i));
+
+            // who is in Warsaw?
+            Unit unit = outcome.getPosition().getUnit(warsaw);
+            boolean isWarsawTaken = (unit != null && unit.getPower() == germany);
+
+            // were any German units dislodged?
+            boolean isDislodged = false;
+            for (Province province : outcome.getDislodged()) {
+                if (simulation.getPosition().getUnit(province).getPower() == germany) {
+                    isDislodged = true;
+                }
+            }
+
+            logger.info("Order set {}: {} moves; Warsaw taken: {}; German units dislodged: {}",
+                    i + 1, outcome.getMoveCount(), isWarsawTaken, isDislodged);
+
+            if (isWarsawTaken && !isDislodged) {
+                logger.info("Order set {} meets our goal.", i + 1);
+                return;
+            }
+        }
 
+        logger.info("No order set meets our goal.");
     }// evaluateOrders()
 }// class AIDemo
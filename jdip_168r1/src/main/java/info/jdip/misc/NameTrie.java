@@ -0,0 +1,316 @@
+//
+//  @(#)NameTrie.java	1.00	10/2026
+//
+//
+//  This program is free software; you can redistribute it and/or modify
+//  it under the terms of the GNU General Public License as published by
+//  the Free Software Foundation; either version 2 of the License, or
+//  (at your option) any later version.
+//
+//  This program is distributed in the hope that it will be useful,
+//  but WITHOUT ANY WARRANTY; without even the implied warranty of
+//  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//  GNU General Public License for more details.
+//
+//  You should have received a copy of the GNU General Public License
+//  along with this program; if not, write to the Free Software
+//  Foundation, Inc., 675 Mass Ave, Cambridge, MA 02139, USA.
+//  Or from http://www.gnu.org/
+//
+package info.jdip.misc;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+
+/**
+ * A compiled trie of String keys, with Aho-Corasick failure links so that
+ * all keys occurring within a text can be found in a single pass.
+ * <p>
+ * Keys are matched exactly (case-sensitive); callers are expected to
+ * lower-case both keys and text. All searches operate on a range of a
+ * char array, so that no Strings need to be created to search.
+ * <p>
+ * A NameTrie is immutable once created, and may be shared by any number
+ * of threads.
+ */
+public final class NameTrie<V> {
+    private static final char[] NO_LABELS = new char[0];
+    private static final int[] NO_TARGETS = new int[0];
+
+    // per-node transitions: sorted labels, and the node for each label
+    private final char[][] labels;
+    private final int[][] targets;
+    // per-node failure link; the root (0) links to itself
+    private final int[] fail;
+    // per-node key id ending at this node, or -1
+    private final int[] terminal;
+    // per-node nearest node (via failure links) which is terminal, or -1
+    private final int[] dictionary;
+
+    private final String[] keys;
+    private final Object[] values;
+
+
+    /**
+     * Creates a NameTrie. Keys and values are given in parallel Lists;
+     * if a key occurs more than once, the first value is used. Empty
+     * keys are ignored.
+     */
+    public NameTrie(List<String> keyList, List<? extends V> valueList) {
+        if (keyList.size() != valueList.size()) {
+            throw new IllegalArgumentException("keys/values size mismatch");
+        }
+
+        // build the (uncompiled) trie
+        final List<StringBuilder> nodeLabels = new ArrayList<>();
+        final List<List<Integer>> nodeTargets = new ArrayList<>();
+        final List<Integer> nodeTerminal = new ArrayList<>();
+        nodeLabels.add(new StringBuilder());
+        nodeTargets.add(new ArrayList<>());
+        nodeTerminal.add(-1);
+
+        final List<String> keyTmp = new ArrayList<>(keyList.size());
+        final List<Object> valueTmp = new ArrayList<>(keyList.size());
+
+        for (int i = 0; i < keyList.size(); i++) {
+            final String key = keyList.get(i);
+            int node = 0;
+            for (int c = 0; c < key.length(); c++) {
+                final char ch = key.charAt(c);
+                final int idx = nodeLabels.get(node).indexOf(String.valueOf(ch));
+                if (idx >= 0) {
+                    node = nodeTargets.get(node).get(idx);
+                } else {
+                    final int next = nodeLabels.size();
+                    nodeLabels.add(new StringBuilder());
+                    nodeTargets.add(new ArrayList<>());
+                    nodeTerminal.add(-1);
+                    nodeLabels.get(node).append(ch);
+                    nodeTargets.get(node).add(next);
+                    node = next;
+                }
+            }
+
+            if (node != 0 && nodeTerminal.get(node) < 0) {
+                nodeTerminal.set(node, keyTmp.size());
+                keyTmp.add(key);
+                valueTmp.add(valueList.get(i));
+            }
+        }
+
+        // compile transitions into sorted arrays
+        final int nNodes = nodeLabels.size();
+        labels = new char[nNodes][];
+        targets = new int[nNodes][];
+        terminal = new int[nNodes];
+        for (int n = 0; n < nNodes; n++) {
+            final String lbl = nodeLabels.get(n).toString();
+            if (lbl.isEmpty()) {
+                labels[n] = NO_LABELS;
+                targets[n] = NO_TARGETS;
+            } else {
+                final char[] sorted = lbl.toCharArray();
+                Arrays.sort(sorted);
+                labels[n] = sorted;
+                targets[n] = new int[sorted.length];
+                for (int j = 0; j < sorted.length; j++) {
+                    targets[n][j] = nodeTargets.get(n).get(lbl.indexOf(sorted[j]));
+                }
+            }
+
+            terminal[n] = nodeTerminal.get(n);
+        }
+
+        // failure and dictionary links, breadth-first
+        fail = new int[nNodes];
+        dictionary = new int[nNodes];
+        dictionary[0] = -1;
+        final int[] queue = new int[nNodes];
+        int head = 0;
+        int tail = 0;
+        for (int child : targets[0]) {
+            fail[child] = 0;
+            dictionary[child] = -1;
+            queue[tail++] = child;
+        }
+
+        while (head < tail) {
+            final int node = queue[head++];
+            for (int j = 0; j < labels[node].length; j++) {
+                final char ch = labels[node][j];
+                final int child = targets[node][j];
+
+                int f = fail[node];
+                int next = step(f, ch);
+                while (next < 0 && f != 0) {
+                    f = fail[f];
+                    next = step(f, ch);
+                }
+
+                fail[child] = (next < 0) ? 0 : next;
+                dictionary[child] = (terminal[fail[child]] >= 0) ? fail[child] : dictionary[fail[child]];
+                queue[tail++] = child;
+            }
+        }
+
+        keys = keyTmp.toArray(new String[keyTmp.size()]);
+        values = valueTmp.toArray();
+    }// NameTrie()
+
+
+    /**
+     * Returns the number of (unique) keys.
+     */
+    public int size() {
+        return keys.length;
+    }// size()
+
+
+    /**
+     * Returns the key with the given id.
+     */
+    public String getKey(int id) {
+        return keys[id];
+    }// getKey()
+
+
+    /**
+     * Returns the value of the key with the given id.
+     */
+    @SuppressWarnings("unchecked")
+    public V getValue(int id) {
+        return (V) values[id];
+    }// getValue()
+
+
+    /**
+     * Returns the value for the key exactly equal to the given
+     * range of text, or <code>null</code> if there is none.
+     */
+    public V get(char[] text, int from, int to) {
+        final int id = getId(text, from, to);
+        return (id < 0) ? null : getValue(id);
+    }// get()
+
+
+    /**
+     * Returns the id of the key exactly equal to the given
+     * range of text, or -1 if there is none.
+     */
+    public int getId(char[] text, int from, int to) {
+        int node = 0;
+        for (int i = from; i < to && node >= 0; i++) {
+            node = step(node, text[i]);
+        }
+
+        return (node < 0) ? -1 : terminal[node];
+    }// getId()
+
+
+    /**
+     * Returns the value of the shortest key which is a prefix of the
+     * given range of text, or <code>null</code> if there is none.
+     */
+    public V getPrefix(char[] text, int from, int to) {
+        int node = 0;
+        for (int i = from; i < to; i++) {
+            node = step(node, text[i]);
+            if (node < 0) {
+                return null;
+            } else if (terminal[node] >= 0) {
+                return getValue(terminal[node]);
+            }
+        }
+
+        return null;
+    }// getPrefix()
+
+
+    /**
+     * Returns <code>true</code> if any key occurs anywhere within the
+     * given range of text.
+     */
+    public boolean containsAny(char[] text, int from, int to) {
+        int node = 0;
+        for (int i = from; i < to; i++) {
+            node = next(node, text[i]);
+            if (terminal[node] >= 0 || dictionary[node] >= 0) {
+                return true;
+            }
+        }
+
+        return false;
+    }// containsAny()
+
+
+    /**
+     * Finds all occurrences (including overlapping occurrences) of all keys
+     * within the given range of text. For each occurrence, the index just
+     * past the end of the occurrence is stored in <code>ends</code>, and the
+     * key id in <code>ids</code>. Occurrences are stored in order of their
+     * end index; occurrences with the same end are stored longest first.
+     * <p>
+     * Returns the number of occurrences, or -1 if there were more
+     * occurrences than could be stored.
+     */
+    public int findAll(char[] text, int from, int to, int[] ends, int[] ids) {
+        int count = 0;
+        int node = 0;
+        for (int i = from; i < to; i++) {
+            node = next(node, text[i]);
+            int out = (terminal[node] >= 0) ? node : dictionary[node];
+            while (out >= 0) {
+                if (count == ends.length || count == ids.length) {
+                    return -1;
+                }
+
+                ends[count] = i + 1;
+                ids[count] = terminal[out];
+                count++;
+                out = dictionary[out];
+            }
+        }
+
+        return count;
+    }// findAll()
+
+
+    /**
+     * Automaton transition: follows failure links until a
+     * transition is found, or the root is reached.
+     */
+    private int next(int node, char ch) {
+        int n = node;
+        int next = step(n, ch);
+        while (next < 0 && n != 0) {
+            n = fail[n];
+            next = step(n, ch);
+        }
+
+        return (next < 0) ? 0 : next;
+    }// next()
+
+
+    /**
+     * Trie transition; -1 if there is none.
+     */
+    private int step(int node, char ch) {
+        final char[] lbl = labels[node];
+        final int idx = (lbl.length < 8) ? linearSearch(lbl, ch) : Arrays.binarySearch(lbl, ch);
+        return (idx < 0) ? -1 : targets[node][idx];
+    }// step()
+
+
+    private static int linearSearch(char[] lbl, char ch) {
+        for (int i = 0; i < lbl.length; i++) {
+            if (lbl[i] == ch) {
+                return i;
+            }
+        }
+
+        return -1;
+    }// linearSearch()
+
+}// class NameTrie
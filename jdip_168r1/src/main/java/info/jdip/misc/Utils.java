@@ -105,10 +105,11 @@ public class Utils {
     private final static boolean isWindows;
     private static ClassLoader classLoader = null;
     private static Utils singleton = null;
-    private static ResourceBundle resourceBundle = null;
+    // bundle lookups are threadsafe; volatile so that loadLocale() is seen by all threads
+    private static volatile ResourceBundle resourceBundle = null;
     private static ResourceBundle commonBundle = null;
     private static Toolkit toolkit = null;
-    private static Locale chosenLocale = null;
+    private static volatile Locale chosenLocale = null;
 
     // static code
     static {
@@ -295,7 +295,7 @@ public class Convoy extends Order {
 
             if (!foundMatchingMove) {
                 thisOS.setEvalState(Tristate.FAILURE);
-                adjudicator.addResult(thisOS, ResultType.FAILURE, Utils.getLocalString(CONVOY_VER_NOMOVE));
+                adjudicator.addLocalizedResult(thisOS, ResultType.FAILURE, CONVOY_VER_NOMOVE);
             }
         }
 
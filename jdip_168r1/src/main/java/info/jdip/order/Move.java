@@ -27,6 +27,7 @@ import info.jdip.order.result.DependentMoveFailedResult;
 import info.jdip.order.result.OrderResult.ResultType;
 import info.jdip.process.Adjudicator;
 import info.jdip.process.OrderState;
+import info.jdip.process.OrderStateIndex;
 import info.jdip.process.Tristate;
 import info.jdip.world.Border;
 import info.jdip.world.Location;
@@ -352,6 +353,13 @@ public class Move extends Order {
         if (valOpts.getOption(ValidationOptions.KEY_GLOBAL_PARSING).equals(ValidationOptions.VALUE_GLOBAL_PARSING_STRICT)) {
             final Position position = state.getPosition();
 
+            // reset the convoy intent and route flags, which are set below (and
+            // during verification), so that re-adjudicating an order (e.g., when
+            // other orders have changed) gives the same result as the first time.
+            _isConvoyIntent = _isViaConvoy;
+            _isAdjWithPossibleConvoy = false;
+            _hasLandRoute = false;
+
             // a.1
             if (src.isProvinceEqual(dest)) {
                 throw new OrderException(Utils.getLocalString(MOVE_VAL_SRC_EQ_DEST));
@@ -566,11 +574,11 @@ public class Move extends Order {
                             if (isViaConvoy() && _hasLandRoute) {
                                 // we don't fail, but mention that there is no convoy route. (text order result)
                                 _isConvoyIntent = false;
-                                adjudicator.addResult(thisOS, Utils.getLocalString(MOVE_VER_NO_ROUTE));
+                                adjudicator.addLocalizedResult(thisOS, ResultType.TEXT, MOVE_VER_NO_ROUTE);
                             } else {
                                 // all paths failed.
                                 thisOS.setEvalState(Tristate.FAILURE);
-                                adjudicator.addResult(thisOS, ResultType.FAILURE, Utils.getLocalString(MOVE_VER_NO_ROUTE));
+                                adjudicator.addLocalizedResult(thisOS, ResultType.FAILURE, MOVE_VER_NO_ROUTE);
                             }
                         }
                     } else    // implicit path
@@ -583,10 +591,10 @@ public class Move extends Order {
                             //
                             if (isViaConvoy() && _hasLandRoute) {
                                 _isConvoyIntent = false;
-                                adjudicator.addResult(thisOS, Utils.getLocalString(MOVE_VER_NO_ROUTE));
+                                adjudicator.addLocalizedResult(thisOS, ResultType.TEXT, MOVE_VER_NO_ROUTE);
                             } else {
                                 thisOS.setEvalState(Tristate.FAILURE);
-                                adjudicator.addResult(thisOS, ResultType.FAILURE, Utils.getLocalString(MOVE_VER_NO_ROUTE));
+                                adjudicator.addLocalizedResult(thisOS, ResultType.FAILURE, MOVE_VER_NO_ROUTE);
                             }
                         }
                     }
@@ -613,7 +621,7 @@ public class Move extends Order {
                         Province p = evalPath(adjudicator, path);
                         if (p != null) {
                             _isConvoyIntent = true;
-                            adjudicator.addResult(thisOS, ResultType.TEXT, Utils.getLocalString(MOVE_VER_CONVOY_INTENT, p));
+                            adjudicator.addLocalizedResult(thisOS, ResultType.TEXT, MOVE_VER_CONVOY_INTENT, p);
                             break;
                         }
                     }
@@ -735,46 +743,46 @@ public class Move extends Order {
         ArrayList<OrderState> depSup = null;
         ArrayList<OrderState> depSelfSup = null;
 
-        OrderState[] orderStates = adjudicator.getOrderStates();
-        for (OrderState dependentOS : orderStates) {
-            Order order = dependentOS.getOrder();
-
-            if (order instanceof Move && order != this) {
-                Move move = (Move) order;
+        final OrderStateIndex osIndex = adjudicator.getOrderStateIndex();
 
-                // move to *destination* space (that are not this order)
-                if (move.getDest().isProvinceEqual(this.getDest())) {
-                    if (depMTDest == null) {
-                        depMTDest = new ArrayList<>(5);
-                    }
-                    depMTDest.add(dependentOS);
+        // move to *destination* space (that are not this order)
+        for (OrderState dependentOS : osIndex.getMovesTo(getDest().getProvince())) {
+            if (dependentOS.getOrder() != this) {
+                if (depMTDest == null) {
+                    depMTDest = new ArrayList<>(5);
                 }
+                depMTDest.add(dependentOS);
+            }
+        }
 
-                // check if this is a head-to-head move
-                // note that isConvoying() may not yet be properly set, so the
-                // "headToHeadness" will have to be re-evaluated sometime AFTER
-                // order verification (via verify()) has been performed.
-                if (move.getDest().isProvinceEqual(this.getSource())
-                        && move.getSource().isProvinceEqual(this.getDest())
-                        && !this.isConvoying() && !move.isConvoying()) {
-                    logger.info("Head2Head possible between {} and {}.", this, dependentOS.getOrder());
-                    thisOS.setHeadToHead(dependentOS);
-                }
-            } else if (order instanceof Support) {
-                Support support = (Support) order;
-                if (support.getSupportedSrc().isProvinceEqual(this.getSource())
-                        && support.getSupportedDest().isProvinceEqual(this.getDest())) {
-                    if (adjudicator.isSelfSupportedMove(dependentOS)) {
-                        if (depSelfSup == null) {
-                            depSelfSup = new ArrayList<>(5);
-                        }
-                        depSelfSup.add(dependentOS);
-                    } else {
-                        if (depSup == null) {
-                            depSup = new ArrayList<>(5);
-                        }
-                        depSup.add(dependentOS);
+        // check if this is a head-to-head move
+        // note that isConvoying() may not yet be properly set, so the
+        // "headToHeadness" will have to be re-evaluated sometime AFTER
+        // order verification (via verify()) has been performed.
+        final OrderState fromDestOS = osIndex.getMoveFrom(getDest().getProvince());
+        if (fromDestOS != null && fromDestOS.getOrder() != this) {
+            Move move = (Move) fromDestOS.getOrder();
+            if (move.getDest().isProvinceEqual(this.getSource())
+                    && !this.isConvoying() && !move.isConvoying()) {
+                logger.info("Head2Head possible between {} and {}.", this, move);
+                thisOS.setHeadToHead(fromDestOS);
+            }
+        }
+
+        // supports of this move
+        for (OrderState dependentOS : osIndex.getSupportsOf(getSource().getProvince())) {
+            Support support = (Support) dependentOS.getOrder();
+            if (support.getSupportedDest().isProvinceEqual(this.getDest())) {
+                if (adjudicator.isSelfSupportedMove(dependentOS)) {
+                    if (depSelfSup == null) {
+                        depSelfSup = new ArrayList<>(5);
+                    }
+                    depSelfSup.add(dependentOS);
+                } else {
+                    if (depSup == null) {
+                        depSup = new ArrayList<>(5);
                     }
+                    depSup.add(dependentOS);
                 }
             }
         }
@@ -955,7 +963,7 @@ public class Move extends Order {
                 if (convoyPathResult == Tristate.FAILURE) {
                     // 2.a
                     thisOS.setEvalState(Tristate.FAILURE);
-                    adjudicator.addResult(thisOS, ResultType.FAILURE, Utils.getLocalString(MOVE_EVAL_BAD_ROUTE));
+                    adjudicator.addLocalizedResult(thisOS, ResultType.FAILURE, MOVE_EVAL_BAD_ROUTE);
                     return;
                 } else if (convoyPathResult == Tristate.UNCERTAIN) {
                     return;    // 2.b (can't evaluate this move yet!)
@@ -1022,7 +1030,7 @@ public class Move extends Order {
                     logger.debug( "they're better than us!");
                     isBetterThanAllOtherMoves = false;
                     thisOS.setEvalState(Tristate.FAILURE);
-                    adjudicator.addResult(thisOS, ResultType.FAILURE, Utils.getLocalString(MOVE_FAILED));
+                    adjudicator.addLocalizedResult(thisOS, ResultType.FAILURE, MOVE_FAILED);
                     return;
                 } else // other order is UNCERTAIN or FAILURE eval state
                 {
@@ -1149,7 +1157,7 @@ public class Move extends Order {
                     if ((attack_certain) > (hthOS.getAtkMax() + hthOS.getAtkSelfSupportMax())) {
                         if (!isBwoss || isDestSamePower(hthOS)) {
                             thisOS.setEvalState(Tristate.FAILURE); // we fail--no self dislodgement!
-                            adjudicator.addResult(thisOS, ResultType.FAILURE, Utils.getLocalString(MOVE_FAILED_NO_SELF_DISLODGE));
+                            adjudicator.addLocalizedResult(thisOS, ResultType.FAILURE, MOVE_FAILED_NO_SELF_DISLODGE);
                         } else {
                             thisOS.setEvalState(Tristate.SUCCESS);        // we win
                             hthOS.setDislodgedState(Tristate.YES);    // they are dislodged
@@ -1200,7 +1208,7 @@ public class Move extends Order {
                             } else if (destOS.getEvalState() == Tristate.FAILURE) {
                                 logger.debug( "and failed, so we can't self-dislodged!.");
                                 thisOS.setEvalState(Tristate.FAILURE);
-                                adjudicator.addResult(thisOS, ResultType.FAILURE, Utils.getLocalString(MOVE_FAILED_NO_SELF_DISLODGE));
+                                adjudicator.addLocalizedResult(thisOS, ResultType.FAILURE, MOVE_FAILED_NO_SELF_DISLODGE);
                             }
                         } else {
                             if (isBwoss) {
@@ -1225,7 +1233,7 @@ public class Move extends Order {
                             } else {
                                 thisOS.setEvalState(Tristate.FAILURE);
                                 logger.debug( "Failed. (not better w/o self support)");
-                                adjudicator.addResult(thisOS, ResultType.FAILURE, Utils.getLocalString(MOVE_FAILED));
+                                adjudicator.addLocalizedResult(thisOS, ResultType.FAILURE, MOVE_FAILED);
                             }
                         }
                     }
@@ -1236,7 +1244,7 @@ public class Move extends Order {
                         //OLD: if( isDestSamePower(destOS) )
                         if (!isBwoss || isDestSamePower(destOS)) {
                             thisOS.setEvalState(Tristate.FAILURE);
-                            adjudicator.addResult(thisOS, ResultType.FAILURE, Utils.getLocalString(MOVE_FAILED_NO_SELF_DISLODGE));
+                            adjudicator.addLocalizedResult(thisOS, ResultType.FAILURE, MOVE_FAILED_NO_SELF_DISLODGE);
                         } else {
                             thisOS.setEvalState(Tristate.SUCCESS);
                             destOS.setDislodgedState(Tristate.YES);
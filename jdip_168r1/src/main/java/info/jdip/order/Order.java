@@ -24,6 +24,7 @@ package info.jdip.order;
 import info.jdip.misc.Utils;
 import info.jdip.process.Adjudicator;
 import info.jdip.process.OrderState;
+import info.jdip.process.OrderStateIndex;
 import info.jdip.world.Location;
 import info.jdip.world.Phase;
 import info.jdip.world.Position;
@@ -202,31 +203,29 @@ public abstract class Order implements Orderable, java.io.Serializable {
         ArrayList<OrderState> depMTS = null;
         ArrayList<OrderState> depSup = null;
 
-        OrderState[] orderStates = adjudicator.getOrderStates();
-        for (OrderState dependentOS : orderStates) {
-            Order order = dependentOS.getOrder();
+        final OrderStateIndex osIndex = adjudicator.getOrderStateIndex();
+        final Province srcProvince = getSource().getProvince();
 
-            if (order != this) // always exclude self
+        for (OrderState dependentOS : osIndex.getMovesTo(srcProvince)) {
+            if (dependentOS.getOrder() != this) // always exclude self
             {
-                if (order instanceof Move
-                        && ((Move) order).getDest().isProvinceEqual(this.getSource())) {
-                    if (depMTS == null) {
-                        depMTS = new ArrayList<>(5);
-                    }
-                    depMTS.add(dependentOS);
-                } else if (order instanceof Support) {
-                    Support support = (Support) order;
-
-                    // if we don't check for hold-type support (Support.isSupportingHold() == true)
-                    // we will accidentally add move-supports! (bad)
-                    if (support.isSupportingHold()
-                            && support.getSupportedSrc().isProvinceEqual(this.getSource())) {
-                        if (depSup == null) {
-                            depSup = new ArrayList<>(5);
-                        }
-                        depSup.add(dependentOS);
-                    }
+                if (depMTS == null) {
+                    depMTS = new ArrayList<>(5);
                 }
+                depMTS.add(dependentOS);
+            }
+        }
+
+        for (OrderState dependentOS : osIndex.getSupportsOf(srcProvince)) {
+            Support support = (Support) dependentOS.getOrder();
+
+            // if we don't check for hold-type support (Support.isSupportingHold() == true)
+            // we will accidentally add move-supports! (bad)
+            if (support != this && support.isSupportingHold()) {
+                if (depSup == null) {
+                    depSup = new ArrayList<>(5);
+                }
+                depSup.add(dependentOS);
             }
         }
 
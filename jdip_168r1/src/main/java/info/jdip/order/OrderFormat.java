@@ -29,15 +29,25 @@ import info.jdip.world.Unit;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.StringTokenizer;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * OrderFormat formats orders according to the specified format string.
  * <p>
  * While OrderFormat is more flexible than using Order.toBriefString() or
- * Order.toFullString(), it is also considerably slower. This is should not
- * generally be a problem, unless one is doing multiple adjudications
- * (e.g., for an AI).
+ * Order.toFullString(), it is also slower. Format strings are compiled into
+ * templates, once per format String and Order class; fields and methods are
+ * bound when compiled, and are not looked up for each Order formatted.
+ * Templates do not depend upon OrderFormatOptions, which are applied when an
+ * Order is formatted.
  * <p>
  * OrderFormat uses keywords that are delimited by braces "{}". Valid keywords
  * are described below. Any text (including whitespace) not in braces will be
@@ -140,6 +150,13 @@ public class OrderFormat {
     private final static String EMPTY = "";
     private final static String KEYWORD_ERROR = "!keyword_error!";
 
+    // compiled templates; format Strings are generally constants, but, if
+    // arbitrary format Strings are used, templates are no longer cached once
+    // this limit is reached.
+    private static final int MAX_TEMPLATES = 256;
+    private static final ConcurrentHashMap<TemplateKey, Template> templates = new ConcurrentHashMap<>();
+    private static final MethodType ACCESSOR_TYPE = MethodType.methodType(Object.class, Orderable.class);
+
 
     /**
      * For null values, when debugging, print the word "null"
@@ -441,67 +458,14 @@ public class OrderFormat {
 
 
     /**
-     * Process text within braces.
-     * 1) check if non-modifying keyword
-     * 2) parse, check for method/variable, +/- boolean, +/- modifier
-     * 3) return resultant text
+     * Converts a field or method value (or modified value) into a
+     * (formatted) String.
      */
-    private static String procBraceText(final OrderFormatOptions ofo,
-                                        final Orderable order, final String text) {
-        if (text == null) {
-            throw new IllegalArgumentException();
-        }
-
-        Object out = null;
-
-        out = procStaticKeyword(ofo, order, text);
-        if (out == null) {
-            final String[] tokens = text.split(":", 3);
-
-            if (tokens.length == 0) {
-                logger.warn("Cannot parse: {}", text);
-                return EMPTY;
-            }
-
-            // proc first token
-            out = getViaReflection(order, tokens[0]);
-
-            // process modifier OR boolean
-            if (tokens.length > 1) {
-                // evaluate boolean expression
-                if (tokens[1].startsWith("?")) {
-                    boolean isTrue = false;
-                    if (out instanceof Boolean) {
-                        isTrue = (Boolean) out;
-                    } else {
-                        isTrue = (out != null);
-                    }
-
-                    if (isTrue) {
-                        assert (tokens[1].length() > 0);
-                        final String tok = tokens[1].substring(1);
-                        final Object obj = procStaticKeyword(ofo, order, tok);
-                        return (obj == null) ? tok : obj.toString();
-                    } else {
-                        if (tokens.length == 2) {
-                            // {xxx:?true:} [empty 'false' clause]
-                            return EMPTY;
-                        } else {
-                            assert (tokens.length == 3);
-                            final Object obj = procStaticKeyword(ofo, order, tokens[2]);
-                            return (obj == null) ? tokens[2] : obj.toString();
-                        }
-                    }
-                } else {
-                    //process via modifier
-                    out = procModKeyword(ofo, order, out, tokens[1]);
-                }
-            }
-        }
-
-        // process Object into a (formatted) String
+    private static String formatValue(final OrderFormatOptions ofo, final Object out) {
         if (out == null) {
             return EMPTY;
+        } else if (out instanceof String) {
+            return (String) out;
         } else if (out instanceof Power) {
             return format(ofo, (Power) out);
         } else if (out instanceof Coast) {
@@ -516,36 +480,7 @@ public class OrderFormat {
             // convert object to a String
             return out.toString();
         }
-    }// procBraceText
-
-
-    /**
-     * Get the method or field via reflection. Returns null if an
-     * error occured.
-     */
-    private static Object getViaReflection(final Orderable order, final String name) {
-        assert (order != null);
-        assert (name != null);
-
-        final Class<? extends Orderable> cls = order.getClass();
-        final boolean isMethod = (name.endsWith("()"));
-
-        if (isMethod) {
-            try {
-                return cls.getMethod(name.substring(0, name.length() - 2)).invoke(order);
-            } catch (Exception e) {
-                logger.warn("Cannot reflect method {}", name, e);
-            }
-        } else {
-            try {
-                return cls.getDeclaredField(name).get(order);
-            } catch (Exception e) {
-                logger.warn("Cannot reflect field {}", name, e);;
-            }
-        }
-
-        return null;
-    }// getViaReflection()
+    }// formatValue()
 
 
     /**
@@ -642,6 +577,17 @@ public class OrderFormat {
         return format(ofo, order.getDefaultFormat(), order);
     }// format()
 
+    /**
+     * Formats an Order, appending the formatted text to the given StringBuilder.
+     */
+    public static void format(final OrderFormatOptions ofo,
+                              final Orderable order, final StringBuilder sb) {
+        if (order != null) {
+            format(ofo, order.getDefaultFormat(), order, sb);
+        }
+    }// format()
+
+
     /**
      * Formats an Order according to the specified order format options,
      * and the specified order format String
@@ -656,45 +602,79 @@ public class OrderFormat {
             return EMPTY;
         }
 
+        final StringBuilder sb = new StringBuilder(128);
+        format(ofo, format, order, sb);
+        return sb.toString();
+    }// format()
 
-        StringBuilder output = new StringBuilder(256);
-        StringBuffer accum = new StringBuffer(32);
 
-        boolean inBrace = false;
-        StringTokenizer st = new StringTokenizer(format, "{}", true);
-        while (st.hasMoreTokens()) {
-            String tok = st.nextToken();
-            if ("{".equals(tok) && !inBrace) {
-                inBrace = true;
-            } else if ("}".equals(tok) && inBrace) {
-                inBrace = false;
-                output.append(procBraceText(ofo, order, accum.toString()));
-                accum = new StringBuffer();
-            } else {
-                if (inBrace) {
-                    accum.append(tok);
-                } else {
-                    output.append(tok);
-                }
-            }
+    /**
+     * Formats an Order according to the specified order format options,
+     * and the specified order format String, appending the formatted text
+     * to the given StringBuilder.
+     */
+    public static void format(final OrderFormatOptions ofo, final String format,
+                              final Orderable order, final StringBuilder sb) {
+        if (ofo == null || format == null || sb == null) {
+            throw new IllegalArgumentException(ofo + "," + format);
         }
 
+        if (order == null) {
+            return;
+        }
+
+        final int start = sb.length();
+        getTemplate(format, order.getClass()).render(ofo, order, sb);
+
         if (ofo.getEndWithDot()) {
             // only append a dot if we think the order is complete; this means
             // it should not end with a space or arrow.
             //
-            final String str = output.toString();
-            if (str.endsWith(" ") || str.endsWith(ofo.getArrow())) {
-                return str;
-            } else {
-                output.append('.');
+            if (!endsWith(sb, start, " ") && !endsWith(sb, start, ofo.getArrow())) {
+                sb.append('.');
             }
         }
-
-        return output.toString();
     }// format()
 
 
+    /**
+     * True if the text appended to the StringBuilder (from start)
+     * ends with the given suffix.
+     */
+    private static boolean endsWith(final StringBuilder sb, final int start, final String suffix) {
+        final int offset = sb.length() - suffix.length();
+        if (offset < start) {
+            return false;
+        }
+
+        for (int i = 0; i < suffix.length(); i++) {
+            if (sb.charAt(offset + i) != suffix.charAt(i)) {
+                return false;
+            }
+        }
+
+        return true;
+    }// endsWith()
+
+
+    /**
+     * Gets the compiled Template for the given format String and Order class.
+     */
+    private static Template getTemplate(final String format, final Class<? extends Orderable> cls) {
+        final TemplateKey key = new TemplateKey(format, cls);
+        Template template = templates.get(key);
+        if (template == null) {
+            template = new Template(format, cls);
+            if (templates.size() < MAX_TEMPLATES) {
+                final Template existing = templates.putIfAbsent(key, template);
+                template = (existing == null) ? template : existing;
+            }
+        }
+
+        return template;
+    }// getTemplate()
+
+
     /**
      * Gets an example order, suitable for display in a user interface,
      * using the given OrderFormatOptions.
@@ -719,4 +699,260 @@ public class OrderFormat {
         return format(ofo, support);
     }// getFormatExample()
 
+
+    /**
+     * Template cache key: format String and Order class.
+     */
+    private static final class TemplateKey {
+        private final String format;
+        private final Class<? extends Orderable> cls;
+
+        private TemplateKey(String format, Class<? extends Orderable> cls) {
+            this.format = format;
+            this.cls = cls;
+        }
+
+        public int hashCode() {
+            return 31 * format.hashCode() + cls.hashCode();
+        }
+
+        public boolean equals(Object obj) {
+            if (obj instanceof TemplateKey) {
+                final TemplateKey tk = (TemplateKey) obj;
+                return cls == tk.cls && format.equals(tk.format);
+            }
+            return false;
+        }
+    }// nested class TemplateKey
+
+
+    /**
+     * A compiled format String. Literal text is kept as-is; text within
+     * braces is parsed once, and fields or methods are bound to
+     * MethodHandles.
+     * <p>
+     * Unmatched braces are handled as they were by the original
+     * (StringTokenizer-based) parser: a "}" outside of braces is literal
+     * text, a "{" within braces is part of the brace text, and unclosed
+     * brace text is discarded.
+     */
+    private static final class Template {
+        private final Part[] parts;
+
+        private Template(final String format, final Class<? extends Orderable> cls) {
+            final List<Part> list = new ArrayList<>();
+            final StringBuilder literal = new StringBuilder(32);
+            final StringBuilder braceText = new StringBuilder(32);
+            boolean inBrace = false;
+
+            for (int i = 0; i < format.length(); i++) {
+                final char c = format.charAt(i);
+                if (c == '{' && !inBrace) {
+                    inBrace = true;
+                    if (literal.length() > 0) {
+                        list.add(new LiteralPart(literal.toString()));
+                        literal.setLength(0);
+                    }
+                } else if (c == '}' && inBrace) {
+                    inBrace = false;
+                    list.add(compile(braceText.toString(), cls));
+                    braceText.setLength(0);
+                } else if (inBrace) {
+                    braceText.append(c);
+                } else {
+                    literal.append(c);
+                }
+            }
+
+            if (literal.length() > 0) {
+                list.add(new LiteralPart(literal.toString()));
+            }
+
+            parts = list.toArray(new Part[list.size()]);
+        }// Template()
+
+        private void render(final OrderFormatOptions ofo, final Orderable order, final StringBuilder sb) {
+            for (Part part : parts) {
+                part.render(ofo, order, sb);
+            }
+        }// render()
+
+        /**
+         * Compile text within braces.
+         * 1) check if non-modifying keyword
+         * 2) parse, check for method/variable, +/- boolean, +/- modifier
+         */
+        private static Part compile(final String text, final Class<? extends Orderable> cls) {
+            if (isStaticKeyword(text)) {
+                return new KeywordPart(text);
+            }
+
+            final String[] tokens = text.split(":", 3);
+            final MethodHandle accessor = getAccessor(cls, tokens[0]);
+
+            if (tokens.length > 1) {
+                if (tokens[1].startsWith("?")) {
+                    final Part truePart = compileClause(tokens[1].substring(1));
+                    final Part falsePart = (tokens.length == 2) ? null : compileClause(tokens[2]);
+                    return new ConditionalPart(accessor, tokens[0], truePart, falsePart);
+                }
+
+                return new ValuePart(accessor, tokens[0], tokens[1]);
+            }
+
+            return new ValuePart(accessor, tokens[0], null);
+        }// compile()
+
+        /**
+         * Boolean clauses are output literally, unless they are keywords.
+         */
+        private static Part compileClause(final String text) {
+            return isStaticKeyword(text) ? new KeywordPart(text) : new LiteralPart(text);
+        }// compileClause()
+
+        private static boolean isStaticKeyword(final String text) {
+            return ARROW.equals(text) || ORDERNAME.equals(text);
+        }// isStaticKeyword()
+
+        /**
+         * Binds the method or field to a MethodHandle of type
+         * (Orderable)Object. Returns null if an error occured.
+         */
+        private static MethodHandle getAccessor(final Class<? extends Orderable> cls, final String name) {
+            final MethodHandles.Lookup lookup = MethodHandles.lookup();
+
+            if (name.endsWith("()")) {
+                try {
+                    final Method method = cls.getMethod(name.substring(0, name.length() - 2));
+                    return lookup.unreflect(method).asType(ACCESSOR_TYPE);
+                } catch (Exception e) {
+                    logger.warn("Cannot reflect method {}", name, e);
+                }
+            } else {
+                try {
+                    final Field field = cls.getDeclaredField(name);
+                    MethodHandle getter = lookup.unreflectGetter(field);
+                    if (Modifier.isStatic(field.getModifiers())) {
+                        getter = MethodHandles.dropArguments(getter, 0, Orderable.class);
+                    }
+                    return getter.asType(ACCESSOR_TYPE);
+                } catch (Exception e) {
+                    logger.warn("Cannot reflect field {}", name, e);
+                }
+            }
+
+            return null;
+        }// getAccessor()
+    }// nested class Template
+
+
+    /**
+     * A compiled part of a Template.
+     */
+    private interface Part {
+        void render(OrderFormatOptions ofo, Orderable order, StringBuilder sb);
+    }// nested interface Part
+
+
+    /**
+     * Literal text.
+     */
+    private static final class LiteralPart implements Part {
+        private final String text;
+
+        private LiteralPart(String text) {
+            this.text = text;
+        }
+
+        public void render(OrderFormatOptions ofo, Orderable order, StringBuilder sb) {
+            sb.append(text);
+        }
+    }// nested class LiteralPart
+
+
+    /**
+     * A non-modifying keyword, such as {_arrow_}.
+     */
+    private static final class KeywordPart implements Part {
+        private final String keyword;
+
+        private KeywordPart(String keyword) {
+            this.keyword = keyword;
+        }
+
+        public void render(OrderFormatOptions ofo, Orderable order, StringBuilder sb) {
+            sb.append(procStaticKeyword(ofo, order, keyword));
+        }
+    }// nested class KeywordPart
+
+
+    /**
+     * A field or method value, optionally modified: {method():modifier}.
+     */
+    private static final class ValuePart implements Part {
+        private final MethodHandle accessor;
+        private final String name;
+        private final String modifier;
+
+        private ValuePart(MethodHandle accessor, String name, String modifier) {
+            this.accessor = accessor;
+            this.name = name;
+            this.modifier = modifier;
+        }
+
+        public void render(OrderFormatOptions ofo, Orderable order, StringBuilder sb) {
+            Object out = getValue(accessor, name, order);
+            if (modifier != null) {
+                out = procModKeyword(ofo, order, out, modifier);
+            }
+            sb.append(formatValue(ofo, out));
+        }
+    }// nested class ValuePart
+
+
+    /**
+     * A field or method value, treated as a boolean: {method():?TRUE:FALSE}.
+     */
+    private static final class ConditionalPart implements Part {
+        private final MethodHandle accessor;
+        private final String name;
+        private final Part truePart;
+        private final Part falsePart;
+
+        private ConditionalPart(MethodHandle accessor, String name, Part truePart, Part falsePart) {
+            this.accessor = accessor;
+            this.name = name;
+            this.truePart = truePart;
+            this.falsePart = falsePart;
+        }
+
+        public void render(OrderFormatOptions ofo, Orderable order, StringBuilder sb) {
+            final Object out = getValue(accessor, name, order);
+            final boolean isTrue = (out instanceof Boolean) ? (Boolean) out : (out != null);
+            if (isTrue) {
+                truePart.render(ofo, order, sb);
+            } else if (falsePart != null) {
+                falsePart.render(ofo, order, sb);
+            }
+        }
+    }// nested class ConditionalPart
+
+
+    /**
+     * Invokes a bound accessor. Returns null if the accessor could not
+     * be bound, or if an error occured.
+     */
+    private static Object getValue(final MethodHandle accessor, final String name, final Orderable order) {
+        if (accessor == null) {
+            return null;
+        }
+
+        try {
+            return (Object) accessor.invokeExact(order);
+        } catch (Throwable t) {
+            logger.warn("Cannot reflect {}", name, t);
+            return null;
+        }
+    }// getValue()
+
 }// class OrderFormat
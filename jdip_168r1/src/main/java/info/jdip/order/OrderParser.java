@@ -22,6 +22,7 @@
 //
 package info.jdip.order;
 
+import info.jdip.misc.NameTrie;
 import info.jdip.misc.Utils;
 import info.jdip.world.Coast;
 import info.jdip.world.Location;
@@ -35,7 +36,9 @@ import info.jdip.world.Unit;
 import org.slf4j.Logger;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.List;
 import java.util.StringTokenizer;
 
 import static org.slf4j.LoggerFactory.getLogger;
@@ -126,8 +129,9 @@ public class OrderParser {
     private static final String OF_COAST_INVALID = "OF_COAST_INVALID";
     private static final String WHITESPACE = ": \t\n\r";
     // the order of replacements is very important!
-    // all must be in lower case!
-    private static final String REPLACEMENTS[][] =
+    // all must be in lower case! (package-private, so that tests can check
+    // that the fast path handles, or declines, each replacement)
+    static final String REPLACEMENTS[][] =
             {
                     // misc tiny words that people add
                     // should NOT include 'to' because to can mean move; it's not always extraneous
@@ -223,6 +227,73 @@ public class OrderParser {
                     "(",    // parentheses will only get in the way.
                     ")",
             };
+    // FAST-PATH tables; these mirror the effect of REPLACEMENTS upon single tokens,
+    // and must be changed with them (OrderParserPreprocessTest compares the two).
+    // token, and its normalized form. Fillers (normalized to "") and "to" are only
+    // replaced by REPLACEMENTS when they are whole (space-separated) tokens.
+    private static final String FAST_TOKENS[][] =
+            {
+                    {"in", ""},
+                    {"an", ""},
+                    {"of", ""},
+                    {"on", ""},
+                    {"the", ""},
+                    {"to", "m"},
+                    {"a", "a"},
+                    {"f", "f"},
+                    {"w", "w"},
+                    {"army", "a"},
+                    {"fleet", "f"},
+                    {"wing", "w"},
+                    {"waive", "waive"},
+                    {"waives", "waive"},
+                    {"r", "r"},
+                    {"remove", "r"},
+                    {"removes", "r"},
+                    {"m", "m"},
+                    {"move", "m"},
+                    {"moves", "m"},
+                    {"retreat", "m"},
+                    {"retreats", "m"},
+                    {"s", "s"},
+                    {"support", "s"},
+                    {"supports", "s"},
+                    {"h", "h"},
+                    {"hold", "h"},
+                    {"holds", "h"},
+                    {"stand", "h"},
+                    {"stands", "h"},
+                    {"c", "c"},
+                    {"convoy", "c"},
+                    {"convoys", "c"},
+                    {"transport", "c"},
+                    {"transports", "c"},
+                    {"d", "d"},
+                    {"disband", "d"},
+                    {"disbands", "d"},
+                    {"b", "b"},
+                    {"build", "b"},
+                    {"builds", "b"},
+            };
+    // number of tokens at the start of FAST_TOKENS that must be whole tokens
+    private static final int FAST_WHOLE_TOKENS = 6;
+    // tokens which are (part of) multi-token REPLACEMENTS not handled by the fast path
+    private static final String FAST_UNSUPPORTED[] = {"mv", "attack", "attacks", "into", "moving"};
+    // any token containing these is changed by REPLACEMENTS
+    private static final String FAST_SUBSTRINGS[] =
+            {
+                    "fleet", "army", "wing", "waive", "remove", "retreat", "moving",
+                    "move", "support", "hold", "stand", "convoy", "transport",
+                    "disband", "build"
+            };
+    // arrow (move) tokens
+    private static final String FAST_ARROWS[] = {"-", "->", "=>", "-->", "==>", "-=>", "=->"};
+    // maximum number of multi-word province names in an order
+    private static final int FAST_MAX_NAMES = 8;
+    private static final NameTrie<String> fastTokens = createTrie(FAST_TOKENS);
+    private static final NameTrie<String> fastUnsupported = createTrie(FAST_UNSUPPORTED);
+    private static final NameTrie<String> fastSubstrings = createTrie(FAST_SUBSTRINGS);
+    private static final NameTrie<String> fastArrows = createTrie(FAST_ARROWS);
     private static OrderParser instance = null;
 
 
@@ -279,6 +350,20 @@ public class OrderParser {
      */
     public Order parse(OrderFactory orderFactory, String text, Power power, TurnState turnState, boolean locked, boolean guess)
             throws OrderException {
+        return parse(orderFactory, text, power, turnState, locked, guess, true);
+    }// parse()
+
+
+    /**
+     * Parse an order to an Order object, as parse(), but the single-pass
+     * preprocessor is only used if <code>isFastAllowed</code> is true.
+     * <p>
+     * Package-private, so that tests can compare the Orders parsed with
+     * and without the single-pass preprocessor.
+     */
+    Order parse(OrderFactory orderFactory, String text, Power power, TurnState turnState, boolean locked,
+                boolean guess, boolean isFastAllowed)
+            throws OrderException {
         if (orderFactory == null) {
             throw new IllegalArgumentException("null OrderFactory");
         }
@@ -294,7 +379,10 @@ public class OrderParser {
 
         Position position = turnState.getPosition();
         Map map = turnState.getWorld().getMap();
-        String preText = preprocess(text, map);
+        String preText = isFastAllowed ? preprocessFast(text, map) : null;
+        if (preText == null) {
+            preText = preprocess(text, map);
+        }
 
         logger.debug("Input order: {}", preText);
 
@@ -306,7 +394,7 @@ public class OrderParser {
      * The preprocessor normalizes the orders, converting various order entry
      * formats to a single order entry format that is more easily parsed.
      */
-    private String preprocess(String ord, Map map) throws OrderException {
+    String preprocess(String ord, Map map) throws OrderException {
         // create StringBuffer, after filtering the input string.
         // note that this step includes lower-case conversion.
         StringBuffer sb = filterInput(ord);
@@ -374,6 +462,349 @@ public class OrderParser {
     }// preprocess()
 
 
+    /**
+     * Single-pass preprocessor, for orders which use only whole province
+     * names, abbreviations, and simple order keywords. This produces the same
+     * tokens (and thus the same Order) as preprocess(), but avoids repeated
+     * string searches and replacements.
+     * <p>
+     * Returns <code>null</code> if the order is not in a form that can be
+     * handled here (e.g., it contains punctuation, parenthetical coasts,
+     * power names after the first token, or multi-word phrases); such orders
+     * must be preprocessed with preprocess().
+     * <p>
+     * Package-private, so that tests can compare it with preprocess().
+     */
+    String preprocessFast(String ord, Map map) {
+        final NameTrie<Province> nameTrie = map.getMultiWordNameTrie();
+        if (nameTrie == null) {
+            return null;
+        }
+
+        final NameTrie<Power> powerTrie = map.getPowerNameTrie();
+
+        // lower-case the input; only letters, digits, spaces, colons, coast
+        // separators, and arrows are handled.
+        final String input = ord.trim();
+        if (input.isEmpty()) {
+            return null;
+        }
+
+        char[] text = new char[input.length()];
+        for (int i = 0; i < text.length; i++) {
+            char c = input.charAt(i);
+            if (c >= 'A' && c <= 'Z') {
+                c = (char) (c + ('a' - 'A'));
+            } else if (c < 128 && Character.isWhitespace(c)) {
+                c = ' ';
+            } else if (!isAlnum(c) && c != ' ' && c != ':' && c != '/' && !isArrow(c)) {
+                return null;
+            }
+
+            text[i] = c;
+        }
+
+        // replace multi-word province names (as per replaceProvinceNames())
+        final int[] ends = new int[FAST_MAX_NAMES];
+        final int[] ids = new int[FAST_MAX_NAMES];
+        final int nNames = nameTrie.findAll(text, 0, text.length, ends, ids);
+        if (nNames < 0) {
+            return null;
+        } else if (nNames > 0) {
+            text = replaceNames(text, nameTrie, ends, ids, nNames);
+            if (text == null || nameTrie.containsAny(text, 0, text.length)) {
+                return null;
+            }
+        }
+
+        final int len = text.length;
+
+        // hyphenated coasts (e.g., "spa-sc") are normalized or rejected by
+        // Coast.normalize(); leave those to preprocess()
+        for (int i = 0; i + 2 < len; i++) {
+            if (text[i] == '-' && isAlnum(text[i + 1]) && isAlnum(text[i + 2])
+                    && (i + 3 == len || !isAlnum(text[i + 3]))) {
+                return null;
+            }
+        }
+
+        // output: each token separated by a single space. Arrows within
+        // a token (e.g., "lvp-edi") become separate tokens.
+        final char[] out = new char[(3 * len) + 1];
+        int outLen = 0;
+        int pos = 0;
+
+        // power token; this is not subject to replacement
+        int tokEnd = 0;
+        while (tokEnd < len && text[tokEnd] != ' ' && text[tokEnd] != ':') {
+            tokEnd++;
+        }
+
+        if (tokEnd == 0) {
+            return null;
+        }
+
+        final boolean hasColon = (tokEnd < len && text[tokEnd] == ':');
+        if (hasColon || (tokEnd < len && powerTrie.getPrefix(text, 0, tokEnd) != null)) {
+            for (int i = 0; i < tokEnd; i++) {
+                if (!isAlnum(text[i])) {
+                    return null;
+                }
+            }
+
+            System.arraycopy(text, 0, out, 0, tokEnd);
+            outLen = tokEnd;
+            pos = tokEnd;
+            if (hasColon) {
+                out[outLen++] = ':';
+                pos++;
+                if (pos < len && text[pos] != ' ') {
+                    return null;
+                }
+            }
+        }
+
+        final int powerEnd = outLen;
+
+        String prevKey = null;      // previous token (as entered) that was not a filler
+        long wholeRun = 0L;         // whole tokens (fillers and "to") since prevKey
+
+        while (pos < len) {
+            // find the next space-separated token
+            while (pos < len && text[pos] == ' ') {
+                pos++;
+            }
+
+            if (pos == len) {
+                break;
+            }
+
+            final int tokStart = pos;
+            while (pos < len && text[pos] != ' ') {
+                if (text[pos] == ':') {
+                    return null;
+                }
+                pos++;
+            }
+
+            // power names after the first token are filtered by filterPowerNames()
+            if (tokStart != 0 && powerTrie.getPrefix(text, tokStart, len) != null) {
+                return null;
+            }
+
+            int p = tokStart;
+            while (p < pos) {
+                if (isAlnum(text[p])) {
+                    final int wordStart = p;
+                    while (p < pos && isAlnum(text[p])) {
+                        p++;
+                    }
+
+                    final int wordEnd = p;
+                    if (p < pos && text[p] == '/') {
+                        if (p + 3 > pos || !isCoast(text[p + 1], text[p + 2])
+                                || (p + 3 < pos && !isArrow(text[p + 3]))) {
+                            return null;
+                        }
+
+                        p += 3;
+                    }
+
+                    final int id = (p == wordEnd) ? fastTokens.getId(text, wordStart, wordEnd) : -1;
+                    final String token;
+                    if (id < 0) {
+                        // province (or other) name: must not be altered by REPLACEMENTS
+                        if (fastUnsupported.getId(text, wordStart, wordEnd) >= 0
+                                || fastSubstrings.containsAny(text, wordStart, wordEnd)) {
+                            return null;
+                        }
+
+                        prevKey = null;
+                        wholeRun = 0L;
+                        token = null;
+                    } else {
+                        final String key = fastTokens.getKey(id);
+                        if (id < FAST_WHOLE_TOKENS) {
+                            // filler or "to"; must have surrounding spaces, and
+                            // REPLACEMENTS misses directly repeated matches
+                            if (wordStart != tokStart || wordEnd != pos
+                                    || tokStart == 0 || pos == len
+                                    || (wholeRun & (1L << id)) != 0L) {
+                                return null;
+                            }
+
+                            wholeRun |= (1L << id);
+                        } else {
+                            wholeRun = 0L;
+                        }
+
+                        if (!isFastSequence(prevKey, key)) {
+                            return null;
+                        }
+
+                        token = fastTokens.getValue(id);
+                        if (token.isEmpty()) {
+                            continue;
+                        }
+
+                        prevKey = key;
+                    }
+
+                    if (outLen != 0) {
+                        out[outLen++] = ' ';
+                    }
+
+                    if (token == null) {
+                        System.arraycopy(text, wordStart, out, outLen, p - wordStart);
+                        outLen += p - wordStart;
+                    } else {
+                        token.getChars(0, token.length(), out, outLen);
+                        outLen += token.length();
+                    }
+                } else if (isArrow(text[p])) {
+                    final int arrowStart = p;
+                    while (p < pos && isArrow(text[p])) {
+                        p++;
+                    }
+
+                    if (fastArrows.getId(text, arrowStart, p) < 0) {
+                        return null;
+                    }
+
+                    if (outLen != 0) {
+                        out[outLen++] = ' ';
+                    }
+
+                    out[outLen++] = 'm';
+                    prevKey = null;
+                    wholeRun = 0L;
+                } else {
+                    return null;
+                }
+            }
+        }
+
+        // replaceProvinceNames() and filterPowerNames() are applied again after REPLACEMENTS
+        if (outLen == 0 || nameTrie.containsAny(out, 0, outLen)) {
+            return null;
+        }
+
+        for (int i = powerEnd; i < outLen; i++) {
+            if ((i == 0 || out[i - 1] == ' ') && powerTrie.getPrefix(out, i, outLen) != null) {
+                return null;
+            }
+        }
+
+        return new String(out, 0, outLen);
+    }// preprocessFast()
+
+
+    /**
+     * Replaces non-overlapping multi-word province names, found by
+     * NameTrie.findAll(), with the province short name. Names within a
+     * longer name are ignored, as replaceProvinceNames() replaces longer
+     * names first. Returns null if names partially overlap, or if a name
+     * is repeated.
+     */
+    private char[] replaceNames(char[] text, NameTrie<Province> nameTrie,
+                                int[] ends, int[] ids, int nNames) {
+        final boolean[] skip = new boolean[nNames];
+        for (int i = 0; i < nNames; i++) {
+            final int start = ends[i] - nameTrie.getKey(ids[i]).length();
+            for (int j = 0; j < nNames; j++) {
+                final int jStart = ends[j] - nameTrie.getKey(ids[j]).length();
+                if (j != i && jStart <= start && ends[i] <= ends[j]
+                        && (ends[j] - jStart) > (ends[i] - start)) {
+                    skip[i] = true;
+                }
+            }
+        }
+
+        final StringBuilder sb = new StringBuilder(text.length);
+        int prevEnd = 0;
+        for (int i = 0; i < nNames; i++) {
+            if (!skip[i]) {
+                final int start = ends[i] - nameTrie.getKey(ids[i]).length();
+                if (start < prevEnd) {
+                    return null;
+                }
+
+                for (int j = 0; j < i; j++) {
+                    if (!skip[j] && ids[j] == ids[i]) {
+                        return null;
+                    }
+                }
+
+                sb.append(text, prevEnd, start - prevEnd);
+                sb.append(nameTrie.getValue(ids[i]).getShortName());
+                prevEnd = ends[i];
+            }
+        }
+
+        sb.append(text, prevEnd, text.length - prevEnd);
+
+        final char[] replaced = new char[sb.length()];
+        sb.getChars(0, sb.length(), replaced, 0);
+        return replaced;
+    }// replaceNames()
+
+
+    /**
+     * Checks that two successive tokens are not combined by
+     * REPLACEMENTS (e.g., "move to", "build a", "waive build").
+     */
+    private static boolean isFastSequence(String prevKey, String key) {
+        if (prevKey == null) {
+            return true;
+        } else if (key.equals("to")) {
+            return !(prevKey.startsWith("move") || prevKey.startsWith("retreat"));
+        } else if (key.equals("a")) {
+            return !(prevKey.equals("build") || prevKey.equals("builds")
+                    || prevKey.equals("removes") || prevKey.equals("disbands"));
+        } else if (key.startsWith("build")) {
+            return !prevKey.startsWith("waive");
+        }
+
+        return true;
+    }// isFastSequence()
+
+
+    private static boolean isAlnum(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= '0' && c <= '9');
+    }// isAlnum()
+
+
+    /**
+     * Coast abbreviations accepted by Coast.normalize()
+     */
+    private static boolean isCoast(char c1, char c2) {
+        return (c2 == 'c' && (c1 == 'n' || c1 == 's' || c1 == 'w' || c1 == 'e' || c1 == 'x'))
+                || (c1 == 'm' && c2 == 'v');
+    }// isCoast()
+
+
+    private static boolean isArrow(char c) {
+        return c == '-' || c == '=' || c == '>';
+    }// isArrow()
+
+
+    private static NameTrie<String> createTrie(String[][] entries) {
+        final List<String> keys = new ArrayList<>(entries.length);
+        final List<String> values = new ArrayList<>(entries.length);
+        for (String[] entry : entries) {
+            keys.add(entry[0]);
+            values.add(entry[1]);
+        }
+
+        return new NameTrie<>(keys, values);
+    }// createTrie()
+
+
+    private static NameTrie<String> createTrie(String[] keys) {
+        return new NameTrie<>(Arrays.asList(keys), Arrays.asList(keys));
+    }// createTrie()
+
+
     private Order parse(String ord, Position position, Map map, Power defaultPower,
                         TurnState turnState, OrderFactory orderFactory, boolean locked,
                         boolean guessing)
@@ -0,0 +1,269 @@
+//
+//  @(#)OrderStats.java	1.00	10/2026
+//
+//
+//  This program is free software; you can redistribute it and/or modify
+//  it under the terms of the GNU General Public License as published by
+//  the Free Software Foundation; either version 2 of the License, or
+//  (at your option) any later version.
+//
+//  This program is distributed in the hope that it will be useful,
+//  but WITHOUT ANY WARRANTY; without even the implied warranty of
+//  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//  GNU General Public License for more details.
+//
+//  You should have received a copy of the GNU General Public License
+//  along with this program; if not, write to the Free Software
+//  Foundation, Inc., 675 Mass Ave, Cambridge, MA 02139, USA.
+//  Or from http://www.gnu.org/
+//
+package info.jdip.order;
+
+import info.jdip.order.result.OrderResult;
+import info.jdip.order.result.Result;
+import info.jdip.world.Phase;
+import info.jdip.world.Power;
+import info.jdip.world.TurnState;
+import info.jdip.world.Unit;
+
+import java.util.HashSet;
+import java.util.Set;
+
+
+/**
+ * Order statistics of a Power, for a resolved Movement phase.
+ * <p>
+ * Orders are counted by type (Move, Hold, Support and Convoy). Orders are
+ * successful if they have a SUCCESS result; supports are self-supports if
+ * the supported unit belongs to the same Power.
+ * <p>
+ * Used by the Order Statistics report, and by the judge archive index.
+ */
+public final class OrderStats {
+    private final Power power;
+    private final boolean isEliminated;
+    private int nOrders = 0;            // total # of orders
+    private int nMoves = 0;
+    private int nConvoys = 0;
+    private int nHolds = 0;
+    private int nSupports = 0;          // supports to any unit
+    private int nSupportsSelf = 0;      // supports of own units
+    private int nMovesOK = 0;           // successful Move orders
+    private int nConvoysOK = 0;         // successful Convoy orders
+    private int nHoldsOK = 0;           // successful Hold orders
+    private int nSupportsOK = 0;        // # successful total supports
+    private int nSupportsSelfOK = 0;    // # successful self-supports
+
+
+    private OrderStats(Power power, boolean isEliminated) {
+        this.power = power;
+        this.isEliminated = isEliminated;
+    }// OrderStats()
+
+
+    /**
+     * Returns true if order statistics may be collected for the given
+     * TurnState; that is, if it is a resolved Movement phase.
+     */
+    public static boolean isCollectable(TurnState ts) {
+        return ts.isResolved() && ts.getPhase().getPhaseType() == Phase.PhaseType.MOVEMENT;
+    }// isCollectable()
+
+
+    /**
+     * Collects the order statistics of each of the given Powers, in the
+     * same order, for a resolved Movement phase.
+     */
+    public static OrderStats[] collect(TurnState ts, Power[] powers) {
+        if (!isCollectable(ts)) {
+            throw new IllegalArgumentException("not a resolved Movement phase: " + ts.getPhase());
+        }
+
+        // successful orders
+        final Set<Orderable> successful = new HashSet<>();
+        for (Result result : ts.getResultList()) {
+            if (result instanceof OrderResult
+                    && ((OrderResult) result).getResultType() == OrderResult.ResultType.SUCCESS) {
+                successful.add(((OrderResult) result).getOrder());
+            }
+        }
+
+        final OrderStats[] stats = new OrderStats[powers.length];
+        for (int i = 0; i < powers.length; i++) {
+            stats[i] = new OrderStats(powers[i], ts.getPosition().isEliminated(powers[i]));
+            stats[i].count(ts, successful);
+        }
+
+        return stats;
+    }// collect()
+
+
+    private void count(TurnState ts, Set<Orderable> successful) {
+        for (Orderable order : ts.getOrders(power)) {
+            nOrders++;
+
+            final boolean success = successful.contains(order);
+            if (order instanceof Move) {
+                nMoves++;
+                if (success) {
+                    nMovesOK++;
+                }
+            } else if (order instanceof Hold) {
+                nHolds++;
+                if (success) {
+                    nHoldsOK++;
+                }
+            } else if (order instanceof Convoy) {
+                nConvoys++;
+                if (success) {
+                    nConvoysOK++;
+                }
+            } else if (order instanceof Support) {
+                nSupports++;
+                if (success) {
+                    nSupportsOK++;
+                }
+
+                // self support?
+                final Support sup = (Support) order;
+                final Unit supUnit = ts.getPosition().getUnit(sup.getSupportedSrc().getProvince());
+                if (supUnit != null && sup.getPower().equals(supUnit.getPower())) {
+                    nSupportsSelf++;
+                    if (success) {
+                        nSupportsSelfOK++;
+                    }
+                }
+            }
+        }
+    }// count()
+
+
+    /**
+     * Get the Power
+     */
+    public Power getPower() {
+        return power;
+    }// getPower()
+
+    public boolean isEliminated() {
+        return isEliminated;
+    }
+
+    /**
+     * Returns the number of orders, of any type
+     */
+    public int getOrderCount() {
+        return nOrders;
+    }
+
+    public int getMoveCount() {
+        return nMoves;
+    }
+
+    public int getMoveSuccessCount() {
+        return nMovesOK;
+    }
+
+    public int getHoldCount() {
+        return nHolds;
+    }
+
+    public int getHoldSuccessCount() {
+        return nHoldsOK;
+    }
+
+    public int getSupportCount() {
+        return nSupports;
+    }
+
+    public int getSupportSuccessCount() {
+        return nSupportsOK;
+    }
+
+    public int getSelfSupportCount() {
+        return nSupportsSelf;
+    }
+
+    public int getSelfSupportSuccessCount() {
+        return nSupportsSelfOK;
+    }
+
+    public int getConvoyCount() {
+        return nConvoys;
+    }
+
+    public int getConvoySuccessCount() {
+        return nConvoysOK;
+    }
+
+
+    /**
+     * Calculate percent successful orders (all orders)
+     */
+    public float getOverallSuccess() {
+        if (getTotal() == 0) {
+            return 0.0f;
+        }
+
+        final int success = (nMovesOK + nConvoysOK + nHoldsOK + nSupportsOK);
+        return ((float) success / (float) getTotal());
+    }
+
+    /**
+     * Calculate percent support orders (successfull or failed),
+     * of all total orders.
+     */
+    public float getPercentSupport() {
+        if (getTotal() == 0) {
+            return 0.0f;
+        }
+
+        return ((float) nSupports / (float) getTotal());
+    }
+
+    /**
+     * Calculate percent SELF support orders (successfull or failed),
+     * of all total orders.
+     */
+    public float getPercentSelfSupport() {
+        if (getTotal() == 0) {
+            return 0.0f;
+        }
+
+        return ((float) nSupportsSelf / (float) getTotal());
+    }
+
+    /**
+     * Calculate percent NON-SELF support orders (successfull or failed),
+     * of all total orders.
+     */
+    public float getPercentNonSelfSupport() {
+        assert (nSupports >= nSupportsSelf);
+        if (getTotal() == 0) {
+            return 0.0f;
+        }
+
+        return ((float) (nSupports - nSupportsSelf) / (float) getTotal());
+    }
+
+    /**
+     * Calculate percent successful Move orders.
+     * Returns negative # if no Move orders
+     */
+    public float getPercentMoveSuccess() {
+        if (nMoves == 0) {
+            return -1.0f;
+        }
+
+        return ((float) nMovesOK / (float) nMoves);
+    }// getPercentMoveSuccess()
+
+
+    /**
+     * Get total orders (of the counted types)
+     */
+    private int getTotal() {
+        return (nMoves + nConvoys + nHolds + nSupports);
+    }// getTotal()
+
+}// class OrderStats
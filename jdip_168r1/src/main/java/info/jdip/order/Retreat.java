@@ -158,20 +158,15 @@ public class Retreat extends Move {
         OrderState thisOS = adjudicator.findOrderStateBySrc(getSource());
         ArrayList<OrderState> depMTDest = null;
 
-        OrderState[] orderStates = adjudicator.getOrderStates();
-        for (OrderState dependentOS : orderStates) {
+        for (OrderState dependentOS : adjudicator.getOrderStateIndex().getMovesTo(getDest().getProvince())) {
             Order order = dependentOS.getOrder();
 
             if (order instanceof Retreat
                     && order != this) {
-                Retreat retreat = (Retreat) order;
-
-                if (retreat.getDest().isProvinceEqual(this.getDest())) {
-                    if (depMTDest == null) {
-                        depMTDest = new ArrayList<>(4);
-                    }
-                    depMTDest.add(dependentOS);
+                if (depMTDest == null) {
+                    depMTDest = new ArrayList<>(4);
                 }
+                depMTDest.add(dependentOS);
             }
         }
 
@@ -234,14 +229,14 @@ public class Retreat extends Move {
                             // only can be less when considering DPBs
                             logger.debug("FAILURE! (<) {}", depMoveOS.getOrder());
                             evalResult = Tristate.FAILURE;
-                            adjudicator.addResult(thisOS, ResultType.FAILURE, Utils.getLocalString(RETREAT_FAIL_DPB));
+                            adjudicator.addLocalizedResult(thisOS, ResultType.FAILURE, RETREAT_FAIL_DPB);
                             isStrongerThanAllOthers = false;
                             break;
                         } else if (thisOS.getRetreatStrength() == depMoveOS.getRetreatStrength()) {
                             // the usual case
                             logger.debug("FAILURE! (==) {}", depMoveOS.getOrder());
                             evalResult = Tristate.FAILURE;
-                            adjudicator.addResult(thisOS, ResultType.FAILURE, Utils.getLocalString(RETREAT_FAIL_MULTIPLE));
+                            adjudicator.addLocalizedResult(thisOS, ResultType.FAILURE, RETREAT_FAIL_MULTIPLE);
                             isStrongerThanAllOthers = false;
                             break;
                         } else // >
@@ -365,25 +365,25 @@ public class Support extends Order {
      * At this time, we do not check for narrowing conventions in a support order.
      */
     public void verify(Adjudicator adjudicator) {
-        String failureText = null;
+        String failureKey = null;
         boolean isMatched = false;
 
         final OrderState matchingOS = adjudicator.findOrderStateBySrc(getSupportedSrc());
         final OrderState thisOS = adjudicator.findOrderStateBySrc(getSource());
 
         if (matchingOS == null) {
-            failureText = Utils.getLocalString(SUPPORT_VER_FAILTEXT);
+            failureKey = SUPPORT_VER_FAILTEXT;
         } else if (isSupportingHold()) {
             // Support: supporting a unit that is not moving (Hold/Support/Convoy)
             //
-            failureText = Utils.getLocalString(SUPPORT_VER_MOVE_ERR);
+            failureKey = SUPPORT_VER_MOVE_ERR;
 
             if (!(matchingOS.getOrder() instanceof Move)) {
                 isMatched = true;
             }
         } else {
             // Support: supporting a Move
-            failureText = Utils.getLocalString(SUPPORT_VER_NOMATCH);
+            failureKey = SUPPORT_VER_NOMATCH;
             if (matchingOS.getOrder() instanceof Move) {
                 Move matchingMove = (Move) matchingOS.getOrder();
                 if (matchingMove.getDest().isProvinceEqual(getSupportedDest())) {
@@ -393,7 +393,7 @@ public class Support extends Order {
                         if (matchingMove.getDest().equals(getSupportedDest())) {
                             isMatched = true;
                         } else {
-                            failureText = Utils.getLocalString(SUPPORT_VER_MOVE_BADCOAST);
+                            failureKey = SUPPORT_VER_MOVE_BADCOAST;
                         }
                     } else {
                         isMatched = true;
@@ -404,7 +404,7 @@ public class Support extends Order {
 
         if (!isMatched) {
             thisOS.setEvalState(Tristate.FAILURE);
-            adjudicator.addResult(thisOS, ResultType.FAILURE, failureText);
+            adjudicator.addLocalizedResult(thisOS, ResultType.FAILURE, failureKey);
         }
 
         // we have been verified.
@@ -658,12 +658,12 @@ public class Support extends Order {
                 // If we ARE supporting over a difficult passable border...
                 if (mod < 0) {
                     logger.debug( "Unable to support through difficult passable border");
-                    adjudicator.addResult(thisOS, ResultType.FAILURE,
-                            Utils.getLocalString(SUPPORT_DIFF_PASS));
+                    adjudicator.addLocalizedResult(thisOS, ResultType.FAILURE,
+                            SUPPORT_DIFF_PASS);
                 } else {
                     logger.debug("Support cut by move from {}", cuttingMove.getSource());
-                    adjudicator.addResult(thisOS, ResultType.FAILURE,
-                            Utils.getLocalString(SUPPORT_EVAL_CUT, cuttingMove.getSource().getProvince()));
+                    adjudicator.addLocalizedResult(thisOS, ResultType.FAILURE,
+                            SUPPORT_EVAL_CUT, cuttingMove.getSource().getProvince());
                 }
 
             }
@@ -72,6 +72,18 @@ public class OrderResult extends Result {
         this.order = order;
     }// OrderResult()
 
+    /**
+     * Create an OrderResult with the given Order and ResultType, whose
+     * message is the resource with the given key, formatted with the given
+     * arguments (which may be null) when first required. A null key
+     * indicates no message. A null Order or ResultType is not permissable.
+     */
+    public OrderResult(Orderable order, ResultType type, String messageKey, Object[] messageArgs) {
+        this(order, type, null);
+        setMessage(messageKey, messageArgs);
+    }// OrderResult()
+
+
     /**
      * Get the ResultType. Never returns null.
      */
@@ -97,7 +109,7 @@ public class OrderResult extends Result {
         sb.append("] [order: ");
         sb.append(order);
         sb.append("] ");
-        sb.append(message);
+        sb.append(getFormattedMessage());
         return sb.toString();
     }// toString()
 
@@ -156,7 +168,7 @@ public class OrderResult extends Result {
             }
 
             // 4: compare message
-            return this.message.compareTo(result.message);
+            return this.getFormattedMessage().compareTo(result.getFormattedMessage());
         } else {
             return super.compareTo(o);
         }
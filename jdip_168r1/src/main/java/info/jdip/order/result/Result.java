@@ -21,9 +21,12 @@
 //
 package info.jdip.order.result;
 
+import info.jdip.misc.Utils;
 import info.jdip.order.OrderFormatOptions;
 import info.jdip.world.Power;
 
+import java.io.IOException;
+import java.io.ObjectOutputStream;
 import java.io.Serializable;
 
 /**
@@ -33,6 +36,10 @@ import java.io.Serializable;
  * Result and subclasses have a toString() method, which is intended
  * for debugging. To obtain a properly-formatted localized message, use
  * getMessage().
+ * <p>
+ * A Result may be created with a resource key and arguments, rather than
+ * message text. In that case, the message is not formatted until it is
+ * first requested (or the Result is serialized), and is then cached.
  */
 public class Result implements Serializable, Comparable<Result> {
     // constants
@@ -44,9 +51,19 @@ public class Result implements Serializable, Comparable<Result> {
      */
     protected Power power = null;
     /**
-     * The Message text; this must <b>never</b> be null
+     * The Message text; if null, it will be formatted from the message
+     * key (if any) when first required. Use getFormattedMessage() rather
+     * than reading this directly.
+     */
+    protected String message = "";
+    /**
+     * The resource key of the message, or null
      */
-    protected String message = "";    // message is never null
+    private transient String messageKey = null;
+    /**
+     * The MessageFormat arguments of the message, or null
+     */
+    private transient Object[] messageArgs = null;
 
     /**
      * no-arg constructor for subclasses
@@ -68,6 +85,18 @@ public class Result implements Serializable, Comparable<Result> {
     }// Result()
 
 
+    /**
+     * Create a Result, for the given Power (or all Powers, if null),
+     * whose message is the resource with the given key, formatted
+     * with the given arguments (which may be null). The message is
+     * formatted when first required. A null key indicates no message.
+     */
+    public Result(Power power, String messageKey, Object[] messageArgs) {
+        this.power = power;
+        setMessage(messageKey, messageArgs);
+    }// Result()
+
+
     /**
      * Create a Result that is applicable to all
      * Powers.
@@ -104,9 +133,46 @@ public class Result implements Serializable, Comparable<Result> {
      * Subclasses must override this method to implement this.
      */
     public String getMessage(OrderFormatOptions ofo) {
-        return message;
+        return getFormattedMessage();
     }// getMessage()
 
+
+    /**
+     * Sets the message resource key and arguments; the message will be
+     * formatted when first required. For use by subclass constructors.
+     */
+    protected final void setMessage(String messageKey, Object[] messageArgs) {
+        if (messageKey == null) {
+            this.message = "";
+        } else {
+            this.message = null;
+            this.messageKey = messageKey;
+            this.messageArgs = messageArgs;
+        }
+    }// setMessage()
+
+
+    /**
+     * Returns the message text, formatting it from the message key and
+     * arguments if it has not yet been formatted. Never returns null.
+     */
+    protected final String getFormattedMessage() {
+        String text = message;
+        if (text == null) {
+            if (messageKey == null) {
+                text = "";
+            } else if (messageArgs == null || messageArgs.length == 0) {
+                text = Utils.getLocalString(messageKey);
+            } else {
+                text = Utils.getLocalString(messageKey, messageArgs);
+            }
+
+            message = text;
+        }
+
+        return text;
+    }// getFormattedMessage()
+
     /**
      * For debugging. Use getPower() and getMessage() for general use.
      */
@@ -120,7 +186,7 @@ public class Result implements Serializable, Comparable<Result> {
         }
 
         sb.append(": ");
-        sb.append(message);
+        sb.append(getFormattedMessage());
         return sb.toString();
     }// toString()
 
@@ -147,8 +213,18 @@ public class Result implements Serializable, Comparable<Result> {
         }
 
         // finally: compare messages
-        return ((compareResult != 0) ? compareResult : message.compareTo(o.message));
+        return ((compareResult != 0) ? compareResult : getFormattedMessage().compareTo(o.getFormattedMessage()));
     }// compareTo()
 
 
+    /**
+     * The message is always serialized as text.
+     */
+    private void writeObject(ObjectOutputStream out)
+            throws IOException {
+        getFormattedMessage();
+        out.defaultWriteObject();
+    }// writeObject()
+
+
 }// class Result
@@ -59,6 +59,18 @@ public class SubstitutedResult extends OrderResult {
     }// SubstitutedResult()
 
 
+    /**
+     * Create a SubstitutedResult, whose message is the resource with the
+     * given key, formatted with the given arguments (which may be null)
+     * when first required. Note that oldOrder may be null, but newOrder
+     * is not allowed to be null.
+     */
+    public SubstitutedResult(Orderable oldOrder, Orderable newOrder, String messageKey, Object[] messageArgs) {
+        this(oldOrder, newOrder, null);
+        setMessage(messageKey, messageArgs);
+    }// SubstitutedResult()
+
+
     /**
      * Returns the substituted (new) order that replaces the
      * old order (or no order, if an order was created).
@@ -80,7 +92,7 @@ public class SubstitutedResult extends OrderResult {
         sb.append("] [new order: ");
         sb.append(newOrder);
         sb.append("] ");
-        sb.append(message);
+        sb.append(getFormattedMessage());
         return sb.toString();
     }// toString()
 }// class SubstitutedResult
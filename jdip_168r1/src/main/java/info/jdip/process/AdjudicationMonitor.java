@@ -0,0 +1,123 @@
+//
+//  @(#)AdjudicationMonitor.java	1.00	10/2026
+//
+//
+//  This program is free software; you can redistribute it and/or modify
+//  it under the terms of the GNU General Public License as published by
+//  the Free Software Foundation; either version 2 of the License, or
+//  (at your option) any later version.
+//
+//  This program is distributed in the hope that it will be useful,
+//  but WITHOUT ANY WARRANTY; without even the implied warranty of
+//  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//  GNU General Public License for more details.
+//
+//  You should have received a copy of the GNU General Public License
+//  along with this program; if not, write to the Free Software
+//  Foundation, Inc., 675 Mass Ave, Cambridge, MA 02139, USA.
+//  Or from http://www.gnu.org/
+//
+package info.jdip.process;
+
+import info.jdip.world.TurnState;
+
+
+/**
+ * Receives timing and count information from StdAdjudicator, as each
+ * stage of adjudication completes.
+ * <p>
+ * Times are wall-clock times in nanoseconds. Allocations are the bytes
+ * allocated by the adjudicating thread, or -1 if the JVM cannot measure
+ * per-thread allocation.
+ * <p>
+ * Stages do not all occur in every phase, and may be reported more than
+ * once per adjudication. Paradox-breaking stages occur during (and are
+ * included within) the evaluation stage.
+ * <p>
+ * Implementations must be threadsafe, if adjudications are performed
+ * concurrently.
+ */
+public interface AdjudicationMonitor {
+    /**
+     * Checking that each Power's orders belong to that Power
+     */
+    String STAGE_CHECK_ORDERS = "checkOrders";
+    /**
+     * Matching orders to units, and validating orders
+     */
+    String STAGE_VALIDATION = "validation";
+    /**
+     * Indexing orders, and calculating order dependencies
+     */
+    String STAGE_DEPENDENCIES = "dependencies";
+    /**
+     * Order verification (automatic failures)
+     */
+    String STAGE_VERIFICATION = "verification";
+    /**
+     * Order evaluation, including paradox breaking
+     */
+    String STAGE_EVALUATION = "evaluation";
+    /**
+     * Breaking circular-movement paradoxes
+     */
+    String STAGE_CIRCULAR_PARADOX = "breakCircularParadox";
+    /**
+     * Breaking paradoxes with the Szykman rule
+     */
+    String STAGE_SZYKMAN_PARADOX = "breakParadoxSzykman";
+    /**
+     * Determining if dislodged units may retreat
+     */
+    String STAGE_RETREATS = "retreats";
+    /**
+     * Determining adjustments, and evaluating victory conditions
+     */
+    String STAGE_ADJUSTMENTS = "adjustments";
+    /**
+     * Creating the next TurnState
+     */
+    String STAGE_NEXT_TURN = "nextTurn";
+
+
+    /**
+     * A monitor that does nothing. StdAdjudicator does not measure
+     * anything when this monitor is used.
+     */
+    AdjudicationMonitor NONE = new AdjudicationMonitor() {
+        public void stageCompleted(TurnState ts, String stage, long nanos, long allocatedBytes, int orderCount) {
+        }
+
+        public void iterationCompleted(TurnState ts, int iteration, long nanos, int evaluated, int resolved) {
+        }
+
+        public void adjudicationCompleted(TurnState ts, long nanos, long allocatedBytes,
+                                          int orderCount, int iterations, int paradoxBreaks, boolean isUnresolvedParadox) {
+        }
+    };
+
+
+    /**
+     * Called when a stage of adjudication completes. The order count
+     * is the number of orders processed by the stage.
+     */
+    void stageCompleted(TurnState ts, String stage, long nanos, long allocatedBytes, int orderCount);
+
+
+    /**
+     * Called after each evaluation iteration. Iterations are numbered from 1,
+     * and are counted across paradox-breaking attempts. <code>evaluated</code>
+     * is the number of order evaluations during the iteration, and
+     * <code>resolved</code> the number of orders resolved when the
+     * iteration completes.
+     */
+    void iterationCompleted(TurnState ts, int iteration, long nanos, int evaluated, int resolved);
+
+
+    /**
+     * Called when adjudication of a TurnState completes.
+     */
+    void adjudicationCompleted(TurnState ts, long nanos, long allocatedBytes,
+                               int orderCount, int iterations, int paradoxBreaks, boolean isUnresolvedParadox);
+
+}// interface AdjudicationMonitor
@@ -0,0 +1,332 @@
+//
+//  @(#)AdjudicationStatistics.java	1.00	10/2026
+//
+//
+//  This program is free software; you can redistribute it and/or modify
+//  it under the terms of the GNU General Public License as published by
+//  the Free Software Foundation; either version 2 of the License, or
+//  (at your option) any later version.
+//
+//  This program is distributed in the hope that it will be useful,
+//  but WITHOUT ANY WARRANTY; without even the implied warranty of
+//  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//  GNU General Public License for more details.
+//
+//  You should have received a copy of the GNU General Public License
+//  along with this program; if not, write to the Free Software
+//  Foundation, Inc., 675 Mass Ave, Cambridge, MA 02139, USA.
+//  Or from http://www.gnu.org/
+//
+package info.jdip.process;
+
+import info.jdip.world.TurnState;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+
+/**
+ * An AdjudicationMonitor which accumulates timers and counters, in the
+ * manner of a metrics registry, so that they may be periodically
+ * published (e.g., to a monitoring system) by the caller.
+ * <p>
+ * Each stage has a timer (count, total and maximum time, and total
+ * allocation). Counters are kept for adjudications, orders, evaluation
+ * iterations, paradox-breaking attempts, and unresolved paradoxes.
+ * <p>
+ * Adjudications which are slow, or which require more than a given
+ * number of paradox-breaking attempts, are counted and logged as
+ * warnings, so that they may be alerted upon.
+ * <p>
+ * This class is threadsafe.
+ */
+public class AdjudicationStatistics implements AdjudicationMonitor {
+    private static final Logger logger = LoggerFactory.getLogger(AdjudicationStatistics.class);
+
+    private final Map<String, Timer> stageTimers = new ConcurrentHashMap<>();
+    private final Timer adjudicationTimer = new Timer();
+    private final Timer iterationTimer = new Timer();
+    private final LongAdder orders = new LongAdder();
+    private final LongAdder paradoxBreaks = new LongAdder();
+    private final LongAdder unresolvedParadoxes = new LongAdder();
+    private final LongAdder slowAdjudications = new LongAdder();
+    private final LongAdder paradoxHeavyAdjudications = new LongAdder();
+    private volatile long slowThresholdNanos;
+    private volatile int paradoxThreshold;
+
+
+    /**
+     * Creates an AdjudicationStatistics. Adjudications taking longer than
+     * 1 second, or requiring more than 2 paradox-breaking attempts, are
+     * reported.
+     */
+    public AdjudicationStatistics() {
+        this(1000L, 2);
+    }// AdjudicationStatistics()
+
+
+    /**
+     * Creates an AdjudicationStatistics with the given thresholds. Adjudications
+     * taking longer than <code>slowMillis</code>, or requiring more than
+     * <code>maxParadoxBreaks</code> paradox-breaking attempts, are reported.
+     */
+    public AdjudicationStatistics(long slowMillis, int maxParadoxBreaks) {
+        setSlowThreshold(slowMillis);
+        setParadoxThreshold(maxParadoxBreaks);
+    }// AdjudicationStatistics()
+
+
+    /**
+     * Sets the time, in milliseconds, after which an adjudication is
+     * considered slow.
+     */
+    public void setSlowThreshold(long slowMillis) {
+        if (slowMillis < 0) {
+            throw new IllegalArgumentException("slowMillis: " + slowMillis);
+        }
+
+        slowThresholdNanos = TimeUnit.MILLISECONDS.toNanos(slowMillis);
+    }// setSlowThreshold()
+
+
+    /**
+     * Sets the number of paradox-breaking attempts, above which an
+     * adjudication is considered paradox-heavy.
+     */
+    public void setParadoxThreshold(int maxParadoxBreaks) {
+        if (maxParadoxBreaks < 0) {
+            throw new IllegalArgumentException("maxParadoxBreaks: " + maxParadoxBreaks);
+        }
+
+        paradoxThreshold = maxParadoxBreaks;
+    }// setParadoxThreshold()
+
+
+    public void stageCompleted(TurnState ts, String stage, long nanos, long allocatedBytes, int orderCount) {
+        Timer timer = stageTimers.get(stage);
+        if (timer == null) {
+            timer = stageTimers.computeIfAbsent(stage, k -> new Timer());
+        }
+
+        timer.record(nanos, allocatedBytes);
+    }// stageCompleted()
+
+
+    public void iterationCompleted(TurnState ts, int iteration, long nanos, int evaluated, int resolved) {
+        iterationTimer.record(nanos, -1L);
+    }// iterationCompleted()
+
+
+    public void adjudicationCompleted(TurnState ts, long nanos, long allocatedBytes,
+                                      int orderCount, int iterations, int paradoxBreaks, boolean isUnresolvedParadox) {
+        adjudicationTimer.record(nanos, allocatedBytes);
+        orders.add(orderCount);
+        this.paradoxBreaks.add(paradoxBreaks);
+
+        if (isUnresolvedParadox) {
+            unresolvedParadoxes.increment();
+        }
+
+        if (nanos > slowThresholdNanos) {
+            slowAdjudications.increment();
+            logger.warn("Slow adjudication: {} ms for {} ({} orders, {} iterations, {} paradox breaks)",
+                    TimeUnit.NANOSECONDS.toMillis(nanos), ts.getPhase(), orderCount, iterations, paradoxBreaks);
+        }
+
+        if (paradoxBreaks > paradoxThreshold || isUnresolvedParadox) {
+            paradoxHeavyAdjudications.increment();
+            logger.warn("Paradox-heavy adjudication: {} paradox breaks for {} (unresolved: {})",
+                    paradoxBreaks, ts.getPhase(), isUnresolvedParadox);
+        }
+    }// adjudicationCompleted()
+
+
+    /**
+     * Returns the names of all stages which have been recorded, sorted.
+     */
+    public List<String> getStageNames() {
+        final List<String> names = new ArrayList<>(stageTimers.keySet());
+        Collections.sort(names);
+        return names;
+    }// getStageNames()
+
+
+    /**
+     * Returns the Timer for the given stage, or null if the
+     * stage has not been recorded.
+     */
+    public Timer getStageTimer(String stage) {
+        return stageTimers.get(stage);
+    }// getStageTimer()
+
+
+    /**
+     * Returns the Timer for complete adjudications.
+     */
+    public Timer getAdjudicationTimer() {
+        return adjudicationTimer;
+    }// getAdjudicationTimer()
+
+
+    /**
+     * Returns the Timer for evaluation iterations. Allocation is
+     * not recorded for iterations.
+     */
+    public Timer getIterationTimer() {
+        return iterationTimer;
+    }// getIterationTimer()
+
+
+    /**
+     * Total number of orders adjudicated.
+     */
+    public long getOrderCount() {
+        return orders.sum();
+    }// getOrderCount()
+
+
+    /**
+     * Total number of paradox-breaking attempts.
+     */
+    public long getParadoxBreakCount() {
+        return paradoxBreaks.sum();
+    }// getParadoxBreakCount()
+
+
+    /**
+     * Number of adjudications which ended with an unresolved paradox.
+     */
+    public long getUnresolvedParadoxCount() {
+        return unresolvedParadoxes.sum();
+    }// getUnresolvedParadoxCount()
+
+
+    /**
+     * Number of adjudications which exceeded the slow threshold.
+     */
+    public long getSlowCount() {
+        return slowAdjudications.sum();
+    }// getSlowCount()
+
+
+    /**
+     * Number of adjudications which exceeded the paradox threshold, or
+     * which ended with an unresolved paradox.
+     */
+    public long getParadoxHeavyCount() {
+        return paradoxHeavyAdjudications.sum();
+    }// getParadoxHeavyCount()
+
+
+    /**
+     * Resets all timers and counters. Thresholds are unchanged.
+     */
+    public void reset() {
+        stageTimers.clear();
+        adjudicationTimer.reset();
+        iterationTimer.reset();
+        orders.reset();
+        paradoxBreaks.reset();
+        unresolvedParadoxes.reset();
+        slowAdjudications.reset();
+        paradoxHeavyAdjudications.reset();
+    }// reset()
+
+
+    /**
+     * A multi-line summary of all timers and counters.
+     */
+    public String toString() {
+        final StringBuilder sb = new StringBuilder(512);
+        sb.append("adjudications: ").append(adjudicationTimer).append('\n');
+        sb.append("iterations: ").append(iterationTimer).append('\n');
+        for (String name : getStageNames()) {
+            sb.append("stage ").append(name).append(": ").append(stageTimers.get(name)).append('\n');
+        }
+
+        sb.append("orders: ").append(getOrderCount());
+        sb.append("; paradox breaks: ").append(getParadoxBreakCount());
+        sb.append("; unresolved paradoxes: ").append(getUnresolvedParadoxCount());
+        sb.append("; slow: ").append(getSlowCount());
+        sb.append("; paradox-heavy: ").append(getParadoxHeavyCount());
+        return sb.toString();
+    }// toString()
+
+
+    /**
+     * Accumulated count, time, and allocation for a recorded event.
+     */
+    public static final class Timer {
+        private final LongAdder count = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0L);
+        private final LongAdder allocatedBytes = new LongAdder();
+
+        private Timer() {
+        }// Timer()
+
+        private void record(long nanos, long allocated) {
+            count.increment();
+            totalNanos.add(nanos);
+            maxNanos.accumulate(nanos);
+            if (allocated > 0) {
+                allocatedBytes.add(allocated);
+            }
+        }// record()
+
+        private void reset() {
+            count.reset();
+            totalNanos.reset();
+            maxNanos.reset();
+            allocatedBytes.reset();
+        }// reset()
+
+        /**
+         * Number of recorded events
+         */
+        public long getCount() {
+            return count.sum();
+        }// getCount()
+
+        /**
+         * Total time of all events, in nanoseconds
+         */
+        public long getTotalNanos() {
+            return totalNanos.sum();
+        }// getTotalNanos()
+
+        /**
+         * Longest time of any event, in nanoseconds
+         */
+        public long getMaxNanos() {
+            return maxNanos.get();
+        }// getMaxNanos()
+
+        /**
+         * Total bytes allocated by all events (where known)
+         */
+        public long getAllocatedBytes() {
+            return allocatedBytes.sum();
+        }// getAllocatedBytes()
+
+        public String toString() {
+            final long n = getCount();
+            final long total = getTotalNanos();
+            return String.format("count=%d total=%.3fms mean=%.3fms max=%.3fms allocated=%dKB",
+                    n,
+                    total / 1e6,
+                    (n == 0) ? 0.0 : total / 1e6 / n,
+                    getMaxNanos() / 1e6,
+                    getAllocatedBytes() / 1024);
+        }// toString()
+    }// nested class Timer
+
+}// class AdjudicationStatistics
@@ -97,6 +97,14 @@ public interface Adjudicator {
      */
     OrderState[] getOrderStates();
 
+    /**
+     * Get the OrderStateIndex for all OrderStates. This is only
+     * available once all orders have been validated; it should be
+     * used, instead of scanning getOrderStates(), when determining
+     * dependencies.
+     */
+    OrderStateIndex getOrderStateIndex();
+
     /**
      * Returns 'true' if The Orderstate in question is a support order
      * that is supporting a move against itself.
@@ -145,4 +153,11 @@ public interface Adjudicator {
      * Add a Result to the result list
      */
     void addResult(OrderState os, ResultType type, String message);
+
+    /**
+     * Add a Result to the result list, whose message is the resource
+     * with the given key and arguments. The message is formatted when
+     * first required.
+     */
+    void addLocalizedResult(OrderState os, ResultType type, String key, Object... args);
 }// interface Adjudicator
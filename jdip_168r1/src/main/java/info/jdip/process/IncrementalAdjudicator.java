@@ -0,0 +1,526 @@
+//
+//  @(#)IncrementalAdjudicator.java	1.00	10/2026
+//
+//
+//  This program is free software; you can redistribute it and/or modify
+//  it under the terms of the GNU General Public License as published by
+//  the Free Software Foundation; either version 2 of the License, or
+//  (at your option) any later version.
+//
+//  This program is distributed in the hope that it will be useful,
+//  but WITHOUT ANY WARRANTY; without even the implied warranty of
+//  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//  GNU General Public License for more details.
+//
+//  You should have received a copy of the GNU General Public License
+//  along with this program; if not, write to the Free Software
+//  Foundation, Inc., 675 Mass Ave, Cambridge, MA 02139, USA.
+//  Or from http://www.gnu.org/
+//
+package info.jdip.process;
+
+import info.jdip.order.Convoy;
+import info.jdip.order.Move;
+import info.jdip.order.OrderFactory;
+import info.jdip.order.Orderable;
+import info.jdip.order.Support;
+import info.jdip.order.result.Result;
+import info.jdip.world.Phase;
+import info.jdip.world.Position;
+import info.jdip.world.Power;
+import info.jdip.world.Province;
+import info.jdip.world.TurnState;
+import info.jdip.world.World;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+
+/**
+ * Re-adjudicates a TurnState as orders change; e.g., to preview the
+ * results of orders while they are being entered.
+ * <p>
+ * During a Movement phase, orders are divided into components. Provinces
+ * are connected if an order refers to both (e.g., the source and
+ * destination of a Move, or the source, supported source and supported
+ * destination of a Support), and an order belongs to the component of its
+ * source Province. The resolution of an order depends only upon orders in
+ * the same component. When a Power's orders are changed, only components
+ * containing a Province referred to by the old or new orders are
+ * adjudicated again; the resolved OrderStates (and Results) of all other
+ * components are kept from the previous adjudication.
+ * <p>
+ * The OrderStates, Results and next TurnState are the same as those of a
+ * full adjudication of the same orders by StdAdjudicator, although Results
+ * for different components may be in a different order. Every component
+ * is adjudicated again if no Move orders were valid before or after a
+ * change (as orders are not evaluated at all if there are no Moves).
+ * Retreat and Adjustment phases are always fully adjudicated.
+ * <p>
+ * The TurnState from which an IncrementalAdjudicator is created, and its
+ * World, are not modified: each call to <code>process()</code> adjudicates
+ * a new TurnState for the same Phase and Position. The Position must not
+ * be changed while the IncrementalAdjudicator is in use. This class is
+ * not threadsafe.
+ */
+public class IncrementalAdjudicator {
+    private static final Logger logger = LoggerFactory.getLogger(IncrementalAdjudicator.class);
+
+    private final OrderFactory orderFactory;
+    private final World world;
+    private final Position position;
+    private final TurnState baseTS;
+    private final TurnState ordersTS;
+    private final Map<Province, OrderState> osMap;
+    private final Province[] provinces;
+    private final boolean[] isChanged;
+    private Component[] componentMap;
+    private List<Component> components = new ArrayList<>();
+    private boolean isFullRequired = true;
+    private boolean isEvaluated = false;
+    private boolean isResultText = true;
+    private boolean isInformationalResults = true;
+    private StdAdjudicator adjudicator = null;
+    private int resolvedCount = 0;
+
+
+    /**
+     * Create an IncrementalAdjudicator for the given TurnState, which must
+     * be held by a World. Its orders are copied; afterwards, orders are
+     * changed with <code>setOrders()</code>.
+     */
+    public IncrementalAdjudicator(OrderFactory orderFactory, TurnState ts) {
+        if (orderFactory == null || ts == null) {
+            throw new IllegalArgumentException("null arguments");
+        }
+
+        if (ts.getWorld() == null) {
+            throw new IllegalArgumentException("TurnState not in a World");
+        }
+
+        this.orderFactory = orderFactory;
+        this.world = ts.getWorld();
+        this.position = ts.getPosition();
+        this.baseTS = ts;
+        this.ordersTS = createTurnState();
+        this.osMap = new HashMap<>(119);
+        this.provinces = world.getMap().getProvinces();
+        this.isChanged = new boolean[provinces.length];
+        this.componentMap = new Component[provinces.length];
+
+        for (Power power : world.getMap().getPowers()) {
+            ordersTS.setOrders(power, new ArrayList<>(ts.getOrders(power)));
+        }
+    }// IncrementalAdjudicator()
+
+
+    /**
+     * Enable (the default) or disable the message text of Results.
+     * See StdAdjudicator.setResultText().
+     */
+    public void setResultText(boolean value) {
+        if (value != isResultText) {
+            isResultText = value;
+            isFullRequired = true;
+        }
+    }// setResultText()
+
+
+    /**
+     * Enable (the default) or disable informational Results.
+     * See StdAdjudicator.setInformationalResults().
+     */
+    public void setInformationalResults(boolean value) {
+        if (value != isInformationalResults) {
+            isInformationalResults = value;
+            isFullRequired = true;
+        }
+    }// setInformationalResults()
+
+
+    /**
+     * Get the orders of the given Power. The returned List must not be modified.
+     */
+    public List<Orderable> getOrders(Power power) {
+        return ordersTS.getOrders(power);
+    }// getOrders()
+
+
+    /**
+     * Replace the orders of the given Power. The List is copied. The
+     * orders are adjudicated when <code>process()</code> is next called.
+     */
+    public void setOrders(Power power, List<? extends Orderable> orders) {
+        if (power == null || orders == null) {
+            throw new IllegalArgumentException("null arguments");
+        }
+
+        markChanged(ordersTS.getOrders(power));
+        markChanged(orders);
+        ordersTS.setOrders(power, new ArrayList<>(orders));
+    }// setOrders()
+
+
+    /**
+     * Adjudicate the current orders. Only components affected by
+     * orders changed since the previous call are adjudicated again.
+     */
+    public void process() {
+        if (baseTS.getPhase().getPhaseType() != Phase.PhaseType.MOVEMENT) {
+            final TurnState ts = createTurnState();
+            for (Power power : world.getMap().getPowers()) {
+                ts.setOrders(power, new ArrayList<>(ordersTS.getOrders(power)));
+            }
+
+            adjudicator = createAdjudicator(ts, new HashMap<>(119), ts.getResultList(), false);
+            adjudicator.process();
+            resolvedCount = (adjudicator.getOrderStates() == null) ? 0 : adjudicator.getOrderStates().length;
+            return;
+        }
+
+        if (!resolveComponents(isFullRequired)) {
+            logger.debug("Move order validity changed; adjudicating all components");
+            resolveComponents(true);
+        }
+
+        completeMoves();
+
+        isFullRequired = false;
+        for (int i = 0; i < isChanged.length; i++) {
+            isChanged[i] = false;
+        }
+    }// process()
+
+
+    /**
+     * Get the TurnState adjudicated by the last call to <code>process()</code>,
+     * or null if <code>process()</code> has not been called. This holds the
+     * Results of adjudication.
+     */
+    public TurnState getTurnState() {
+        return (adjudicator == null) ? null : adjudicator.getTurnState();
+    }// getTurnState()
+
+
+    /**
+     * Get the TurnState following the adjudicated TurnState. This may be null;
+     * see StdAdjudicator.getNextTurnState().
+     */
+    public TurnState getNextTurnState() {
+        return (adjudicator == null) ? null : adjudicator.getNextTurnState();
+    }// getNextTurnState()
+
+
+    /**
+     * Get all OrderStates resolved by the last call to <code>process()</code>.
+     * These must not be modified.
+     */
+    public OrderState[] getOrderStates() {
+        return (adjudicator == null) ? null : adjudicator.getOrderStates();
+    }// getOrderStates()
+
+
+    /**
+     * Returns <code>true</code> if an unresolved paradox was detected.
+     */
+    public boolean isUnresolvedParadox() {
+        return (adjudicator != null && adjudicator.isUnresolvedParadox());
+    }// isUnresolvedParadox()
+
+
+    /**
+     * The number of OrderStates that were resolved (rather than kept from
+     * the previous adjudication) by the last call to <code>process()</code>.
+     */
+    public int getResolvedCount() {
+        return resolvedCount;
+    }// getResolvedCount()
+
+
+    /**
+     * Divides orders into components, and resolves components which
+     * contain a changed Province (or all components, if <code>isFull</code>).
+     * Returns false if orders must be evaluated in (unchanged) components
+     * in which they were not evaluated, or vice versa; all components must
+     * then be resolved.
+     */
+    private boolean resolveComponents(boolean isFull) {
+        final List<Component> newComponents = createComponents();
+        final Component[] newComponentMap = new Component[provinces.length];
+        final List<Component> changedComponents = new ArrayList<>();
+
+        for (int i = 0; i < newComponents.size(); i++) {
+            Component component = newComponents.get(i);
+            final Component old = isFull ? null : componentMap[component.provinces.get(0).getIndex()];
+            if (old == null || component.isChanged(isChanged)) {
+                changedComponents.add(component);
+            } else {
+                // no order referring to this component has changed, so
+                // the previous component is identical
+                assert (old.provinces.size() == component.provinces.size());
+                component = old;
+                newComponents.set(i, old);
+            }
+
+            for (Province province : component.provinces) {
+                newComponentMap[province.getIndex()] = component;
+            }
+        }
+
+        // remove the OrderStates of changed components, before any are recreated
+        for (Component component : changedComponents) {
+            for (Province province : component.provinces) {
+                osMap.remove(province);
+            }
+        }
+
+        // OrderStates of all changed components must exist before any are verified
+        for (Component component : changedComponents) {
+            component.results = new ArrayList<>();
+            component.adjudicator = createAdjudicator(ordersTS, osMap, component.results, true);
+            component.adjudicator.createMoveOrderStates(component.orders,
+                    component.units.toArray(new Province[component.units.size()]));
+        }
+
+        for (Component component : changedComponents) {
+            component.moveCount = component.adjudicator.verifyMoveOrders();
+        }
+
+        boolean isAnyMove = false;
+        for (Component component : newComponents) {
+            isAnyMove |= (component.moveCount > 0);
+        }
+
+        components = newComponents;
+        componentMap = newComponentMap;
+
+        if (!isFull && isAnyMove != isEvaluated) {
+            return false;
+        }
+
+        isEvaluated = isAnyMove;
+        resolvedCount = 0;
+        for (Component component : changedComponents) {
+            component.isDislodged = component.adjudicator.resolveMoves(isEvaluated);
+            resolvedCount += component.adjudicator.getOrderStates().length;
+        }
+
+        logger.debug("Components: {}, adjudicated: {}, OrderStates resolved: {}",
+                newComponents.size(), changedComponents.size(), resolvedCount);
+        return true;
+    }// resolveComponents()
+
+
+    /**
+     * Combines the resolved components, and creates the next TurnState.
+     */
+    private void completeMoves() {
+        final TurnState ts = createTurnState();
+        final List<Result> results = ts.getResultList();
+
+        int nOrderStates = 0;
+        for (Component component : components) {
+            nOrderStates += component.adjudicator.getOrderStates().length;
+        }
+
+        final OrderState[] orderStates = new OrderState[nOrderStates];
+        boolean isDislodged = false;
+        int szykmanCount = 0;
+        int unresolvedAttempt = 0;
+        nOrderStates = 0;
+
+        for (Component component : components) {
+            final StdAdjudicator adj = component.adjudicator;
+            final OrderState[] componentStates = adj.getOrderStates();
+            System.arraycopy(componentStates, 0, orderStates, nOrderStates, componentStates.length);
+            nOrderStates += componentStates.length;
+
+            results.addAll(component.results);
+            isDislodged |= component.isDislodged;
+            szykmanCount = Math.max(szykmanCount, adj.getSzykmanCount());
+            if (adj.isUnresolvedParadox()) {
+                unresolvedAttempt = Math.max(unresolvedAttempt, adj.getParadoxBreakCount());
+            }
+        }
+
+        adjudicator = createAdjudicator(ts, osMap, results, false);
+        adjudicator.addParadoxResults(szykmanCount, unresolvedAttempt);
+        adjudicator.completeMoves(orderStates, isDislodged);
+    }// completeMoves()
+
+
+    /**
+     * Divides the current orders (and units) into components.
+     */
+    private List<Component> createComponents() {
+        final int[] parent = new int[provinces.length];
+        for (int i = 0; i < parent.length; i++) {
+            parent[i] = -1;
+        }
+
+        final List<Orderable> orders = ordersTS.getAllOrders();
+        final List<Province> referred = new ArrayList<>(6);
+        for (Orderable order : orders) {
+            referred.clear();
+            addProvinces(order, referred);
+
+            final int root = find(parent, referred.get(0).getIndex());
+            for (int i = 1; i < referred.size(); i++) {
+                final int other = find(parent, referred.get(i).getIndex());
+                if (other != root) {
+                    parent[other] = root;
+                }
+            }
+        }
+
+        final Province[] unitProvinces = position.getUnitProvinces();
+        for (Province province : unitProvinces) {
+            find(parent, province.getIndex());
+        }
+
+        // create components, in Province order
+        final List<Component> list = new ArrayList<>();
+        final Component[] byRoot = new Component[provinces.length];
+        for (int i = 0; i < parent.length; i++) {
+            if (parent[i] != -1) {
+                final int root = find(parent, i);
+                if (byRoot[root] == null) {
+                    byRoot[root] = new Component();
+                    list.add(byRoot[root]);
+                }
+
+                byRoot[root].provinces.add(provinces[i]);
+            }
+        }
+
+        for (Orderable order : orders) {
+            byRoot[find(parent, order.getSource().getProvince().getIndex())].orders.add(order);
+        }
+
+        for (Province province : unitProvinces) {
+            byRoot[find(parent, province.getIndex())].units.add(province);
+        }
+
+        return list;
+    }// createComponents()
+
+
+    /**
+     * Finds the root of the given Province index, adding the
+     * Province if it has not yet been added.
+     */
+    private static int find(int[] parent, int index) {
+        if (parent[index] == -1) {
+            parent[index] = index;
+            return index;
+        }
+
+        int root = index;
+        while (parent[root] != root) {
+            root = parent[root];
+        }
+
+        // path compression
+        while (parent[index] != root) {
+            final int next = parent[index];
+            parent[index] = root;
+            index = next;
+        }
+
+        return root;
+    }// find()
+
+
+    /**
+     * Adds the Provinces referred to by an order. The source
+     * Province is always first.
+     */
+    private static void addProvinces(Orderable order, List<Province> list) {
+        list.add(order.getSource().getProvince());
+
+        if (order instanceof Move) {
+            list.add(((Move) order).getDest().getProvince());
+        } else if (order instanceof Support) {
+            final Support support = (Support) order;
+            list.add(support.getSupportedSrc().getProvince());
+            list.add(support.getSupportedDest().getProvince());
+        } else if (order instanceof Convoy) {
+            final Convoy convoy = (Convoy) order;
+            list.add(convoy.getConvoySrc().getProvince());
+            list.add(convoy.getConvoyDest().getProvince());
+        }
+    }// addProvinces()
+
+
+    /**
+     * Marks the Provinces referred to by the given orders as changed.
+     */
+    private void markChanged(List<? extends Orderable> orders) {
+        final List<Province> referred = new ArrayList<>(6);
+        for (Orderable order : orders) {
+            addProvinces(order, referred);
+        }
+
+        for (Province province : referred) {
+            isChanged[province.getIndex()] = true;
+        }
+    }// markChanged()
+
+
+    /**
+     * Creates an (unresolved) TurnState for the Phase and Position
+     * being adjudicated. This is not added to the World.
+     */
+    private TurnState createTurnState() {
+        final TurnState ts = new TurnState(baseTS.getPhase());
+        ts.setWorld(world);
+        ts.setPosition(position);
+        ts.setSCOwnerChanged(baseTS.getSCOwnerChanged());
+        return ts;
+    }// createTurnState()
+
+
+    /**
+     * Creates a StdAdjudicator, with our Result options.
+     */
+    private StdAdjudicator createAdjudicator(TurnState ts, Map<Province, OrderState> map,
+                                             List<Result> results, boolean isPartial) {
+        final StdAdjudicator adj = new StdAdjudicator(orderFactory, ts, map, results, isPartial);
+        adj.setResultText(isResultText);
+        adj.setInformationalResults(isInformationalResults);
+        return adj;
+    }// createAdjudicator()
+
+
+    /**
+     * A connected set of Provinces, with the orders and units in them,
+     * and the results of their last adjudication.
+     */
+    private static final class Component {
+        private final List<Province> provinces = new ArrayList<>(4);
+        private final List<Orderable> orders = new ArrayList<>(4);
+        private final List<Province> units = new ArrayList<>(4);
+        private StdAdjudicator adjudicator = null;
+        private List<Result> results = null;
+        private int moveCount = 0;
+        private boolean isDislodged = false;
+
+        /**
+         * True if any of our Provinces have changed.
+         */
+        private boolean isChanged(boolean[] isChanged) {
+            for (Province province : provinces) {
+                if (isChanged[province.getIndex()]) {
+                    return true;
+                }
+            }
+
+            return false;
+        }// isChanged()
+    }// nested class Component
+
+}// class IncrementalAdjudicator
@@ -0,0 +1,759 @@
+//
+//  @(#)OrderSearch.java	1.00	10/2026
+//
+//
+//  This program is free software; you can redistribute it and/or modify
+//  it under the terms of the GNU General Public License as published by
+//  the Free Software Foundation; either version 2 of the License, or
+//  (at your option) any later version.
+//
+//  This program is distributed in the hope that it will be useful,
+//  but WITHOUT ANY WARRANTY; without even the implied warranty of
+//  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//  GNU General Public License for more details.
+//
+//  You should have received a copy of the GNU General Public License
+//  along with this program; if not, write to the Free Software
+//  Foundation, Inc., 675 Mass Ave, Cambridge, MA 02139, USA.
+//  Or from http://www.gnu.org/
+//
+package info.jdip.process;
+
+import info.jdip.order.Convoy;
+import info.jdip.order.Disband;
+import info.jdip.order.Hold;
+import info.jdip.order.Move;
+import info.jdip.order.Order;
+import info.jdip.order.OrderException;
+import info.jdip.order.OrderFactory;
+import info.jdip.order.OrderWarning;
+import info.jdip.order.Orderable;
+import info.jdip.order.Retreat;
+import info.jdip.order.Support;
+import info.jdip.order.ValidationOptions;
+import info.jdip.world.Coast;
+import info.jdip.world.Location;
+import info.jdip.world.Path;
+import info.jdip.world.Phase;
+import info.jdip.world.Position;
+import info.jdip.world.Power;
+import info.jdip.world.Province;
+import info.jdip.world.RuleOptions;
+import info.jdip.world.TurnState;
+import info.jdip.world.Unit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.LongAdder;
+
+
+/**
+ * Searches the order combinations of a single Power for the best
+ * combination, as scored by a SearchHeuristic.
+ * <p>
+ * For each unit of the Power, every legal order is generated (Hold, Moves,
+ * Moves by convoy, Supports and Convoys during Movement phases; Retreats
+ * and Disbands during Retreat phases); legality is determined by order
+ * validation. Units of other Powers are given the orders set by
+ * <code>setOtherOrders()</code>, or hold (or disband) by default.
+ * <p>
+ * Combinations are evaluated with a Simulation, on a ForkJoinPool.
+ * Combinations which cannot be useful are pruned before evaluation:
+ * <ul>
+ * <li>Supports and Convoys of the Power's units that do not match
+ * the order of the supported or convoyed unit</li>
+ * <li>Moves of two of the Power's units to the same Province</li>
+ * <li>Moves of the Power's units into a Province held by another of
+ * its units, which does not move</li>
+ * <li>Exchanges of Provinces between the Power's units without convoy</li>
+ * </ul>
+ * If a time budget is set, the search stops when it is exceeded, and
+ * the best combination found so far is returned.
+ * <p>
+ * Each call to <code>search()</code> has its own state, and uses the settings
+ * in effect when it was called; thus, an OrderSearch may be searched by more
+ * than one thread at a time. Adjustment phases are not supported.
+ */
+public final class OrderSearch {
+    private static final Logger logger = LoggerFactory.getLogger(OrderSearch.class);
+
+    // minimum number of tasks per thread, when splitting the search
+    private static final int TASKS_PER_THREAD = 16;
+
+    private final TurnState turnState;
+    private final Power power;
+    private final OrderFactory orderFactory;
+    private final Simulation simulation;
+    private volatile SearchHeuristic heuristic = new StdSearchHeuristic();
+    private volatile List<Orderable> otherOrders = Collections.emptyList();
+    private volatile ForkJoinPool pool = ForkJoinPool.commonPool();
+    private volatile long timeBudget = 0;
+
+    // statistics of the last completed search
+    private volatile long evaluatedCount = 0;
+    private volatile boolean isTimedOut = false;
+
+
+    /**
+     * Create an OrderSearch for the given Power, using the default OrderFactory.
+     */
+    public OrderSearch(TurnState ts, Power power) {
+        this(ts, power, OrderFactory.getDefault());
+    }// OrderSearch()
+
+
+    /**
+     * Create an OrderSearch for the given Power. The TurnState must be
+     * held by a World.
+     */
+    public OrderSearch(TurnState ts, Power power, OrderFactory orderFactory) {
+        if (ts == null || power == null || orderFactory == null) {
+            throw new IllegalArgumentException("null arguments");
+        }
+
+        final Phase.PhaseType pt = ts.getPhase().getPhaseType();
+        if (pt != Phase.PhaseType.MOVEMENT && pt != Phase.PhaseType.RETREAT) {
+            throw new IllegalArgumentException("cannot search phase: " + pt);
+        }
+
+        this.turnState = ts;
+        this.power = power;
+        this.orderFactory = orderFactory;
+        this.simulation = Simulation.fork(ts, orderFactory);
+    }// OrderSearch()
+
+
+    /**
+     * Set the SearchHeuristic used to score combinations.
+     * By default, a StdSearchHeuristic is used.
+     */
+    public void setHeuristic(SearchHeuristic value) {
+        if (value == null) {
+            throw new IllegalArgumentException();
+        }
+
+        heuristic = value;
+    }// setHeuristic()
+
+
+    /**
+     * Set the (assumed) orders of other Powers. Orders of
+     * the searched Power are ignored.
+     */
+    public void setOtherOrders(List<? extends Orderable> orders) {
+        if (orders == null) {
+            throw new IllegalArgumentException();
+        }
+
+        final List<Orderable> list = new ArrayList<>(orders.size());
+        for (Orderable order : orders) {
+            if (order.getPower() != power) {
+                list.add(order);
+            }
+        }
+
+        otherOrders = list;
+    }// setOtherOrders()
+
+
+    /**
+     * Set the ForkJoinPool used for the search.
+     * By default, the common pool is used.
+     */
+    public void setPool(ForkJoinPool value) {
+        if (value == null) {
+            throw new IllegalArgumentException();
+        }
+
+        pool = value;
+    }// setPool()
+
+
+    /**
+     * Set the time budget, in milliseconds; 0 (the default) is unlimited.
+     */
+    public void setTimeBudget(long millis) {
+        if (millis < 0) {
+            throw new IllegalArgumentException();
+        }
+
+        timeBudget = millis;
+    }// setTimeBudget()
+
+
+    /**
+     * Number of combinations evaluated by the last completed search.
+     */
+    public long getEvaluatedCount() {
+        return evaluatedCount;
+    }// getEvaluatedCount()
+
+
+    /**
+     * True if the last completed search was stopped because the time budget was exceeded.
+     */
+    public boolean isTimedOut() {
+        return isTimedOut;
+    }// isTimedOut()
+
+
+    /**
+     * Get the legal orders for each unit of the Power. Units are
+     * in Province order; the first order of each unit is its
+     * default order (Hold or Disband).
+     */
+    public List<List<Order>> getCandidateOrders() {
+        final List<List<Order>> result = createCandidates(otherOrders);
+        for (int i = 0; i < result.size(); i++) {
+            result.set(i, Collections.unmodifiableList(result.get(i)));
+        }
+
+        return Collections.unmodifiableList(result);
+    }// getCandidateOrders()
+
+
+    /**
+     * Search for the best combination of orders. This returns
+     * <code>null</code> only if the time budget was exceeded
+     * before any combination was evaluated.
+     */
+    public Candidate search() {
+        final long start = System.nanoTime();
+        final ForkJoinPool searchPool = pool;
+        final SearchContext context = new SearchContext(start, searchPool.getParallelism());
+        final int nUnits = context.candidates.size();
+
+        final Candidate best = searchPool.invoke(new SearchTask(context, 0, new Order[nUnits], new int[nUnits]));
+
+        evaluatedCount = context.evaluatedCount.sum();
+        isTimedOut = context.isTimedOut;
+        logger.debug("Search for {}: {} combinations evaluated in {} ms; timed out: {}",
+                power, evaluatedCount, (System.nanoTime() - start) / 1000000L, context.isTimedOut);
+
+        return best;
+    }// search()
+
+
+    /**
+     * Create the candidate orders for each unit, given the assumed orders of other Powers.
+     */
+    private List<List<Order>> createCandidates(List<Orderable> assumedOrders) {
+        final Position position = turnState.getPosition();
+        final boolean isRetreat = (turnState.getPhase().getPhaseType() == Phase.PhaseType.RETREAT);
+        final Province[] provinces = isRetreat ? position.getDislodgedUnitProvinces() : position.getUnitProvinces();
+
+        final ValidationOptions valOpts = new ValidationOptions();
+        valOpts.setOption(ValidationOptions.KEY_GLOBAL_PARSING, ValidationOptions.VALUE_GLOBAL_PARSING_STRICT);
+        final RuleOptions ruleOpts = turnState.getWorld().getRuleOptions();
+
+        final List<List<Order>> result = new ArrayList<>();
+        if (isRetreat) {
+            for (Province province : provinces) {
+                final Unit unit = position.getDislodgedUnit(province);
+                if (unit.getPower() == power) {
+                    result.add(createRetreatCandidates(province, unit, valOpts, ruleOpts));
+                }
+            }
+        } else {
+            // assumed orders of other powers, by source province
+            final Map<Province, Orderable> others = new HashMap<>(53);
+            for (Orderable order : assumedOrders) {
+                others.put(order.getSource().getProvince(), order);
+            }
+
+            // move destinations of our units
+            final Path path = new Path(position);
+            final Map<Province, List<Location>> moveDests = new HashMap<>(53);
+            for (Province province : provinces) {
+                final Unit unit = position.getUnit(province);
+                if (unit.getPower() == power) {
+                    moveDests.put(province, getMoveDestinations(path, position, province, unit, valOpts, ruleOpts));
+                }
+            }
+
+            for (Province province : provinces) {
+                final Unit unit = position.getUnit(province);
+                if (unit.getPower() == power) {
+                    result.add(createMoveCandidates(position, province, unit, others, moveDests, valOpts, ruleOpts));
+                }
+            }
+        }
+
+        return result;
+    }// createCandidates()
+
+
+    /**
+     * Get the validated destinations of Moves (including convoyed Moves) for a unit.
+     */
+    private List<Location> getMoveDestinations(Path path, Position position, Province province, Unit unit,
+                                               ValidationOptions valOpts, RuleOptions ruleOpts) {
+        final List<Location> dests = new ArrayList<>();
+        final Location src = new Location(province, unit.getCoast());
+
+        for (Location dest : province.getAdjacentLocations(unit.getCoast())) {
+            final Move move = orderFactory.createMove(power, src, unit.getType(), dest);
+            if (isValid(move, valOpts, ruleOpts)) {
+                dests.add(move.getDest());
+            }
+        }
+
+        // convoyed moves, to provinces which are not adjacent
+        if (unit.getType() == Unit.Type.ARMY && province.isCoastal()) {
+            for (Province destProvince : position.getProvinces()) {
+                if (destProvince != null && destProvince != province
+                        && destProvince.isCoastal() && !province.isTouching(destProvince)) {
+                    final Location dest = new Location(destProvince, Coast.LAND);
+                    if (path.isPossibleConvoyRoute(src, dest)) {
+                        final Move move = orderFactory.createMove(power, src, unit.getType(), dest);
+                        if (isValid(move, valOpts, ruleOpts)) {
+                            dests.add(move.getDest());
+                        }
+                    }
+                }
+            }
+        }
+
+        return dests;
+    }// getMoveDestinations()
+
+
+    /**
+     * Create the candidate orders for a unit in a Movement phase.
+     */
+    private List<Order> createMoveCandidates(Position position, Province province, Unit unit,
+                                             Map<Province, Orderable> others, Map<Province, List<Location>> moveDests,
+                                             ValidationOptions valOpts, RuleOptions ruleOpts) {
+        final List<Order> list = new ArrayList<>();
+        final Location src = new Location(province, unit.getCoast());
+        final Unit.Type type = unit.getType();
+
+        // hold and moves
+        list.add(orderFactory.createHold(power, src, type));
+        for (Location dest : moveDests.get(province)) {
+            list.add(orderFactory.createMove(power, src, type, dest));
+        }
+
+        // supports of adjacent units, and of units moving to adjacent provinces
+        for (Province supProvince : position.getUnitProvinces()) {
+            if (supProvince == province) {
+                continue;
+            }
+
+            final Unit supUnit = position.getUnit(supProvince);
+            final Location supSrc = new Location(supProvince, supUnit.getCoast());
+
+            if (supUnit.getPower() == power) {
+                if (province.isTouching(supProvince)) {
+                    addIfValid(list, orderFactory.createSupport(power, src, type, supSrc, power, supUnit.getType()),
+                            valOpts, ruleOpts);
+                }
+
+                for (Location supDest : moveDests.get(supProvince)) {
+                    if (supDest.getProvince() != province && province.isTouching(supDest.getProvince())) {
+                        addIfValid(list, orderFactory.createSupport(power, src, type, supSrc, power,
+                                supUnit.getType(), supDest), valOpts, ruleOpts);
+                    }
+                }
+            } else {
+                final Orderable other = others.get(supProvince);
+                if (other instanceof Move) {
+                    final Location supDest = ((Move) other).getDest();
+                    if (supDest.getProvince() != province && province.isTouching(supDest.getProvince())) {
+                        addIfValid(list, orderFactory.createSupport(power, src, type, supSrc, supUnit.getPower(),
+                                supUnit.getType(), supDest), valOpts, ruleOpts);
+                    }
+                } else if (province.isTouching(supProvince)) {
+                    addIfValid(list, orderFactory.createSupport(power, src, type, supSrc, supUnit.getPower(),
+                            supUnit.getType()), valOpts, ruleOpts);
+                }
+            }
+        }
+
+        // convoys of our armies, from or to an adjacent province
+        if (type == Unit.Type.FLEET && province.isConvoyable()) {
+            for (Map.Entry<Province, List<Location>> entry : moveDests.entrySet()) {
+                final Province armyProvince = entry.getKey();
+                final Unit army = position.getUnit(armyProvince);
+                if (army.getType() != Unit.Type.ARMY) {
+                    continue;
+                }
+
+                final Location armySrc = new Location(armyProvince, army.getCoast());
+                for (Location dest : entry.getValue()) {
+                    if (!armyProvince.isTouching(dest.getProvince())
+                            && (province.isTouching(armyProvince) || province.isTouching(dest.getProvince()))) {
+                        addIfValid(list, orderFactory.createConvoy(power, src, type, armySrc, power,
+                                Unit.Type.ARMY, dest), valOpts, ruleOpts);
+                    }
+                }
+            }
+        }
+
+        return list;
+    }// createMoveCandidates()
+
+
+    /**
+     * Create the candidate orders for a dislodged unit in a Retreat phase.
+     */
+    private List<Order> createRetreatCandidates(Province province, Unit unit,
+                                                ValidationOptions valOpts, RuleOptions ruleOpts) {
+        final List<Order> list = new ArrayList<>();
+        final Location src = new Location(province, unit.getCoast());
+
+        list.add(orderFactory.createDisband(power, src, unit.getType()));
+        for (Location dest : province.getAdjacentLocations(unit.getCoast())) {
+            addIfValid(list, orderFactory.createRetreat(power, src, unit.getType(), dest), valOpts, ruleOpts);
+        }
+
+        return list;
+    }// createRetreatCandidates()
+
+
+    /**
+     * Add the order to the list, if it is valid.
+     */
+    private void addIfValid(List<Order> list, Order order, ValidationOptions valOpts, RuleOptions ruleOpts) {
+        if (isValid(order, valOpts, ruleOpts)) {
+            list.add(order);
+        }
+    }// addIfValid()
+
+
+    /**
+     * Validate an order; warnings are ignored.
+     */
+    private boolean isValid(Order order, ValidationOptions valOpts, RuleOptions ruleOpts) {
+        try {
+            order.validate(turnState, valOpts, ruleOpts);
+        } catch (OrderWarning ow) {
+            // warnings are acceptable
+        } catch (OrderException oe) {
+            return false;
+        }
+
+        return true;
+    }// isValid()
+
+
+    /**
+     * True if the order for a unit is consistent with the orders
+     * of units that precede it.
+     */
+    private static boolean isConsistent(Order[] orders, int depth, Order order) {
+        for (int i = 0; i < depth; i++) {
+            if (!isConsistent(order, orders[i]) || !isConsistent(orders[i], order)) {
+                return false;
+            }
+        }
+
+        return true;
+    }// isConsistent()
+
+
+    /**
+     * True if order 'a' is consistent with order 'b' (of the same Power).
+     */
+    private static boolean isConsistent(Order a, Order b) {
+        final Province bSrc = b.getSource().getProvince();
+
+        if (a instanceof Move) {
+            final Province aDest = ((Move) a).getDest().getProvince();
+            if (b instanceof Move) {
+                final Province bDest = ((Move) b).getDest().getProvince();
+                if (aDest == bDest) {
+                    return false;
+                }
+
+                // exchange, without convoy
+                return !(aDest == bSrc && bDest == a.getSource().getProvince()
+                        && !((Move) a).isConvoying() && !((Move) b).isConvoying());
+            }
+
+            // move into a province held by a unit that does not move away
+            return (aDest != bSrc);
+        } else if (a instanceof Support) {
+            final Support support = (Support) a;
+            if (support.getSupportedSrc().getProvince() != bSrc) {
+                return true;
+            }
+
+            if (support.isSupportingHold()) {
+                return !(b instanceof Move);
+            }
+
+            return (b instanceof Move
+                    && ((Move) b).getDest().getProvince() == support.getSupportedDest().getProvince());
+        } else if (a instanceof Convoy) {
+            final Convoy convoy = (Convoy) a;
+            if (convoy.getConvoySrc().getProvince() != bSrc) {
+                return true;
+            }
+
+            return (b instanceof Move
+                    && ((Move) b).getDest().getProvince() == convoy.getConvoyDest().getProvince());
+        }
+
+        return true;
+    }// isConsistent()
+
+
+    /**
+     * Copy an order, so that it may be adjudicated concurrently with the
+     * original. Orders that are never generated by the search, and that
+     * are not Moves, are not copied.
+     */
+    private Orderable copy(Orderable orderable) {
+        if (orderable instanceof Retreat) {
+            final Retreat retreat = (Retreat) orderable;
+            return orderFactory.createRetreat(retreat.getPower(), retreat.getSource(),
+                    retreat.getSourceUnitType(), retreat.getDest());
+        } else if (orderable instanceof Move) {
+            final Move move = (Move) orderable;
+            if (move.getConvoyRoutes() != null) {
+                return orderFactory.createMove(move.getPower(), move.getSource(), move.getSourceUnitType(),
+                        move.getDest(), move.getConvoyRoutes());
+            }
+
+            return orderFactory.createMove(move.getPower(), move.getSource(), move.getSourceUnitType(),
+                    move.getDest(), move.isViaConvoy());
+        } else if (orderable instanceof Support) {
+            final Support support = (Support) orderable;
+            return orderFactory.createSupport(support.getPower(), support.getSource(), support.getSourceUnitType(),
+                    support.getSupportedSrc(), support.getSupportedPower(), support.getSupportedUnitType(),
+                    support.getSupportedDest());
+        } else if (orderable instanceof Convoy) {
+            final Convoy convoy = (Convoy) orderable;
+            return orderFactory.createConvoy(convoy.getPower(), convoy.getSource(), convoy.getSourceUnitType(),
+                    convoy.getConvoySrc(), convoy.getConvoyedPower(), convoy.getConvoyUnitType(),
+                    convoy.getConvoyDest());
+        } else if (orderable instanceof Hold) {
+            return orderFactory.createHold(orderable.getPower(), orderable.getSource(), orderable.getSourceUnitType());
+        } else if (orderable instanceof Disband) {
+            return orderFactory.createDisband(orderable.getPower(), orderable.getSource(),
+                    orderable.getSourceUnitType());
+        }
+
+        return orderable;
+    }// copy()
+
+
+    /**
+     * Returns the better of two Candidates; either may be null. Ties are
+     * broken by candidate order, so that the search is deterministic
+     * (when not timed out).
+     */
+    private static Candidate better(Candidate a, Candidate b) {
+        if (a == null) {
+            return b;
+        } else if (b == null) {
+            return a;
+        } else if (a.score != b.score) {
+            return (a.score > b.score) ? a : b;
+        }
+
+        for (int i = 0; i < a.indices.length; i++) {
+            if (a.indices[i] != b.indices[i]) {
+                return (a.indices[i] < b.indices[i]) ? a : b;
+            }
+        }
+
+        return a;
+    }// better()
+
+
+    /**
+     * The state of a single search: the candidate orders, the settings
+     * in effect when the search began, and its statistics.
+     */
+    private final class SearchContext {
+        private final SearchHeuristic heuristic;
+        private final List<Orderable> otherOrders;
+        private final long timeBudget;
+        private final long deadline;
+        private final List<List<Order>> candidates;
+        private final int splitDepth;
+        private final LongAdder evaluatedCount = new LongAdder();
+        private volatile boolean isTimedOut = false;
+
+        private SearchContext(long start, int parallelism) {
+            heuristic = OrderSearch.this.heuristic;
+            otherOrders = OrderSearch.this.otherOrders;
+            timeBudget = OrderSearch.this.timeBudget;
+            deadline = start + timeBudget * 1000000L;
+            candidates = createCandidates(otherOrders);
+
+            // split the search into tasks, until there are enough
+            // tasks for all threads
+            int depth = 0;
+            long nTasks = 1;
+            while (depth < candidates.size() - 1 && nTasks < (long) parallelism * TASKS_PER_THREAD) {
+                nTasks *= candidates.get(depth).size();
+                depth++;
+            }
+
+            splitDepth = depth;
+        }// SearchContext()
+
+        /**
+         * Adjudicate and score a complete combination.
+         */
+        private double evaluate(Order[] orders, Simulation.Outcome[] outcome) {
+            final List<Orderable> list = new ArrayList<>(orders.length + otherOrders.size());
+            for (Order order : orders) {
+                list.add(copy(order));
+            }
+
+            for (Orderable order : otherOrders) {
+                list.add(copy(order));
+            }
+
+            outcome[0] = simulation.adjudicate(list);
+            evaluatedCount.increment();
+            return heuristic.evaluate(power, outcome[0]);
+        }// evaluate()
+
+        /**
+         * True if the time budget has been exceeded.
+         */
+        private boolean isExpired() {
+            if (isTimedOut) {
+                return true;
+            } else if (timeBudget != 0 && System.nanoTime() - deadline > 0) {
+                isTimedOut = true;
+                return true;
+            }
+
+            return false;
+        }// isExpired()
+    }// nested class SearchContext
+
+
+    /**
+     * Searches all combinations with the given orders for the first
+     * <code>depth</code> units. Tasks above the split depth fork a
+     * task for each order; below, the search is sequential.
+     */
+    private final class SearchTask extends RecursiveTask<Candidate> {
+        private static final long serialVersionUID = 1L;
+
+        private final SearchContext context;
+        private final int depth;
+        private final Order[] orders;
+        private final int[] indices;
+
+        private SearchTask(SearchContext context, int depth, Order[] orders, int[] indices) {
+            this.context = context;
+            this.depth = depth;
+            this.orders = orders;
+            this.indices = indices;
+        }// SearchTask()
+
+        protected Candidate compute() {
+            if (depth >= context.splitDepth) {
+                return searchSequential(depth, null);
+            }
+
+            final List<Order> list = context.candidates.get(depth);
+            final List<SearchTask> tasks = new ArrayList<>(list.size());
+            for (int i = 0; i < list.size(); i++) {
+                final Order order = list.get(i);
+                if (isConsistent(orders, depth, order)) {
+                    final Order[] childOrders = orders.clone();
+                    final int[] childIndices = indices.clone();
+                    childOrders[depth] = order;
+                    childIndices[depth] = i;
+                    tasks.add(new SearchTask(context, depth + 1, childOrders, childIndices));
+                }
+            }
+
+            Candidate best = null;
+            for (SearchTask task : invokeAll(tasks)) {
+                best = better(best, task.join());
+            }
+
+            return best;
+        }// compute()
+
+        /**
+         * Depth-first search from the given depth; orders and indices
+         * are modified in place.
+         */
+        private Candidate searchSequential(int d, Candidate best) {
+            if (context.isExpired()) {
+                return best;
+            }
+
+            if (d == orders.length) {
+                final Simulation.Outcome[] outcome = new Simulation.Outcome[1];
+                final double score = context.evaluate(orders, outcome);
+                if (best == null || score > best.score) {
+                    return new Candidate(orders.clone(), indices.clone(), score, outcome[0]);
+                }
+
+                return best;
+            }
+
+            final List<Order> list = context.candidates.get(d);
+            for (int i = 0; i < list.size(); i++) {
+                final Order order = list.get(i);
+                if (isConsistent(orders, d, order)) {
+                    orders[d] = order;
+                    indices[d] = i;
+                    best = searchSequential(d + 1, best);
+                }
+            }
+
+            return best;
+        }// searchSequential()
+    }// nested class SearchTask
+
+
+    /**
+     * A scored combination of orders.
+     */
+    public static final class Candidate {
+        private final List<Order> orders;
+        private final int[] indices;
+        private final double score;
+        private final Simulation.Outcome outcome;
+
+        private Candidate(Order[] orders, int[] indices, double score, Simulation.Outcome outcome) {
+            this.orders = Collections.unmodifiableList(Arrays.asList(orders));
+            this.indices = indices;
+            this.score = score;
+            this.outcome = outcome;
+        }// Candidate()
+
+        /**
+         * The orders of the searched Power.
+         */
+        public List<Order> getOrders() {
+            return orders;
+        }// getOrders()
+
+        /**
+         * The score of the orders.
+         */
+        public double getScore() {
+            return score;
+        }// getScore()
+
+        /**
+         * The simulated Outcome of the orders.
+         */
+        public Simulation.Outcome getOutcome() {
+            return outcome;
+        }// getOutcome()
+    }// nested class Candidate
+
+}// class OrderSearch
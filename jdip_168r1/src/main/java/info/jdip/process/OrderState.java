@@ -111,6 +111,7 @@ public final class OrderState {
     private OrderState dislodgedBy = null;    // orderstate which dislodged this unit
     private boolean foundConvoyPath = false;    // if move found a convoy path
     private boolean isVerified = false;            // has this order been verified() yet?
+    private int changeCount = 0;                // incremented whenever evaluation state changes
 
 
     /**
@@ -154,7 +155,10 @@ public final class OrderState {
      * Set if this is part of a chain of circular movements.
      */
     public void setCircular(boolean value) {
-        isCircular = value;
+        if (isCircular != value) {
+            isCircular = value;
+            changeCount++;
+        }
     }
 
     /**
@@ -174,7 +178,10 @@ public final class OrderState {
             throw new IllegalStateException("EvalState is irreversible, once set.");
         }
 
-        evalState = value;
+        if (evalState != value) {
+            evalState = value;
+            changeCount++;
+        }
     }// setEvalState()
 
     /**
@@ -188,7 +195,10 @@ public final class OrderState {
      * Set the dislodged state.
      */
     public void setDislodgedState(Tristate value) {
-        dislodged = value;
+        if (dislodged != value) {
+            dislodged = value;
+            changeCount++;
+        }
     }
 
     /**
@@ -202,7 +212,10 @@ public final class OrderState {
      * Set the maximum defense.
      */
     public void setDefMax(int value) {
-        defense_max = value;
+        if (defense_max != value) {
+            defense_max = value;
+            changeCount++;
+        }
     }
 
     /**
@@ -216,7 +229,10 @@ public final class OrderState {
      * Set the certain defense.
      */
     public void setDefCertain(int value) {
-        defense_certain = value;
+        if (defense_certain != value) {
+            defense_certain = value;
+            changeCount++;
+        }
     }
 
     /**
@@ -230,7 +246,10 @@ public final class OrderState {
      * Set the maximum attack value.
      */
     public void setAtkMax(int value) {
-        attack_max = value;
+        if (attack_max != value) {
+            attack_max = value;
+            changeCount++;
+        }
     }
 
     /**
@@ -244,7 +263,10 @@ public final class OrderState {
      * Set the certain attack value.
      */
     public void setAtkCertain(int value) {
-        attack_certain = value;
+        if (attack_certain != value) {
+            attack_certain = value;
+            changeCount++;
+        }
     }
 
     /**
@@ -258,7 +280,10 @@ public final class OrderState {
      * Set the attack max including self-support
      */
     public void setAtkSelfSupportMax(int value) {
-        selfsupport_atk_max = value;
+        if (selfsupport_atk_max != value) {
+            selfsupport_atk_max = value;
+            changeCount++;
+        }
     }
 
     /**
@@ -272,7 +297,10 @@ public final class OrderState {
      * Set the attack certain including self-support
      */
     public void setAtkSelfSupportCertain(int value) {
-        selfsupport_atk_certain = value;
+        if (selfsupport_atk_certain != value) {
+            selfsupport_atk_certain = value;
+            changeCount++;
+        }
     }
 
     /**
@@ -296,7 +324,10 @@ public final class OrderState {
         if (os != null && !(os.order instanceof Move)) {
             throw new IllegalArgumentException("h2h orderstate must be set with a Move order");
         }
-        headToHead = os;
+        if (headToHead != os) {
+            headToHead = os;
+            changeCount++;
+        }
     }// setHeadToHead()
 
     /**
@@ -327,7 +358,10 @@ public final class OrderState {
      */
     public void setDislodger(OrderState os) {
         assert (os.order instanceof Move && dislodged != Tristate.NO);
-        dislodgedBy = os;
+        if (dislodgedBy != os) {
+            dislodgedBy = os;
+            changeCount++;
+        }
     }// setDislodger()
 
     /**
@@ -348,7 +382,10 @@ public final class OrderState {
      * Set the retreat strength
      */
     public void setRetreatStrength(int value) {
-        retreatStr = value;
+        if (retreatStr != value) {
+            retreatStr = value;
+            changeCount++;
+        }
     }
 
     /**
@@ -376,6 +413,16 @@ public final class OrderState {
         isVerified = value;
     }// setVerified()
 
+    /**
+     * Get the number of times the evaluation state of this OrderState
+     * (evaluation, dislodgement, strengths, head-to-head, dislodger,
+     * convoy path, or circularity) has changed. Used by the Adjudicator
+     * to determine which OrderStates must be re-evaluated.
+     */
+    int getChangeCount() {
+        return changeCount;
+    }// getChangeCount()
+
     /**
      * Gets the dependent Support orders for this order
      */
@@ -453,7 +500,10 @@ public final class OrderState {
      * Set if we have found a convoy path
      */
     public void setFoundConvoyPath(boolean value) {
-        foundConvoyPath = value;
+        if (foundConvoyPath != value) {
+            foundConvoyPath = value;
+            changeCount++;
+        }
     }
 
     /**
@@ -0,0 +1,162 @@
+//
+//  @(#)OrderStateIndex.java	1.00	10/2026
+//
+//
+//  This program is free software; you can redistribute it and/or modify
+//  it under the terms of the GNU General Public License as published by
+//  the Free Software Foundation; either version 2 of the License, or
+//  (at your option) any later version.
+//
+//  This program is distributed in the hope that it will be useful,
+//  but WITHOUT ANY WARRANTY; without even the implied warranty of
+//  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//  GNU General Public License for more details.
+//
+//  You should have received a copy of the GNU General Public License
+//  along with this program; if not, write to the Free Software
+//  Foundation, Inc., 675 Mass Ave, Cambridge, MA 02139, USA.
+//  Or from http://www.gnu.org/
+//
+package info.jdip.process;
+
+import info.jdip.order.Convoy;
+import info.jdip.order.Move;
+import info.jdip.order.Order;
+import info.jdip.order.Support;
+import info.jdip.world.Province;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+
+/**
+ * Per-turn index of OrderStates, keyed by Province index.
+ * <p>
+ * The index is built once by the Adjudicator, after all orders have been
+ * validated (and any invalid orders substituted), and is then used when
+ * determining dependencies. This avoids scanning every OrderState for every
+ * order, which is quadratic in the number of orders.
+ * <p>
+ * Within each indexed List, OrderStates appear in the same relative order
+ * as they appear in the OrderState array the index was built from. Lists
+ * returned are never null, and must not be modified.
+ * <p>
+ * OrderStateIndex objects are not designed to be serialized.
+ */
+public final class OrderStateIndex {
+    private final List<List<OrderState>> movesByDest;
+    private final OrderState[] movesBySrc;
+    private final List<List<OrderState>> supportsBySupportedSrc;
+    private final Map<Integer, List<OrderState>> convoysBySrcDest;
+    private final int nProvinces;
+
+
+    /**
+     * Create an OrderStateIndex for the given OrderStates.
+     *
+     * @param orderStates the OrderStates to index
+     * @param nProvinces  the number of Provinces in the Map
+     */
+    public OrderStateIndex(OrderState[] orderStates, int nProvinces) {
+        if (orderStates == null) {
+            throw new IllegalArgumentException("null orderStates");
+        }
+
+        this.nProvinces = nProvinces;
+        movesByDest = new ArrayList<>(Collections.nCopies(nProvinces, null));
+        movesBySrc = new OrderState[nProvinces];
+        supportsBySupportedSrc = new ArrayList<>(Collections.nCopies(nProvinces, null));
+        convoysBySrcDest = new HashMap<>(17);
+
+        for (OrderState os : orderStates) {
+            final Order order = os.getOrder();
+
+            if (order instanceof Move) {
+                final Move move = (Move) order;
+                add(movesByDest, move.getDest().getProvince().getIndex(), os);
+                movesBySrc[move.getSource().getProvince().getIndex()] = os;
+            } else if (order instanceof Support) {
+                final Support support = (Support) order;
+                add(supportsBySupportedSrc, support.getSupportedSrc().getProvince().getIndex(), os);
+            } else if (order instanceof Convoy) {
+                final Convoy convoy = (Convoy) order;
+                final Integer key = getKey(convoy.getConvoySrc().getProvince(),
+                        convoy.getConvoyDest().getProvince());
+                convoysBySrcDest.computeIfAbsent(key, k -> new ArrayList<>(4)).add(os);
+            }
+        }
+    }// OrderStateIndex()
+
+
+    /**
+     * Get all Move OrderStates (including Retreats) whose destination is
+     * the given Province.
+     */
+    public List<OrderState> getMovesTo(Province dest) {
+        return get(movesByDest, dest.getIndex());
+    }// getMovesTo()
+
+
+    /**
+     * Get the Move OrderState (including Retreats) originating from the
+     * given Province, or <code>null</code> if there is none.
+     */
+    public OrderState getMoveFrom(Province src) {
+        return movesBySrc[src.getIndex()];
+    }// getMoveFrom()
+
+
+    /**
+     * Get all Support OrderStates supporting a unit in the given Province.
+     * This includes both supports of Move orders and supports of
+     * non-Move orders; callers must check the supported destination.
+     */
+    public List<OrderState> getSupportsOf(Province supportedSrc) {
+        return get(supportsBySupportedSrc, supportedSrc.getIndex());
+    }// getSupportsOf()
+
+
+    /**
+     * Get all Convoy OrderStates convoying a unit from the given source
+     * Province to the given destination Province.
+     */
+    public List<OrderState> getConvoys(Province src, Province dest) {
+        final List<OrderState> list = convoysBySrcDest.get(getKey(src, dest));
+        return (list == null) ? Collections.<OrderState>emptyList() : list;
+    }// getConvoys()
+
+
+    /**
+     * Key for a (source, destination) Province pair
+     */
+    private Integer getKey(Province src, Province dest) {
+        return src.getIndex() * nProvinces + dest.getIndex();
+    }// getKey()
+
+
+    /**
+     * Append an OrderState to the List at the given index, creating the List if required.
+     */
+    private static void add(List<List<OrderState>> lists, int idx, OrderState os) {
+        List<OrderState> list = lists.get(idx);
+        if (list == null) {
+            list = new ArrayList<>(4);
+            lists.set(idx, list);
+        }
+
+        list.add(os);
+    }// add()
+
+
+    /**
+     * Get the List at the given index; never returns null.
+     */
+    private static List<OrderState> get(List<List<OrderState>> lists, int idx) {
+        final List<OrderState> list = lists.get(idx);
+        return (list == null) ? Collections.<OrderState>emptyList() : list;
+    }// get()
+
+}// class OrderStateIndex
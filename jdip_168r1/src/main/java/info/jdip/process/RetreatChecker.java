@@ -33,8 +33,12 @@ import info.jdip.world.TurnState;
 import info.jdip.world.World;
 
 import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
 
 /**
  * RetreatChecker analyzes the current TurnState and the results of the previous
@@ -52,12 +56,21 @@ import java.util.List;
  * unsuccesful Moves)
  * </ul>
  * <p>
+ * The standoff provinces and dislodging Moves are determined once per
+ * TurnState, and shared by all RetreatCheckers for that TurnState (e.g.,
+ * when validating each Retreat order of a retreat phase). The shared
+ * data is recreated if the previous TurnState results change.
+ * <p>
  * Should be threadsafe.
  */
 public class RetreatChecker {
+    // retreat contexts, by TurnState; TurnState does not override equals()
+    private static final Map<TurnState, RetreatContext> contexts =
+            Collections.synchronizedMap(new WeakHashMap<>());
+
     // instance variables
     private transient final Position position;
-    private transient final ArrayList<RCMoveResult> filteredMoveResults;
+    private transient final RetreatContext context;
 
     /**
      * Create a RetreatChecker.
@@ -69,14 +82,14 @@ public class RetreatChecker {
     public RetreatChecker(TurnState current) {
         List<Result> results = null;
 
-        TurnState last = current.getWorld().getPreviousTurnState(current);
+        TurnState last = current.getWorld().lowerTurnState(current.getPhase());
         if (last == null) {
             // if we are the very first TurnState, last==null is permissable,
             // but we must take special action to make it work
             World w = current.getWorld();
             if (w.getInitialTurnState() == current) {
                 //Log.println("     no previous turnstate, and we are first; creating results");
-                results = new ArrayList<>();
+                results = Collections.emptyList();
             } else {
                 throw new IllegalStateException("No Previous Turn State!!");
             }
@@ -86,7 +99,7 @@ public class RetreatChecker {
         }
 
         this.position = current.getPosition();
-        this.filteredMoveResults = makeFMRList(results);
+        this.context = getContext(current, results);
     }// RetreatChecker()
 
 
@@ -102,7 +115,7 @@ public class RetreatChecker {
         }
 
         this.position = current.getPosition();
-        this.filteredMoveResults = makeFMRList(previousTurnStateResults);
+        this.context = getContext(current, previousTurnStateResults);
     }// RetreatChecker()
 
 
@@ -111,28 +124,11 @@ public class RetreatChecker {
      * the Location <code>to</code>
      */
     public boolean isValid(Location from, Location to) {
-        Location[] validLocs = getValidLocations(from);
-
-        // debugging
-		/*
-		if(Log.isLogging())
-		{
-			Log.print("   valid retreat locations from ");
-			Log.print(from);
-			Log.print(": ");
-			
-			for(int i=0; i<validLocs.length; i++)
-			{
-				Log.print(validLocs[i]);
-				Log.print(" ");
-			}
-			Log.print("\n");
-		}
-		*/
-
-        for (Location validLoc : validLocs) {
-            if (validLoc.equals(to)) {
-                return true;
+        Location[] adjacent = from.getProvince().getAdjacentLocations(from.getCoast());
+
+        for (Location location : adjacent) {
+            if (location.equals(to)) {
+                return isValidRetreat(from, location);
             }
         }
 
@@ -151,9 +147,7 @@ public class RetreatChecker {
         Location[] adjacent = from.getProvince().getAdjacentLocations(from.getCoast());
 
         for (Location location : adjacent) {
-            if (!position.hasUnit(location.getProvince())
-                    && !isDislodgersSpace(from, location)
-                    && !isContestedSpace(location)) {
+            if (isValidRetreat(from, location)) {
                 retreatLocations.add(location);
             }
         }
@@ -169,9 +163,7 @@ public class RetreatChecker {
         Location[] adjacent = from.getProvince().getAdjacentLocations(from.getCoast());
 
         for (Location location : adjacent) {
-            if (!position.hasUnit(location.getProvince())
-                    && !isDislodgersSpace(from, location)
-                    && !isContestedSpace(location)) {
+            if (isValidRetreat(from, location)) {
                 return true;
             }
         }
@@ -181,67 +173,106 @@ public class RetreatChecker {
 
 
     /**
-     * Returns <code>true</code> if the space is unoccupied,
-     * and their exists a <b>successful</b> move order from
-     * that space which dislodged the unit.
-     * <b>
-     *
-     * @param dislodgedLoc The location with the dislodged unit
-     * @param loc          The unoccupied location which we are checking
-     * @return <code>true</code> if Move from <code>loc</code>
-     * dislodged <code>dislodgedLoc</code>
+     * Returns <code>true</code> if the unit in <code>from</code> may
+     * retreat to the adjacent Location <code>to</code>.
      */
-    private boolean isDislodgersSpace(Location dislodgedLoc, Location loc) {
-        for (Object filteredMoveResult : filteredMoveResults) {
-            RCMoveResult rcmr = (RCMoveResult) filteredMoveResult;
+    private boolean isValidRetreat(Location from, Location to) {
+        final Province province = to.getProvince();
+        return !position.hasUnit(province)
+                && !context.isDislodgersSpace(from.getProvince(), province)
+                && !context.isContestedSpace(province);
+    }// isValidRetreat()
 
-            // note: dislodgedLoc is the potential move destination
-            if (rcmr.isDislodger(loc, dislodgedLoc)) {
-                return true;
-            }
+
+    /**
+     * Gets the RetreatContext for the given TurnState, creating it if
+     * it does not exist, or if the previous TurnState results have changed.
+     */
+    private static RetreatContext getContext(TurnState current, List<Result> results) {
+        RetreatContext context = contexts.get(current);
+        if (context == null || !context.isCurrent(results)) {
+            context = new RetreatContext(current.getPosition().getProvinces().length, results);
+            contexts.put(current, context);
         }
 
-        return false;
-    }// isDislodgersSpace()
+        return context;
+    }// getContext()
 
 
     /**
-     * Returns true if a standoff has occured;
-     * A standoff exists if:
-     * <ol>
-     * <li>no unit in space (essential!)</li>
-     * <li>2 or more <b>legal ("valid")</b> failed move orders exist
-     * with dest of space</li>
-     * </ol>
+     * The standoff provinces, and dislodging Moves, of the previous TurnState
+     * results. Provinces are identified by index. Not modified once created.
      */
-    private boolean isContestedSpace(Location loc) {
-        if (position.hasUnit(loc.getProvince())) {
-            return false;
-        }
+    private static final class RetreatContext {
+        private final List<Result> results;
+        private final int nResults;
+        private final BitSet standoffs;
+        private final BitSet[] dislodgers;
 
-        int moveCount = 0;
+        /**
+         * Create a RetreatContext from the previous TurnState results.
+         */
+        RetreatContext(int nProvinces, List<Result> results) {
+            this.results = results;
+            this.nResults = results.size();
+            this.standoffs = new BitSet(nProvinces);
+            this.dislodgers = new BitSet[nProvinces];
+
+            final int[] standoffMoves = new int[nProvinces];
+            for (RCMoveResult rcmr : makeFMRList(results)) {
+                final Province src = rcmr.move.getSource().getProvince();
+                final Province dest = rcmr.move.getDest().getProvince();
+
+                if (rcmr.isPossibleStandoff()) {
+                    if (++standoffMoves[dest.getIndex()] >= 2) {
+                        standoffs.set(dest.getIndex());
+                    }
+                } else if (rcmr.isDislodger()) {
+                    if (dislodgers[dest.getIndex()] == null) {
+                        dislodgers[dest.getIndex()] = new BitSet(nProvinces);
+                    }
+                    dislodgers[dest.getIndex()].set(src.getIndex());
+                }
+            }
+        }// RetreatContext()
 
-        for (RCMoveResult rcmr : filteredMoveResults) {
+        /**
+         * Returns true if this RetreatContext was created from the given results
+         */
+        boolean isCurrent(List<Result> results) {
+            return this.results == results && nResults == results.size();
+        }// isCurrent()
 
-            if (rcmr.isPossibleStandoff(loc)) {
-                moveCount++;
-            }
-        }
+        /**
+         * Returns <code>true</code> if a <b>successful</b> move order
+         * from <code>province</code> dislodged the unit in
+         * <code>dislodgedProvince</code>.
+         */
+        boolean isDislodgersSpace(Province dislodgedProvince, Province province) {
+            final BitSet sources = dislodgers[dislodgedProvince.getIndex()];
+            return (sources != null && sources.get(province.getIndex()));
+        }// isDislodgersSpace()
 
-        return (moveCount >= 2);
-    }// isContestedSpace()
+        /**
+         * Returns true if 2 or more <b>legal ("valid")</b> failed move
+         * orders exist with a destination of <code>province</code>.
+         * The caller must check that the province is unoccupied.
+         */
+        boolean isContestedSpace(Province province) {
+            return standoffs.get(province.getIndex());
+        }// isContestedSpace()
+    }// nested class RetreatContext
 
 
     /**
-     * Generate a List of (only) Move orders; when checking multiple
-     * retreats this is a performance gain.
+     * Generate a List of (only) Move orders.
      * <p>
      * The filtered Move results consist of going through all OrderResults
      * looking for those involving Move orders. For each Move order, we
      * generate one RCMoveResult object, which holds the pertinent information
      * about that Move order.
      */
-    private ArrayList<RCMoveResult> makeFMRList(List<Result> turnStateResults) {
+    private static ArrayList<RCMoveResult> makeFMRList(List<Result> turnStateResults) {
         ArrayList<RCMoveResult> mrList = new ArrayList<>(64);
         HashMap<Province, RCMoveResult> map = new HashMap<>(119);    // key: move source province; value: RCMoveResult
 
@@ -266,8 +297,6 @@ public class RetreatChecker {
             }
         }
 
-        map.clear();    // no longer needed
-
         return mrList;
     }// makeFMRList()
 
@@ -276,7 +305,7 @@ public class RetreatChecker {
      * RCMoveResult holds information about a Move order, as generated
      * from an OrderResult.
      */
-    private class RCMoveResult {
+    private static class RCMoveResult {
         private final Move move;
         private boolean isSuccess = false;
         private boolean isByConvoy = false;
@@ -313,48 +342,29 @@ public class RetreatChecker {
         }// setOptions()
 
         /**
-         * Successful?
-         */
-        public boolean isSuccess() {
-            return isSuccess;
-        }
-
-        /**
-         * Is this move a potentially vying for a potential standoff?
+         * Is this move a potentially vying for a potential standoff
+         * in its destination province?
          * <p>
          * This will return true iff:
-         * (1) Destination *province* of Move matchest given location
-         * (2) Move is NOT successful
-         * (3) Move is NOT invalid (i.e., no VALIDATION_FAILURE result)
+         * (1) Move is NOT successful
+         * (2) Move is NOT invalid (i.e., no VALIDATION_FAILURE result)
          */
-        public boolean isPossibleStandoff(Location loc) {
-            return
-                    (
-                            isValid
-                                    && !isSuccess
-                                    && move.getDest().isProvinceEqual(loc)
-                    );
+        public boolean isPossibleStandoff() {
+            return (isValid && !isSuccess);
         }// isPossibleStandoff()
 
 
         /**
          * Is this move a potentially dislodging move?
          * This will return true iff:
-         * (1) src and dest match;
-         * (2) successful
-         * (3) NOT convoyed (DATC 16-dec-03 4.A.5)
+         * (1) successful
+         * (2) NOT convoyed (DATC 16-dec-03 4.A.5)
          */
-        public boolean isDislodger(Location src, Location dest) {
-            return
-                    (
-                            isSuccess
-                                    && !isByConvoy
-                                    && move.getSource().isProvinceEqual(src)
-                                    && move.getDest().isProvinceEqual(dest)
-                    );
+        public boolean isDislodger() {
+            return (isSuccess && !isByConvoy);
         }// isDislodger()
 
-    }// inner class RCMoveResult
+    }// nested class RCMoveResult
 
 
 }// class RetreatChecker
@@ -0,0 +1,39 @@
+//
+//  @(#)SearchHeuristic.java	1.00	10/2026
+//
+//
+//  This program is free software; you can redistribute it and/or modify
+//  it under the terms of the GNU General Public License as published by
+//  the Free Software Foundation; either version 2 of the License, or
+//  (at your option) any later version.
+//
+//  This program is distributed in the hope that it will be useful,
+//  but WITHOUT ANY WARRANTY; without even the implied warranty of
+//  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//  GNU General Public License for more details.
+//
+//  You should have received a copy of the GNU General Public License
+//  along with this program; if not, write to the Free Software
+//  Foundation, Inc., 675 Mass Ave, Cambridge, MA 02139, USA.
+//  Or from http://www.gnu.org/
+//
+package info.jdip.process;
+
+import info.jdip.world.Power;
+
+
+/**
+ * Scores the Outcome of a simulated adjudication, from the point of
+ * view of a given Power. Used by OrderSearch; higher scores are better.
+ * <p>
+ * Implementations must be threadsafe, as Outcomes are scored
+ * concurrently.
+ */
+public interface SearchHeuristic {
+
+    /**
+     * Score the given Outcome for the given Power.
+     */
+    double evaluate(Power power, Simulation.Outcome outcome);
+
+}// interface SearchHeuristic
@@ -0,0 +1,425 @@
+//
+//  @(#)Simulation.java	1.00	10/2026
+//
+//
+//  This program is free software; you can redistribute it and/or modify
+//  it under the terms of the GNU General Public License as published by
+//  the Free Software Foundation; either version 2 of the License, or
+//  (at your option) any later version.
+//
+//  This program is distributed in the hope that it will be useful,
+//  but WITHOUT ANY WARRANTY; without even the implied warranty of
+//  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//  GNU General Public License for more details.
+//
+//  You should have received a copy of the GNU General Public License
+//  along with this program; if not, write to the Free Software
+//  Foundation, Inc., 675 Mass Ave, Cambridge, MA 02139, USA.
+//  Or from http://www.gnu.org/
+//
+package info.jdip.process;
+
+import info.jdip.order.Move;
+import info.jdip.order.OrderFactory;
+import info.jdip.order.Orderable;
+import info.jdip.order.result.Result;
+import info.jdip.world.Phase;
+import info.jdip.world.Position;
+import info.jdip.world.Power;
+import info.jdip.world.Province;
+import info.jdip.world.TurnState;
+import info.jdip.world.VictoryConditions;
+import info.jdip.world.World;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+
+/**
+ * A Simulation adjudicates candidate order sets against a fixed Position,
+ * for "what-if" evaluation (e.g., by computer players or analysis tools).
+ * <p>
+ * A Simulation is forked from a TurnState; the World holding that TurnState
+ * is never modified. Each call to <code>adjudicate()</code> is independent:
+ * the Position of the Simulation is shared (not copied), and is never
+ * modified by adjudication. No Result message text is generated.
+ * <p>
+ * The Outcome of an adjudication gives the units that moved, the units
+ * that were dislodged, and the supply centers that changed hands. It also
+ * gives a Simulation for the following phase, so that Simulations may be
+ * chained over several phases.
+ * <p>
+ * Simulations are immutable, and different Simulations (including those
+ * forked from the same TurnState) may be adjudicated by different threads.
+ * Order objects, however, hold state during adjudication; the same Order
+ * must not be adjudicated by more than one thread at a time.
+ */
+public final class Simulation {
+    private static final Province[] NO_PROVINCES = new Province[0];
+    private static final int[] NO_YEARS = new int[0];
+
+    private final World world;
+    private final OrderFactory orderFactory;
+    private final Phase phase;
+    private final Position position;
+    private final boolean isSCOwnerChanged;
+    // the previous (movement) phase, and its results, for retreat checking; may be null
+    private final Phase previousPhase;
+    private final List<Result> previousResults;
+    // recent years in which a supply-center changed hands, for victory conditions
+    private final int[] scChangeYears;
+
+
+    private Simulation(World world, OrderFactory orderFactory, Phase phase, Position position,
+                       boolean isSCOwnerChanged, Phase previousPhase, List<Result> previousResults,
+                       int[] scChangeYears) {
+        this.world = world;
+        this.orderFactory = orderFactory;
+        this.phase = phase;
+        this.position = position;
+        this.isSCOwnerChanged = isSCOwnerChanged;
+        this.previousPhase = previousPhase;
+        this.previousResults = previousResults;
+        this.scChangeYears = scChangeYears;
+    }// Simulation()
+
+
+    /**
+     * Fork a Simulation from the given TurnState, using the default OrderFactory.
+     */
+    public static Simulation fork(TurnState ts) {
+        return fork(ts, OrderFactory.getDefault());
+    }// fork()
+
+
+    /**
+     * Fork a Simulation from the given TurnState. The TurnState must be held
+     * by a World. The TurnState's Position is copied once, so that later
+     * changes to the TurnState do not affect the Simulation.
+     */
+    public static Simulation fork(TurnState ts, OrderFactory orderFactory) {
+        if (ts == null || orderFactory == null) {
+            throw new IllegalArgumentException("null arguments");
+        }
+
+        final World world = ts.getWorld();
+        if (world == null) {
+            throw new IllegalArgumentException("TurnState not in a World");
+        }
+
+        final Phase phase = ts.getPhase();
+
+        Phase previousPhase = null;
+        List<Result> previousResults = null;
+        if (phase.getPhaseType() == Phase.PhaseType.RETREAT) {
+            final TurnState previous = world.getPreviousTurnState(ts);
+            if (previous != null) {
+                previousPhase = previous.getPhase();
+                previousResults = Collections.unmodifiableList(new ArrayList<>(previous.getResultList()));
+            }
+        }
+
+        // supply-center changes in earlier phases
+        int[] scChangeYears = NO_YEARS;
+        final int window = getSCChangeWindow(world);
+        for (int year = phase.getYear() - window + 1; year <= phase.getYear(); year++) {
+            if (isSCChangePhase(world, phase, new Phase(Phase.SeasonType.FALL, year, Phase.PhaseType.RETREAT))
+                    || isSCChangePhase(world, phase, new Phase(Phase.SeasonType.FALL, year, Phase.PhaseType.ADJUSTMENT))) {
+                scChangeYears = addYear(scChangeYears, year, phase.getYear() - window);
+            }
+        }
+
+        return new Simulation(world, orderFactory, phase, ts.getPosition().copy(),
+                ts.getSCOwnerChanged(), previousPhase, previousResults, scChangeYears);
+    }// fork()
+
+
+    /**
+     * Get the Phase to be adjudicated.
+     */
+    public Phase getPhase() {
+        return phase;
+    }// getPhase()
+
+
+    /**
+     * Get the Position to be adjudicated. This must not be modified.
+     */
+    public Position getPosition() {
+        return position;
+    }// getPosition()
+
+
+    /**
+     * Adjudicate the given orders. Units without orders are given default
+     * orders (Hold, Disband, or Remove) as usual. The orders may be for
+     * any or all Powers.
+     */
+    public Outcome adjudicate(List<? extends Orderable> orders) {
+        if (orders == null) {
+            throw new IllegalArgumentException("null orders");
+        }
+
+        final World simWorld = world.createSimulationWorld();
+
+        if (previousPhase != null) {
+            final TurnState previous = new TurnState(previousPhase);
+            previous.setWorld(simWorld);
+            previous.setResultList(previousResults);
+            simWorld.setTurnState(previous);
+        }
+
+        // only the SC-changed flag of earlier phases is used by victory conditions
+        for (int year : scChangeYears) {
+            final TurnState history = new TurnState(new Phase(Phase.SeasonType.FALL, year, Phase.PhaseType.RETREAT));
+            history.setWorld(simWorld);
+            history.setSCOwnerChanged(true);
+            simWorld.setTurnState(history);
+        }
+
+        final TurnState ts = new TurnState(phase);
+        ts.setWorld(simWorld);
+        ts.setPosition(position);
+        ts.setSCOwnerChanged(isSCOwnerChanged);
+        simWorld.setTurnState(ts);
+
+        for (Orderable order : orders) {
+            ts.getOrders(order.getPower()).add(order);
+        }
+
+        final StdAdjudicator adjudicator = new StdAdjudicator(orderFactory, ts);
+        adjudicator.setResultText(false);
+        adjudicator.setInformationalResults(false);
+        adjudicator.process();
+
+        return new Outcome(this, adjudicator);
+    }// adjudicate()
+
+
+    /**
+     * Create the Simulation of the phase following this one.
+     */
+    private Simulation next(TurnState ts, List<Result> results) {
+        final Phase nextPhase = ts.getPhase();
+
+        int[] years = scChangeYears;
+        if (isSCOwnerChanged
+                && phase.getSeasonType() == Phase.SeasonType.FALL
+                && phase.getPhaseType() != Phase.PhaseType.MOVEMENT) {
+            years = addYear(years, phase.getYear(), nextPhase.getYear() - getSCChangeWindow(world));
+        }
+
+        final boolean isRetreat = (nextPhase.getPhaseType() == Phase.PhaseType.RETREAT);
+        return new Simulation(world, orderFactory, nextPhase, ts.getPosition(), ts.getSCOwnerChanged(),
+                isRetreat ? phase : null, isRetreat ? results : null, years);
+    }// next()
+
+
+    /**
+     * Number of years for which supply-center changes are tracked
+     */
+    private static int getSCChangeWindow(World world) {
+        final VictoryConditions vc = world.getVictoryConditions();
+        return (vc == null) ? 0 : vc.getYearsWithoutSCChange();
+    }// getSCChangeWindow()
+
+
+    /**
+     * True if the given Phase precedes the current Phase, and
+     * a supply-center changed hands in that Phase.
+     */
+    private static boolean isSCChangePhase(World world, Phase current, Phase phase) {
+        if (phase.compareTo(current) >= 0) {
+            return false;
+        }
+
+        final TurnState ts = world.getTurnState(phase);
+        return (ts != null && ts.getSCOwnerChanged());
+    }// isSCChangePhase()
+
+
+    /**
+     * Add a year to a (sorted) array of years, dropping years
+     * less than or equal to <code>oldest</code>.
+     */
+    private static int[] addYear(int[] years, int year, int oldest) {
+        final int[] tmp = new int[years.length + 1];
+        int n = 0;
+        for (int y : years) {
+            if (y > oldest && y != year) {
+                tmp[n++] = y;
+            }
+        }
+
+        if (year > oldest) {
+            tmp[n++] = year;
+        }
+
+        final int[] result = new int[n];
+        System.arraycopy(tmp, 0, result, 0, n);
+        return result;
+    }// addYear()
+
+
+    /**
+     * The compact outcome of a simulated adjudication.
+     * <p>
+     * Arrays returned by an Outcome must not be modified.
+     */
+    public static final class Outcome {
+        private final Phase phase;
+        private final Position position;
+        private final Simulation next;
+        private final boolean isEnded;
+        private final boolean isUnresolvedParadox;
+        private final Province[] moveSources;
+        private final Province[] moveDests;
+        private final Province[] dislodged;
+        private final Province[] scChanges;
+
+
+        private Outcome(Simulation sim, StdAdjudicator adjudicator) {
+            final OrderState[] orderStates = adjudicator.getOrderStates();
+            final TurnState nextTS = adjudicator.getNextTurnState();
+
+            phase = sim.phase;
+            position = (nextTS == null) ? sim.position : nextTS.getPosition();
+            isEnded = (nextTS == null || nextTS.isEnded());
+            isUnresolvedParadox = adjudicator.isUnresolvedParadox();
+            next = isEnded ? null : sim.next(nextTS, adjudicator.getTurnState().getResultList());
+
+            // successful moves (and retreats), and dislodged units
+            int nMoves = 0;
+            int nDislodged = 0;
+            for (OrderState os : orderStates) {
+                if (os.getDislodgedState() == Tristate.YES) {
+                    nDislodged++;
+                } else if (os.getOrder() instanceof Move && os.getEvalState() == Tristate.SUCCESS) {
+                    nMoves++;
+                }
+            }
+
+            moveSources = (nMoves == 0) ? NO_PROVINCES : new Province[nMoves];
+            moveDests = (nMoves == 0) ? NO_PROVINCES : new Province[nMoves];
+            dislodged = (nDislodged == 0) ? NO_PROVINCES : new Province[nDislodged];
+            nMoves = 0;
+            nDislodged = 0;
+            for (OrderState os : orderStates) {
+                if (os.getDislodgedState() == Tristate.YES) {
+                    dislodged[nDislodged++] = os.getSourceProvince();
+                } else if (os.getOrder() instanceof Move && os.getEvalState() == Tristate.SUCCESS) {
+                    moveSources[nMoves] = os.getSourceProvince();
+                    moveDests[nMoves] = ((Move) os.getOrder()).getDest().getProvince();
+                    nMoves++;
+                }
+            }
+
+            // supply-center ownership changes
+            if (position == sim.position) {
+                scChanges = NO_PROVINCES;
+            } else {
+                final Province[] provinces = position.getProvinces();
+                final List<Province> changes = new ArrayList<>(4);
+                for (Province province : provinces) {
+                    if (province != null && province.hasSupplyCenter()) {
+                        final Power oldOwner = sim.position.getSupplyCenterOwner(province);
+                        final Power newOwner = position.getSupplyCenterOwner(province);
+                        if (oldOwner != newOwner) {
+                            changes.add(province);
+                        }
+                    }
+                }
+
+                scChanges = changes.isEmpty() ? NO_PROVINCES : changes.toArray(new Province[changes.size()]);
+            }
+        }// Outcome()
+
+
+        /**
+         * The Phase that was adjudicated.
+         */
+        public Phase getPhase() {
+            return phase;
+        }// getPhase()
+
+
+        /**
+         * The resulting Position. This must not be modified. If the game
+         * ended during an Adjustment phase, this is the adjudicated Position.
+         */
+        public Position getPosition() {
+            return position;
+        }// getPosition()
+
+
+        /**
+         * The Simulation of the following phase, or <code>null</code>
+         * if the game has ended.
+         */
+        public Simulation getNext() {
+            return next;
+        }// getNext()
+
+
+        /**
+         * True if victory conditions have been met, and the game has ended.
+         */
+        public boolean isEnded() {
+            return isEnded;
+        }// isEnded()
+
+
+        /**
+         * True if an unresolvable paradox was detected.
+         */
+        public boolean isUnresolvedParadox() {
+            return isUnresolvedParadox;
+        }// isUnresolvedParadox()
+
+
+        /**
+         * The number of units that moved (or retreated) successfully.
+         */
+        public int getMoveCount() {
+            return moveSources.length;
+        }// getMoveCount()
+
+
+        /**
+         * Source Provinces of successful moves; parallel to
+         * <code>getMoveDestinations()</code>.
+         */
+        public Province[] getMoveSources() {
+            return moveSources;
+        }// getMoveSources()
+
+
+        /**
+         * Destination Provinces of successful moves; parallel to
+         * <code>getMoveSources()</code>.
+         */
+        public Province[] getMoveDestinations() {
+            return moveDests;
+        }// getMoveDestinations()
+
+
+        /**
+         * Provinces of units that were dislodged. This includes dislodged
+         * units that were destroyed, as they had no valid retreats.
+         */
+        public Province[] getDislodged() {
+            return dislodged;
+        }// getDislodged()
+
+
+        /**
+         * Supply-center Provinces which changed owner.
+         */
+        public Province[] getSupplyCenterChanges() {
+            return scChanges;
+        }// getSupplyCenterChanges()
+
+    }// nested class Outcome
+
+}// class Simulation
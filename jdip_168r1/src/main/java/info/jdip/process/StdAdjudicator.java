@@ -22,7 +22,6 @@
 //
 package info.jdip.process;
 
-import info.jdip.misc.Utils;
 import info.jdip.order.Build;
 import info.jdip.order.Convoy;
 import info.jdip.order.Disband;
@@ -59,9 +58,11 @@ import info.jdip.world.World;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.text.MessageFormat;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
@@ -107,7 +108,6 @@ public class StdAdjudicator implements Adjudicator {
 
     private static final String STDADJ_PREADJ_TOBUILD = "STDADJ_PREADJ_TOBUILD";
     private static final String STDADJ_PREADJ_TOREMOVE = "STDADJ_PREADJ_TOREMOVE";
-    private static final String STDADJ_PREADJ_TONEITHER = "STDADJ_PREADJ_TONEITHER";
     private static final String STDADJ_SKIP_RETREAT = "STDADJ_SKIP_RETREAT";
     private static final String STDADJ_SKIP_ADJUSTMENT = "STDADJ_SKIP_ADJUSTMENT";
     private static final String STDADJ_COMPLETED = "TimeResult.adjudication.complete";
@@ -117,9 +117,9 @@ public class StdAdjudicator implements Adjudicator {
     // messageformat statics [for performance enhancement]
     // these are complex Choice formats
     // ?? will this be threadsafe ??
-    private static final MessageFormat MFRemove = new MessageFormat(Utils.getLocalString(STDADJ_PREADJ_TOREMOVE));
-    private static final MessageFormat MFBuild = new MessageFormat(Utils.getLocalString(STDADJ_PREADJ_TOBUILD));
     private static final OrderFormatOptions DEFAULT_OFO = OrderFormatOptions.createDefault();
+    private static final ThreadMXBean THREAD_MX = ManagementFactory.getThreadMXBean();
+    private static volatile AdjudicationMonitor defaultMonitor = AdjudicationMonitor.NONE;
 
     // instance variables
     private final OrderFactory orderFactory;
@@ -130,29 +130,52 @@ public class StdAdjudicator implements Adjudicator {
     private final List<Result> resultList;
     private final Map<Province, OrderState> osMap;
     private final ArrayList<OrderState> substOrders;
+    private final boolean isPartial;
     private OrderFormatOptions orderFormat = DEFAULT_OFO;
     private OrderState[] orderStates = null;
+    private OrderStateIndex osIndex = null;
     private boolean isUnRezParadox = false;
     private int paradoxBreakAttempt = 0;
     private int syzkmanAppliedCount = 0;
     private boolean statReporting = false;
+    private boolean isResultText = true;
+    private boolean isInformationalResults = true;
     private boolean isPOCEnabled = false;
+    private boolean isWorklistEvaluation = true;
     private TurnState nextTurnState = null;
+    private AdjudicationMonitor monitor = defaultMonitor;
+    private int evalIterations = 0;
+    private int totalMoves = 0;
+    private int totalNonMoves = 0;
 
     /**
      * Create a Adjudicator for the Standard rules, that will evaluate all Orders
      * for the current TurnState.
      */
     public StdAdjudicator(OrderFactory orderFactory, TurnState ts) {
+        this(orderFactory, ts, new HashMap<>(119), ts.getResultList(), false);
+    }// StdAdjudicator()
+
+
+    /**
+     * Create an Adjudicator which adjudicates part of a Movement phase
+     * (see IncrementalAdjudicator). The Province==&gt;OrderState mapping is
+     * shared by all parts, and Results are added to the given List.
+     * Paradox results which apply to the whole phase are not created
+     * by a partial adjudicator; see addParadoxResults().
+     */
+    StdAdjudicator(OrderFactory orderFactory, TurnState ts, Map<Province, OrderState> osMap,
+                   List<Result> resultList, boolean isPartial) {
         // initialization
         this.orderFactory = orderFactory;
         this.turnState = ts;
         this.position = ts.getPosition();
         this.world = ts.getWorld();
         this.ruleOpts = world.getRuleOptions();
-        this.resultList = ts.getResultList();
-        this.osMap = new HashMap<>(119);
+        this.resultList = resultList;
+        this.osMap = osMap;
         this.substOrders = new ArrayList<>(16);
+        this.isPartial = isPartial;
     }// StdAdjudicator()
 
 
@@ -161,9 +184,13 @@ public class StdAdjudicator implements Adjudicator {
      */
     public void process() {
         Phase.PhaseType pt = turnState.getPhase().getPhaseType();
+        final long startNanos = getMonitorNanos();
+        final long startAlloc = getMonitorAllocatedBytes();
 
         if (isPOCEnabled) {
             checkOrders();
+            stageCompleted(AdjudicationMonitor.STAGE_CHECK_ORDERS, startNanos, startAlloc,
+                    turnState.getAllOrders().size());
         }
 
         if (pt == Phase.PhaseType.MOVEMENT) {
@@ -176,6 +203,12 @@ public class StdAdjudicator implements Adjudicator {
             // we could use an assertion here...
             throw new IllegalStateException("cannot adjudicate phase: " + pt);
         }
+
+        if (isMonitored()) {
+            monitor.adjudicationCompleted(turnState, System.nanoTime() - startNanos,
+                    getAllocatedDelta(startAlloc), getOrderStateCount(), evalIterations,
+                    paradoxBreakAttempt, isUnRezParadox);
+        }
     }// process()
 
 
@@ -191,6 +224,40 @@ public class StdAdjudicator implements Adjudicator {
     }// setOrderFormat()
 
 
+    /**
+     * Gets the AdjudicationMonitor used by StdAdjudicators which
+     * have not had a monitor set.
+     */
+    public static AdjudicationMonitor getDefaultMonitor() {
+        return defaultMonitor;
+    }// getDefaultMonitor()
+
+    /**
+     * Sets the AdjudicationMonitor used by StdAdjudicators created
+     * after this call. Use AdjudicationMonitor.NONE (the default)
+     * to disable monitoring.
+     */
+    public static void setDefaultMonitor(AdjudicationMonitor value) {
+        if (value == null) {
+            throw new IllegalArgumentException();
+        }
+
+        defaultMonitor = value;
+    }// setDefaultMonitor()
+
+    /**
+     * Sets the AdjudicationMonitor for this adjudicator. Use
+     * AdjudicationMonitor.NONE to disable monitoring.
+     */
+    public void setMonitor(AdjudicationMonitor value) {
+        if (value == null) {
+            throw new IllegalArgumentException();
+        }
+
+        monitor = value;
+    }// setMonitor()
+
+
     /**
      * Enable or disable reporting of failure statistics.
      */
@@ -198,6 +265,26 @@ public class StdAdjudicator implements Adjudicator {
         statReporting = value;
     }// setStatReporting()
 
+    /**
+     * Enable (the default) or disable the message text of Results created
+     * by the adjudicator. If disabled, Results are still created (and
+     * may be used, e.g., to check retreats), but without message text.
+     * Note that message text is formatted only when first required.
+     */
+    public void setResultText(boolean value) {
+        isResultText = value;
+    }// setResultText()
+
+    /**
+     * Enable (the default) or disable informational Results. These are
+     * Results which describe the phase, rather than orders or units (e.g.,
+     * adjudication timestamps, skipped phases, and the adjustments each
+     * Power must make); they are not required to adjudicate later phases.
+     */
+    public void setInformationalResults(boolean value) {
+        isInformationalResults = value;
+    }// setInformationalResults()
+
     /**
      * If enabled, checks to make sure that each Power's
      * list of orders only contains orders from that Power.
@@ -208,6 +295,20 @@ public class StdAdjudicator implements Adjudicator {
         isPOCEnabled = value;
     }// setPowerOrderChecking()
 
+    /**
+     * If enabled (the default), orders are evaluated from a worklist: only
+     * orders which depend upon an OrderState that has changed are
+     * re-evaluated. If disabled, every order is re-evaluated on every
+     * iteration until all move orders are resolved.
+     * <p>
+     * Both methods produce the same resolution, with the same iterations;
+     * the worklist method skips the evaluation of orders which cannot
+     * have changed.
+     */
+    public void setWorklistEvaluation(boolean value) {
+        isWorklistEvaluation = value;
+    }// setWorklistEvaluation()
+
     /**
      * Get all OrderStates
      */
@@ -215,6 +316,13 @@ public class StdAdjudicator implements Adjudicator {
         return orderStates;
     }// getOrderStates()
 
+    /**
+     * Get the OrderStateIndex for all OrderStates
+     */
+    public final OrderStateIndex getOrderStateIndex() {
+        return osIndex;
+    }// getOrderStateIndex()
+
     /**
      * Get the TurnState
      */
@@ -317,6 +425,14 @@ public class StdAdjudicator implements Adjudicator {
     }// addResult()
 
 
+    /**
+     * Add a Result, with a localized message, to the result list
+     */
+    public final void addLocalizedResult(OrderState os, ResultType type, String key, Object... args) {
+        resultList.add(createOrderResult(os.getOrder(), type, key, args));
+    }// addLocalizedResult()
+
+
     /**
      * Checks that each Power's List of orders contains
      * orders from that Power. If it does not, the
@@ -339,9 +455,8 @@ public class StdAdjudicator implements Adjudicator {
 
                     // create an informative result
                     // {0} power, {1} order (formatted)
-                    String orderText = order.toFormattedString(orderFormat);
-                    addResult(new Result(Utils.getLocalString(
-                            STDADJ_POWER_ORDER_LIST_CORRUPT, power, orderText)));
+                    String orderText = isResultText ? order.toFormattedString(orderFormat) : null;
+                    addResult(createResult(null, STDADJ_POWER_ORDER_LIST_CORRUPT, power, orderText));
                 }
             }
         }
@@ -352,6 +467,22 @@ public class StdAdjudicator implements Adjudicator {
      * Adjudicates the Movement phase
      */
     private void adjudicateMoves() {
+        createMoveOrderStates(turnState.getAllOrders(), position.getUnitProvinces());
+        verifyMoveOrders();
+        final boolean areAnyUnitsDislodged = resolveMoves(totalMoves > 0);
+        completeMoves(areAnyUnitsDislodged);
+    }// adjudicateMoves()
+
+
+    /**
+     * Creates and validates the OrderStates of a Movement phase (steps 1-3),
+     * for the given orders, and for any units in the given Provinces
+     * without orders.
+     */
+    void createMoveOrderStates(List<Orderable> orderList, Province[] unitList) {
+        final long stageNanos = getMonitorNanos();
+        final long stageAlloc = getMonitorAllocatedBytes();
+
         // step 1:
         // create orderstate mapping (province==>OrderState); REQUIRED by Adjudicator.java
         // also, this ensures that each location has only 1 order. If multiple orders for a location
@@ -359,7 +490,6 @@ public class StdAdjudicator implements Adjudicator {
         //
         // make sure that each location in the OrderState mapping has a corresponding unit,
         // If an order exists for a province without a unit, the order is deleted.
-        List<Orderable> orderList = turnState.getAllOrders();
         // temporary list for holding orders; ASSUME that we won't be adding too many orders.
         ArrayList<OrderState> osList = new ArrayList<>(orderList.size());
 
@@ -372,15 +502,14 @@ public class StdAdjudicator implements Adjudicator {
             if (position.hasUnit(province)) {
                 OrderState oldOS = osMap.get(province);
                 if (oldOS != null) {
-                    addResult(new OrderResult(oldOS.getOrder(),
-                            Utils.getLocalString(STDADJ_DUP_ORDER, os.getOrder())));
+                    addResult(createOrderResult(oldOS.getOrder(), ResultType.TEXT, STDADJ_DUP_ORDER, os.getOrder()));
                     osList.remove(oldOS);    // we don't want duplicates in osList
                 }
 
                 osMap.put(province, os);
                 osList.add(os);
             } else {
-                addResult(new OrderResult(order, Utils.getLocalString(STDADJ_MV_NO_UNIT)));
+                addResult(createOrderResult(order, ResultType.TEXT, STDADJ_MV_NO_UNIT));
             }
         }
 
@@ -388,7 +517,6 @@ public class StdAdjudicator implements Adjudicator {
         // step 2:
         // ensure that each unit has a corresponding OrderState. If a unit has no corresponding
         // OrderState, an OrderState with a Hold order is used.
-        Province[] unitList = position.getUnitProvinces();
         for (Province province : unitList) {
             if (!osMap.containsKey(province)) {
                 Unit unit = position.getUnit(province);
@@ -401,21 +529,21 @@ public class StdAdjudicator implements Adjudicator {
                 addResult(new SubstitutedResult(
                         null,
                         hold,
-                        Utils.getLocalString(STDADJ_MV_NO_ORDER, province)));
+                        isResultText ? STDADJ_MV_NO_ORDER : null,
+                        new Object[]{province}));
             }
         }
 
         // set OrderStates from our temporary list
         orderStates = osList.toArray(new OrderState[osList.size()]);
 
-        // null out unitList & orderList -- we don't need them (and shouldn't use them)
-        // (we'll get an NPE if we accidentaly use them later)
-        unitList = null;
-        orderList = null;
+        // null out osList -- we don't need it (and shouldn't use it)
+        // (we'll get an NPE if we accidentaly use it later)
         osList = null;
 
-        // integrity check: osList && osMap should have the same number of entries.
-        assert (orderStates.length == osMap.size());
+        // integrity check: osList && osMap should have the same number of entries
+        // (unless osMap is shared with other parts of the phase).
+        assert (isPartial || orderStates.length == osMap.size());
 
         // step 3: perform a complete validation of all orders
         ValidationOptions valOpts = new ValidationOptions();
@@ -434,9 +562,7 @@ public class StdAdjudicator implements Adjudicator {
                 // Then, replace the OrderState order with a Hold order. This prevents
                 // the adjudicator from using (or even knowing about) the invalid order
                 //
-                addResult(os, ResultType.VALIDATION_FAILURE,
-                        Utils.getLocalString(STDADJ_MV_BAD,
-                                oe.getMessage()));
+                addLocalizedResult(os, ResultType.VALIDATION_FAILURE, STDADJ_MV_BAD, oe.getMessage());
 
                 Hold hold = orderFactory.createHold(order.getPower(), order.getSource(),
                         order.getSourceUnitType());
@@ -452,12 +578,29 @@ public class StdAdjudicator implements Adjudicator {
         }
 
 
-        // step 4: calculate dependencies
+        stageCompleted(AdjudicationMonitor.STAGE_VALIDATION, stageNanos, stageAlloc, orderStates.length);
+    }// createMoveOrderStates()
+
+
+    /**
+     * Indexes the OrderStates, calculates dependencies, and verifies
+     * orders (steps 4-6). Returns the number of (valid) Move orders.
+     */
+    int verifyMoveOrders() {
+        long stageNanos = getMonitorNanos();
+        long stageAlloc = getMonitorAllocatedBytes();
+
+        // step 4: index orders, and calculate dependencies
+        buildOrderStateIndex();
+
         for (OrderState os : orderStates) {
             Order order = os.getOrder();
             order.determineDependencies(this);
         }
 
+        stageNanos = stageCompleted(AdjudicationMonitor.STAGE_DEPENDENCIES, stageNanos, stageAlloc, orderStates.length);
+        stageAlloc = getMonitorAllocatedBytes();
+
 
         // step 5: Order verification / automatic failures
 		/*
@@ -490,12 +633,14 @@ public class StdAdjudicator implements Adjudicator {
 		*/
         verifyOrders();
 
+        stageCompleted(AdjudicationMonitor.STAGE_VERIFICATION, stageNanos, stageAlloc, orderStates.length);
+
 
         // step 6:
         // count the total number of moves and total number of non-move orders.
         // NEVER count invalid moves.
-        int totalMoves = 0;
-        int totalNonMoves = 0;
+        totalMoves = 0;
+        totalNonMoves = 0;
 
         for (OrderState os : orderStates) {
             if (os.getOrder() instanceof Move) {
@@ -506,12 +651,26 @@ public class StdAdjudicator implements Adjudicator {
         }
 
         logger.debug("Moves to evaluate: {}, Non-moves to evaluate: {}", totalMoves, totalNonMoves);
+        return totalMoves;
+    }// verifyMoveOrders()
 
 
+    /**
+     * Evaluates orders (if <code>isEvaluated</code>), and determines which
+     * orders succeeded and which units were dislodged (steps 7-9). Returns
+     * <code>true</code> if any units of active Powers were dislodged.
+     * <p>
+     * Orders need not be evaluated if there are no Move orders, as then
+     * no units can be dislodged.
+     */
+    boolean resolveMoves(boolean isEvaluated) {
+        final long stageNanos = getMonitorNanos();
+        final long stageAlloc = getMonitorAllocatedBytes();
+
         // if we have no move orders, we have nothing to evaluate
         // and we cannot have any dislodged units.
         boolean areAnyUnitsDislodged = false;
-        if (totalMoves > 0) {
+        if (isEvaluated) {
             // Step 7:
             // evaluate all orders, until evaluation is complete OR
             // until we cannot break paradoxes any more (!)
@@ -523,6 +682,8 @@ public class StdAdjudicator implements Adjudicator {
                 }
             }
 
+            stageCompleted(AdjudicationMonitor.STAGE_EVALUATION, stageNanos, stageAlloc, orderStates.length);
+
 
             // Step 8:
             // a) convert 'maybe' dislodged to 'yes' disloged
@@ -618,6 +779,27 @@ public class StdAdjudicator implements Adjudicator {
             }
         }
 
+        return areAnyUnitsDislodged;
+    }// resolveMoves()
+
+
+    /**
+     * Completes a Movement phase which has been adjudicated in parts,
+     * given the resolved OrderStates of all parts.
+     */
+    void completeMoves(OrderState[] allOrderStates, boolean areAnyUnitsDislodged) {
+        orderStates = allOrderStates;
+        completeMoves(areAnyUnitsDislodged);
+    }// completeMoves()
+
+
+    /**
+     * Creates the next TurnState from the resolved OrderStates, and
+     * checks victory conditions, adjustments, and retreats (steps 11-13).
+     */
+    private void completeMoves(boolean areAnyUnitsDislodged) {
+        long stageNanos = getMonitorNanos();
+        long stageAlloc = getMonitorAllocatedBytes();
 
         // Step 11:
         // Determine the next phase. If there are no dislodged units, we can
@@ -625,7 +807,7 @@ public class StdAdjudicator implements Adjudicator {
         Phase oldPhase = turnState.getPhase();
         Phase nextPhase = oldPhase.getNext();
         if (!areAnyUnitsDislodged && nextPhase.getPhaseType() == Phase.PhaseType.RETREAT) {
-            addResult(new Result(Utils.getLocalString(STDADJ_SKIP_RETREAT)));
+            addInformationalResult(null, STDADJ_SKIP_RETREAT);
             nextPhase = nextPhase.getNext();
         }
 
@@ -660,8 +842,7 @@ public class StdAdjudicator implements Adjudicator {
                 } else {
                     // notify the power of what happened.
                     //
-                    addResult(new OrderResult(os.getOrder(),
-                            Utils.getLocalString(STDADJ_INACTIVE_POWER_DISLODGED)));
+                    addResult(createOrderResult(os.getOrder(), ResultType.TEXT, STDADJ_INACTIVE_POWER_DISLODGED));
                 }
             } else if (order instanceof Move
                     && os.getEvalState() == Tristate.SUCCESS) {
@@ -684,6 +865,9 @@ public class StdAdjudicator implements Adjudicator {
         }
 
 
+        stageNanos = stageCompleted(AdjudicationMonitor.STAGE_NEXT_TURN, stageNanos, stageAlloc, orderStates.length);
+        stageAlloc = getMonitorAllocatedBytes();
+
         // Step 12b:
         // See if victory conditions have been met; if they have, there is no need
         // for any additional phases, nor do we care about dislodged units.
@@ -693,8 +877,6 @@ public class StdAdjudicator implements Adjudicator {
             // finish current turnstate
             turnState.setResolved(true);
             resultList.addAll(vc.getEvaluationResults());
-            TimeResult completed = new TimeResult(STDADJ_COMPLETED);
-            addResult(completed);
 
             // nextTurnState:
             nextTurnState.setEnded(true);
@@ -702,8 +884,14 @@ public class StdAdjudicator implements Adjudicator {
 
             List<Result> nextResults = nextTurnState.getResultList();
             nextResults.addAll(vc.getEvaluationResults());
-            nextResults.add(completed);
 
+            if (isInformationalResults) {
+                TimeResult completed = new TimeResult(STDADJ_COMPLETED);
+                addResult(completed);
+                nextResults.add(completed);
+            }
+
+            stageCompleted(AdjudicationMonitor.STAGE_ADJUSTMENTS, stageNanos, stageAlloc, 0);
             return;
         }
 
@@ -712,6 +900,9 @@ public class StdAdjudicator implements Adjudicator {
         // then skip it.
         checkAdjustmentPhase();
 
+        stageNanos = stageCompleted(AdjudicationMonitor.STAGE_ADJUSTMENTS, stageNanos, stageAlloc, 0);
+        stageAlloc = getMonitorAllocatedBytes();
+
         // Step 13:
         // in cases where there are dislodged units, but the dislodged units have
         // no valid retreats, they are destroyed, instead of just dislodged.
@@ -734,8 +925,7 @@ public class StdAdjudicator implements Adjudicator {
                         nextPosition.setDislodgedUnit(prov, null);
 
                         // create unit destroyed message
-                        addResult(new Result(unit.getPower(),
-                                Utils.getLocalString(STDADJ_MV_UNIT_DESTROYED, unit.getType().getFullName(), prov)));
+                        addResult(createResult(unit.getPower(), STDADJ_MV_UNIT_DESTROYED, unit.getType().getFullName(), prov));
                     }
                 }
             }
@@ -744,14 +934,18 @@ public class StdAdjudicator implements Adjudicator {
                 // advance phase by 1. Inform players why.
                 Phase p = nextTurnState.getPhase().getNext();
                 nextTurnState.setPhase(p);
-                addResult(new Result(null, Utils.getLocalString(STDADJ_MV_PHASE_ADV_ALL_DESTROYED)));
+                addInformationalResult(null, STDADJ_MV_PHASE_ADV_ALL_DESTROYED);
             }
+
+            stageCompleted(AdjudicationMonitor.STAGE_RETREATS, stageNanos, stageAlloc, orderStates.length);
         }
 
         // Timestamp: Adjudication completed.
         turnState.setResolved(true);
-        addResult(new TimeResult(STDADJ_COMPLETED));
-    }// adjudicateMoves()
+        if (isInformationalResults) {
+            addResult(new TimeResult(STDADJ_COMPLETED));
+        }
+    }// completeMoves()
 
 
     /**
@@ -786,11 +980,16 @@ public class StdAdjudicator implements Adjudicator {
      * 'invalid' move orders are never ever counted!!
      */
     private boolean evaluateOrders(final int totalMoveOrderCount, final int totalNonMoveOrderCount) {
+        if (isWorklistEvaluation) {
+            return evaluateOrderWorklist(totalMoveOrderCount, totalNonMoveOrderCount);
+        }
+
         int lastNumMovesEvaluated = 0;
         int lastNumNonMovesEvaluated = 0;
         int iterations = 0;
 
         do {
+            final long iterationNanos = getMonitorNanos();
             int nMovesEvaluated = 0;
             int nNonMovesEvaluated = 0;
 
@@ -811,6 +1010,8 @@ public class StdAdjudicator implements Adjudicator {
                 }
             }
 
+            iterationCompleted(iterationNanos, orderStates.length);
+
             // check for paradox
             // NOTE: if totalMoveOrderCount == 0, we cannot have a paradox.
             //
@@ -841,6 +1042,269 @@ public class StdAdjudicator implements Adjudicator {
     }// evaluateOrders()
 
 
+    /**
+     * Worklist version of evaluateOrders(), with the same iterations: orders
+     * are evaluated in order, and iterations continue until all *move*
+     * orders are evaluated, or a paradox is detected. However, an order is
+     * only evaluated if an OrderState it depends upon has changed since it
+     * was last evaluated; otherwise, evaluating it would change nothing.
+     * <p>
+     * Initially, all orders are pending. When an order is evaluated, and
+     * the state of any OrderState it may alter (itself, and for Moves, the
+     * destination and head-to-head OrderStates) changes, all orders
+     * which depend upon the changed OrderState become pending. Those after
+     * the evaluated order are evaluated in the same iteration, and the
+     * others in the next iteration, as evaluateOrders() would. Orders with
+     * a certain evaluation state may still become pending, because their
+     * strengths (e.g., the attack strength of a failed Move) may still
+     * affect other orders.
+     */
+    private boolean evaluateOrderWorklist(final int totalMoveOrderCount, final int totalNonMoveOrderCount) {
+        final Map<OrderState, Integer> indices = new HashMap<>(orderStates.length * 2);
+        for (int i = 0; i < orderStates.length; i++) {
+            indices.put(orderStates[i], i);
+        }
+
+        final BitSet pending = new BitSet(orderStates.length);
+        pending.set(0, orderStates.length);
+        final Tristate[] evalStates = new Tristate[orderStates.length];
+
+        int lastNumMovesEvaluated = 0;
+        int lastNumNonMovesEvaluated = 0;
+        int iterations = 0;
+
+        do {
+            final long iterationNanos = getMonitorNanos();
+            int evaluations = 0;
+
+            // for logging statistics only:
+            iterations++;
+
+            for (int i = pending.nextSetBit(0); i >= 0; i = pending.nextSetBit(i + 1)) {
+                pending.clear(i);
+
+                final OrderState os = orderStates[i];
+                final Order order = os.getOrder();
+                final OrderState destOS;
+                final OrderState hthOS;
+                if (order instanceof Move) {
+                    destOS = findOrderStateBySrc(((Move) order).getDest());
+                    hthOS = os.getHeadToHead();
+                } else {
+                    destOS = null;
+                    hthOS = null;
+                }
+
+                final int osCount = os.getChangeCount();
+                final int destCount = (destOS == null) ? 0 : destOS.getChangeCount();
+                final int hthCount = (hthOS == null) ? 0 : hthOS.getChangeCount();
+
+                order.evaluate(this);
+                evaluations++;
+                evalStates[i] = os.getEvalState();
+
+                if (os.getChangeCount() != osCount) {
+                    markDependents(os, indices, pending);
+                }
+
+                if (destOS != null && destOS.getChangeCount() != destCount) {
+                    markDependents(destOS, indices, pending);
+                }
+
+                if (hthOS != null && hthOS != destOS && hthOS.getChangeCount() != hthCount) {
+                    markDependents(hthOS, indices, pending);
+                }
+            }
+
+            // determine how many orders are evaluated. As in evaluateOrders(),
+            // this is the evaluation state of each order when it was evaluated
+            // (orders which are not pending have not changed since).
+            int nMovesEvaluated = 0;
+            int nNonMovesEvaluated = 0;
+            for (int i = 0; i < orderStates.length; i++) {
+                if (evalStates[i] != Tristate.UNCERTAIN) {
+                    if (orderStates[i].getOrder() instanceof Move) {
+                        nMovesEvaluated++;
+                    } else {
+                        nNonMovesEvaluated++;
+                    }
+                }
+            }
+
+            iterationCompleted(iterationNanos, evaluations);
+
+            // check for paradox
+            // NOTE: if totalMoveOrderCount == 0, we cannot have a paradox.
+            //
+            if (totalMoveOrderCount > 0
+                    && nMovesEvaluated <= lastNumMovesEvaluated
+                    && nNonMovesEvaluated <= lastNumNonMovesEvaluated) {
+                logger.warn("Paradox detected (nMovesEvaluated: {}, lastNumMovesEvaluated: {}, nNonMovesEvaluated: {}, lastNumNonMovesEvaluated: {})",
+                        nMovesEvaluated,
+                        lastNumMovesEvaluated,
+                        nNonMovesEvaluated,
+                        lastNumNonMovesEvaluated
+                );
+
+                return false;
+            }
+
+            logger.debug("Iteration: {}; evaluations: {}", iterations, evaluations);
+            logger.debug("Orders: {} of {} (non-move) evaluated", nNonMovesEvaluated, totalNonMoveOrderCount);
+            logger.debug("Move orders: {} of {} evaluated", nMovesEvaluated, totalMoveOrderCount);
+
+            // set last evaluated, so next iteration can be compared.
+            lastNumMovesEvaluated = nMovesEvaluated;
+            lastNumNonMovesEvaluated = nNonMovesEvaluated;
+
+        } while (lastNumMovesEvaluated < totalMoveOrderCount);
+
+        return true;
+    }// evaluateOrderWorklist()
+
+
+    /**
+     * Marks the given OrderState, and all OrderStates that may depend upon
+     * it, as pending. Dependents are:
+     * <ul>
+     * <li>dependent supports, self-supports, moves to source, and moves to destination</li>
+     * <li>the head-to-head Move, if any</li>
+     * <li>Moves to the source of the OrderState (which may be affected by the defender)</li>
+     * <li>for a Move, the order in the destination (which may be dislodged)</li>
+     * <li>for a Support, the supported order</li>
+     * <li>for a Convoy, the convoyed Move</li>
+     * </ul>
+     */
+    private void markDependents(OrderState os, Map<OrderState, Integer> indices, BitSet pending) {
+        mark(os, indices, pending);
+        mark(os.getDependentSupports(), indices, pending);
+        mark(os.getDependentSelfSupports(), indices, pending);
+        mark(os.getDependentMovesToSource(), indices, pending);
+        mark(os.getDependentMovesToDestination(), indices, pending);
+        mark(os.getHeadToHead(), indices, pending);
+
+        for (OrderState mtsOS : osIndex.getMovesTo(os.getSourceProvince())) {
+            mark(mtsOS, indices, pending);
+        }
+
+        final Order order = os.getOrder();
+        if (order instanceof Move) {
+            mark(findOrderStateBySrc(((Move) order).getDest()), indices, pending);
+        } else if (order instanceof Support) {
+            mark(findOrderStateBySrc(((Support) order).getSupportedSrc()), indices, pending);
+        } else if (order instanceof Convoy) {
+            mark(osIndex.getMoveFrom(((Convoy) order).getConvoySrc().getProvince()), indices, pending);
+        }
+    }// markDependents()
+
+
+    /**
+     * Marks all given OrderStates as pending.
+     */
+    private void mark(OrderState[] osArray, Map<OrderState, Integer> indices, BitSet pending) {
+        for (OrderState os : osArray) {
+            mark(os, indices, pending);
+        }
+    }// mark()
+
+
+    /**
+     * Marks an OrderState as pending, if not null.
+     */
+    private void mark(OrderState os, Map<OrderState, Integer> indices, BitSet pending) {
+        if (os != null) {
+            pending.set(indices.get(os));
+        }
+    }// mark()
+
+
+    /**
+     * True if a monitor (other than AdjudicationMonitor.NONE) is set.
+     */
+    private boolean isMonitored() {
+        return monitor != AdjudicationMonitor.NONE;
+    }// isMonitored()
+
+
+    /**
+     * Returns System.nanoTime() if monitored; 0 otherwise.
+     */
+    private long getMonitorNanos() {
+        return isMonitored() ? System.nanoTime() : 0L;
+    }// getMonitorNanos()
+
+
+    /**
+     * Returns the bytes allocated by the current thread if monitored
+     * and supported by the JVM; -1 otherwise.
+     */
+    private long getMonitorAllocatedBytes() {
+        if (isMonitored() && THREAD_MX instanceof com.sun.management.ThreadMXBean) {
+            return ((com.sun.management.ThreadMXBean) THREAD_MX).getThreadAllocatedBytes(
+                    Thread.currentThread().getId());
+        }
+
+        return -1L;
+    }// getMonitorAllocatedBytes()
+
+
+    /**
+     * Returns the bytes allocated since the given starting count,
+     * or -1 if unknown.
+     */
+    private long getAllocatedDelta(long startAlloc) {
+        if (startAlloc < 0) {
+            return -1L;
+        }
+
+        final long alloc = getMonitorAllocatedBytes();
+        return (alloc < 0) ? -1L : alloc - startAlloc;
+    }// getAllocatedDelta()
+
+
+    /**
+     * Reports a completed stage to the monitor, if any. Returns the
+     * current time (for use as the start of the next stage).
+     */
+    private long stageCompleted(String stage, long startNanos, long startAlloc, int orderCount) {
+        if (!isMonitored()) {
+            return 0L;
+        }
+
+        final long now = System.nanoTime();
+        monitor.stageCompleted(turnState, stage, now - startNanos, getAllocatedDelta(startAlloc), orderCount);
+        return now;
+    }// stageCompleted()
+
+
+    /**
+     * Counts an evaluation iteration, and reports it to the monitor, if any.
+     */
+    private void iterationCompleted(long startNanos, int evaluated) {
+        evalIterations++;
+
+        if (isMonitored()) {
+            final long nanos = System.nanoTime() - startNanos;
+            int resolved = 0;
+            for (OrderState os : orderStates) {
+                if (os.getEvalState() != Tristate.UNCERTAIN) {
+                    resolved++;
+                }
+            }
+
+            monitor.iterationCompleted(turnState, evalIterations, nanos, evaluated, resolved);
+        }
+    }// iterationCompleted()
+
+
+    /**
+     * Number of OrderStates, or 0 if none have been created.
+     */
+    private int getOrderStateCount() {
+        return (orderStates == null) ? 0 : orderStates.length;
+    }// getOrderStateCount()
+
+
     /**
      * If an unresolved paradox was detected, this returns true. This is
      * mostly intended for debugging.
@@ -850,6 +1314,41 @@ public class StdAdjudicator implements Adjudicator {
     }// isUnresolvedParadox()
 
 
+    /**
+     * Number of paradox-breaking attempts made.
+     */
+    int getParadoxBreakCount() {
+        return paradoxBreakAttempt;
+    }// getParadoxBreakCount()
+
+
+    /**
+     * Number of times the Szykman rule was applied.
+     */
+    int getSzykmanCount() {
+        return syzkmanAppliedCount;
+    }// getSzykmanCount()
+
+
+    /**
+     * Adds the paradox Results for a Movement phase adjudicated in parts,
+     * which partial adjudicators do not create: a notice for each application
+     * of the Szykman rule, and, if <code>unresolvedAttempt</code> is nonzero,
+     * an unresolved paradox Result. Paradoxes are broken in every part at
+     * once, so these are the largest counts of any part.
+     */
+    void addParadoxResults(int szykmanCount, int unresolvedAttempt) {
+        for (int i = 0; i < szykmanCount; i++) {
+            addInformationalResult(null, STDADJ_MV_SZYKMAN_NOTICE);
+        }
+
+        if (unresolvedAttempt > 0) {
+            addResult(createResult(null, STDADJ_MV_UNRESOLVED_PARADOX, unresolvedAttempt));
+            isUnRezParadox = true;
+        }
+    }// addParadoxResults()
+
+
     /**
      * Returns true if we have a method to attempt to break a paradox.
      * returns false if we have no further paradox-breaking ideas.
@@ -873,8 +1372,9 @@ public class StdAdjudicator implements Adjudicator {
 
         // prevent infinite loop.....
         if (syzkmanAppliedCount > 10) {
-            addResult(new Result(null,
-                    Utils.getLocalString(STDADJ_MV_UNRESOLVED_PARADOX, paradoxBreakAttempt)));
+            if (!isPartial) {
+                addResult(createResult(null, STDADJ_MV_UNRESOLVED_PARADOX, paradoxBreakAttempt));
+            }
 
             logger.debug("paradox: order status:");
             for (OrderState os : orderStates) {
@@ -886,13 +1386,18 @@ public class StdAdjudicator implements Adjudicator {
         }
 
 
+        final long stageNanos = getMonitorNanos();
+        final long stageAlloc = getMonitorAllocatedBytes();
+
         if (paradoxBreakAttempt == 1) {
             breakCircularParadox();
+            stageCompleted(AdjudicationMonitor.STAGE_CIRCULAR_PARADOX, stageNanos, stageAlloc, orderStates.length);
             return true;
         } else {
             // try szykman
             syzkmanAppliedCount++;
             breakParadoxSzykman();
+            stageCompleted(AdjudicationMonitor.STAGE_SZYKMAN_PARADOX, stageNanos, stageAlloc, orderStates.length);
             return true;
         }
     }// canBreakParadox()
@@ -940,7 +1445,9 @@ public class StdAdjudicator implements Adjudicator {
      * 	</pre>
      */
     private void breakParadoxSzykman() {
-        addResult(new Result(null, Utils.getLocalString(STDADJ_MV_SZYKMAN_NOTICE)));
+        if (!isPartial) {
+            addInformationalResult(null, STDADJ_MV_SZYKMAN_NOTICE);
+        }
         logger.trace("Applying Szykman Rule to break paradox.");
 
         for (OrderState os : orderStates) {
@@ -957,7 +1464,7 @@ public class StdAdjudicator implements Adjudicator {
                         if (itos.getEvalState() == Tristate.UNCERTAIN) {
                             logger.info("*** Syzkman rule applied to this move!!!");
                             os.setEvalState(Tristate.FAILURE);
-                            addResult(os, ResultType.FAILURE, Utils.getLocalString(STDADJ_MV_SZYKMAN_MOVE_FAILED));
+                            addLocalizedResult(os, ResultType.FAILURE, STDADJ_MV_SZYKMAN_MOVE_FAILED);
                             break;
                         }
                     }
@@ -968,6 +1475,16 @@ public class StdAdjudicator implements Adjudicator {
     }
 
 
+    /**
+     * Builds the OrderStateIndex from the current OrderStates. This must
+     * be done after all orders have been validated (and substituted, if
+     * invalid), but before dependencies are determined.
+     */
+    private void buildOrderStateIndex() {
+        osIndex = new OrderStateIndex(orderStates, world.getMap().getProvinces().length);
+    }// buildOrderStateIndex()
+
+
     /**
      * Verifies orders in a loop. Order verification can have dependencies,
      * but extreme caution should be taken when implementing Order.verify()
@@ -1012,6 +1529,9 @@ public class StdAdjudicator implements Adjudicator {
      * Adjudicates the Retreat phase
      */
     private void adjudicateRetreats() {
+        long stageNanos = getMonitorNanos();
+        long stageAlloc = getMonitorAllocatedBytes();
+
         // step 1:
         // create orderstate mapping (province==>OrderState); REQUIRED by Adjudicator.java
         // ensure that each dislodged unit has one, and only one, order.
@@ -1029,15 +1549,14 @@ public class StdAdjudicator implements Adjudicator {
             if (position.hasDislodgedUnit(province)) {
                 OrderState oldOS = osMap.get(province);
                 if (oldOS != null) {
-                    addResult(new OrderResult(oldOS.getOrder(),
-                            Utils.getLocalString(STDADJ_DUP_ORDER, os.getOrder())));
+                    addResult(createOrderResult(oldOS.getOrder(), ResultType.TEXT, STDADJ_DUP_ORDER, os.getOrder()));
                     osList.remove(oldOS);    // we don't want duplicates in osList
                 }
 
                 osMap.put(province, os);
                 osList.add(os);
             } else {
-                addResult(new OrderResult(order, Utils.getLocalString(STDADJ_RET_BAD_UNIT)));
+                addResult(createOrderResult(order, ResultType.TEXT, STDADJ_RET_BAD_UNIT));
             }
         }
 
@@ -1051,8 +1570,7 @@ public class StdAdjudicator implements Adjudicator {
                 Unit unit = position.getDislodgedUnit(province);
                 Disband disband = orderFactory.createDisband(unit.getPower(), new Location(province, unit.getCoast()), unit.getType());
                 OrderState os = new OrderState(disband);
-                addResult(new Result(unit.getPower(),
-                        Utils.getLocalString(STDADJ_RET_NO_ORDER, province)));
+                addResult(createResult(unit.getPower(), STDADJ_RET_NO_ORDER, province));
 
                 osList.add(os);
                 osMap.put(os.getSourceProvince(), os);
@@ -1085,23 +1603,33 @@ public class StdAdjudicator implements Adjudicator {
                 // just in case we didn't turn off all warnings; do nothing
             } catch (OrderException oe) {
                 // all illegal orders are changed to Disband orders
-                addResult(os, ResultType.VALIDATION_FAILURE,
-                        Utils.getLocalString(STDADJ_RET_VAL_FAIL, oe.getMessage()));
+                addLocalizedResult(os, ResultType.VALIDATION_FAILURE, STDADJ_RET_VAL_FAIL, oe.getMessage());
                 os.setOrder(orderFactory.createDisband(order.getPower(), order.getSource(), order.getSourceUnitType()));
             }
         }
 
 
-        // step 4: calculate dependencies
+        stageNanos = stageCompleted(AdjudicationMonitor.STAGE_VALIDATION, stageNanos, stageAlloc, orderStates.length);
+        stageAlloc = getMonitorAllocatedBytes();
+
+        // step 4: index orders, and calculate dependencies
+        buildOrderStateIndex();
+
         for (OrderState os : orderStates) {
             Order order = os.getOrder();
             order.determineDependencies(this);
         }
 
+        stageNanos = stageCompleted(AdjudicationMonitor.STAGE_DEPENDENCIES, stageNanos, stageAlloc, orderStates.length);
+        stageAlloc = getMonitorAllocatedBytes();
+
 
         // step 5: Order verification / automatic failures
         verifyOrders();
 
+        stageNanos = stageCompleted(AdjudicationMonitor.STAGE_VERIFICATION, stageNanos, stageAlloc, orderStates.length);
+        stageAlloc = getMonitorAllocatedBytes();
+
         // step 6:
         // count the total number of moves (retreats) and total number of non-move orders.
         // NEVER count invalid moves.
@@ -1124,6 +1652,8 @@ public class StdAdjudicator implements Adjudicator {
             throw new IllegalStateException("ERROR: retreat paradox detected");
         }
 
+        stageCompleted(AdjudicationMonitor.STAGE_EVALUATION, stageNanos, stageAlloc, orderStates.length);
+
 
         // Step 7:
         // a) Create SUCCESS and FAILURE results
@@ -1136,6 +1666,9 @@ public class StdAdjudicator implements Adjudicator {
         }
 
 
+        stageNanos = getMonitorNanos();
+        stageAlloc = getMonitorAllocatedBytes();
+
         // Step 9:
         // Create the next TurnState. This is derived from the current turnstate,
         // with the Map derived from the current Map.
@@ -1179,14 +1712,21 @@ public class StdAdjudicator implements Adjudicator {
         }
 
 
+        stageNanos = stageCompleted(AdjudicationMonitor.STAGE_NEXT_TURN, stageNanos, stageAlloc, orderStates.length);
+        stageAlloc = getMonitorAllocatedBytes();
+
         // Step 11:
         // Determine if next phase is an Adjustmeent phase. If so, determine
         // if we can skip it.
         checkAdjustmentPhase();
 
+        stageCompleted(AdjudicationMonitor.STAGE_ADJUSTMENTS, stageNanos, stageAlloc, 0);
+
         // Timestamp: Adjudication completed.
         turnState.setResolved(true);
-        addResult(new TimeResult(STDADJ_COMPLETED));
+        if (isInformationalResults) {
+            addResult(new TimeResult(STDADJ_COMPLETED));
+        }
     }// adjudicateRetreats()
 
 
@@ -1202,6 +1742,9 @@ public class StdAdjudicator implements Adjudicator {
      * </ol>
      */
     private void adjudicateAdjustment() {
+        long stageNanos = getMonitorNanos();
+        long stageAlloc = getMonitorAllocatedBytes();
+
         // Step 1: get adjustment information
         Power[] powers = world.getMap().getPowers();
         Adjustment.AdjustmentInfoMap adjustmentMap = Adjustment.getAdjustmentInfo(turnState, ruleOpts, powers);
@@ -1215,10 +1758,17 @@ public class StdAdjudicator implements Adjudicator {
             turnState.setEnded(true);
             turnState.setResolved(true);
             resultList.addAll(vc.getEvaluationResults());
-            addResult(new TimeResult(STDADJ_COMPLETED));
+            if (isInformationalResults) {
+                addResult(new TimeResult(STDADJ_COMPLETED));
+            }
+
+            stageCompleted(AdjudicationMonitor.STAGE_ADJUSTMENTS, stageNanos, stageAlloc, 0);
             return;
         }
 
+        stageNanos = stageCompleted(AdjudicationMonitor.STAGE_ADJUSTMENTS, stageNanos, stageAlloc, 0);
+        stageAlloc = getMonitorAllocatedBytes();
+
 
         // step 3
         // match orders to actions. If there are extra valid build or remove orders,
@@ -1251,13 +1801,13 @@ public class StdAdjudicator implements Adjudicator {
                 Order order = (Order) orderable;
 
                 if (order instanceof Remove && adjAmount > 0) {
-                    addResult(new OrderResult(order, Utils.getLocalString(STDADJ_ADJ_IGNORED_MUST_BUILD)));
+                    addResult(createOrderResult(order, ResultType.TEXT, STDADJ_ADJ_IGNORED_MUST_BUILD));
                 } else if (order instanceof Build && adjAmount < 0) {
-                    addResult(new OrderResult(order, Utils.getLocalString(STDADJ_ADJ_IGNORED_MUST_REMOVE)));
+                    addResult(createOrderResult(order, ResultType.TEXT, STDADJ_ADJ_IGNORED_MUST_REMOVE));
                 } else if (adjAmount == 0) {
-                    addResult(new OrderResult(order, Utils.getLocalString(STDADJ_ADJ_IGNORED_NO_CHANGE)));
+                    addResult(createOrderResult(order, ResultType.TEXT, STDADJ_ADJ_IGNORED_NO_CHANGE));
                 } else if (orderCount >= Math.abs(adjAmount)) {
-                    addResult(new OrderResult(order, Utils.getLocalString(STDADJ_ADJ_IGNORED_TOO_MANY)));
+                    addResult(createOrderResult(order, ResultType.TEXT, STDADJ_ADJ_IGNORED_TOO_MANY));
                 } else {
                     try {
                         order.validate(turnState, valOpts, ruleOpts);
@@ -1271,15 +1821,12 @@ public class StdAdjudicator implements Adjudicator {
                         } else {
                             // duplicate or duplicate for space; we already have
                             // a valid order.
-                            addResult(new OrderResult(order, ResultType.FAILURE,
-                                    Utils.getLocalString(STDADJ_ADJ_IGNORED_DUPLICATE,
-                                            order.getSource().getProvince())));
+                            addResult(createOrderResult(order, ResultType.FAILURE, STDADJ_ADJ_IGNORED_DUPLICATE, order.getSource().getProvince()));
                         }
                     } catch (OrderWarning ow) {
                         // just in case we didn't turn off all warnings; do nothing
                     } catch (OrderException oe) {
-                        addResult(new OrderResult(order, ResultType.VALIDATION_FAILURE,
-                                Utils.getLocalString(STDADJ_ADJ_IGNORED_INVALID, oe.getMessage())));
+                        addResult(createOrderResult(order, ResultType.VALIDATION_FAILURE, STDADJ_ADJ_IGNORED_INVALID, oe.getMessage()));
                     }
                 }
             }// while(orders-for-power)
@@ -1287,8 +1834,7 @@ public class StdAdjudicator implements Adjudicator {
             // it is legal for a power to not use all the build orders, but if that occurs,
             // a result indicating that some builds were unused is created
             if (ai.getAdjustmentAmount() > 0 && orderCount < ai.getAdjustmentAmount()) {
-                addResult(new Result(power,
-                        Utils.getLocalString(STDADJ_ADJ_BUILDS_UNUSED, adjAmount - orderCount)));
+                addInformationalResult(power, STDADJ_ADJ_BUILDS_UNUSED, adjAmount - orderCount);
             }
 
             // While builds are optional (they may be waived), removes are not.
@@ -1299,7 +1845,7 @@ public class StdAdjudicator implements Adjudicator {
             // clear the list when done
             int ordersToMake = adjAmount + orderCount;
             if (ordersToMake < 0) {
-                addResult(new Result(power, Utils.getLocalString(STDADJ_ADJ_TOO_FEW_DISBANDS)));
+                addResult(createResult(power, STDADJ_ADJ_TOO_FEW_DISBANDS));
                 createRemoveOrders(osList, power, Math.abs(ordersToMake));
             }
         }// for(power)
@@ -1310,15 +1856,23 @@ public class StdAdjudicator implements Adjudicator {
 
         assert (osMap.size() == orderStates.length);
 
+        stageNanos = stageCompleted(AdjudicationMonitor.STAGE_VALIDATION, stageNanos, stageAlloc, orderStates.length);
+        stageAlloc = getMonitorAllocatedBytes();
+
         // step 4: calculate dependencies
         // NOTE: while no orders currently use this, it's here for future use (thus a variant
         // could subclass Build or Remove but not have to subclass StdAdjudicator)
+        buildOrderStateIndex();
+
         for (OrderState os : orderStates) {
             Order order = os.getOrder();
             order.determineDependencies(this);
         }
 
 
+        stageNanos = stageCompleted(AdjudicationMonitor.STAGE_DEPENDENCIES, stageNanos, stageAlloc, orderStates.length);
+        stageAlloc = getMonitorAllocatedBytes();
+
         // step 5: Order verification / automatic failures
         // NOTE: while no orders currently use this, it's here for future use (thus a variant
         // could subclass Build or Remove but not have to subclass StdAdjudicator)
@@ -1344,6 +1898,9 @@ public class StdAdjudicator implements Adjudicator {
             }
         }
 
+        stageNanos = stageCompleted(AdjudicationMonitor.STAGE_VERIFICATION, stageNanos, stageAlloc, orderStates.length);
+        stageAlloc = getMonitorAllocatedBytes();
+
         // step 6
         // single-pass adjudication (order evaluation)
         for (OrderState os : orderStates) {
@@ -1353,6 +1910,10 @@ public class StdAdjudicator implements Adjudicator {
             assert (os.getEvalState() != Tristate.UNCERTAIN);
         }
 
+        iterationCompleted(stageNanos, orderStates.length);
+
+        stageCompleted(AdjudicationMonitor.STAGE_EVALUATION, stageNanos, stageAlloc, orderStates.length);
+
 
         // step 8
         // create success results for all successful orders
@@ -1366,6 +1927,9 @@ public class StdAdjudicator implements Adjudicator {
         }
 
 
+        stageNanos = getMonitorNanos();
+        stageAlloc = getMonitorAllocatedBytes();
+
         // step 9
         // determine the next phase [always a move phase; do not skip]
         Phase oldPhase = turnState.getPhase();
@@ -1414,13 +1978,17 @@ public class StdAdjudicator implements Adjudicator {
             // check for player elimination
             if (ai.getSupplyCenterCount() == 0) {
                 nextPosition.setEliminated(power, true);
-                addResult(new Result(power, Utils.getLocalString(STDADJ_ADJ_ELIMINATED, power.getName())));
+                addResult(createResult(power, STDADJ_ADJ_ELIMINATED, power.getName()));
             }
         }
 
+        stageCompleted(AdjudicationMonitor.STAGE_NEXT_TURN, stageNanos, stageAlloc, orderStates.length);
+
         // Timestamp: Adjudication completed.
         turnState.setResolved(true);
-        addResult(new TimeResult(STDADJ_COMPLETED));
+        if (isInformationalResults) {
+            addResult(new TimeResult(STDADJ_COMPLETED));
+        }
     }// adjudicateAdjustment()
 
 
@@ -1497,7 +2065,7 @@ public class StdAdjudicator implements Adjudicator {
             }
 
             if (ties.size() == 0) {
-                addResult(new Result(power, Utils.getLocalString(STDADJ_ADJ_NO_MORE_DISBANDS)));
+                addResult(createResult(power, STDADJ_ADJ_NO_MORE_DISBANDS));
                 return;    // exit if no more units!!
             } else {
                 // complex case, DPTG compliant.
@@ -1538,8 +2106,7 @@ public class StdAdjudicator implements Adjudicator {
         OrderState os = new OrderState(remove);
         osMap.put(province, os);
         osList.add(os);
-        addResult(new Result(unit.getPower(),
-                Utils.getLocalString(STDADJ_ADJ_DISBAND_ORDER, unit.getType().getFullName(), province)));
+        addResult(createResult(unit.getPower(), STDADJ_ADJ_DISBAND_ORDER, unit.getType().getFullName(), province));
     }// createDisbandOrder()
 
 
@@ -1591,7 +2158,6 @@ public class StdAdjudicator implements Adjudicator {
     private void checkAdjustmentPhase() {
         if (nextTurnState.getPhase().getPhaseType() == Phase.PhaseType.ADJUSTMENT) {
             boolean canSkipAdjustment = true;
-            Object[] args = new Object[1];
 
             Power[] powers = world.getMap().getPowers();
             for (Power power : powers) {
@@ -1602,26 +2168,18 @@ public class StdAdjudicator implements Adjudicator {
                     canSkipAdjustment = false;
 
                     // write adjustment results
-                    // NOTE: it's difficult to believe, but 1/3 of the time (more, before
-                    // the patterns we cached as statics) of checkAdjustmentPhase() was spent
-                    // in MessageFormat. (MFRemove/MFBuild).
-                    //
-                    // using String.valueOf() instead of new Integer() results in a MASSIVE
-                    // speed improvment.
+                    // NOTE: messages are formatted only when displayed; String.valueOf()
+                    // is used (rather than an Integer) to avoid number formatting.
                     if (adjAmount < 0) {
-                        args[0] = String.valueOf(-adjAmount);    // 'abs'
-                        addResult(new Result(power, MFRemove.format(args)));
-                    } else if (adjAmount > 0) {
-                        args[0] = String.valueOf(adjAmount);
-                        addResult(new Result(power, MFBuild.format(args)));
+                        addInformationalResult(power, STDADJ_PREADJ_TOREMOVE, String.valueOf(-adjAmount));
                     } else {
-                        addResult(new Result(power, Utils.getLocalString(STDADJ_PREADJ_TONEITHER)));
+                        addInformationalResult(power, STDADJ_PREADJ_TOBUILD, String.valueOf(adjAmount));
                     }
                 }
             }
 
             if (canSkipAdjustment) {
-                addResult(new Result(Utils.getLocalString(STDADJ_SKIP_ADJUSTMENT)));
+                addInformationalResult(null, STDADJ_SKIP_ADJUSTMENT);
 
                 // we RE-set the phase in nextTurnState.
                 Phase p = nextTurnState.getPhase().getNext();
@@ -1632,54 +2190,39 @@ public class StdAdjudicator implements Adjudicator {
 
 
     /**
-     * Find all OrderStates with Move orders to the given destination.
-     * <p>
-     * The returned List is guaranteed to be filled with Move orders only
+     * Creates a Result with the given localized message, which will be
+     * formatted when first required (or no message, if result text is disabled).
      */
-    private List findMovesTo(Province moveDest) {
-        ArrayList<Order> list = new ArrayList<>(6); //todo: i kind of feel this method should return this list
+    private Result createResult(Power power, String key, Object... args) {
+        return new Result(power, isResultText ? key : null, args);
+    }// createResult()
 
-        for (OrderState os : orderStates) {
-            Order order = os.getOrder();
-            if (order instanceof Move
-                    && moveDest == ((Move) order).getDest().getProvince()) {
-                list.add(order);
-            }
-        }
 
-        return null;
-    }// findMovesTo()
+    /**
+     * Creates an OrderResult with the given localized message, which will be
+     * formatted when first required (or no message, if result text is disabled).
+     */
+    private OrderResult createOrderResult(Orderable order, ResultType type, String key, Object... args) {
+        return new OrderResult(order, type, isResultText ? key : null, args);
+    }// createOrderResult()
 
 
     /**
-     * Find the OrderState corresponding to the given Move order
+     * Adds a Result with the given localized message, if informational
+     * results are enabled.
      */
-    private OrderState findMove(Province src, Province dest) {
-        for (OrderState os : orderStates) {
-            Order order = os.getOrder();
-            if (order instanceof Move
-                    && order.getSource().isProvinceEqual(src)
-                    && ((Move) order).getDest().isProvinceEqual(dest)) {
-                return os;
-            }
+    private void addInformationalResult(Power power, String key, Object... args) {
+        if (isInformationalResults) {
+            addResult(createResult(power, key, args));
         }
+    }// addInformationalResult()
 
-        return null;
-    }// findMove()
 
     /**
      * Find the OrderState for a Move originating from the given Province
      */
     private OrderState findMoveFrom(Province src) {
-        for (OrderState os : orderStates) {
-            Order order = os.getOrder();
-            if (order instanceof Move
-                    && order.getSource().isProvinceEqual(src)) {
-                return os;
-            }
-        }
-
-        return null;
+        return osIndex.getMoveFrom(src);
     }// findMoveFrom()
 
     /**
@@ -1703,19 +2246,7 @@ public class StdAdjudicator implements Adjudicator {
      * orders for the given Move order
      */
     private List<OrderState> getConvoyList(Move move) {
-        ArrayList<OrderState> list = new ArrayList<>(8);
-
-        for (OrderState os : orderStates) {
-            if (os.getOrder() instanceof Convoy) {
-                Convoy convoy = (Convoy) os.getOrder();
-                if (convoy.getConvoySrc().isProvinceEqual(move.getSource())
-                        && convoy.getConvoyDest().isProvinceEqual(move.getDest())) {
-                    list.add(os);
-                }
-            }
-        }
-
-        return list;
+        return osIndex.getConvoys(move.getSource().getProvince(), move.getDest().getProvince());
     }// getConvoyList()
 
     /**
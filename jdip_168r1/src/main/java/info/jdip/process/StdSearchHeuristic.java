@@ -0,0 +1,124 @@
+//
+//  @(#)StdSearchHeuristic.java	1.00	10/2026
+//
+//
+//  This program is free software; you can redistribute it and/or modify
+//  it under the terms of the GNU General Public License as published by
+//  the Free Software Foundation; either version 2 of the License, or
+//  (at your option) any later version.
+//
+//  This program is distributed in the hope that it will be useful,
+//  but WITHOUT ANY WARRANTY; without even the implied warranty of
+//  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//  GNU General Public License for more details.
+//
+//  You should have received a copy of the GNU General Public License
+//  along with this program; if not, write to the Free Software
+//  Foundation, Inc., 675 Mass Ave, Cambridge, MA 02139, USA.
+//  Or from http://www.gnu.org/
+//
+package info.jdip.process;
+
+import info.jdip.world.Path;
+import info.jdip.world.Position;
+import info.jdip.world.Power;
+import info.jdip.world.Province;
+import info.jdip.world.Unit;
+
+
+/**
+ * A simple SearchHeuristic, based upon supply centers.
+ * <p>
+ * The score is the weighted sum of:
+ * <ul>
+ * <li>the number of supply centers held by the Power; a supply center
+ * is held if it is occupied by a unit of the Power, or is owned by the
+ * Power and not occupied by another Power</li>
+ * <li>for each unit of the Power, 1 / (1 + d), where d is the minimum
+ * distance (see Path.getMinDistance()) to a supply center not held</li>
+ * <li>the number of dislodged units of the Power (a negative weight)</li>
+ * </ul>
+ */
+public class StdSearchHeuristic implements SearchHeuristic {
+    private final double scWeight;
+    private final double distanceWeight;
+    private final double dislodgedWeight;
+
+
+    /**
+     * Create a StdSearchHeuristic with default weights.
+     */
+    public StdSearchHeuristic() {
+        this(1.0, 0.25, -0.5);
+    }// StdSearchHeuristic()
+
+
+    /**
+     * Create a StdSearchHeuristic with the given weights.
+     */
+    public StdSearchHeuristic(double scWeight, double distanceWeight, double dislodgedWeight) {
+        this.scWeight = scWeight;
+        this.distanceWeight = distanceWeight;
+        this.dislodgedWeight = dislodgedWeight;
+    }// StdSearchHeuristic()
+
+
+    /**
+     * Score the given Outcome for the given Power.
+     */
+    public double evaluate(Power power, Simulation.Outcome outcome) {
+        final Position position = outcome.getPosition();
+        final Province[] provinces = position.getProvinces();
+        final Path path = new Path(position);
+        double score = 0.0;
+
+        // supply centers held
+        for (Province province : provinces) {
+            if (province != null && province.hasSupplyCenter() && isHeld(position, province, power)) {
+                score += scWeight;
+            }
+        }
+
+        // distance of units to the nearest supply center not held
+        for (Province src : position.getUnitProvinces()) {
+            if (position.getUnit(src).getPower() == power) {
+                int minDist = Integer.MAX_VALUE;
+                for (Province province : provinces) {
+                    if (province != null && province.hasSupplyCenter() && !isHeld(position, province, power)) {
+                        final int d = path.getMinDistance(src, province);
+                        if (d >= 0 && d < minDist) {
+                            minDist = d;
+                        }
+                    }
+                }
+
+                if (minDist != Integer.MAX_VALUE) {
+                    score += distanceWeight / (1 + minDist);
+                }
+            }
+        }
+
+        // dislodged units
+        for (Province province : position.getDislodgedUnitProvinces()) {
+            if (position.getDislodgedUnit(province).getPower() == power) {
+                score += dislodgedWeight;
+            }
+        }
+
+        return score;
+    }// evaluate()
+
+
+    /**
+     * True if the supply center in the given Province is held by the given Power.
+     */
+    private static boolean isHeld(Position position, Province province, Power power) {
+        final Unit unit = position.getUnit(province);
+        if (unit != null) {
+            return (unit.getPower() == power);
+        }
+
+        return (position.getSupplyCenterOwner(province) == power);
+    }// isHeld()
+
+}// class StdSearchHeuristic
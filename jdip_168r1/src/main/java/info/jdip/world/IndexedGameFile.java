@@ -0,0 +1,776 @@
+//
+//  @(#)IndexedGameFile.java	1.00	10/2026
+//
+//
+//  This program is free software; you can redistribute it and/or modify
+//  it under the terms of the GNU General Public License as published by
+//  the Free Software Foundation; either version 2 of the License, or
+//  (at your option) any later version.
+//
+//  This program is distributed in the hope that it will be useful,
+//  but WITHOUT ANY WARRANTY; without even the implied warranty of
+//  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//  GNU General Public License for more details.
+//
+//  You should have received a copy of the GNU General Public License
+//  along with this program; if not, write to the Free Software
+//  Foundation, Inc., 675 Mass Ave, Cambridge, MA 02139, USA.
+//  Or from http://www.gnu.org/
+//
+package info.jdip.world;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.io.ObjectStreamException;
+import java.io.OutputStream;
+import java.io.RandomAccessFile;
+import java.io.Serializable;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+
+/**
+ * Reads and writes indexed game files.
+ * <p>
+ * The original game file format is a single compressed JSX document holding the
+ * entire World, which must be completely read when opened and completely rewritten
+ * when saved. An indexed game file instead holds the Map, the non-turn World data,
+ * and each TurnState as separately compressed JSX records, followed by an index of
+ * record offsets. Thus:
+ * <ol>
+ * <li>TurnStates are read on demand (see World.getTurnState()), not when opened
+ * <li>saving to the file that was opened appends only the non-turn data, modified
+ * TurnStates, and a new index; TurnStates that were not modified (or never loaded)
+ * are not rewritten (see World.setTurnStateModified()).
+ * </ol>
+ * <p>
+ * Layout: a header [magic][version], followed by records, each of which is
+ * [int length][byte type][data]. Each index record is followed by a trailer
+ * [long index offset][magic]; the trailer at the end of the file locates the
+ * current index. Superseded records are left in place by an append, and are
+ * discarded when the file is compacted (completely rewritten).
+ * <p>
+ * Within the non-turn data and TurnState records, the Map, its Powers and Provinces,
+ * the World, and TurnStates held by the World (other than the TurnState of the record
+ * itself) are written as references, which are resolved against the World when read.
+ * This is done by the writeReplace() methods of those classes, via replace().
+ * If the Map is shared (see MapRegistry), and an equivalent shared Map is in use,
+ * the World is read with the shared Map rather than its own copy.
+ * <p>
+ * An IndexedGameFile is an immutable snapshot of the index of a file, as of when
+ * it was last read or written by this class.
+ */
+final class IndexedGameFile {
+    // file constants
+    private static final int MAGIC = 0x4A445049;    // "JDPI"
+    private static final int VERSION = 1;
+    private static final int HEADER_SIZE = 8;
+    private static final int TRAILER_SIZE = 12;
+    private static final int RECORD_HEADER_SIZE = 5;
+
+    // record types
+    private static final byte TYPE_MAP = 1;
+    private static final byte TYPE_DATA = 2;
+    private static final byte TYPE_TURN = 3;
+    private static final byte TYPE_INDEX = 4;
+
+    // the World whose records are being read or written by this thread
+    private static final ThreadLocal<Context> CONTEXT = new ThreadLocal<>();
+
+    // instance fields
+    private final File file;
+    private final long length;
+    private final long lastModified;
+    private final Entry mapEntry;
+    private final Entry dataEntry;
+    private final Entry indexEntry;
+    private final SortedMap<Phase, Entry> turnEntries;
+
+
+    /**
+     * Creates an IndexedGameFile
+     */
+    private IndexedGameFile(File file, long length, Entry mapEntry, Entry dataEntry,
+                            Entry indexEntry, SortedMap<Phase, Entry> turnEntries) {
+        this.file = file;
+        this.length = length;
+        this.lastModified = file.lastModified();
+        this.mapEntry = mapEntry;
+        this.dataEntry = dataEntry;
+        this.indexEntry = indexEntry;
+        this.turnEntries = turnEntries;
+    }// IndexedGameFile()
+
+
+    /**
+     * Returns <code>true</code> if the given file is an indexed game file.
+     */
+    static boolean isIndexedFile(File file)
+            throws IOException {
+        try (RandomAccessFile raf = new RandomAccessFile(file, "r")) {
+            return (raf.length() >= HEADER_SIZE && raf.readInt() == MAGIC);
+        }
+    }// isIndexedFile()
+
+
+    /**
+     * Reads a World from an indexed game file. Only the Map and non-turn
+     * data are read; TurnStates are read when first requested.
+     */
+    static World read(File file)
+            throws IOException {
+        try (RandomAccessFile raf = new RandomAccessFile(file, "r")) {
+            final IndexedGameFile gameFile = readIndex(file, raf);
+
+            // use the shared Map, if there is one; records are resolved against it
+            final info.jdip.world.Map map = MapRegistry.intern((info.jdip.world.Map) readObject(
+                    readRecord(raf, gameFile.mapEntry, TYPE_MAP), null));
+
+            final World world = new World(map);
+            world.setIndexedGameFile(gameFile);
+            world.addUnloadedTurnStates(gameFile.turnEntries.keySet());
+
+            @SuppressWarnings("unchecked") final java.util.Map<Object, Object> nonTurnData = (java.util.Map<Object, Object>)
+                    readObject(readRecord(raf, gameFile.dataEntry, TYPE_DATA), world);
+            world.setNonTurnData(nonTurnData);
+            return world;
+        }
+    }// read()
+
+
+    /**
+     * Reads the TurnState for the given Phase.
+     */
+    TurnState readTurnState(World world, Phase phase)
+            throws IOException {
+        final Entry entry = turnEntries.get(phase);
+        if (entry == null) {
+            throw new IOException("no turn " + phase.getBriefName() + " in game file: " + file);
+        }
+
+        if (!isUnchanged()) {
+            throw new IOException("game file has been modified: " + file);
+        }
+
+        try (RandomAccessFile raf = new RandomAccessFile(file, "r")) {
+            final TurnState ts = (TurnState) readObject(readRecord(raf, entry, TYPE_TURN), world);
+            ts.setWorld(world);
+            return ts;
+        }
+    }// readTurnState()
+
+
+    /**
+     * Reads a TurnState from the serialized form created by writeTurnState().
+     */
+    static TurnState readTurnState(byte[] data, World world)
+            throws IOException {
+        final TurnState ts = (TurnState) readObject(data, world);
+        ts.setWorld(world);
+        return ts;
+    }// readTurnState()
+
+
+    /**
+     * Writes a TurnState in the same (compressed) serialized form as
+     * a TurnState record.
+     */
+    static byte[] writeTurnState(TurnState ts, World world)
+            throws IOException {
+        return writeObject(ts, world);
+    }// writeTurnState()
+
+
+    /**
+     * Writes a World to the given file, and returns the new snapshot of the file.
+     * <p>
+     * If the World was read from (or last written to) the same file, and that file
+     * has not since been modified, new records are appended to the file. Otherwise,
+     * or if more than half of the file would be superseded records, the file is
+     * completely rewritten, via a temporary file.
+     */
+    static IndexedGameFile write(File file, World world)
+            throws IOException {
+        IndexedGameFile source = world.getIndexedGameFile();
+        if (source != null && !source.isUnchanged()) {
+            // records can no longer be copied
+            source = null;
+        }
+
+        final SortedMap<Phase, Object> turnStates = world.getTurnStateSnapshot(source);
+        if (source == null && turnStates.containsValue(null)) {
+            throw new IOException("game file has been modified: " + world.getIndexedGameFile().file);
+        }
+
+        if (source != null && source.isSameFile(file) && source.getGarbageSize() <= source.getLiveSize()) {
+            return source.append(world, turnStates);
+        }
+
+        return rewrite(file, world, turnStates, source);
+    }// write()
+
+
+    /**
+     * Returns <code>true</code> if the file has a record for the given Phase.
+     */
+    boolean hasTurnState(Phase phase) {
+        return turnEntries.containsKey(phase);
+    }// hasTurnState()
+
+
+    /**
+     * Replaces the given object by a reference, if it is being written to an
+     * indexed game file, and can be resolved when read. Otherwise, returns the
+     * object.
+     */
+    static Object replace(Object obj) {
+        final Context context = CONTEXT.get();
+        return (context == null) ? obj : context.replace(obj);
+    }// replace()
+
+
+    /**
+     * Appends non-turn data, modified TurnStates, and a new index to the file.
+     */
+    private IndexedGameFile append(World world, SortedMap<Phase, Object> turnStates)
+            throws IOException {
+        final SortedMap<Phase, Entry> newTurnEntries = new TreeMap<>();
+        Entry newDataEntry;
+        Entry newIndexEntry;
+        long newLength;
+
+        try (RandomAccessFile raf = new RandomAccessFile(file, "rw")) {
+            try {
+                final RecordWriter out = new RecordWriter(raf, length);
+                newDataEntry = out.write(TYPE_DATA, writeObject(world.getNonTurnData(), world));
+
+                for (java.util.Map.Entry<Phase, Object> mapping : turnStates.entrySet()) {
+                    final Object value = mapping.getValue();
+                    newTurnEntries.put(mapping.getKey(), (value == null)
+                            ? turnEntries.get(mapping.getKey())
+                            : out.write(TYPE_TURN, toRecordData(value, world)));
+                }
+
+                newIndexEntry = out.writeIndex(mapEntry, newDataEntry, newTurnEntries);
+                newLength = out.getPosition();
+            } catch (IOException | RuntimeException e) {
+                // leave the file as it was
+                raf.setLength(length);
+                throw e;
+            }
+        }
+
+        return new IndexedGameFile(file, newLength, mapEntry, newDataEntry, newIndexEntry, newTurnEntries);
+    }// append()
+
+
+    /**
+     * Writes a complete file. Records of TurnStates which have not been
+     * loaded or modified are copied from the source file.
+     */
+    private static IndexedGameFile rewrite(File file, World world, SortedMap<Phase, Object> turnStates,
+                                           IndexedGameFile source)
+            throws IOException {
+        final File target = file.getAbsoluteFile();
+        final File tmp = File.createTempFile("jdip", ".tmp", target.getParentFile());
+        final SortedMap<Phase, Entry> newTurnEntries = new TreeMap<>();
+        Entry newMapEntry;
+        Entry newDataEntry;
+        Entry newIndexEntry;
+        long newLength;
+        boolean isMoved = false;
+
+        try {
+            try (RandomAccessFile in = (source == null) ? null : new RandomAccessFile(source.file, "r");
+                 OutputStream os = new BufferedOutputStream(new FileOutputStream(tmp), 8192)) {
+                final RecordWriter out = new RecordWriter(os);
+                out.writeHeader();
+
+                newMapEntry = (source == null)
+                        ? out.write(TYPE_MAP, writeObject(world.getMap(), null))
+                        : out.copy(in, source.mapEntry);
+                newDataEntry = out.write(TYPE_DATA, writeObject(world.getNonTurnData(), world));
+
+                for (java.util.Map.Entry<Phase, Object> mapping : turnStates.entrySet()) {
+                    final Object value = mapping.getValue();
+                    newTurnEntries.put(mapping.getKey(), (value == null)
+                            ? out.copy(in, source.turnEntries.get(mapping.getKey()))
+                            : out.write(TYPE_TURN, toRecordData(value, world)));
+                }
+
+                newIndexEntry = out.writeIndex(newMapEntry, newDataEntry, newTurnEntries);
+                newLength = out.getPosition();
+            }
+
+            try {
+                Files.move(tmp.toPath(), target.toPath(),
+                        StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tmp.toPath(), target.toPath(), StandardCopyOption.REPLACE_EXISTING);
+            }
+
+            isMoved = true;
+        } finally {
+            if (!isMoved) {
+                Files.deleteIfExists(tmp.toPath());
+            }
+        }
+
+        return new IndexedGameFile(target, newLength, newMapEntry, newDataEntry, newIndexEntry, newTurnEntries);
+    }// rewrite()
+
+
+    /**
+     * Record data for a value of World.getTurnStateSnapshot(): either
+     * a TurnState, or its serialized form.
+     */
+    private static byte[] toRecordData(Object value, World world)
+            throws IOException {
+        return (value instanceof byte[]) ? (byte[]) value : writeObject(value, world);
+    }// toRecordData()
+
+
+    /**
+     * Reads the current index of the file. If the trailer is missing or damaged
+     * (e.g., an append was interrupted), the last complete index is used.
+     */
+    private static IndexedGameFile readIndex(File file, RandomAccessFile raf)
+            throws IOException {
+        final long len = raf.length();
+        if (len < HEADER_SIZE) {
+            throw new IOException("truncated game file: " + file);
+        }
+
+        raf.seek(0);
+        if (raf.readInt() != MAGIC) {
+            throw new IOException("not an indexed game file: " + file);
+        }
+
+        final int version = raf.readInt();
+        if (version > VERSION) {
+            throw new IOException("unsupported game file version " + version + ": " + file);
+        }
+
+        long indexOffset = -1;
+        if (len >= HEADER_SIZE + TRAILER_SIZE) {
+            raf.seek(len - TRAILER_SIZE);
+            indexOffset = raf.readLong();
+            if (raf.readInt() != MAGIC || indexOffset < HEADER_SIZE || indexOffset >= len) {
+                indexOffset = -1;
+            }
+        }
+
+        if (indexOffset < 0) {
+            indexOffset = findLastIndex(raf, len);
+            if (indexOffset < 0) {
+                throw new IOException("no index in game file: " + file);
+            }
+        }
+
+        final DataInputStream in = new DataInputStream(new ByteArrayInputStream(
+                readRecord(raf, new Entry(indexOffset, 0), TYPE_INDEX)));
+        final Entry mapEntry = readEntry(in);
+        final Entry dataEntry = readEntry(in);
+        final SortedMap<Phase, Entry> turnEntries = new TreeMap<>();
+        final int nTurns = in.readInt();
+        for (int i = 0; i < nTurns; i++) {
+            final Phase phase = readPhase(in);
+            turnEntries.put(phase, readEntry(in));
+        }
+
+        raf.seek(indexOffset);
+        final Entry indexEntry = new Entry(indexOffset, RECORD_HEADER_SIZE + raf.readInt());
+        return new IndexedGameFile(file, len, mapEntry, dataEntry, indexEntry, turnEntries);
+    }// readIndex()
+
+
+    /**
+     * Scans the records of a file for the last complete index record.
+     * Returns -1 if there is none.
+     */
+    private static long findLastIndex(RandomAccessFile raf, long len)
+            throws IOException {
+        long lastIndex = -1;
+        long pos = HEADER_SIZE;
+
+        while (pos + RECORD_HEADER_SIZE <= len) {
+            raf.seek(pos);
+            final int size = raf.readInt();
+            final byte type = raf.readByte();
+            if (size < 0 || type < TYPE_MAP || type > TYPE_INDEX) {
+                break;
+            }
+
+            pos += RECORD_HEADER_SIZE + size;
+            if (type == TYPE_INDEX) {
+                if (pos + TRAILER_SIZE > len) {
+                    break;
+                }
+
+                lastIndex = pos - RECORD_HEADER_SIZE - size;
+                pos += TRAILER_SIZE;
+            }
+        }
+
+        return lastIndex;
+    }// findLastIndex()
+
+
+    /**
+     * Reads the data of a record, checking its type.
+     */
+    private static byte[] readRecord(RandomAccessFile raf, Entry entry, byte type)
+            throws IOException {
+        raf.seek(entry.offset);
+        final int size = raf.readInt();
+        if (raf.readByte() != type || size < 0 || entry.offset + RECORD_HEADER_SIZE + size > raf.length()) {
+            throw new IOException("corrupt game file record at offset " + entry.offset);
+        }
+
+        final byte[] data = new byte[size];
+        raf.readFully(data);
+        return data;
+    }// readRecord()
+
+
+    /**
+     * Reads an object from the compressed JSX data of a record. References
+     * are resolved against the given World, which may be null if there are none.
+     */
+    private static Object readObject(byte[] data, World world)
+            throws IOException {
+        final Context previous = CONTEXT.get();
+        CONTEXT.set((world == null) ? null : new Context(world, null));
+
+        try (JSX.ObjectReader in = new JSX.ObjectReader(new GZIPInputStream(new ByteArrayInputStream(data), 4096))) {
+            return in.readObject();
+        } catch (IOException ioe) {
+            throw ioe;
+        } catch (Exception e) {
+            // rethrow all non-IOExceptions as IOExceptions
+            throw new IOException(e.getMessage(), e);
+        } finally {
+            CONTEXT.set(previous);
+        }
+    }// readObject()
+
+
+    /**
+     * Writes an object as compressed JSX data. If a World is given, references
+     * to it (and its contents) are written, except for the object itself.
+     */
+    private static byte[] writeObject(Object obj, World world)
+            throws IOException {
+        final Context previous = CONTEXT.get();
+        CONTEXT.set((world == null) ? null : new Context(world, obj));
+
+        final ByteArrayOutputStream baos = new ByteArrayOutputStream(8192);
+        try (GZIPOutputStream gzos = new GZIPOutputStream(baos, 2048)) {
+            JSX.ObjectWriter out = new JSX.ObjectWriter(gzos);
+            out.setPrettyPrint(false);
+            out.writeObject(obj);
+            out.close();
+            gzos.finish();
+        } catch (IOException ioe) {
+            throw ioe;
+        } catch (Exception e) {
+            // rethrow all non-IOExceptions as IOExceptions
+            throw new IOException(e.getMessage(), e);
+        } finally {
+            CONTEXT.set(previous);
+        }
+
+        return baos.toByteArray();
+    }// writeObject()
+
+
+    private static Entry readEntry(DataInputStream in)
+            throws IOException {
+        return new Entry(in.readLong(), in.readInt());
+    }// readEntry()
+
+
+    private static Phase readPhase(DataInputStream in)
+            throws IOException {
+        final Phase.SeasonType seasonType = Phase.SeasonType.parse(in.readUTF());
+        final int year = in.readInt();
+        final Phase.PhaseType phaseType = Phase.PhaseType.parse(in.readUTF());
+        if (seasonType == null || phaseType == null) {
+            throw new IOException("corrupt game file index");
+        }
+
+        return new Phase(seasonType, year, phaseType);
+    }// readPhase()
+
+
+    /**
+     * Returns <code>false</code> if the file has been modified since it was
+     * last read or written.
+     */
+    private boolean isUnchanged() {
+        return (file.length() == length && file.lastModified() == lastModified);
+    }// isUnchanged()
+
+
+    /**
+     * Returns <code>true</code> if the given File refers to this file.
+     */
+    private boolean isSameFile(File other) {
+        try {
+            return file.getCanonicalFile().equals(other.getCanonicalFile());
+        } catch (IOException e) {
+            return false;
+        }
+    }// isSameFile()
+
+
+    /**
+     * Size of the records in the current index, including the index itself
+     */
+    private long getLiveSize() {
+        long size = HEADER_SIZE + mapEntry.size + dataEntry.size + indexEntry.size + TRAILER_SIZE;
+        for (Entry entry : turnEntries.values()) {
+            size += entry.size;
+        }
+
+        return size;
+    }// getLiveSize()
+
+
+    /**
+     * Size of superseded records
+     */
+    private long getGarbageSize() {
+        return length - getLiveSize();
+    }// getGarbageSize()
+
+
+    /**
+     * The location and size (including record header) of a record
+     */
+    private static final class Entry {
+        private final long offset;
+        private final int size;
+
+        private Entry(long offset, int size) {
+            this.offset = offset;
+            this.size = size;
+        }// Entry()
+    }// nested class Entry
+
+
+    /**
+     * Writes records, either to a RandomAccessFile (appending), or to an OutputStream.
+     */
+    private static final class RecordWriter {
+        private final RandomAccessFile raf;
+        private final OutputStream os;
+        private long position;
+
+        private RecordWriter(RandomAccessFile raf, long position)
+                throws IOException {
+            this.raf = raf;
+            this.os = null;
+            this.position = position;
+            raf.seek(position);
+        }// RecordWriter()
+
+        private RecordWriter(OutputStream os) {
+            this.raf = null;
+            this.os = os;
+            this.position = 0;
+        }// RecordWriter()
+
+        private long getPosition() {
+            return position;
+        }// getPosition()
+
+        private void writeHeader()
+                throws IOException {
+            final ByteArrayOutputStream baos = new ByteArrayOutputStream(HEADER_SIZE);
+            final DataOutputStream dos = new DataOutputStream(baos);
+            dos.writeInt(MAGIC);
+            dos.writeInt(VERSION);
+            writeBytes(baos.toByteArray());
+        }// writeHeader()
+
+        private Entry write(byte type, byte[] data)
+                throws IOException {
+            final ByteArrayOutputStream baos = new ByteArrayOutputStream(RECORD_HEADER_SIZE + data.length);
+            final DataOutputStream dos = new DataOutputStream(baos);
+            dos.writeInt(data.length);
+            dos.writeByte(type);
+            dos.write(data);
+
+            final Entry entry = new Entry(position, baos.size());
+            writeBytes(baos.toByteArray());
+            return entry;
+        }// write()
+
+        private Entry copy(RandomAccessFile in, Entry entry)
+                throws IOException {
+            if (in == null || entry == null) {
+                throw new IOException("no source for game file record");
+            }
+
+            final byte[] record = new byte[entry.size];
+            in.seek(entry.offset);
+            try {
+                in.readFully(record);
+            } catch (EOFException e) {
+                throw new IOException("corrupt game file record at offset " + entry.offset, e);
+            }
+
+            final Entry newEntry = new Entry(position, entry.size);
+            writeBytes(record);
+            return newEntry;
+        }// copy()
+
+        private Entry writeIndex(Entry mapEntry, Entry dataEntry, SortedMap<Phase, Entry> turnEntries)
+                throws IOException {
+            final ByteArrayOutputStream baos = new ByteArrayOutputStream(64 + 32 * turnEntries.size());
+            final DataOutputStream dos = new DataOutputStream(baos);
+            writeEntry(dos, mapEntry);
+            writeEntry(dos, dataEntry);
+            dos.writeInt(turnEntries.size());
+            for (java.util.Map.Entry<Phase, Entry> mapping : turnEntries.entrySet()) {
+                final Phase phase = mapping.getKey();
+                dos.writeUTF(phase.getSeasonType().getBriefName());
+                dos.writeInt(phase.getYear());
+                dos.writeUTF(phase.getPhaseType().getBriefName());
+                writeEntry(dos, mapping.getValue());
+            }
+
+            final Entry indexEntry = write(TYPE_INDEX, baos.toByteArray());
+
+            baos.reset();
+            dos.writeLong(indexEntry.offset);
+            dos.writeInt(MAGIC);
+            writeBytes(baos.toByteArray());
+            return indexEntry;
+        }// writeIndex()
+
+        private static void writeEntry(DataOutputStream dos, Entry entry)
+                throws IOException {
+            dos.writeLong(entry.offset);
+            dos.writeInt(entry.size);
+        }// writeEntry()
+
+        private void writeBytes(byte[] bytes)
+                throws IOException {
+            if (raf != null) {
+                raf.write(bytes);
+            } else {
+                os.write(bytes);
+            }
+
+            position += bytes.length;
+        }// writeBytes()
+    }// nested class RecordWriter
+
+
+    /**
+     * The World being read or written, and the object (if any) which
+     * is the subject of the record being written.
+     */
+    private static final class Context {
+        private final World world;
+        private final Object root;
+
+        private Context(World world, Object root) {
+            this.world = world;
+            this.root = root;
+        }// Context()
+
+        private Object replace(Object obj) {
+            if (obj == root) {
+                return obj;
+            }
+
+            final info.jdip.world.Map map = world.getMap();
+            if (obj == map) {
+                return new Ref(Ref.MAP, 0, null);
+            } else if (obj == world) {
+                return new Ref(Ref.WORLD, 0, null);
+            } else if (obj instanceof Power) {
+                final int idx = map.getPowerIndex((Power) obj);
+                return (idx < 0) ? obj : new Ref(Ref.POWER, idx, null);
+            } else if (obj instanceof Province) {
+                final int idx = ((Province) obj).getIndex();
+                return (idx < 0 || idx >= map.getProvinces().length || map.reverseIndex(idx) != obj)
+                        ? obj : new Ref(Ref.PROVINCE, idx, null);
+            } else if (obj instanceof TurnState) {
+                // TurnStates no longer in the World (e.g., held for redo) are written in full
+                final TurnState ts = (TurnState) obj;
+                return world.isTurnStateHeld(ts) ? new Ref(Ref.TURN, 0, ts.getPhase()) : obj;
+            }
+
+            return obj;
+        }// replace()
+    }// nested class Context
+
+
+    /**
+     * A reference to an object of the World, written in place of that object.
+     */
+    private static final class Ref implements Serializable {
+        private static final long serialVersionUID = 1L;
+
+        private static final int MAP = 0;
+        private static final int WORLD = 1;
+        private static final int POWER = 2;
+        private static final int PROVINCE = 3;
+        private static final int TURN = 4;
+
+        private final int type;
+        private final int index;
+        private final Phase phase;
+
+        private Ref(int type, int index, Phase phase) {
+            this.type = type;
+            this.index = index;
+            this.phase = phase;
+        }// Ref()
+
+        private Object readResolve() throws ObjectStreamException {
+            final Context context = CONTEXT.get();
+            if (context == null) {
+                throw new InvalidObjectException("unexpected game file reference");
+            }
+
+            final World world = context.world;
+            switch (type) {
+                case MAP:
+                    return world.getMap();
+                case WORLD:
+                    return world;
+                case POWER:
+                    return world.getMap().getPowers()[index];
+                case PROVINCE:
+                    return world.getMap().reverseIndex(index);
+                case TURN:
+                    final TurnState ts = world.getTurnState(phase);
+                    if (ts == null) {
+                        throw new InvalidObjectException("missing turn: " + phase);
+                    }
+                    return ts;
+                default:
+                    throw new InvalidObjectException("unknown game file reference: " + type);
+            }
+        }// readResolve()
+    }// nested class Ref
+
+}// class IndexedGameFile
@@ -22,9 +22,11 @@
 //
 package info.jdip.world;
 
+import info.jdip.misc.NameTrie;
 import info.jdip.order.OrderException;
 
 import java.io.IOException;
+import java.io.ObjectStreamException;
 import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -50,6 +52,7 @@ public class Map implements Serializable {
     // all this data is serialized.
     private final Power[] powers;
     private final Province[] provinces;
+    private String sharedKey = null;    // key under which this Map is shared (see MapRegistry), or null
 
     // None of the data below here is serialized; it can be derived from
     // the above (serialized) data.
@@ -63,7 +66,10 @@ public class Map implements Serializable {
 
     // fields created on first-use (by a method)
     private transient String[] lcPowerNames = null;        // lower case power names & adjectives
-    private transient String[] wsNames = null;            // list of all province names that contain whitespace, "-", or " "
+    private transient volatile String[] wsNames = null;            // list of all province names that contain whitespace, "-", or " "
+    private transient volatile PathCache pathCache = null;        // distance & convoy region data
+    private transient volatile NameTrie<Province> wsNameTrie = null;    // wsNames, for single-pass matching
+    private transient volatile NameTrie<Power> powerNameTrie = null;    // lcPowerNames, for prefix matching
 
 
     /**
@@ -147,6 +153,37 @@ public class Map implements Serializable {
     }// getPowers()
 
 
+    /**
+     * Returns the index of the given Power within the array returned by
+     * getPowers(), or -1 if the Power is not part of this Map.
+     */
+    public final int getPowerIndex(Power power) {
+        for (int i = 0; i < powers.length; i++) {
+            if (powers[i] == power) {
+                return i;
+            }
+        }
+
+        return -1;
+    }// getPowerIndex()
+
+
+    /**
+     * Gets the distance and convoy region data for this Map, creating it
+     * if required. Creation is not synchronized; concurrent callers may
+     * each create (identical) data.
+     */
+    final PathCache getPathCache() {
+        PathCache cache = pathCache;
+        if (cache == null) {
+            cache = new PathCache(provinces);
+            pathCache = cache;
+        }
+
+        return cache;
+    }// getPathCache()
+
+
     /**
      * Returns the power that matches name. Returns null if no
      * match found.
@@ -482,18 +519,21 @@ public class Map implements Serializable {
      */
     public void replaceProvinceNames(StringBuffer sb) {
         // create the whitespace list, if it doesn't exist.
-        if (wsNames == null) {
+        // The list is sorted before it is published, so that concurrent
+        // callers never see a partially-sorted list.
+        String[] replaceNames = wsNames;
+        if (replaceNames == null) {
             List<String> list = new ArrayList<>(50);
             for (String name : names) {
                 if (name.indexOf(' ') != -1 || name.indexOf('-') != -1) {
                     list.add(name.toLowerCase());
                 }
             }
-            wsNames = list.toArray(new String[list.size()]);
+            replaceNames = list.toArray(new String[list.size()]);
 
             // sort array from longest entries to shortest. This
             // eliminates errors in partial replacements.
-            Arrays.sort(wsNames, new Comparator<String>() {
+            Arrays.sort(replaceNames, new Comparator<String>() {
                 // longer strings are more negative, thus rise to top
                 public int compare(String o1, String o2) {
                     return (o2.length() - o1.length());
@@ -504,10 +544,11 @@ public class Map implements Serializable {
                 }
             });
 
+            wsNames = replaceNames;
         }
 
         // search & replace.
-        for (String currentName : wsNames) {
+        for (String currentName : replaceNames) {
             int idx = 0;
             int start = sb.indexOf(currentName, idx);
 
@@ -684,6 +725,61 @@ public class Map implements Serializable {
     }// getFirstPower()
 
 
+    /**
+     * Returns a NameTrie of all lower-case province names that contain
+     * hyphens or whitespace (the names replaced by replaceProvinceNames()).
+     * <p>
+     * Returns <code>null</code> if any such name has leading, trailing, or
+     * consecutive whitespace; such names cannot be matched token-by-token.
+     * <p>
+     * This is a special-purpose method for Order parsing.
+     */
+    public NameTrie<Province> getMultiWordNameTrie() {
+        NameTrie<Province> trie = wsNameTrie;
+        if (trie == null) {
+            List<String> keys = new ArrayList<>(50);
+            List<Province> values = new ArrayList<>(50);
+            for (String name : names) {
+                if (name.indexOf(' ') != -1 || name.indexOf('-') != -1) {
+                    if (name.contains("  ") || !name.equals(name.trim())) {
+                        return null;
+                    }
+
+                    keys.add(name);
+                    values.add(getProvince(name));
+                }
+            }
+
+            trie = new NameTrie<>(keys, values);
+            wsNameTrie = trie;
+        }
+
+        return trie;
+    }// getMultiWordNameTrie()
+
+
+    /**
+     * Returns a NameTrie of all lower-case power names and adjectives
+     * (as used by getFirstPowerToken() and filterPowerNames()).
+     * <p>
+     * This is a special-purpose method for Order parsing.
+     */
+    public NameTrie<Power> getPowerNameTrie() {
+        NameTrie<Power> trie = powerNameTrie;
+        if (trie == null) {
+            List<Power> values = new ArrayList<>(lcPowerNames.length);
+            for (String name : lcPowerNames) {
+                values.add(powerNameMap.get(name));
+            }
+
+            trie = new NameTrie<>(Arrays.asList(lcPowerNames), values);
+            powerNameTrie = trie;
+        }
+
+        return trie;
+    }// getPowerNameTrie()
+
+
     /**
      * Given an index, returns the Province to which that index corresponds.
      */
@@ -817,6 +913,21 @@ public class Map implements Serializable {
         return al;
     }// findPartialPowerMatch()
 
+    /**
+     * Returns the key under which this Map is shared between Worlds,
+     * or null if it is not shared.
+     */
+    String getSharedKey() {
+        return sharedKey;
+    }// getSharedKey()
+
+    /**
+     * Sets the key under which this Map is shared.
+     */
+    void setSharedKey(String value) {
+        sharedKey = value;
+    }// setSharedKey()
+
     // reserialization: re-create mappings
     private void readObject(java.io.ObjectInputStream in)
             throws IOException, ClassNotFoundException {
@@ -826,6 +937,13 @@ public class Map implements Serializable {
         createMappings();
     }// readObject()
 
+    /**
+     * Written as a reference within indexed game file records.
+     */
+    private Object writeReplace() throws ObjectStreamException {
+        return IndexedGameFile.replace(this);
+    }// writeReplace()
+
     /**
      * Gets a Levenshtein Edit Distance
      * Code by Michael Gilleland, Merriam Park Software
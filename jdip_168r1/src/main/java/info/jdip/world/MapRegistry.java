@@ -0,0 +1,275 @@
+//
+//  @(#)MapRegistry.java	1.00	10/2026
+//
+//
+//  This program is free software; you can redistribute it and/or modify
+//  it under the terms of the GNU General Public License as published by
+//  the Free Software Foundation; either version 2 of the License, or
+//  (at your option) any later version.
+//
+//  This program is distributed in the hope that it will be useful,
+//  but WITHOUT ANY WARRANTY; without even the implied warranty of
+//  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//  GNU General Public License for more details.
+//
+//  You should have received a copy of the GNU General Public License
+//  along with this program; if not, write to the Free Software
+//  Foundation, Inc., 675 Mass Ave, Cambridge, MA 02139, USA.
+//  Or from http://www.gnu.org/
+//
+package info.jdip.world;
+
+import info.jdip.world.variant.data.BorderData;
+import info.jdip.world.variant.data.ProvinceData;
+import info.jdip.world.variant.data.SupplyCenter;
+import info.jdip.world.variant.data.Variant;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.ref.WeakReference;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+
+
+/**
+ * Shares Maps between Worlds of the same Variant.
+ * <p>
+ * A Map (with its Provinces, adjacency, and Borders) does not change once
+ * created; all game state is held by Position and TurnState. Thus Worlds
+ * created from the same Variant data can share a single Map. A Map is
+ * shared under a key derived from the Variant name and version, and a digest
+ * of the data from which the Map is created (provinces, adjacency, borders,
+ * supply center locations, and powers, including whether they are active).
+ * Rule options do not affect the Map, and are not part of the key.
+ * <p>
+ * The key is saved with the Map, so that a Map read from an indexed game
+ * file is replaced by the shared Map, if one exists (see IndexedGameFile).
+ * Maps read from the original (single document) format are not shared.
+ * <p>
+ * Shared Maps are weakly held, and are discarded when no longer used.
+ * This class is threadsafe.
+ */
+final class MapRegistry {
+    private static final ConcurrentHashMap<String, WeakReference<Map>> maps = new ConcurrentHashMap<>();
+
+
+    /**
+     * MapRegistry cannot be instantiated
+     */
+    private MapRegistry() {
+    }// MapRegistry()
+
+
+    /**
+     * Returns the key for Maps created from the given Variant.
+     */
+    static String getKey(Variant variant) {
+        final MessageDigest md;
+        try {
+            md = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+
+        try (DataOutputStream out = new DataOutputStream(new DigestOutputStream(NullStream.INSTANCE, md))) {
+            final ProvinceData[] provinceData = variant.getProvinceData();
+            out.writeInt(provinceData.length);
+            for (ProvinceData pd : provinceData) {
+                writeString(out, pd.getFullName());
+                writeStrings(out, pd.getShortNames());
+                writeStrings(out, pd.getAdjacentProvinceNames());
+                writeStrings(out, pd.getAdjacentProvinceTypes());
+                out.writeBoolean(pd.getConvoyableCoast());
+                writeStrings(out, pd.getBorders());
+            }
+
+            final BorderData[] borderData = variant.getBorderData();
+            out.writeInt((borderData == null) ? -1 : borderData.length);
+            if (borderData != null) {
+                for (BorderData bd : borderData) {
+                    writeString(out, bd.getID());
+                    writeString(out, bd.getDescription());
+                    writeString(out, bd.getUnitTypes());
+                    writeString(out, bd.getFrom());
+                    writeString(out, bd.getOrderTypes());
+                    writeString(out, bd.getBaseMoveModifier());
+                    writeString(out, bd.getYear());
+                    writeString(out, bd.getPhase());
+                    writeString(out, bd.getSeason());
+                }
+            }
+
+            final SupplyCenter[] supplyCenters = variant.getSupplyCenters();
+            out.writeInt(supplyCenters.length);
+            for (SupplyCenter sc : supplyCenters) {
+                writeString(out, sc.getProvinceName());
+            }
+
+            final Power[] powers = variant.getPowers();
+            out.writeInt(powers.length);
+            for (Power power : powers) {
+                writeStrings(out, power.getNames());
+                writeString(out, power.getAdjective());
+                out.writeBoolean(power.isActive());
+            }
+        } catch (IOException e) {
+            // cannot occur
+            throw new IllegalStateException(e);
+        }
+
+        final StringBuilder sb = new StringBuilder(128);
+        sb.append(variant.getName().toLowerCase());
+        sb.append('/');
+        sb.append(variant.getVersion());
+        sb.append('/');
+        for (byte b : md.digest()) {
+            sb.append(Character.forDigit((b >> 4) & 0xF, 16));
+            sb.append(Character.forDigit(b & 0xF, 16));
+        }
+
+        return sb.toString();
+    }// getKey()
+
+
+    /**
+     * Returns the shared Map for the given key, or null.
+     */
+    static Map get(String key) {
+        final WeakReference<Map> ref = maps.get(key);
+        return (ref == null) ? null : ref.get();
+    }// get()
+
+
+    /**
+     * Shares the given (newly created) Map under the given key. If
+     * another Map has been shared under the same key, it is returned
+     * instead.
+     */
+    static Map intern(String key, Map map) {
+        if (key == null || map == null) {
+            throw new IllegalArgumentException();
+        }
+
+        map.setSharedKey(key);
+        return register(map);
+    }// intern()
+
+
+    /**
+     * Returns the shared Map equivalent to the given (deserialized) Map,
+     * if one exists. Otherwise, the given Map becomes the shared Map for
+     * its key. Maps without a key are returned unchanged.
+     */
+    static Map intern(Map map) {
+        return (map.getSharedKey() == null) ? map : register(map);
+    }// intern()
+
+
+    /**
+     * Shares the Map under its key, unless a compatible Map is already
+     * shared; if so, that Map is returned.
+     */
+    private static Map register(Map map) {
+        final String key = map.getSharedKey();
+        final WeakReference<Map> newRef = new WeakReference<>(map);
+
+        while (true) {
+            final WeakReference<Map> ref = maps.putIfAbsent(key, newRef);
+            if (ref == null) {
+                purge();
+                return map;
+            }
+
+            final Map existing = ref.get();
+            if (existing != null) {
+                return isCompatible(existing, map) ? existing : map;
+            } else if (maps.replace(key, ref, newRef)) {
+                return map;
+            }
+        }
+    }// register()
+
+
+    /**
+     * Removes discarded Maps.
+     */
+    private static void purge() {
+        final Iterator<WeakReference<Map>> iter = maps.values().iterator();
+        while (iter.hasNext()) {
+            if (iter.next().get() == null) {
+                iter.remove();
+            }
+        }
+    }// purge()
+
+
+    /**
+     * Checks that Provinces and Powers can be resolved by index against
+     * either Map. This guards against a key collision.
+     */
+    private static boolean isCompatible(Map a, Map b) {
+        final Province[] pa = a.getProvinces();
+        final Province[] pb = b.getProvinces();
+        final Power[] wa = a.getPowers();
+        final Power[] wb = b.getPowers();
+        if (pa.length != pb.length || wa.length != wb.length) {
+            return false;
+        }
+
+        for (int i = 0; i < pa.length; i++) {
+            if (!pa[i].equals(pb[i]) || pa[i].hasSupplyCenter() != pb[i].hasSupplyCenter()) {
+                return false;
+            }
+        }
+
+        for (int i = 0; i < wa.length; i++) {
+            if (!wa[i].getName().equals(wb[i].getName()) || wa[i].isActive() != wb[i].isActive()) {
+                return false;
+            }
+        }
+
+        return true;
+    }// isCompatible()
+
+
+    private static void writeStrings(DataOutputStream out, String[] values)
+            throws IOException {
+        if (values == null) {
+            out.writeInt(-1);
+            return;
+        }
+
+        out.writeInt(values.length);
+        for (String value : values) {
+            writeString(out, value);
+        }
+    }// writeStrings()
+
+
+    private static void writeString(DataOutputStream out, String value)
+            throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeUTF(value);
+        }
+    }// writeString()
+
+
+    /**
+     * Discards all output; only the digest is needed.
+     */
+    private static final class NullStream extends OutputStream {
+        private static final NullStream INSTANCE = new NullStream();
+
+        public void write(int b) {
+        }
+
+        public void write(byte[] b, int off, int len) {
+        }
+    }// nested class NullStream
+
+}// class MapRegistry
@@ -31,7 +31,6 @@ import info.jdip.process.Tristate;
 
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.HashMap;
 import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
@@ -419,11 +418,36 @@ public class Path {
      * have convoy orders to do so.
      */
     public boolean isPossibleConvoyRoute(Location src, Location dest) {
-        if (src.getProvince().isCoastal() && dest.getProvince().isCoastal()) {
-            List<Location> path = new ArrayList<>(12);
-            PathEvaluator pe = new AnyConvoyPathEvaluator();
+        final Province srcProvince = src.getProvince();
+        final Province destProvince = dest.getProvince();
+
+        if (srcProvince.isCoastal() && destProvince.isCoastal() && isConvoyConnected(src, dest)) {
+            // breadth-first search over convoyable provinces with fleets;
+            // equivalent to findPathBreadthFirst() with AnyConvoyPathEvaluator.
+            final int nProvinces = position.size();
+            final boolean[] visited = new boolean[nProvinces];
+            final Province[] queue = new Province[nProvinces];
+            int head = 0;
+            int tail = 0;
+
+            visited[srcProvince.getIndex()] = true;
+            queue[tail++] = srcProvince;
+
+            while (head < tail) {
+                final Province current = queue[head++];
+                if (current != srcProvince && current.isTouching(destProvince)) {
+                    return true;
+                }
 
-            return findPathBreadthFirst(src, dest, src, path, pe);
+                for (Location loc : current.getAdjacentLocations(Coast.TOUCHING)) {
+                    final Province province = loc.getProvince();
+                    if (!visited[province.getIndex()] && province.isConvoyable()
+                            && position.hasUnit(province, Unit.Type.FLEET)) {
+                        visited[province.getIndex()] = true;
+                        queue[tail++] = province;
+                    }
+                }
+            }
         }
 
         return false;
@@ -455,6 +479,10 @@ public class Path {
      * </ol>
      */
     public boolean isLegalConvoyRoute(Location src, Location dest) {
+        if (!isConvoyConnected(src, dest)) {
+            return false;
+        }
+
         List<Location> path = new ArrayList<>(12);
         PathEvaluator pe = new LegalConvoyPathEvaluator(src, dest);
         return findPathBreadthFirst(src, dest, src, path, pe);
@@ -526,6 +554,10 @@ public class Path {
      * fail (no path), or if we are uncertain.
      */
     public Tristate getConvoyRouteEvaluation(Location src, Location dest, Location invalid, List<Province> validPath) {
+        if (!isConvoyConnected(src, dest)) {
+            return Tristate.FAILURE;
+        }
+
         List<Location> path = new ArrayList<>(12);
         SuperConvoyPathEvaluator spe = null;
         boolean isPathFound = false;
@@ -634,78 +666,23 @@ public class Path {
      * is the same.
      * <p>
      * This will return -1 in the event that src and dest are
-     * not connected.
+     * not connected. Distances are precomputed for each Map,
+     * so this is a simple lookup.
      * <p>
      * Null src/dest Provinces are not allowed
      */
     public int getMinDistance(Province src, Province dest) {
-        // simple case: src adjacent to dest
-        if (src == dest) {
-            return 0;
-        }
-
-        int dist = 0;
-
-        HashMap<Province, Boolean> visited = new HashMap<>(119);
-        visited.put(src, Boolean.TRUE);
-
-        ArrayList<Province> toCheck = new ArrayList<>(32);
-        ArrayList<Province> nextToCheck = new ArrayList<>(32);
-        ArrayList<Province> swapTmp = null;
-        toCheck.add(src);
-
-        while (true) {
-            // inc dist
-            dist++;
-
-            // iterate toCheck, create nextToCheck list
-            for (Province p : toCheck) {
-                if (p == dest) {
-                    return dist;
-                }
-
-				/* OLD CODE: before Coast.WING (TOUCHING) available
-				for(int i=0; i<Coast.ALL_COASTS.length; i++)
-				{
-					Location[] locs = p.getAdjacentLocations(Coast.ALL_COASTS[i]);
-					for(int j=0; j<locs.length; j++)
-					{
-						Province ckp = locs[j].getProvince();
-
-						if(visited.get(ckp) == null)
-						{
-							nextToCheck.add(ckp);
-							visited.put(ckp, Boolean.TRUE);
-						}
-					}
-				}
-				*/
-
-                // NEW CODE: using Coast.TOUCHING
-                Location[] locs = p.getAdjacentLocations(Coast.TOUCHING);
-                for (Location loc : locs) {
-                    Province ckp = loc.getProvince();
-
-                    if (visited.get(ckp) == null) {
-                        nextToCheck.add(ckp);
-                        visited.put(ckp, Boolean.TRUE);
-                    }
-                }
-                // END NEW CODE
-            }
+        return position.map.getPathCache().getMinDistance(src, dest);
+    }// getMinDistance()
 
-            // swap lists
-            toCheck.clear();
-            swapTmp = toCheck;
-            toCheck = nextToCheck;
-            nextToCheck = swapTmp;
 
-            // test for unconnectedness (remember, we are swapped)
-            if (toCheck.isEmpty()) {
-                return -1;
-            }
-        }
-    }// getMinDistance()
+    /**
+     * Returns <code>false</code> if no convoy route could exist between
+     * src and dest, irrespective of fleet positions.
+     */
+    private boolean isConvoyConnected(Location src, Location dest) {
+        return position.map.getPathCache().isConvoyConnected(src.getProvince(), dest.getProvince());
+    }// isConvoyConnected()
 
 
     protected interface PathEvaluator {
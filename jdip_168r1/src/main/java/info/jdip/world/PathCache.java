@@ -0,0 +1,211 @@
+//
+//  @(#)PathCache.java	1.00	10/2026
+//
+//
+//  This program is free software; you can redistribute it and/or modify
+//  it under the terms of the GNU General Public License as published by
+//  the Free Software Foundation; either version 2 of the License, or
+//  (at your option) any later version.
+//
+//  This program is distributed in the hope that it will be useful,
+//  but WITHOUT ANY WARRANTY; without even the implied warranty of
+//  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//  GNU General Public License for more details.
+//
+//  You should have received a copy of the GNU General Public License
+//  along with this program; if not, write to the Free Software
+//  Foundation, Inc., 675 Mass Ave, Cambridge, MA 02139, USA.
+//  Or from http://www.gnu.org/
+//
+package info.jdip.world;
+
+import java.util.Arrays;
+
+
+/**
+ * Path data derived from the (constant) adjacency of a Map: minimum
+ * distances between all Province pairs, and the connected components
+ * of convoyable (sea and convoyable coast) Provinces.
+ * <p>
+ * A PathCache is created on first use by Map.getPathCache(); it is
+ * immutable once created, and may be shared by any number of threads.
+ * All adjacency is 'touching' (Coast.TOUCHING) adjacency.
+ */
+final class PathCache {
+    private static final short UNCONNECTED = -1;
+
+    private final Province[] provinces;
+    private final short[][] distances;
+    private final int[] components;
+    private final int[][] componentsTouching;
+
+
+    /**
+     * Create the PathCache for the given Map Provinces.
+     */
+    PathCache(Province[] provinces) {
+        this.provinces = provinces;
+        distances = new short[provinces.length][];
+        components = new int[provinces.length];
+        componentsTouching = new int[provinces.length][];
+
+        final int[] queue = new int[provinces.length];
+        for (int i = 0; i < provinces.length; i++) {
+            distances[i] = createDistances(i, queue);
+        }
+
+        createComponents(queue);
+    }// PathCache()
+
+
+    /**
+     * Minimum distance between src and dest, as defined by Path.getMinDistance().
+     */
+    int getMinDistance(Province src, Province dest) {
+        return distances[src.getIndex()][dest.getIndex()];
+    }// getMinDistance()
+
+
+    /**
+     * Returns <code>true</code> if a single connected region of convoyable
+     * Provinces touches both src and dest. If not, no convoy route between
+     * src and dest can exist, no matter where fleets are placed.
+     */
+    boolean isConvoyConnected(Province src, Province dest) {
+        final int[] srcComponents = componentsTouching[src.getIndex()];
+        final int[] destComponents = componentsTouching[dest.getIndex()];
+
+        for (int component : srcComponents) {
+            for (int destComponent : destComponents) {
+                if (component == destComponent) {
+                    return true;
+                }
+            }
+        }
+
+        return false;
+    }// isConvoyConnected()
+
+
+    /**
+     * Breadth-first distances from one Province to all others. Distances
+     * are 1 + the number of moves required, to match the original
+     * Path.getMinDistance() implementation; 0 if src == dest, and -1 if
+     * unconnected.
+     */
+    private short[] createDistances(int src, int[] queue) {
+        final short[] dist = new short[provinces.length];
+        Arrays.fill(dist, UNCONNECTED);
+        dist[src] = 0;
+
+        int head = 0;
+        int tail = 0;
+        queue[tail++] = src;
+
+        while (head < tail) {
+            final int idx = queue[head++];
+            final short next = (short) ((idx == src) ? 2 : dist[idx] + 1);
+
+            for (Location loc : provinces[idx].getAdjacentLocations(Coast.TOUCHING)) {
+                final int adjIdx = loc.getProvince().getIndex();
+                if (dist[adjIdx] == UNCONNECTED) {
+                    dist[adjIdx] = next;
+                    queue[tail++] = adjIdx;
+                }
+            }
+        }
+
+        return dist;
+    }// createDistances()
+
+
+    /**
+     * Label each convoyable Province with its (undirected) connected
+     * component, and record which components touch each Province.
+     */
+    private void createComponents(int[] queue) {
+        Arrays.fill(components, -1);
+
+        // undirected convoyable adjacency; adjacency may not be symmetric
+        final int[] degree = new int[provinces.length];
+        for (Province p : provinces) {
+            if (p.isConvoyable()) {
+                for (Location loc : p.getAdjacentLocations(Coast.TOUCHING)) {
+                    if (loc.getProvince().isConvoyable()) {
+                        degree[p.getIndex()]++;
+                        degree[loc.getProvince().getIndex()]++;
+                    }
+                }
+            }
+        }
+
+        final int[][] adjacent = new int[provinces.length][];
+        for (int i = 0; i < provinces.length; i++) {
+            adjacent[i] = new int[degree[i]];
+            degree[i] = 0;
+        }
+
+        for (Province p : provinces) {
+            if (p.isConvoyable()) {
+                final int idx = p.getIndex();
+                for (Location loc : p.getAdjacentLocations(Coast.TOUCHING)) {
+                    if (loc.getProvince().isConvoyable()) {
+                        final int adjIdx = loc.getProvince().getIndex();
+                        adjacent[idx][degree[idx]++] = adjIdx;
+                        adjacent[adjIdx][degree[adjIdx]++] = idx;
+                    }
+                }
+            }
+        }
+
+        // flood fill
+        int nComponents = 0;
+        for (int i = 0; i < provinces.length; i++) {
+            if (provinces[i].isConvoyable() && components[i] < 0) {
+                int head = 0;
+                int tail = 0;
+                queue[tail++] = i;
+                components[i] = nComponents;
+
+                while (head < tail) {
+                    for (int adjIdx : adjacent[queue[head++]]) {
+                        if (components[adjIdx] < 0) {
+                            components[adjIdx] = nComponents;
+                            queue[tail++] = adjIdx;
+                        }
+                    }
+                }
+
+                nComponents++;
+            }
+        }
+
+        // components touching each province, in either direction
+        final boolean[][] touching = new boolean[provinces.length][nComponents];
+        for (Province p : provinces) {
+            for (Location loc : p.getAdjacentLocations(Coast.TOUCHING)) {
+                final Province adj = loc.getProvince();
+                if (components[adj.getIndex()] >= 0) {
+                    touching[p.getIndex()][components[adj.getIndex()]] = true;
+                }
+
+                if (components[p.getIndex()] >= 0) {
+                    touching[adj.getIndex()][components[p.getIndex()]] = true;
+                }
+            }
+        }
+
+        for (int i = 0; i < provinces.length; i++) {
+            int count = 0;
+            final int[] tmp = new int[nComponents];
+            for (int c = 0; c < nComponents; c++) {
+                if (touching[i][c]) {
+                    tmp[count++] = c;
+                }
+            }
+
+            componentsTouching[i] = Arrays.copyOf(tmp, count);
+        }
+    }// createComponents()
+
+}// class PathCache
@@ -161,6 +161,13 @@ public class Phase implements java.io.Serializable, Comparable {
                 && phaseType.equals(phase.phaseType);
     }// equals()
 
+    /**
+     * Returns the hashCode, which is consistent with equals().
+     */
+    public int hashCode() {
+        return (yearType.hashCode() * 31 + seasonType.hashCode()) * 31 + phaseType.hashCode();
+    }// hashCode()
+
     /**
      * Compares the Phase to the given Phase object. Returns a negative, zero, or
      * positive integer depending if the given Phase is less than, equal, or
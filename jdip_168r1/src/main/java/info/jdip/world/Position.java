@@ -22,7 +22,8 @@
 //
 package info.jdip.world;
 
-import java.util.HashMap;
+import java.io.IOException;
+import java.io.ObjectInputStream;
 import java.util.Map;
 
 /**
@@ -39,24 +40,90 @@ import java.util.Map;
  * This class is heavily optimized, as adjudicator performance is highly dependent
  * upon the performance of this class.
  * <p>
+ * State is held in parallel arrays indexed by Province index; Powers are
+ * stored as (index + 1) into the Map Power array, with 0 meaning 'none'.
+ * Cloning is copy-on-write: a clone shares arrays with the original
+ * Position until either Position modifies an array, at which point only
+ * that array is copied. Units are shared between clones, and therefore
+ * must not be modified once they have been placed in a Position; use
+ * Unit.copy() to obtain a modifiable Unit.
+ * <p>
  * The clone() methods are not strictly implemented; they call a constructor
  * to assist in cloning rather than call super.clone(). This is done for
  * performance reasons.
  */
 public class Position implements java.io.Serializable {
-    // size constants; these should be prime
-    private static final int POWER_SIZE = 17;
+    // copy-on-write flags; a set flag means the array is shared with another Position
+    private static final int SHARED_UNITS = 0x01;
+    private static final int SHARED_DISLODGED = 0x02;
+    private static final int SHARED_SC_OWNERS = 0x04;
+    private static final int SHARED_SC_HOME_POWERS = 0x08;
+    private static final int SHARED_LAST_OCCUPIERS = 0x10;
+    private static final int SHARED_ELIMINATED = 0x20;
+    private static final int SHARED_ALL = 0x3F;
 
     // instance variables
-    protected final Map<Power, PowerData> powerMap = new HashMap<>(POWER_SIZE);
-    protected final ProvinceData[] provArray;
     protected final info.jdip.world.Map map;
-    private transient Province[] tmpProvArray = null;
+    private Unit[] units;
+    private Unit[] dislodgedUnits;
+    private byte[] scOwners;
+    private byte[] scHomePowers;
+    private byte[] lastOccupiers;
+    private boolean[] eliminated;
+    private int unitCount = 0;
+    private int dislodgedUnitCount = 0;
+    private transient int sharedMask = 0;
+
+    // previous serialized form; only used when reading older saved games
+    private ProvinceData[] provArray = null;
+    private Map<Power, PowerData> powerMap = null;
 
 
     public Position(info.jdip.world.Map map) {
         this.map = map;
-        this.provArray = new ProvinceData[map.getProvinces().length];
+
+        final int nProvinces = map.getProvinces().length;
+        units = new Unit[nProvinces];
+        dislodgedUnits = new Unit[nProvinces];
+        scOwners = new byte[nProvinces];
+        scHomePowers = new byte[nProvinces];
+        lastOccupiers = new byte[nProvinces];
+        eliminated = new boolean[map.getPowers().length];
+    }// Position()
+
+
+    /**
+     * Creates a Position sharing the given arrays with an existing Position.
+     * All arrays are copied on the first write, by either Position.
+     */
+    private Position(Position pos, boolean withUnits, boolean withDislodged) {
+        this.map = pos.map;
+
+        final int nProvinces = pos.units.length;
+        sharedMask = SHARED_SC_OWNERS | SHARED_SC_HOME_POWERS | SHARED_LAST_OCCUPIERS | SHARED_ELIMINATED;
+        scOwners = pos.scOwners;
+        scHomePowers = pos.scHomePowers;
+        lastOccupiers = pos.lastOccupiers;
+        eliminated = pos.eliminated;
+
+        if (withUnits) {
+            units = pos.units;
+            unitCount = pos.unitCount;
+            sharedMask |= SHARED_UNITS;
+        } else {
+            units = new Unit[nProvinces];
+        }
+
+        if (withDislodged) {
+            dislodgedUnits = pos.dislodgedUnits;
+            dislodgedUnitCount = pos.dislodgedUnitCount;
+            sharedMask |= SHARED_DISLODGED;
+        } else {
+            dislodgedUnits = new Unit[nProvinces];
+        }
+
+        // the original must also copy before writing
+        pos.sharedMask |= sharedMask;
     }// Position()
 
 
@@ -64,7 +131,7 @@ public class Position implements java.io.Serializable {
      * The Number of Provinces in this Position
      */
     public final int size() {
-        return provArray.length;
+        return units.length;
     }// size()
 
 
@@ -80,11 +147,7 @@ public class Position implements java.io.Serializable {
      * Returns true if this Power has been eliminated. False by default.
      */
     public boolean isEliminated(Power power) {
-        PowerData pd = powerMap.get(power);
-        if (pd != null) {
-            return pd.isEliminated();
-        }
-        return false;
+        return eliminated[getPowerIndex(power)];
     }// isEliminated()
 
 
@@ -92,8 +155,15 @@ public class Position implements java.io.Serializable {
      * Set whether this Power has been eliminated.
      */
     public void setEliminated(Power power, boolean value) {
-        PowerData pd = getPowerData(power);
-        pd.setEliminated(value);
+        final int idx = getPowerIndex(power);
+        if (eliminated[idx] != value) {
+            if ((sharedMask & SHARED_ELIMINATED) != 0) {
+                eliminated = eliminated.clone();
+                sharedMask &= ~SHARED_ELIMINATED;
+            }
+
+            eliminated[idx] = value;
+        }
     }// setEliminated()
 
 
@@ -102,49 +172,27 @@ public class Position implements java.io.Serializable {
      * Power has any units (including dislodged units) or supply centers on the map
      */
     public void setEliminationStatus(final Power[] powers) {
-        HashMap<Power, Object> pmap = new HashMap<>(19);
-        for (Power power : powers) {
-            pmap.put(power, null);
-        }
-
-        for (ProvinceData pd : provArray) {
-            Power power = null;
-
-            if (pd != null) {
-                Unit unit = pd.getUnit();
-                if (unit != null)        // first check non-dislodged units
-                {
-                    power = unit.getPower();
-                    if (pmap.get(power) == null) {
-                        pmap.put(power, new Object());
-                    }
-                }
+        final Power[] mapPowers = map.getPowers();
+        final boolean[] present = new boolean[mapPowers.length];
+
+        for (int i = 0; i < units.length; i++) {
+            // first check non-dislodged units, then dislodged units,
+            // and finally see if we own a supply center
+            if (units[i] != null) {
+                present[getPowerIndex(units[i].getPower())] = true;
+            }
 
-                // then see if there's a dislodged unit
-                unit = pd.getDislodgedUnit();
-                if (unit != null) {
-                    power = unit.getPower();
-                    if (pmap.get(power) == null) {
-                        pmap.put(power, new Object());
-                    }
-                }
+            if (dislodgedUnits[i] != null) {
+                present[getPowerIndex(dislodgedUnits[i].getPower())] = true;
+            }
 
-                // finally, see if we own a supply center
-                power = pd.getSCOwner();
-                if (power != null) {
-                    if (pmap.get(power) == null) {
-                        pmap.put(power, new Object());
-                    }
-                }
+            if (scOwners[i] != 0) {
+                present[scOwners[i] - 1] = true;
             }
         }
 
         for (Power power : powers) {
-            if (pmap.get(power) == null) {
-                setEliminated(power, true);
-            } else {
-                setEliminated(power, false);
-            }
+            setEliminated(power, !present[getPowerIndex(power)]);
         }
     }// setEliminationStatus()
 
@@ -153,8 +201,12 @@ public class Position implements java.io.Serializable {
      * Set the owner of the supply center.
      */
     public void setSupplyCenterOwner(Province province, Power power) {
-        ProvinceData pd = getProvinceData(province);
-        pd.setSCOwner(power);
+        if ((sharedMask & SHARED_SC_OWNERS) != 0) {
+            scOwners = scOwners.clone();
+            sharedMask &= ~SHARED_SC_OWNERS;
+        }
+
+        scOwners[province.getIndex()] = toByte(power);
     }// setSupplyCenterOwner()
 
 
@@ -162,8 +214,12 @@ public class Position implements java.io.Serializable {
      * Set the owner of a home supply center.
      */
     public void setSupplyCenterHomePower(Province province, Power power) {
-        ProvinceData pd = getProvinceData(province);
-        pd.setSCHomePower(power);
+        if ((sharedMask & SHARED_SC_HOME_POWERS) != 0) {
+            scHomePowers = scHomePowers.clone();
+            sharedMask &= ~SHARED_SC_HOME_POWERS;
+        }
+
+        scHomePowers[province.getIndex()] = toByte(power);
     }// setSupplyCenterHomePower()
 
 
@@ -171,11 +227,7 @@ public class Position implements java.io.Serializable {
      * Determine if this Province contains a supply center
      */
     public boolean hasSupplyCenterOwner(Province province) {
-        ProvinceData pd = provArray[province.getIndex()];
-        if (pd != null) {
-            return pd.isSCOwned();
-        }
-        return false;
+        return (scOwners[province.getIndex()] != 0);
     }// hasSupplyCenterOwner()
 
 
@@ -183,11 +235,7 @@ public class Position implements java.io.Serializable {
      * Determine if this Province contains a Home supply center
      */
     public boolean isSupplyCenterAHome(Province province) {
-        ProvinceData pd = provArray[province.getIndex()];
-        if (pd != null) {
-            return pd.isSCAHome();
-        }
-        return false;
+        return (scHomePowers[province.getIndex()] != 0);
     }// isSupplyCenterAHome()
 
 
@@ -195,11 +243,7 @@ public class Position implements java.io.Serializable {
      * Get the home power of the supply center; null if no supply center or home power
      */
     public Power getSupplyCenterHomePower(Province province) {
-        ProvinceData pd = provArray[province.getIndex()];
-        if (pd != null) {
-            return pd.getSCHomePower();
-        }
-        return null;
+        return toPower(scHomePowers[province.getIndex()]);
     }// getSupplyCenterHomePower()
 
 
@@ -207,11 +251,7 @@ public class Position implements java.io.Serializable {
      * Get the owner of the supply center; null if no owner or no supply center.
      */
     public Power getSupplyCenterOwner(Province province) {
-        ProvinceData pd = provArray[province.getIndex()];
-        if (pd != null) {
-            return pd.getSCOwner();
-        }
-        return null;
+        return toPower(scOwners[province.getIndex()]);
     }// getSupplyCenterOwner()
 
 
@@ -221,30 +261,28 @@ public class Position implements java.io.Serializable {
      * Set the unit contained in this province; null to eliminate an existing unit.
      */
     public void setUnit(Province province, Unit unit) {
-        ProvinceData pd = getProvinceData(province);
-        pd.setUnit(unit);
+        if ((sharedMask & SHARED_UNITS) != 0) {
+            units = units.clone();
+            sharedMask &= ~SHARED_UNITS;
+        }
+
+        final int idx = province.getIndex();
+        unitCount += ((unit == null) ? 0 : 1) - ((units[idx] == null) ? 0 : 1);
+        units[idx] = unit;
     }// setUnit()
 
     /**
      * Determines if there is a unit present in this province.
      */
     public boolean hasUnit(Province province) {
-        ProvinceData pd = provArray[province.getIndex()];
-        if (pd != null) {
-            return pd.hasUnit();
-        }
-        return false;
+        return (units[province.getIndex()] != null);
     }// hasUnit()
 
     /**
      * Get the unit contained in this Province. Returns null if no unit exists.
      */
     public Unit getUnit(Province province) {
-        ProvinceData pd = provArray[province.getIndex()];
-        if (pd != null) {
-            return pd.getUnit();
-        }
-        return null;
+        return units[province.getIndex()];
     }// getUnit()
 
 
@@ -277,8 +315,14 @@ public class Position implements java.io.Serializable {
      * Set the dislodged unit contained in this province; null to eliminate an existing unit.
      */
     public void setDislodgedUnit(Province province, Unit unit) {
-        ProvinceData pd = getProvinceData(province);
-        pd.setDislodgedUnit(unit);
+        if ((sharedMask & SHARED_DISLODGED) != 0) {
+            dislodgedUnits = dislodgedUnits.clone();
+            sharedMask &= ~SHARED_DISLODGED;
+        }
+
+        final int idx = province.getIndex();
+        dislodgedUnitCount += ((unit == null) ? 0 : 1) - ((dislodgedUnits[idx] == null) ? 0 : 1);
+        dislodgedUnits[idx] = unit;
     }// setDislodgedUnit()
 
 
@@ -286,11 +330,7 @@ public class Position implements java.io.Serializable {
      * Get the dislodged unit in this Province. Returns null if no dislodged unit exists.
      */
     public Unit getDislodgedUnit(Province province) {
-        ProvinceData pd = provArray[province.getIndex()];
-        if (pd != null) {
-            return pd.getDislodgedUnit();
-        }
-        return null;
+        return dislodgedUnits[province.getIndex()];
     }// getDislodgedUnit()
 
 
@@ -302,8 +342,12 @@ public class Position implements java.io.Serializable {
      * changes in the Fall season); use setSupplyCenterOwner() instead.
      */
     public void setLastOccupier(Province province, Power power) {
-        ProvinceData pd = getProvinceData(province);
-        pd.setLastOccupier(power);
+        if ((sharedMask & SHARED_LAST_OCCUPIERS) != 0) {
+            lastOccupiers = lastOccupiers.clone();
+            sharedMask &= ~SHARED_LAST_OCCUPIERS;
+        }
+
+        lastOccupiers[province.getIndex()] = toByte(power);
     }// setLastOccupier()
 
 
@@ -313,11 +357,7 @@ public class Position implements java.io.Serializable {
      * changes in the Fall season); use getSupplyCenterOwner() instead.
      */
     public Power getLastOccupier(Province province) {
-        ProvinceData pd = provArray[province.getIndex()];
-        if (pd != null) {
-            return pd.getLastOccupier();
-        }
-        return null;
+        return toPower(lastOccupiers[province.getIndex()]);
     }// getLastOccupier()
 
 
@@ -325,11 +365,7 @@ public class Position implements java.io.Serializable {
      * Determines if there is a dislodged unit present in this province.
      */
     public boolean hasDislodgedUnit(Province province) {
-        ProvinceData pd = provArray[province.getIndex()];
-        if (pd != null) {
-            return pd.hasDislodgedUnit();
-        }
-        return false;
+        return (dislodgedUnits[province.getIndex()] != null);
     }// hasDislodgedUnit()
 
 
@@ -337,20 +373,7 @@ public class Position implements java.io.Serializable {
      * Returns an array of provinces with non-dislodged units
      */
     public Province[] getUnitProvinces() {
-        makeTmpProvArray();
-
-        int arrSize = 0;
-        for (int i = 0; i < provArray.length; i++) {
-            ProvinceData pd = provArray[i];
-            if (pd != null && pd.hasUnit()) {
-                tmpProvArray[arrSize] = map.reverseIndex(i);
-                arrSize++;
-            }
-        }
-
-        Province[] p = new Province[arrSize];
-        System.arraycopy(tmpProvArray, 0, p, 0, arrSize);
-        return p;
+        return getProvinces(units, unitCount);
     }// getUnitProvinces()
 
 
@@ -358,20 +381,7 @@ public class Position implements java.io.Serializable {
      * Returns an array of provinces with dislodged units
      */
     public Province[] getDislodgedUnitProvinces() {
-        makeTmpProvArray();
-
-        int arrSize = 0;
-        for (int i = 0; i < provArray.length; i++) {
-            ProvinceData pd = provArray[i];
-            if (pd != null && pd.hasDislodgedUnit()) {
-                tmpProvArray[arrSize] = map.reverseIndex(i);
-                arrSize++;
-            }
-        }
-
-        Province[] p = new Province[arrSize];
-        System.arraycopy(tmpProvArray, 0, p, 0, arrSize);
-        return p;
+        return getProvinces(dislodgedUnits, dislodgedUnitCount);
     }// getDislodgedUnitProvinces()
 
 
@@ -379,14 +389,7 @@ public class Position implements java.io.Serializable {
      * Returns the number of provinces with non-dislodged units
      */
     public int getUnitCount() {
-        int count = 0;
-        for (ProvinceData pd : provArray) {
-            if (pd != null && pd.hasUnit()) {
-                count++;
-            }
-        }
-
-        return count;
+        return unitCount;
     }// getUnitCount()
 
 
@@ -394,14 +397,7 @@ public class Position implements java.io.Serializable {
      * Returns the number of provinces with dislodged units
      */
     public int getDislodgedUnitCount() {
-        int count = 0;
-        for (ProvinceData pd : provArray) {
-            if (pd != null && pd.hasDislodgedUnit()) {
-                count++;
-            }
-        }
-
-        return count;
+        return dislodgedUnitCount;
     }// getDislodgedUnitCount()
 
 
@@ -409,20 +405,7 @@ public class Position implements java.io.Serializable {
      * Returns an array of provinces with home supply centers
      */
     public Province[] getHomeSupplyCenters() {
-        makeTmpProvArray();
-
-        int arrSize = 0;
-        for (int i = 0; i < provArray.length; i++) {
-            ProvinceData pd = provArray[i];
-            if (pd != null && pd.isSCAHome()) {
-                tmpProvArray[arrSize] = map.reverseIndex(i);
-                arrSize++;
-            }
-        }
-
-        Province[] p = new Province[arrSize];
-        System.arraycopy(tmpProvArray, 0, p, 0, arrSize);
-        return p;
+        return getProvinces(scHomePowers, -1);
     }// getHomeSupplyCenters()
 
 
@@ -430,20 +413,7 @@ public class Position implements java.io.Serializable {
      * Returns an Array of the Home Supply Centers for a given power (whether or not they are owned by that power)
      */
     public Province[] getHomeSupplyCenters(Power power) {
-        makeTmpProvArray();
-
-        int arrSize = 0;
-        for (int i = 0; i < provArray.length; i++) {
-            ProvinceData pd = provArray[i];
-            if (pd != null && pd.getSCHomePower() == power) {
-                tmpProvArray[arrSize] = map.reverseIndex(i);
-                arrSize++;
-            }
-        }
-
-        Province[] p = new Province[arrSize];
-        System.arraycopy(tmpProvArray, 0, p, 0, arrSize);
-        return p;
+        return getProvinces(scHomePowers, toByte(power));
     }// getHomeSupplyCenters()
 
 
@@ -453,8 +423,9 @@ public class Position implements java.io.Serializable {
      * An owned home supply center need not have a unit present.
      */
     public boolean hasAnOwnedHomeSC(Power power) {
-        for (ProvinceData pd : provArray) {
-            if (pd != null && pd.getSCHomePower() == power && pd.getSCOwner() == power) {
+        final byte p = toByte(power);
+        for (int i = 0; i < scHomePowers.length; i++) {
+            if (scHomePowers[i] == p && scOwners[i] == p) {
                 return true;
             }
         }
@@ -467,20 +438,7 @@ public class Position implements java.io.Serializable {
      * Returns an Array of the owned Supply Centers for a given Power (whether or not they are home supply centers)
      */
     public Province[] getOwnedSupplyCenters(Power power) {
-        makeTmpProvArray();
-
-        int arrSize = 0;
-        for (int i = 0; i < provArray.length; i++) {
-            ProvinceData pd = provArray[i];
-            if (pd != null && pd.getSCOwner() == power) {
-                tmpProvArray[arrSize] = map.reverseIndex(i);
-                arrSize++;
-            }
-        }
-
-        Province[] p = new Province[arrSize];
-        System.arraycopy(tmpProvArray, 0, p, 0, arrSize);
-        return p;
+        return getProvinces(scOwners, toByte(power));
     }// getOwnedSupplyCenters()
 
 
@@ -488,91 +446,31 @@ public class Position implements java.io.Serializable {
      * Returns an array of provinces with owned supply centers
      */
     public Province[] getOwnedSupplyCenters() {
-        makeTmpProvArray();
-
-        int arrSize = 0;
-        for (int i = 0; i < provArray.length; i++) {
-            ProvinceData pd = provArray[i];
-            if (pd != null && pd.isSCOwned()) {
-                tmpProvArray[arrSize] = map.reverseIndex(i);
-                arrSize++;
-            }
-        }
-
-        Province[] p = new Province[arrSize];
-        System.arraycopy(tmpProvArray, 0, p, 0, arrSize);
-        return p;
+        return getProvinces(scOwners, -1);
     }// getOwnedSupplyCenters()
 
 
     /**
-     * Deep clone of the contents of this Position.
+     * Clone of the contents of this Position. Units are shared.
      */
     public Position copy() {
-        Position pos = new Position(map);
-
-        for (int i = 0; i < provArray.length; i++) {
-            ProvinceData pd = provArray[i];
-
-            if (pd != null) {
-                pos.provArray[i] = pd.normClone();
-            }
-        }
-
-        for (Power key : powerMap.keySet()) {
-            PowerData pd = powerMap.get(key);
-
-            pos.powerMap.put(key, pd.normClone());
-        }
-
-        return pos;
+        return new Position(this, true, true);
     }// clone()
 
     /**
-     * Deep clone of everything *except* dislodged & non-dislodged units;
+     * Clone of everything *except* dislodged & non-dislodged units;
      * (e.g., SC ownership, Power Info, etc.)
      */
     public Position cloneExceptUnits() {
-        Position pos = new Position(map);
-
-        for (int i = 0; i < provArray.length; i++) {
-            ProvinceData pd = provArray[i];
-
-            if (pd != null) {
-                pos.provArray[i] = pd.cloneExceptUnits();
-            }
-        }
-
-        for (Power key : powerMap.keySet()) {
-            PowerData pd = powerMap.get(key);
-
-            pos.powerMap.put(key, pd.normClone());
-        }
-
-        return pos;
+        return new Position(this, false, false);
     }// cloneExceptUnits()
 
 
     /**
-     * Deep clone of everything <b>except</b> dislodged units.
+     * Clone of everything <b>except</b> dislodged units.
      */
     public Position cloneExceptDislodged() {
-        Position pos = new Position(map);
-
-        for (int i = 0; i < provArray.length; i++) {
-            ProvinceData pd = provArray[i];
-            if (pd != null) {
-                pos.provArray[i] = pd.cloneExceptDislodged();
-            }
-        }
-
-        for (Power key : powerMap.keySet()) {
-            PowerData pd = powerMap.get(key);
-
-            pos.powerMap.put(key, pd.normClone());
-        }
-
-        return pos;
+        return new Position(this, true, false);
     }// cloneExceptDislodged()
 
 
@@ -581,23 +479,7 @@ public class Position implements java.io.Serializable {
      * Units for a particular power.
      */
     public Province[] getUnitProvinces(Power power) {
-        makeTmpProvArray();
-
-        int arrSize = 0;
-        for (int i = 0; i < provArray.length; i++) {
-            ProvinceData pd = provArray[i];
-            if (pd != null) {
-                Unit unit = pd.getUnit();
-                if (unit != null && unit.getPower() == power) {
-                    tmpProvArray[arrSize] = map.reverseIndex(i);
-                    arrSize++;
-                }
-            }
-        }
-
-        Province[] p = new Province[arrSize];
-        System.arraycopy(tmpProvArray, 0, p, 0, arrSize);
-        return p;
+        return getProvinces(units, power);
     }// getUnitProvinces()
 
 
@@ -606,236 +488,164 @@ public class Position implements java.io.Serializable {
      * Units for a particular power.
      */
     public Province[] getDislodgedUnitProvinces(Power power) {
-        makeTmpProvArray();
-
-        int arrSize = 0;
-        for (int i = 0; i < provArray.length; i++) {
-            ProvinceData pd = provArray[i];
-            if (pd != null) {
-                Unit unit = pd.getDislodgedUnit();
-                if (unit != null && unit.getPower() == power) {
-                    tmpProvArray[arrSize] = map.reverseIndex(i);
-                    arrSize++;
-                }
-            }
-        }
-
-        Province[] p = new Province[arrSize];
-        System.arraycopy(tmpProvArray, 0, p, 0, arrSize);
-        return p;
+        return getProvinces(dislodgedUnits, power);
     }// getDislodgedUnitProvinces()
 
 
     /**
-     * Call this method FIRST before any set(); thus if ProvinceData
-     * does not exist, we will add one to the map.
+     * Gets the Provinces with a unit in the given array; count is the
+     * number of non-null entries, which is the size of the returned array.
      */
-    private ProvinceData getProvinceData(Province province) {
-        int idx = province.getIndex();
-        ProvinceData pd = provArray[idx];
-        if (pd == null) {
-            pd = new ProvinceData();
-            provArray[idx] = pd;
-        }
-
-        return pd;
-    }// getProvinceData()
+    private Province[] getProvinces(Unit[] unitArray, int count) {
+        final Province[] p = new Province[count];
 
-    /**
-     * Same type of functionality as getProvinceData() but for PowerData objects
-     */
-    private PowerData getPowerData(Power power) {
-        PowerData pd = powerMap.get(power);
-        if (pd == null) {
-            pd = new PowerData();
-            powerMap.put(power, pd);
+        int arrSize = 0;
+        for (int i = 0; arrSize < count; i++) {
+            if (unitArray[i] != null) {
+                p[arrSize] = map.reverseIndex(i);
+                arrSize++;
+            }
         }
-        return pd;
-    }// getPowerData()
 
-    /**
-     * Copying references into a large temporary array, then creating an array
-     * and copying the temp array into the correctly-sized array via
-     * System.arraycopy() is about twice as fast as using an ArrayList, and
-     * almost twice as fast as double-iterating (one to gauge the array size,
-     * and one to copy data).
-     * <p>
-     * This method creates a sufficiently large array to hold temporary data.
-     */
-    private void makeTmpProvArray() {
-        if (tmpProvArray == null) {
-            tmpProvArray = new Province[provArray.length];
-        }
-    }// makeTmpProvArray()
+        return p;
+    }// getProvinces()
+
 
     /**
-     * All mutable Province data is kept here
+     * Gets the Provinces with a unit of the given Power in the given array.
      */
-    private class ProvinceData implements java.io.Serializable {
-        // instance variables
-        private Unit unit = null;
-        private Unit dislodgedUnit = null;
-        private Power SCOwner = null;
-        private Power SCHomePower = null;
-        private Power lastOccupier = null;
-
-        // unit set/get
-        public boolean hasUnit() {
-            return (unit != null);
-        }
-
-        public boolean hasDislodgedUnit() {
-            return (dislodgedUnit != null);
-        }
-
-        public Unit getUnit() {
-            return unit;
-        }
-
-        public void setUnit(Unit u) {
-            unit = u;
+    private Province[] getProvinces(Unit[] unitArray, Power power) {
+        int count = 0;
+        for (Unit unit : unitArray) {
+            if (unit != null && unit.getPower() == power) {
+                count++;
+            }
         }
 
-        public Unit getDislodgedUnit() {
-            return dislodgedUnit;
-        }
+        final Province[] p = new Province[count];
 
-        public void setDislodgedUnit(Unit u) {
-            dislodgedUnit = u;
+        int arrSize = 0;
+        for (int i = 0; arrSize < count; i++) {
+            final Unit unit = unitArray[i];
+            if (unit != null && unit.getPower() == power) {
+                p[arrSize] = map.reverseIndex(i);
+                arrSize++;
+            }
         }
 
+        return p;
+    }// getProvinces()
 
-        // SC set/get
-        public boolean isSCAHome() {
-            return (SCHomePower != null);
-        }
-
-        public boolean isSCOwned() {
-            return (SCOwner != null);
-        }
 
-        public Power getSCOwner() {
-            return SCOwner;
+    /**
+     * Gets the Provinces whose entry in the given Power array matches the
+     * given value; a value of -1 matches any Power.
+     */
+    private Province[] getProvinces(byte[] powerArray, int value) {
+        int count = 0;
+        for (byte p : powerArray) {
+            if (p == value || (value < 0 && p != 0)) {
+                count++;
+            }
         }
 
-        public void setSCOwner(Power p) {
-            SCOwner = p;
-        }
+        final Province[] provinces = new Province[count];
 
-        public Power getSCHomePower() {
-            return SCHomePower;
+        int arrSize = 0;
+        for (int i = 0; arrSize < count; i++) {
+            final byte p = powerArray[i];
+            if (p == value || (value < 0 && p != 0)) {
+                provinces[arrSize] = map.reverseIndex(i);
+                arrSize++;
+            }
         }
 
-        public void setSCHomePower(Power p) {
-            SCHomePower = p;
-        }
+        return provinces;
+    }// getProvinces()
 
-        // occupier set/get
-        public Power getLastOccupier() {
-            return lastOccupier;
-        }
 
-        public void setLastOccupier(Power p) {
-            lastOccupier = p;
+    /**
+     * Index of the given (non-null) Power in the Map.
+     */
+    private int getPowerIndex(Power power) {
+        final int idx = map.getPowerIndex(power);
+        if (idx < 0) {
+            throw new IllegalArgumentException("Power not in Map: " + power);
         }
+        return idx;
+    }// getPowerIndex()
 
+    /**
+     * Convert a Power to its stored form; 0 is null.
+     */
+    private byte toByte(Power power) {
+        return (power == null) ? 0 : (byte) (getPowerIndex(power) + 1);
+    }// toByte()
 
-        // normal clone
-        public ProvinceData normClone() {
-            ProvinceData pd = new ProvinceData();
-
-            // deep copy unit information
-            if (unit != null) {
-                pd.unit = unit.copy();
-            }
-
-            if (dislodgedUnit != null) {
-                pd.dislodgedUnit = dislodgedUnit.copy();
-            }
-
-            // shallow copy Powers [Power is immutable]
-            pd.SCOwner = this.SCOwner;
-            pd.SCHomePower = this.SCHomePower;
-            pd.lastOccupier = this.lastOccupier;
+    /**
+     * Convert a stored Power to a Power.
+     */
+    private Power toPower(byte value) {
+        return (value == 0) ? null : map.getPowers()[value - 1];
+    }// toPower()
 
-            return pd;
-        }// normClone()
 
+    // reserialization: arrays may have been shared when written, and saved
+    // games written prior to array storage must be converted.
+    private void readObject(ObjectInputStream in)
+            throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        sharedMask = SHARED_ALL;
 
-        /**
-         * Returns null if no non-ownership information exists
-         */
-        public ProvinceData cloneExceptUnits() {
-            // don't create an object if there is no ownership info.
-            // this also compacts the Position map!
-            if (SCOwner == null && SCHomePower == null && lastOccupier == null) {
-                return null;
-            }
+        if (provArray != null) {
+            final int nProvinces = provArray.length;
+            units = new Unit[nProvinces];
+            dislodgedUnits = new Unit[nProvinces];
+            scOwners = new byte[nProvinces];
+            scHomePowers = new byte[nProvinces];
+            lastOccupiers = new byte[nProvinces];
+            eliminated = new boolean[map.getPowers().length];
+            sharedMask = 0;
 
-            // create a ProvinceData object
-            ProvinceData pd = new ProvinceData();
-
-            // shallow copy Power [Power is immutable]
-            pd.SCOwner = this.SCOwner;
-            pd.SCHomePower = this.SCHomePower;
-            pd.lastOccupier = this.lastOccupier;
-
-            return pd;
-        }// cloneExceptUnits()
-
-        /**
-         * Returns null if no ownership info/unit exists
-         */
-        public ProvinceData cloneExceptDislodged() {
-            // don't create an object if there is no ownership info.
-            // this also compacts the Position map!
-            if (SCOwner == null && SCHomePower == null && unit == null && lastOccupier == null) {
-                return null;
+            for (int i = 0; i < nProvinces; i++) {
+                final ProvinceData pd = provArray[i];
+                if (pd != null) {
+                    final Province province = map.reverseIndex(i);
+                    setUnit(province, pd.unit);
+                    setDislodgedUnit(province, pd.dislodgedUnit);
+                    setSupplyCenterOwner(province, pd.SCOwner);
+                    setSupplyCenterHomePower(province, pd.SCHomePower);
+                    setLastOccupier(province, pd.lastOccupier);
+                }
             }
 
-            // create a ProvinceData object
-            ProvinceData pd = new ProvinceData();
-
-            // shallow copy Power [Power is immutable]
-            pd.SCOwner = this.SCOwner;
-            pd.SCHomePower = this.SCHomePower;
-            pd.lastOccupier = this.lastOccupier;
-
-            // deep copy unit
-            if (unit != null) {
-                pd.unit = unit.copy();
+            if (powerMap != null) {
+                for (Map.Entry<Power, PowerData> entry : powerMap.entrySet()) {
+                    setEliminated(entry.getKey(), entry.getValue().isEliminated);
+                }
             }
 
-            return pd;
-        }// cloneExceptUnits()
+            provArray = null;
+            powerMap = null;
+        }
+    }// readObject()
 
 
+    /**
+     * Per-Province data of the previous serialized form; retained to read older saved games.
+     */
+    private class ProvinceData implements java.io.Serializable {
+        private Unit unit = null;
+        private Unit dislodgedUnit = null;
+        private Power SCOwner = null;
+        private Power SCHomePower = null;
+        private Power lastOccupier = null;
     }// inner class ProvinceData
 
     /**
-     * All mutable Power data is kept here
+     * Per-Power data of the previous serialized form; retained to read older saved games.
      */
     private class PowerData implements java.io.Serializable {
-        // instance variables
         private boolean isEliminated = false;
-
-
-        public PowerData() {
-        }// PowerData()
-
-        public boolean isEliminated() {
-            return isEliminated;
-        }
-
-        public void setEliminated(boolean value) {
-            isEliminated = value;
-        }
-
-        public PowerData normClone() {
-            PowerData pd = new PowerData();
-            pd.isEliminated = this.isEliminated;
-            return pd;
-        }// normClone()
     }// inner class PowerData
 }// class Position
-
@@ -22,6 +22,8 @@
 //
 package info.jdip.world;
 
+import java.io.ObjectStreamException;
+
 
 /**
  * A Power represents player in the game.
@@ -126,6 +128,13 @@ public class Power implements Comparable, java.io.Serializable {
 	 	NOTE: we just use default referential equality, since these objects are immutable!
 	*/
 
+    /**
+     * Written as a reference within indexed game file records.
+     */
+    private Object writeReplace() throws ObjectStreamException {
+        return IndexedGameFile.replace(this);
+    }// writeReplace()
+
     /**
      * Implementation of Object.toString()
      */
@@ -24,6 +24,7 @@ package info.jdip.world;
 
 import info.jdip.order.Order;
 
+import java.io.ObjectStreamException;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -230,14 +231,7 @@ public class Province implements java.io.Serializable, Comparable<Province> {
 			}
 		}
 		*/
-        Location[] locations = adjacency.getLocations(Coast.TOUCHING);
-        for (Location location : locations) {
-            if (location.isProvinceEqual(province)) {
-                return true;
-            }
-        }
-
-        return false;
+        return adjacency.isAdjacent(Coast.TOUCHING, province);
     }// isTouching()
 
     /**
@@ -247,14 +241,7 @@ public class Province implements java.io.Serializable, Comparable<Province> {
      * coast is connected to the destination Province.
      */
     public boolean isAdjacent(Coast sourceCoast, Province dest) {
-        Location[] locations = adjacency.getLocations(sourceCoast);
-        for (Location location : locations) {
-            if (location.getProvince().equals(dest)) {
-                return true;
-            }
-        }
-
-        return false;
+        return adjacency.isAdjacent(sourceCoast, dest);
     }// isAdjacent()
 
     /**
@@ -266,6 +253,11 @@ public class Province implements java.io.Serializable, Comparable<Province> {
      * This is a stricter version of isAdjacent(Coast, Province)
      */
     public boolean isAdjacent(Coast sourceCoast, Location dest) {
+        // the bit probe rejects most candidates; only a hit requires a coast check
+        if (!adjacency.isAdjacent(sourceCoast, dest.getProvince())) {
+            return false;
+        }
+
         Location[] locations = adjacency.getLocations(sourceCoast);
         for (Location location : locations) {
             if (location.equals(dest)) {
@@ -486,11 +478,21 @@ public class Province implements java.io.Serializable, Comparable<Province> {
         return fullName.compareToIgnoreCase(obj.fullName);
     }// compareTo()
 
+    /**
+     * Written as a reference within indexed game file records.
+     */
+    private Object writeReplace() throws ObjectStreamException {
+        return IndexedGameFile.replace(this);
+    }// writeReplace()
+
     /**
      * Adjacency maintains the connectivity graph between provinces.
      */
     protected static class Adjacency implements java.io.Serializable {
         private final HashMap<Coast, Location[]> adjLoc;
+        // adjacent province bits (by province index), indexed by coast index;
+        // derived from adjLoc, so not serialized
+        private transient volatile long[][] adjBits;
 
         /**
          * Creates a new Adjacency object.
@@ -504,9 +506,70 @@ public class Province implements java.io.Serializable, Comparable<Province> {
          */
         protected void setLocations(Coast coast, Location[] locations) {
             adjLoc.put(coast, locations);
+            adjBits = null;
         }// setLocations()
 
 
+        /**
+         * Determines if any Location adjacent to the given coast is
+         * within the given Province. This is a single bit test.
+         */
+        protected boolean isAdjacent(Coast coast, Province province) {
+            long[][] bits = adjBits;
+            if (bits == null) {
+                bits = createAdjacencyBits();
+            }
+
+            final int coastIdx = coast.getIndex();
+            if (coastIdx >= bits.length || bits[coastIdx] == null) {
+                return false;
+            }
+
+            final long[] coastBits = bits[coastIdx];
+            final int word = province.getIndex() >>> 6;
+            return word < coastBits.length
+                    && (coastBits[word] & (1L << province.getIndex())) != 0L;
+        }// isAdjacent()
+
+
+        /**
+         * Creates the per-coast adjacency bits from the adjacency Locations.
+         * All Coasts (including the WING coast) must be set for this Province
+         * already. This is done by WorldFactory when the Map is created;
+         * otherwise (e.g., after deserialization) it is done on first use.
+         */
+        protected long[][] createAdjacencyBits() {
+            int nCoasts = 0;
+            for (Coast coast : adjLoc.keySet()) {
+                nCoasts = Math.max(nCoasts, coast.getIndex() + 1);
+            }
+
+            final long[][] bits = new long[nCoasts][];
+            for (java.util.Map.Entry<Coast, Location[]> entry : adjLoc.entrySet()) {
+                // no bits for a coast without adjacent locations
+                if (entry.getValue().length == 0) {
+                    continue;
+                }
+
+                int maxIdx = -1;
+                for (Location loc : entry.getValue()) {
+                    maxIdx = Math.max(maxIdx, loc.getProvince().getIndex());
+                }
+
+                final long[] coastBits = new long[(maxIdx >>> 6) + 1];
+                for (Location loc : entry.getValue()) {
+                    final int idx = loc.getProvince().getIndex();
+                    coastBits[idx >>> 6] |= (1L << idx);
+                }
+
+                bits[entry.getKey().getIndex()] = coastBits;
+            }
+
+            adjBits = bits;
+            return bits;
+        }// createAdjacencyBits()
+
+
         /**
          * Gets the locations which are adjacent to the coast.
          * <p>
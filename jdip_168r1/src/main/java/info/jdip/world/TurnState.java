@@ -26,6 +26,7 @@ import info.jdip.order.Orderable;
 import info.jdip.order.result.OrderResult;
 import info.jdip.order.result.Result;
 
+import java.io.ObjectStreamException;
 import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -297,4 +298,11 @@ public class TurnState implements Serializable {
 
     }// isFailedOrder()
 
+    /**
+     * Written as a reference within indexed game file records.
+     */
+    private Object writeReplace() throws ObjectStreamException {
+        return IndexedGameFile.replace(this);
+    }// writeReplace()
+
 }// class TurnState
@@ -78,6 +78,27 @@ public class VictoryConditions implements java.io.Serializable {
     }// VictoryConditions()
 
 
+    /**
+     * Copy constructor
+     */
+    protected VictoryConditions(VictoryConditions vc) {
+        this.numSCForVictory = vc.numSCForVictory;
+        this.maxYearsNoSCChange = vc.maxYearsNoSCChange;
+        this.maxGameTimeYears = vc.maxGameTimeYears;
+        this.initialYear = vc.initialYear;
+    }// VictoryConditions()
+
+
+    /**
+     * Returns a copy of these VictoryConditions. The copy does not
+     * share evaluation results with this object, and thus may be
+     * evaluated independently (e.g., by another thread).
+     */
+    public VictoryConditions copy() {
+        return new VictoryConditions(this);
+    }// copy()
+
+
     /**
      * Returns the number of Supply Centers required for victory.
      */
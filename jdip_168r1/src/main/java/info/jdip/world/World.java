@@ -31,17 +31,25 @@ import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.ObjectStreamException;
 import java.io.Serializable;
+import java.io.UncheckedIOException;
+import java.lang.ref.SoftReference;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
+import java.util.NavigableMap;
+import java.util.NavigableSet;
+import java.util.NoSuchElementException;
 import java.util.SortedMap;
+import java.util.SortedSet;
 import java.util.TreeMap;
+import java.util.TreeSet;
 import java.util.zip.GZIPInputStream;
 import java.util.zip.GZIPOutputStream;
 
@@ -55,6 +63,21 @@ import java.util.zip.GZIPOutputStream;
  * <li>TurnState objects [in a linked hash map]
  * <li>HashMap of per-power and global state information (used to set various data)
  * </ol>
+ * <p>
+ * Worlds may be saved in the original format (a single compressed JSX document), which
+ * is the default, or in the indexed format (see IndexedGameFile). Indexed game files
+ * cannot be opened by earlier versions of jDip. A World opened from an indexed game
+ * file reads each TurnState only when it is first requested.
+ * <p>
+ * To limit memory use, only the most recently used TurnStates may be kept resident
+ * (see setResidentTurnLimit(); by default, there is no limit). Other resolved
+ * TurnStates (except the last) are then paged out to a compressed serialized form,
+ * and paged in again on demand. A paged-out TurnState is also held by soft reference,
+ * so that while it is referenced elsewhere, it is paged in as the same object.
+ * <p>
+ * If a resolved TurnState (other than the last) is modified, it should be passed to
+ * setTurnStateModified(), so that the modification is retained if it is paged out,
+ * and is written when the World is next saved to its indexed game file.
  */
 public class World implements Serializable {
     // constants for non-turn-data lookup
@@ -65,10 +88,17 @@ public class World implements Serializable {
     private static final String KEY_UNDOREDOMANAGER = "_undo_redo_manager_";
     private static final String KEY_GAME_SETUP = "_game_setup_";
     private static final String KEY_VARIANT_INFO = "_variant_info_";
+    // default number of resident TurnStates (0: no limit)
+    private static volatile int defaultResidentTurnLimit = 0;
     private final info.jdip.world.Map map;                        // the actual map (constant)
     // instance variables
-    private SortedMap<Phase, TurnState> turnStates = null;            // turn data
+    private SortedMap<Phase, TurnState> turnStates = null;            // turn data (a NavigableMap; see getTurnStateMap())
     private Map<Object, Object> nonTurnData = null;            // non-turn data (misc data & per-player data)
+    private transient volatile IndexedGameFile indexedGameFile = null;    // source of unloaded turn data
+    private transient Integer residentTurnLimit = null;                    // null: use default
+    private transient LinkedHashSet<Phase> residentPhases = null;        // resident Phases, least recent first
+    private transient Map<Phase, PagedTurnState> pagedTurnStates = null;    // paged-out TurnStates
+    private transient SortedSet<Phase> modifiedPhases = null;            // TurnStates set or modified since read or saved
 
 
     /**
@@ -76,21 +106,27 @@ public class World implements Serializable {
      */
     protected World(info.jdip.world.Map map) {
         this.map = map;
-        turnStates = Collections.synchronizedSortedMap(new TreeMap<>());    // synchronize on TreeMap
+        turnStates = Collections.synchronizedNavigableMap(new TreeMap<>());    // synchronize on map
         nonTurnData = new HashMap<>(17);
     }// World()
 
     /**
-     * Reads a World object from a file.
+     * Reads a World object from a file, in either format.
      */
     public static World open(File file)
             throws IOException {
+        if (IndexedGameFile.isIndexedFile(file)) {
+            return IndexedGameFile.read(file);
+        }
+
         JSX.ObjectReader in = null;
 
         try {
             GZIPInputStream gzi = new GZIPInputStream(new BufferedInputStream(new FileInputStream(file), 4096));
             in = new JSX.ObjectReader(gzi);
-            return (World) in.readObject();
+            final World world = (World) in.readObject();
+            world.upgradeTurnStateMap();
+            return world;
         } catch (IOException ioe) {
             throw ioe;
         } catch (Exception e) {
@@ -104,25 +140,83 @@ public class World implements Serializable {
     }// open()
 
     /**
-     * Saves a World object to a file.
+     * Saves a World object to a file, in the original format.
      */
     public static void save(File file, World world)
             throws IOException {
+        save(file, world, false);
+    }// save()
 
-        try (GZIPOutputStream gzos = new GZIPOutputStream(new FileOutputStream(file), 2048)) {
-            JSX.ObjectWriter out = new JSX.ObjectWriter(gzos);
-            out.setPrettyPrint(false);
-            out.writeObject(world);
-            out.close();
-            gzos.finish(); // this is key. otherwise data is not written.
-        } catch (IOException ioe) {
-            throw ioe;
-        } catch (Exception e) {
-            // rethrow all non-IOExceptions as IOExceptions
-            throw new IOException(e.getMessage(), e);
+    /**
+     * Saves a World object to a file, in the indexed format, or in the
+     * original (single document) format. Indexed game files cannot be
+     * opened by earlier versions of jDip.
+     * <p>
+     * If the World was opened from (or last saved to) the same indexed game
+     * file, only changed data is appended to the file.
+     */
+    public static void save(File file, World world, boolean indexed)
+            throws IOException {
+        if (indexed) {
+            synchronized (world.turnStates) {
+                world.setIndexedGameFile(IndexedGameFile.write(file, world));
+                world.getModifiedPhases().clear();
+            }
+            return;
+        }
+
+        // all TurnStates must be present
+        synchronized (world.turnStates) {
+            for (Phase phase : world.turnStates.keySet()) {
+                world.pageIn(phase);
+            }
+
+            try (GZIPOutputStream gzos = new GZIPOutputStream(new FileOutputStream(file), 2048)) {
+                JSX.ObjectWriter out = new JSX.ObjectWriter(gzos);
+                out.setPrettyPrint(false);
+                out.writeObject(world);
+                out.close();
+                gzos.finish(); // this is key. otherwise data is not written.
+            } catch (IOException ioe) {
+                throw ioe;
+            } catch (Exception e) {
+                // rethrow all non-IOExceptions as IOExceptions
+                throw new IOException(e.getMessage(), e);
+            } finally {
+                world.trimResidentTurnStates();
+            }
         }
     }// save()
 
+    /**
+     * Returns <code>true</code> if the given file is in the indexed
+     * format, or <code>false</code> if it is in the original format.
+     */
+    public static boolean isIndexedFile(File file)
+            throws IOException {
+        return IndexedGameFile.isIndexedFile(file);
+    }// isIndexedFile()
+
+    /**
+     * Gets the default maximum number of resident TurnStates, for Worlds
+     * which have not had a limit set. 0 (the initial value) indicates no limit.
+     */
+    public static int getDefaultResidentTurnLimit() {
+        return defaultResidentTurnLimit;
+    }// getDefaultResidentTurnLimit()
+
+    /**
+     * Sets the default maximum number of resident TurnStates, for Worlds
+     * which have not had a limit set. 0 indicates no limit.
+     */
+    public static void setDefaultResidentTurnLimit(int value) {
+        if (value < 0) {
+            throw new IllegalArgumentException("limit: " + value);
+        }
+
+        defaultResidentTurnLimit = value;
+    }// setDefaultResidentTurnLimit()
+
     /**
      * Returns the Map (info.jdip.world.Map) associated with this World.
      */
@@ -175,15 +269,32 @@ public class World implements Serializable {
         nonTurnData.put(KEY_VICTORY_CONDITIONS, value);
     }// setVictoryConditions()
 
+    /**
+     * Creates an empty World for simulation. The new World has the same Map
+     * and VariantInfo as this World, and a copy of its VictoryConditions; it
+     * holds no TurnStates and no other data.
+     * <p>
+     * The VariantInfo (and thus the RuleOptions it holds) is shared, not copied;
+     * changes to either affect both Worlds. TurnStates adjudicated within the new
+     * World never affect this World.
+     */
+    public World createSimulationWorld() {
+        final World w = new World(map);
+        w.setVariantInfo(getVariantInfo());
+
+        final VictoryConditions vc = getVictoryConditions();
+        if (vc != null) {
+            w.setVictoryConditions(vc.copy());
+        }
+
+        return w;
+    }// createSimulationWorld()
+
     /**
      * Gets the first TurnState object
      */
     public TurnState getInitialTurnState() {
-        TurnState ts = turnStates.get(turnStates.firstKey());
-        if (ts != null) {
-            ts.setWorld(this);
-        }
-        return ts;
+        return loadTurnState(turnStates.firstKey());
     }// getInitialTurnState()
 
 
@@ -191,11 +302,7 @@ public class World implements Serializable {
      * Gets the most current (last in the list) TurnState.
      */
     public TurnState getLastTurnState() {
-        TurnState ts = turnStates.get(turnStates.lastKey());
-        if (ts != null) {
-            ts.setWorld(this);
-        }
-        return ts;
+        return loadTurnState(turnStates.lastKey());
     }// getLastTurnState()
 
 
@@ -203,11 +310,7 @@ public class World implements Serializable {
      * Gets the TurnState associated with the specified Phase
      */
     public TurnState getTurnState(Phase phase) {
-        TurnState ts = turnStates.get(phase);
-        if (ts != null) {
-            ts.setWorld(this);
-        }
-        return ts;
+        return loadTurnState(phase);
     }// getTurnState()
 
 
@@ -224,27 +327,28 @@ public class World implements Serializable {
             return null;
         }
 
-        Phase next = null;
-        Iterator iter = turnStates.keySet().iterator();
-        while (iter.hasNext()) {
-            Phase phase = (Phase) iter.next();
-            if (current.compareTo(phase) == 0) {
-                if (iter.hasNext()) {
-                    next = (Phase) iter.next();
-                }
+        return higherTurnState(current);
+    }// getNextTurnState()
 
-                break;
-            }
-        }
 
-        if (next == null) {
-            return null;
-        }
+    /**
+     * Gets the TurnState with the least Phase strictly greater than
+     * the given Phase, or null if there is none.
+     */
+    public TurnState higherTurnState(Phase phase) {
+        final Phase next = getTurnStateMap().higherKey(phase);
+        return (next == null) ? null : loadTurnState(next);
+    }// higherTurnState()
 
-        TurnState ts = turnStates.get(next);
-        ts.setWorld(this);
-        return ts;
-    }// getNextTurnState()
+
+    /**
+     * Gets the TurnState with the greatest Phase strictly less than
+     * the given Phase, or null if there is none.
+     */
+    public TurnState lowerTurnState(Phase phase) {
+        final Phase previous = getTurnStateMap().lowerKey(phase);
+        return (previous == null) ? null : loadTurnState(previous);
+    }// lowerTurnState()
 
 
     /**
@@ -253,15 +357,42 @@ public class World implements Serializable {
      * in the World object. However, modifications to individual
      * TurnState objects will be reflected in the World object
      * (TurnStates are not cloned here).
+     * <p>
+     * To iterate over TurnStates without copying, use getTurnStates().
      */
     public List<TurnState> getAllTurnStates() {
-        Collection<TurnState> values = turnStates.values();
-        ArrayList<TurnState> al = new ArrayList<>(values.size());
-        al.addAll(values);
+        ArrayList<TurnState> al = new ArrayList<>(turnStates.size());
+        for (TurnState ts : getTurnStates()) {
+            al.add(ts);
+        }
         return al;
     }// getAllTurnStates()
 
 
+    /**
+     * Gets all TurnStates, in Phase order. This is a view, not a copy;
+     * see getTurnStates(Phase, boolean, Phase, boolean).
+     */
+    public Iterable<TurnState> getTurnStates() {
+        return getTurnStates(null, true, null, true);
+    }// getTurnStates()
+
+
+    /**
+     * Gets the TurnStates from <code>fromPhase</code> to <code>toPhase</code>,
+     * in Phase order. A <code>null</code> Phase indicates the range is
+     * unbounded at that end.
+     * <p>
+     * This is a view, not a copy: each TurnState is found when iterated, so
+     * TurnStates added or removed during iteration may or may not be seen.
+     * As with getAllTurnStates(), paged-out TurnStates are not made resident.
+     */
+    public Iterable<TurnState> getTurnStates(final Phase fromPhase, final boolean fromInclusive,
+                                             final Phase toPhase, final boolean toInclusive) {
+        return () -> new TurnStateIterator(fromPhase, fromInclusive, toPhase, toInclusive);
+    }// getTurnStates()
+
+
     /**
      * Gets the TurnState that comes before the specified phase.
      * <p>
@@ -275,23 +406,7 @@ public class World implements Serializable {
             return null;
         }
 
-
-        Phase previous = null;
-        for (Phase phase : turnStates.keySet()) {
-            if (phase.compareTo(current) != 0) {
-                previous = phase;
-            } else {
-                break;
-            }
-        }
-
-        if (previous == null) {
-            return null;
-        }
-
-        TurnState ts = turnStates.get(previous);
-        ts.setWorld(this);
-        return ts;
+        return lowerTurnState(current);
     }// getPreviousTurnState()
 
 
@@ -299,16 +414,47 @@ public class World implements Serializable {
      * If a TurnState with the given phase already exists, it is replaced.
      */
     public void setTurnState(TurnState turnState) {
-        turnStates.put(turnState.getPhase(), turnState);
+        synchronized (turnStates) {
+            final Phase phase = turnState.getPhase();
+            getPagedTurnStates().remove(phase);
+            getModifiedPhases().add(phase);
+            turnStates.put(phase, turnState);
+            touch(phase);
+        }
     }// setTurnState()
 
 
+    /**
+     * Indicates that the given TurnState has been modified. If it is held by
+     * this World, it is written when the World is next saved; if it has been
+     * paged out, it is made resident again, so that the modification is not
+     * lost. Otherwise, this has no effect.
+     */
+    public void setTurnStateModified(TurnState turnState) {
+        synchronized (turnStates) {
+            final Phase phase = turnState.getPhase();
+            final PagedTurnState pts = getPagedTurnStates().get(phase);
+            if (pts != null && pts.ref.get() == turnState) {
+                setTurnState(turnState);
+            } else if (phase != null && turnStates.get(phase) == turnState) {
+                getModifiedPhases().add(phase);
+            }
+        }
+    }// setTurnStateModified()
+
+
     /**
      * Removes a turnstate from the world. This should
      * be used with caution!
      */
     public void removeTurnState(TurnState turnState) {
-        turnStates.remove(turnState.getPhase());
+        synchronized (turnStates) {
+            final Phase phase = turnState.getPhase();
+            turnStates.remove(phase);
+            getPagedTurnStates().remove(phase);
+            getResidentPhases().remove(phase);
+            getModifiedPhases().remove(phase);
+        }
     }// removeTurnState()
 
 
@@ -316,17 +462,336 @@ public class World implements Serializable {
      * Removes <b>all</b> TurnStates from the World.
      */
     public void removeAllTurnStates() {
-        turnStates.clear();
+        synchronized (turnStates) {
+            turnStates.clear();
+            getPagedTurnStates().clear();
+            getResidentPhases().clear();
+            getModifiedPhases().clear();
+        }
     }// removeAllTurnStates()
 
 
     /**
-     * returns sorted (ascending) set of all Phases
+     * Gets the maximum number of resident TurnStates. 0 indicates no limit.
+     */
+    public int getResidentTurnLimit() {
+        final Integer limit = residentTurnLimit;
+        return (limit == null) ? defaultResidentTurnLimit : limit;
+    }// getResidentTurnLimit()
+
+
+    /**
+     * Sets the maximum number of resident TurnStates. 0 indicates no limit.
+     * The last TurnState, and TurnStates which have not been resolved, are
+     * always resident, and are not counted against the limit.
+     */
+    public void setResidentTurnLimit(int value) {
+        if (value < 0) {
+            throw new IllegalArgumentException("limit: " + value);
+        }
+
+        synchronized (turnStates) {
+            residentTurnLimit = value;
+            trimResidentTurnStates();
+        }
+    }// setResidentTurnLimit()
+
+
+    /**
+     * Gets the TurnState for the given Phase, paging it in (or reading
+     * it from the indexed game file) if it is not resident.
+     */
+    private TurnState loadTurnState(Phase phase) {
+        final TurnState ts;
+        synchronized (turnStates) {
+            ts = pageIn(phase);
+            if (ts != null) {
+                touch(phase);
+            }
+        }
+
+        if (ts != null) {
+            ts.setWorld(this);
+        }
+        return ts;
+    }// loadTurnState()
+
+
+    /**
+     * Makes the TurnState for the given Phase resident, without
+     * paging out others. Must be called with the turnStates lock held.
+     */
+    private TurnState pageIn(Phase phase) {
+        TurnState ts = turnStates.get(phase);
+        if (ts == null) {
+            ts = peek(phase);
+            if (ts != null && getPagedTurnStates().remove(phase) != null) {
+                turnStates.put(phase, ts);
+                getResidentPhases().add(phase);
+            }
+        }
+
+        return ts;
+    }// pageIn()
+
+
+    /**
+     * Gets the TurnState for the given Phase. If it is paged out (or has not been
+     * read from the indexed game file), it is not made resident, unless it must
+     * always be resident. Must be called with the turnStates lock held.
+     */
+    private TurnState peek(Phase phase) {
+        TurnState ts = turnStates.get(phase);
+        if (ts != null || !turnStates.containsKey(phase)) {
+            return ts;
+        }
+
+        final PagedTurnState pts = getPagedTurnStates().get(phase);
+        ts = (pts == null) ? null : pts.ref.get();
+        if (ts == null) {
+            try {
+                if (pts != null && pts.data != null) {
+                    ts = IndexedGameFile.readTurnState(pts.data, this);
+                } else if (indexedGameFile != null) {
+                    ts = indexedGameFile.readTurnState(this, phase);
+                } else {
+                    return null;
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException("cannot read turn " + phase.getBriefName(), e);
+            }
+
+            // a null serialized form indicates the TurnState is read from the indexed game file
+            getPagedTurnStates().put(phase, new PagedTurnState(ts, (pts == null) ? null : pts.data));
+        }
+
+        if (!ts.isResolved() || phase.equals(turnStates.lastKey())) {
+            getPagedTurnStates().remove(phase);
+            turnStates.put(phase, ts);
+            touch(phase);
+        }
+
+        return ts;
+    }// peek()
+
+
+    /**
+     * Marks a resident Phase as most recently used, and pages out
+     * TurnStates over the limit. Must be called with the turnStates lock held.
+     */
+    private void touch(Phase phase) {
+        final LinkedHashSet<Phase> phases = getResidentPhases();
+        phases.remove(phase);
+        phases.add(phase);
+        trimResidentTurnStates();
+    }// touch()
+
+
+    /**
+     * Pages out the least recently used TurnStates, until no more than the
+     * limit are resident. Must be called with the turnStates lock held.
+     */
+    private void trimResidentTurnStates() {
+        final int limit = getResidentTurnLimit();
+        final LinkedHashSet<Phase> phases = getResidentPhases();
+        if (limit == 0 || phases.size() <= limit || turnStates.isEmpty()) {
+            return;
+        }
+
+        final Phase lastPhase = turnStates.lastKey();
+        int excess = phases.size() - limit;
+        final Iterator<Phase> iter = phases.iterator();
+        while (excess > 0 && iter.hasNext()) {
+            final Phase phase = iter.next();
+            final TurnState ts = turnStates.get(phase);
+            if (ts == null) {
+                iter.remove();
+            } else if (ts.isResolved() && !phase.equals(lastPhase)) {
+                final byte[] data;
+                try {
+                    data = IndexedGameFile.writeTurnState(ts, this);
+                } catch (IOException e) {
+                    // cannot be paged out; keep resident
+                    continue;
+                }
+
+                getPagedTurnStates().put(phase, new PagedTurnState(ts, data));
+                turnStates.put(phase, null);
+                iter.remove();
+                excess--;
+            }
+        }
+    }// trimResidentTurnStates()
+
+
+    /**
+     * Resident Phases, least recently used first; created if required.
+     * Must be called with the turnStates lock held.
+     */
+    private LinkedHashSet<Phase> getResidentPhases() {
+        if (residentPhases == null) {
+            residentPhases = new LinkedHashSet<>();
+            for (Map.Entry<Phase, TurnState> entry : turnStates.entrySet()) {
+                if (entry.getValue() != null) {
+                    residentPhases.add(entry.getKey());
+                }
+            }
+        }
+
+        return residentPhases;
+    }// getResidentPhases()
+
+
+    /**
+     * Paged-out TurnStates; created if required.
+     * Must be called with the turnStates lock held.
+     */
+    private Map<Phase, PagedTurnState> getPagedTurnStates() {
+        if (pagedTurnStates == null) {
+            pagedTurnStates = new TreeMap<>();
+        }
+
+        return pagedTurnStates;
+    }// getPagedTurnStates()
+
+
+    /**
+     * Phases of TurnStates set or marked modified since the World was read
+     * or last saved; created if required. Must be called with the turnStates lock held.
+     */
+    private SortedSet<Phase> getModifiedPhases() {
+        if (modifiedPhases == null) {
+            modifiedPhases = new TreeSet<>();
+        }
+
+        return modifiedPhases;
+    }// getModifiedPhases()
+
+
+    /**
+     * Returns the turn data, as a NavigableMap.
+     */
+    private NavigableMap<Phase, TurnState> getTurnStateMap() {
+        return (NavigableMap<Phase, TurnState>) turnStates;
+    }// getTurnStateMap()
+
+    /**
+     * Worlds saved in the original format before the turn data was held
+     * in a NavigableMap are read with a SortedMap; this replaces it.
+     */
+    private void upgradeTurnStateMap() {
+        if (!(turnStates instanceof NavigableMap)) {
+            turnStates = Collections.synchronizedNavigableMap(new TreeMap<>(turnStates));
+        }
+    }// upgradeTurnStateMap()
+
+    /**
+     * returns sorted (ascending) set of all Phases. This is a view; it
+     * must be synchronized upon while iterating (see Collections.synchronizedNavigableMap()).
      */
-    public Set<Phase> getPhaseSet() {
-        return turnStates.keySet();
+    public NavigableSet<Phase> getPhaseSet() {
+        return getTurnStateMap().navigableKeySet();
     }// getPhaseSet()
 
+    /**
+     * Returns the indexed game file this World was read from or last saved to, or null.
+     */
+    IndexedGameFile getIndexedGameFile() {
+        return indexedGameFile;
+    }// getIndexedGameFile()
+
+    /**
+     * Sets the indexed game file this World was read from or last saved to.
+     */
+    void setIndexedGameFile(IndexedGameFile value) {
+        indexedGameFile = value;
+    }// setIndexedGameFile()
+
+    /**
+     * Adds Phases whose TurnStates will be read from the indexed game file.
+     */
+    void addUnloadedTurnStates(Collection<Phase> phases) {
+        for (Phase phase : phases) {
+            turnStates.put(phase, null);
+        }
+    }// addUnloadedTurnStates()
+
+    /**
+     * Returns a copy of the Phase to TurnState mapping, for writing. Values are
+     * TurnStates; the serialized form (byte[]) of paged-out TurnStates which are
+     * no longer in memory; or <code>null</code> for TurnStates which have not
+     * been read from the indexed game file.
+     * <p>
+     * If the indexed game file is given, the value is also <code>null</code> for
+     * TurnStates whose records in it are current: those which have not been set or
+     * marked modified since it was read or written. The last TurnState, and unresolved
+     * TurnStates, may be modified without being marked, so always have a value.
+     */
+    SortedMap<Phase, Object> getTurnStateSnapshot(IndexedGameFile gameFile) {
+        synchronized (turnStates) {
+            final SortedMap<Phase, Object> snapshot = new TreeMap<>(turnStates);
+            for (Map.Entry<Phase, PagedTurnState> entry : getPagedTurnStates().entrySet()) {
+                final TurnState ts = entry.getValue().ref.get();
+                snapshot.put(entry.getKey(), (ts == null) ? entry.getValue().data : ts);
+            }
+
+            if (gameFile != null && !snapshot.isEmpty()) {
+                final Phase lastPhase = turnStates.lastKey();
+                for (Map.Entry<Phase, Object> entry : snapshot.entrySet()) {
+                    final Phase phase = entry.getKey();
+                    final Object value = entry.getValue();
+                    if (value != null && gameFile.hasTurnState(phase) && !getModifiedPhases().contains(phase)
+                            && !phase.equals(lastPhase)
+                            && !(value instanceof TurnState && !((TurnState) value).isResolved())) {
+                        entry.setValue(null);
+                    }
+                }
+            }
+
+            return snapshot;
+        }
+    }// getTurnStateSnapshot()
+
+    /**
+     * Returns <code>true</code> if the given TurnState is held (resident or paged out) by this World.
+     */
+    boolean isTurnStateHeld(TurnState ts) {
+        final Phase phase = ts.getPhase();
+        if (phase == null) {
+            return false;
+        }
+
+        synchronized (turnStates) {
+            if (turnStates.get(phase) == ts) {
+                return true;
+            }
+
+            final PagedTurnState pts = getPagedTurnStates().get(phase);
+            return (pts != null && pts.ref.get() == ts);
+        }
+    }// isTurnStateHeld()
+
+    /**
+     * Returns the non-turn data (for the indexed game file).
+     */
+    Map<Object, Object> getNonTurnData() {
+        return nonTurnData;
+    }// getNonTurnData()
+
+    /**
+     * Sets the non-turn data (for the indexed game file).
+     */
+    void setNonTurnData(Map<Object, Object> value) {
+        nonTurnData = value;
+    }// setNonTurnData()
+
+    /**
+     * Written as a reference within indexed game file records.
+     */
+    private Object writeReplace() throws ObjectStreamException {
+        return IndexedGameFile.replace(this);
+    }// writeReplace()
+
     /**
      * Gets the Game metadata. Never returns null. Does not return a copy.
      */
@@ -447,6 +912,87 @@ public class World implements Serializable {
     }// getRuleOptions()
 
 
+    /**
+     * A paged-out TurnState: the TurnState, if still in memory, and its serialized
+     * form (or null, if it is unchanged from the indexed game file).
+     */
+    private static final class PagedTurnState {
+        private final SoftReference<TurnState> ref;
+        private final byte[] data;
+
+        private PagedTurnState(TurnState ts, byte[] data) {
+            this.ref = new SoftReference<>(ts);
+            this.data = data;
+        }// PagedTurnState()
+    }// nested class PagedTurnState
+
+
+    /**
+     * Iterates over a range of TurnStates. Each TurnState is found (in O(log n) time)
+     * from the Phase of the previous one, so the Phases are not copied, and
+     * concurrent modification is permitted.
+     */
+    private final class TurnStateIterator implements Iterator<TurnState> {
+        private final Phase toPhase;
+        private final boolean toInclusive;
+        private Phase phase;            // Phase of the last TurnState found, or the starting bound
+        private boolean isInclusive;    // true if a TurnState with the starting bound Phase may be found
+        private TurnState next = null;
+
+        private TurnStateIterator(Phase fromPhase, boolean fromInclusive, Phase toPhase, boolean toInclusive) {
+            this.phase = fromPhase;
+            this.isInclusive = fromInclusive;
+            this.toPhase = toPhase;
+            this.toInclusive = toInclusive;
+        }// TurnStateIterator()
+
+        public boolean hasNext() {
+            while (next == null) {
+                synchronized (turnStates) {
+                    final Phase nextPhase;
+                    if (phase == null) {
+                        nextPhase = turnStates.isEmpty() ? null : turnStates.firstKey();
+                    } else {
+                        nextPhase = isInclusive ? getTurnStateMap().ceilingKey(phase)
+                                : getTurnStateMap().higherKey(phase);
+                    }
+
+                    if (nextPhase == null || isAfterRange(nextPhase)) {
+                        return false;
+                    }
+
+                    // TurnStates which cannot be found are skipped
+                    next = peek(nextPhase);
+                    phase = nextPhase;
+                    isInclusive = false;
+                }
+            }
+
+            return true;
+        }// hasNext()
+
+        public TurnState next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+
+            final TurnState ts = next;
+            next = null;
+            ts.setWorld(World.this);
+            return ts;
+        }// next()
+
+        private boolean isAfterRange(Phase p) {
+            if (toPhase == null) {
+                return false;
+            }
+
+            final int result = p.compareTo(toPhase);
+            return (result > 0 || (result == 0 && !toInclusive));
+        }// isAfterRange()
+    }// inner class TurnStateIterator
+
+
     /**
      * Variant Info is a class which holds information about
      * the variant, map, symbols, and symbol options.
@@ -96,6 +96,128 @@ public class WorldFactory {
 
         logger.info("Creating world for the variant: {} - {} (aliases: {})", variant.getName(),variant.getVersion(),(Object) variant.getAliases());
 
+        // Worlds created from the same Variant data share a Map
+        final String mapKey = MapRegistry.getKey(variant);
+        info.jdip.world.Map map = MapRegistry.get(mapKey);
+        if (map == null) {
+            map = MapRegistry.intern(mapKey, createMap(variant));
+        }
+
+        // create the World object as well, now that we have the Map
+        World world = new World(map);
+
+        // create initial turn state based on starting game time
+        Phase phase = variant.getStartingPhase();
+        if (phase == null) {
+            throw new InvalidWorldException(Utils.getLocalString(WF_BAD_STARTINGTIME));
+        }
+
+        // create the Position object, as we will need it for various game state
+        Position pos = new Position(map);
+
+        // define supply center home powers and owners
+        SupplyCenter[] supplyCenters = variant.getSupplyCenters();
+        for (SupplyCenter supplyCenter : supplyCenters) {
+            Province province = map.getProvince(supplyCenter.getProvinceName());
+            if (province == null) {
+                throw new InvalidWorldException(Utils.getLocalString(WF_BAD_SC_PROVINCE, supplyCenter.getProvinceName()));
+            }
+
+            String hpName = supplyCenter.getHomePowerName();
+            if (!"none".equalsIgnoreCase(hpName)) {
+                Power power = map.getPower(hpName);
+                if (power == null) {
+                    throw new InvalidWorldException(Utils.getLocalString(WF_BAD_SC_HOMEPOWER, hpName));
+                }
+
+                pos.setSupplyCenterHomePower(province, power);
+            }
+
+            // define current owner of supply center, if any
+            String scOwner = supplyCenter.getOwnerName();
+            if (!"none".equalsIgnoreCase(scOwner)) {
+                Power power = map.getPower(scOwner);
+                if (power == null) {
+                    throw new InvalidWorldException(Utils.getLocalString(WF_BAD_SC_OWNER, scOwner));
+                }
+
+                pos.setSupplyCenterOwner(province, power);
+            }
+        }
+
+
+        // set initial state [derived from INITIALSTATE elements in XML file]
+        InitialState[] initStates = variant.getInitialStates();
+        for (InitialState initState : initStates) {
+            // a province and power is required, no matter what, unless
+            // we are ONLY setting the supply center (which we do above)
+            Power power = map.getPowerMatching(initState.getPowerName());
+            Province province = map.getProvinceMatching(initState.getProvinceName());
+
+            // n/a if we use a validating parser
+            if (power == null) {
+                throw new InvalidWorldException(Utils.getLocalString(WF_BAD_IS_POWER));
+            }
+
+            // n/a if we use a validating parser
+            if (province == null) {
+                throw new InvalidWorldException(Utils.getLocalString(WF_BAD_IS_PROVINCE));
+            }
+
+            Unit.Type unitType = initState.getUnitType();
+
+            if (unitType != null) {
+                // create unit in province, if location is valid
+                Coast coast = initState.getCoast();
+
+                Unit unit = new Unit(power, unitType);
+                Location location = new Location(province, coast);
+                try {
+                    location = location.getValidatedSetup(unitType);
+                    unit.setCoast(location.getCoast());
+                    pos.setUnit(province, unit);
+
+                    // set 'lastOccupier' for unit
+                    pos.setLastOccupier(province, unit.getPower());
+                } catch (OrderException e) {
+                    throw new InvalidWorldException(Utils.getLocalString(WF_BAD_IS_UNIT_LOC,
+                            initState.getProvinceName(), e.getMessage()));
+                }
+            } else {
+                throw new InvalidWorldException(Utils.getLocalString(WF_BAD_IS_UNIT, initState.getProvinceName()));
+            }
+        }
+
+
+        // set the victory conditions
+        // make sure we have at least one victory condition!
+        if (variant.getNumSCForVictory() <= 0
+                && variant.getMaxYearsNoSCChange() <= 0
+                && variant.getMaxGameTimeYears() <= 0) {
+            throw new InvalidWorldException(Utils.getLocalString(WF_BAD_VC));
+        }
+
+        VictoryConditions vc = new VictoryConditions(variant.getNumSCForVictory(), variant.getMaxYearsNoSCChange(),
+                variant.getMaxGameTimeYears(), phase);
+        world.setVictoryConditions(vc);
+
+        // set TurnState / Map / complete World creation.
+        TurnState turnState = new TurnState(phase);
+        turnState.setPosition(pos);
+        turnState.setWorld(world);
+        world.setTurnState(turnState);
+
+        return world;
+    }// makeWorld()
+
+
+    /**
+     * Creates the Map (Provinces, adjacency, Borders, and supply center
+     * locations) from the supplied Variant information. The Map does
+     * not change once created.
+     */
+    private info.jdip.world.Map createMap(Variant variant)
+            throws InvalidWorldException {
         List<Province> provinces = new ArrayList<>(100);
         HashMap<String, Province> provNameMap = new HashMap<>();    // mapping of names->provinces
 
@@ -175,6 +297,9 @@ public class WorldFactory {
 
             // create wing coast
             adjacency.createWingCoasts();
+
+            // create adjacency bits, used for fast adjacency tests
+            adjacency.createAdjacencyBits();
         }
 
         // Process BorderData. This requires the Provinces to be known and
@@ -226,121 +351,18 @@ public class WorldFactory {
                 variant.getPowers(),
                 provinces.toArray(new Province[provinces.size()]));
 
-        // create the World object as well, now that we have the Map
-        World world = new World(map);
-
-        // set variables to null that we don't need (just a safety check)
-        locationList = null;
-        provinces = null;
-        provNameMap = null;
-        borderMap.clear();
-        borderMap = null;
-
-        // create initial turn state based on starting game time
-        Phase phase = variant.getStartingPhase();
-        if (phase == null) {
-            throw new InvalidWorldException(Utils.getLocalString(WF_BAD_STARTINGTIME));
-        }
-
-        // create the Position object, as we will need it for various game state
-        Position pos = new Position(map);
-
-        // define supply centers
-        SupplyCenter[] supplyCenters = variant.getSupplyCenters();
-        for (SupplyCenter supplyCenter : supplyCenters) {
+        // define supply center locations
+        for (SupplyCenter supplyCenter : variant.getSupplyCenters()) {
             Province province = map.getProvince(supplyCenter.getProvinceName());
             if (province == null) {
                 throw new InvalidWorldException(Utils.getLocalString(WF_BAD_SC_PROVINCE, supplyCenter.getProvinceName()));
             }
 
             province.setSupplyCenter(true);
-
-            String hpName = supplyCenter.getHomePowerName();
-            if (!"none".equalsIgnoreCase(hpName)) {
-                Power power = map.getPower(hpName);
-                if (power == null) {
-                    throw new InvalidWorldException(Utils.getLocalString(WF_BAD_SC_HOMEPOWER, hpName));
-                }
-
-                pos.setSupplyCenterHomePower(province, power);
-            }
-
-            // define current owner of supply center, if any
-            String scOwner = supplyCenter.getOwnerName();
-            if (!"none".equalsIgnoreCase(scOwner)) {
-                Power power = map.getPower(scOwner);
-                if (power == null) {
-                    throw new InvalidWorldException(Utils.getLocalString(WF_BAD_SC_OWNER, scOwner));
-                }
-
-                pos.setSupplyCenterOwner(province, power);
-            }
-        }
-
-
-        // set initial state [derived from INITIALSTATE elements in XML file]
-        InitialState[] initStates = variant.getInitialStates();
-        for (InitialState initState : initStates) {
-            // a province and power is required, no matter what, unless
-            // we are ONLY setting the supply center (which we do above)
-            Power power = map.getPowerMatching(initState.getPowerName());
-            Province province = map.getProvinceMatching(initState.getProvinceName());
-
-            // n/a if we use a validating parser
-            if (power == null) {
-                throw new InvalidWorldException(Utils.getLocalString(WF_BAD_IS_POWER));
-            }
-
-            // n/a if we use a validating parser
-            if (province == null) {
-                throw new InvalidWorldException(Utils.getLocalString(WF_BAD_IS_PROVINCE));
-            }
-
-            Unit.Type unitType = initState.getUnitType();
-
-            if (unitType != null) {
-                // create unit in province, if location is valid
-                Coast coast = initState.getCoast();
-
-                Unit unit = new Unit(power, unitType);
-                Location location = new Location(province, coast);
-                try {
-                    location = location.getValidatedSetup(unitType);
-                    unit.setCoast(location.getCoast());
-                    pos.setUnit(province, unit);
-
-                    // set 'lastOccupier' for unit
-                    pos.setLastOccupier(province, unit.getPower());
-                } catch (OrderException e) {
-                    throw new InvalidWorldException(Utils.getLocalString(WF_BAD_IS_UNIT_LOC,
-                            initState.getProvinceName(), e.getMessage()));
-                }
-            } else {
-                throw new InvalidWorldException(Utils.getLocalString(WF_BAD_IS_UNIT, initState.getProvinceName()));
-            }
-        }
-
-
-        // set the victory conditions
-        // make sure we have at least one victory condition!
-        if (variant.getNumSCForVictory() <= 0
-                && variant.getMaxYearsNoSCChange() <= 0
-                && variant.getMaxGameTimeYears() <= 0) {
-            throw new InvalidWorldException(Utils.getLocalString(WF_BAD_VC));
         }
 
-        VictoryConditions vc = new VictoryConditions(variant.getNumSCForVictory(), variant.getMaxYearsNoSCChange(),
-                variant.getMaxGameTimeYears(), phase);
-        world.setVictoryConditions(vc);
-
-        // set TurnState / Map / complete World creation.
-        TurnState turnState = new TurnState(phase);
-        turnState.setPosition(pos);
-        turnState.setWorld(world);
-        world.setTurnState(turnState);
-
-        return world;
-    }// makeWorld()
+        return map;
+    }// createMap()
 
 
     /**
@@ -0,0 +1,809 @@
+//
+//  @(#)VariantCache.java	1.00	10/2026
+//
+//
+//  This program is free software; you can redistribute it and/or modify
+//  it under the terms of the GNU General Public License as published by
+//  the Free Software Foundation; either version 2 of the License, or
+//  (at your option) any later version.
+//
+//  This program is distributed in the hope that it will be useful,
+//  but WITHOUT ANY WARRANTY; without even the implied warranty of
+//  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//  GNU General Public License for more details.
+//
+//  You should have received a copy of the GNU General Public License
+//  along with this program; if not, write to the Free Software
+//  Foundation, Inc., 675 Mass Ave, Cambridge, MA 02139, USA.
+//  Or from http://www.gnu.org/
+//
+package info.jdip.world.variant;
+
+import info.jdip.world.Coast;
+import info.jdip.world.Phase;
+import info.jdip.world.Power;
+import info.jdip.world.Unit;
+import info.jdip.world.variant.data.BorderData;
+import info.jdip.world.variant.data.InitialState;
+import info.jdip.world.variant.data.MapGraphic;
+import info.jdip.world.variant.data.ProvinceData;
+import info.jdip.world.variant.data.SupplyCenter;
+import info.jdip.world.variant.data.Variant;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.RandomAccessFile;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.PosixFileAttributeView;
+import java.nio.file.attribute.PosixFilePermission;
+import java.nio.file.attribute.UserPrincipal;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+
+/**
+ * A cache of precompiled Variant data, so that variant plugins need not be
+ * re-parsed (including the adjacency XML) each time the VariantManager is
+ * initialized.
+ * <p>
+ * Each variant plugin has a single binary cache file, which holds all
+ * Variants in the plugin: names, versions, powers, initial state, supply
+ * centers, map graphics, rule options, and province adjacency and border data.
+ * Cache files are named after the plugin, and its digest (SHA-256); the
+ * plugin file length and digest are also recorded within the file. Thus, if
+ * the plugin changes, the cache file is not used; it is replaced when the
+ * plugin is next parsed.
+ * <p>
+ * Cache files are memory-mapped when read. Adjacency data shared between
+ * Variants in the same plugin is stored (and read) once, and remains shared.
+ * <p>
+ * Caching is disabled by default. It is enabled by setting the directory,
+ * either with {@link #setDirectory(File)} (for example, to the per-user
+ * directory given by {@link #getUserDirectory()}), or with the
+ * "jdip.variant.cache" system property. The directory is created accessible
+ * to the user only, where the file system permits. Cached data is not
+ * validated, so a cache file (or directory) that is not owned by the user, or
+ * that others may write to, is ignored. This class is threadsafe.
+ */
+public class VariantCache {
+    private static final Logger logger = LoggerFactory.getLogger(VariantCache.class);
+
+    // file constants
+    private static final int MAGIC = 0x4A564331;    // "JVC1"
+    private static final int FORMAT_VERSION = 2;
+    private static final String DIGEST_ALGORITHM = "SHA-256";
+    private static final String FILE_EXTENSION = ".vcache";
+    private static final String UNIT_TYPE_UNDEFINED = "undefined";
+    private static final String DIRECTORY_PROPERTY = "jdip.variant.cache";
+
+    // class variables
+    private static volatile File directory = createDefaultDirectory();
+
+
+    /**
+     * VariantCache cannot be instantiated
+     */
+    private VariantCache() {
+    }// VariantCache()
+
+
+    /**
+     * Returns the cache directory, or null if caching is disabled.
+     */
+    public static File getDirectory() {
+        return directory;
+    }// getDirectory()
+
+
+    /**
+     * Sets the cache directory. The directory is created when
+     * needed. If null, caching is disabled.
+     */
+    public static void setDirectory(File value) {
+        directory = value;
+    }// setDirectory()
+
+
+    /**
+     * Returns the per-user cache directory (".jdip/variant-cache"
+     * within the user's home directory), or null if there is none.
+     */
+    public static File getUserDirectory() {
+        final String home = System.getProperty("user.home");
+        if (home == null || home.isEmpty()) {
+            return null;
+        }
+
+        return new File(new File(home, ".jdip"), "variant-cache");
+    }// getUserDirectory()
+
+
+    /**
+     * Computes the digest of a plugin file.
+     */
+    static byte[] getDigest(File pluginFile)
+            throws IOException {
+        final MessageDigest md;
+        try {
+            md = MessageDigest.getInstance(DIGEST_ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            // SHA-256 is required of every Java platform
+            throw new IOException(e);
+        }
+
+        final byte[] buffer = new byte[65536];
+        try (InputStream is = new FileInputStream(pluginFile)) {
+            int n = is.read(buffer);
+            while (n >= 0) {
+                md.update(buffer, 0, n);
+                n = is.read(buffer);
+            }
+        }
+
+        return md.digest();
+    }// getDigest()
+
+
+    /**
+     * Returns the cached Variants for a plugin with the given digest,
+     * or null if caching is disabled, the Variants are not cached, or
+     * the cache file is out of date, unreadable, or not trusted.
+     */
+    static Variant[] read(File pluginFile, byte[] digest) {
+        final File cacheFile = getCacheFile(pluginFile, digest);
+        if (cacheFile == null || !cacheFile.isFile()) {
+            return null;
+        }
+
+        try (RandomAccessFile raf = new RandomAccessFile(cacheFile, "r");
+             FileChannel channel = raf.getChannel()) {
+            if (!isTrusted(cacheFile.getParentFile()) || !isTrusted(cacheFile)) {
+                logger.warn("Ignoring variant cache file not owned by, or writable by others than, the user: {}",
+                        cacheFile);
+                return null;
+            }
+
+            final MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            final Variant[] variants = new Reader(buffer).readPlugin(pluginFile.length(), digest);
+            if (variants != null) {
+                logger.debug("Read {} variants from cache: {}", variants.length, cacheFile);
+            }
+            return variants;
+        } catch (IOException | RuntimeException e) {
+            logger.warn("Could not read variant cache file: {}", cacheFile, e);
+            return null;
+        }
+    }// read()
+
+
+    /**
+     * Writes the Variants of a plugin with the given digest to the
+     * cache, replacing any previous cache file for the plugin. Errors
+     * are logged, but not thrown, as the cache is not essential.
+     */
+    static void write(File pluginFile, byte[] digest, Variant[] variants) {
+        final File cacheFile = getCacheFile(pluginFile, digest);
+        if (cacheFile == null) {
+            return;
+        }
+
+        final File dir = cacheFile.getParentFile();
+        File tmpFile = null;
+        try {
+            if (!dir.isDirectory()) {
+                createDirectory(dir);
+            }
+
+            final byte[] data = new Writer().writePlugin(pluginFile.length(), digest, variants);
+
+            // write to a temporary file first, so that readers never see a partial file
+            tmpFile = File.createTempFile(cacheFile.getName(), ".tmp", dir);
+            try (FileOutputStream fos = new FileOutputStream(tmpFile)) {
+                fos.write(data);
+            }
+
+            Files.move(tmpFile.toPath(), cacheFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+            tmpFile = null;
+            logger.debug("Wrote {} variants to cache: {}", variants.length, cacheFile);
+
+            deleteStaleFiles(pluginFile, cacheFile);
+        } catch (IOException | RuntimeException e) {
+            logger.warn("Could not write variant cache file: {}", cacheFile, e);
+        } finally {
+            if (tmpFile != null && !tmpFile.delete()) {
+                tmpFile.deleteOnExit();
+            }
+        }
+    }// write()
+
+
+    /**
+     * Returns the cache directory given by the "jdip.variant.cache"
+     * system property, or null (disabling caching) if it is not set.
+     */
+    private static File createDefaultDirectory() {
+        final String value = System.getProperty(DIRECTORY_PROPERTY);
+        if (value == null || value.isEmpty()) {
+            return null;
+        }
+
+        return new File(value);
+    }// createDefaultDirectory()
+
+
+    /**
+     * Creates the cache directory (and any parent directories), with
+     * access by the user only, if the file system supports permissions.
+     */
+    private static void createDirectory(File dir)
+            throws IOException {
+        if (!dir.mkdirs() && !dir.isDirectory()) {
+            throw new IOException("Could not create directory: " + dir);
+        }
+
+        final Path path = dir.toPath();
+        if (Files.getFileAttributeView(path, PosixFileAttributeView.class) != null) {
+            Files.setPosixFilePermissions(path, EnumSet.of(PosixFilePermission.OWNER_READ,
+                    PosixFilePermission.OWNER_WRITE, PosixFilePermission.OWNER_EXECUTE));
+        }
+    }// createDirectory()
+
+
+    /**
+     * Returns true if the given file is owned by the user, and (if the
+     * file system supports permissions) may not be written by others.
+     */
+    private static boolean isTrusted(File file)
+            throws IOException {
+        final Path path = file.toPath();
+        final UserPrincipal user = path.getFileSystem().getUserPrincipalLookupService()
+                .lookupPrincipalByName(System.getProperty("user.name"));
+        if (!user.equals(Files.getOwner(path))) {
+            return false;
+        }
+
+        final PosixFileAttributeView view = Files.getFileAttributeView(path, PosixFileAttributeView.class);
+        if (view != null) {
+            final Set<PosixFilePermission> permissions = view.readAttributes().permissions();
+            return !permissions.contains(PosixFilePermission.GROUP_WRITE)
+                    && !permissions.contains(PosixFilePermission.OTHERS_WRITE);
+        }
+
+        return true;
+    }// isTrusted()
+
+
+    /**
+     * Returns the cache file for the given plugin and digest,
+     * or null if caching is disabled.
+     */
+    private static File getCacheFile(File pluginFile, byte[] digest) {
+        final File dir = directory;
+        if (dir == null) {
+            return null;
+        }
+
+        final StringBuilder sb = new StringBuilder(pluginFile.getName().length() + digest.length * 2 + 16);
+        sb.append(pluginFile.getName());
+        sb.append('.');
+        for (byte b : digest) {
+            sb.append(Character.forDigit((b >> 4) & 0xF, 16));
+            sb.append(Character.forDigit(b & 0xF, 16));
+        }
+        sb.append(FILE_EXTENSION);
+        return new File(dir, sb.toString());
+    }// getCacheFile()
+
+
+    /**
+     * Deletes cache files for previous versions of a plugin.
+     */
+    private static void deleteStaleFiles(File pluginFile, File cacheFile) {
+        final String prefix = pluginFile.getName() + ".";
+        final File[] files = cacheFile.getParentFile().listFiles();
+        if (files == null) {
+            return;
+        }
+
+        for (File file : files) {
+            final String name = file.getName();
+            if (!file.equals(cacheFile) && name.startsWith(prefix) && name.endsWith(FILE_EXTENSION)
+                    && name.indexOf('.', prefix.length()) == name.length() - FILE_EXTENSION.length()) {
+                if (file.delete()) {
+                    logger.debug("Deleted stale variant cache file: {}", file);
+                }
+            }
+        }
+    }// deleteStaleFiles()
+
+
+    /**
+     * Writes the cache format. All Strings are written to a table, and
+     * referred to by index.
+     */
+    private static class Writer {
+        private final Map<String, Integer> strings = new HashMap<>(1024);
+        private final ByteArrayOutputStream body = new ByteArrayOutputStream(65536);
+        private final DataOutputStream out = new DataOutputStream(body);
+
+
+        /**
+         * Creates the complete cache file data
+         */
+        public byte[] writePlugin(long pluginLength, byte[] digest, Variant[] variants)
+                throws IOException {
+            // adjacency data (shared between variants if identical)
+            final List<Variant> adjVariants = new ArrayList<>(variants.length);
+            final Map<ProvinceData[], Integer> adjIndices = new IdentityHashMap<>();
+            for (Variant variant : variants) {
+                if (!adjIndices.containsKey(variant.getProvinceData())) {
+                    adjIndices.put(variant.getProvinceData(), adjVariants.size());
+                    adjVariants.add(variant);
+                }
+            }
+
+            out.writeInt(adjVariants.size());
+            for (Variant variant : adjVariants) {
+                writeProvinceData(variant.getProvinceData());
+                writeBorderData(variant.getBorderData());
+            }
+
+            out.writeInt(variants.length);
+            for (Variant variant : variants) {
+                writeVariant(variant, adjIndices.get(variant.getProvinceData()));
+            }
+
+            out.flush();
+
+            // header and string table precede the body
+            final ByteArrayOutputStream file = new ByteArrayOutputStream(body.size() + strings.size() * 16 + 32);
+            final DataOutputStream fout = new DataOutputStream(file);
+            fout.writeInt(MAGIC);
+            fout.writeInt(FORMAT_VERSION);
+            fout.writeLong(pluginLength);
+            fout.writeInt(digest.length);
+            fout.write(digest);
+
+            final String[] table = new String[strings.size()];
+            for (Map.Entry<String, Integer> entry : strings.entrySet()) {
+                table[entry.getValue()] = entry.getKey();
+            }
+
+            fout.writeInt(table.length);
+            for (String s : table) {
+                final byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+                fout.writeInt(bytes.length);
+                fout.write(bytes);
+            }
+
+            body.writeTo(fout);
+            fout.flush();
+            return file.toByteArray();
+        }// writePlugin()
+
+
+        private void writeProvinceData(ProvinceData[] provinceData)
+                throws IOException {
+            out.writeInt(provinceData.length);
+            for (ProvinceData pd : provinceData) {
+                writeString(pd.getFullName());
+                writeStrings(pd.getShortNames());
+                writeStrings(pd.getAdjacentProvinceNames());
+                writeStrings(pd.getAdjacentProvinceTypes());
+                out.writeBoolean(pd.getConvoyableCoast());
+                writeStrings(pd.getBorders());
+            }
+        }// writeProvinceData()
+
+
+        private void writeBorderData(BorderData[] borderData)
+                throws IOException {
+            if (borderData == null) {
+                out.writeInt(-1);
+                return;
+            }
+
+            out.writeInt(borderData.length);
+            for (BorderData bd : borderData) {
+                writeString(bd.getID());
+                writeString(bd.getDescription());
+                writeString(bd.getUnitTypes());
+                writeString(bd.getFrom());
+                writeString(bd.getOrderTypes());
+                writeString(bd.getBaseMoveModifier());
+                writeString(bd.getYear());
+                writeString(bd.getPhase());
+                writeString(bd.getSeason());
+            }
+        }// writeBorderData()
+
+
+        private void writeVariant(Variant variant, int adjIndex)
+                throws IOException {
+            writeString(variant.getName());
+            out.writeFloat(variant.getVersion());
+            writeStrings(variant.getAliases());
+            out.writeBoolean(variant.isDefault());
+            writeString(variant.getDescription());
+            out.writeBoolean(variant.getBCYearsAllowed());
+            out.writeInt(variant.getNumSCForVictory());
+            out.writeInt(variant.getMaxYearsNoSCChange());
+            out.writeInt(variant.getMaxGameTimeYears());
+            out.writeInt(adjIndex);
+
+            final Phase phase = variant.getStartingPhase();
+            writeString(phase.getSeasonType().getBriefName());
+            out.writeInt(phase.getYear());
+            writeString(phase.getPhaseType().getBriefName());
+
+            final Power[] powers = variant.getPowers();
+            out.writeInt(powers.length);
+            for (Power power : powers) {
+                writeStrings(power.getNames());
+                writeString(power.getAdjective());
+                out.writeBoolean(power.isActive());
+            }
+
+            final SupplyCenter[] supplyCenters = variant.getSupplyCenters();
+            out.writeInt(supplyCenters.length);
+            for (SupplyCenter sc : supplyCenters) {
+                writeString(sc.getProvinceName());
+                writeString(sc.getHomePowerName());
+                writeString(sc.getOwnerName());
+            }
+
+            final InitialState[] initialStates = variant.getInitialStates();
+            out.writeInt(initialStates.length);
+            for (InitialState is : initialStates) {
+                writeString(is.getProvinceName());
+                writeString(is.getPowerName());
+                writeString(getUnitTypeName(is.getUnitType()));
+                out.writeInt((is.getCoast() == null) ? -1 : is.getCoast().getIndex());
+            }
+
+            final MapGraphic[] mapGraphics = variant.getMapGraphics();
+            out.writeInt(mapGraphics.length);
+            for (MapGraphic mg : mapGraphics) {
+                writeString(mg.getName());
+                out.writeBoolean(mg.isDefault());
+                writeString(mg.getDescription());
+                writeString((mg.getURI() == null) ? null : mg.getURI().toString());
+                writeString((mg.getThumbnailURI() == null) ? null : mg.getThumbnailURI().toString());
+                writeString(mg.getPreferredSymbolPackName());
+            }
+
+            final Variant.NameValuePair[] nvps = variant.getRuleOptionNVPs();
+            out.writeInt(nvps.length);
+            for (Variant.NameValuePair nvp : nvps) {
+                writeString(nvp.getName());
+                writeString(nvp.getValue());
+            }
+        }// writeVariant()
+
+
+        /**
+         * Unit types are written with their (non-localized) English names
+         */
+        private String getUnitTypeName(Unit.Type type) {
+            if (type == Unit.Type.ARMY) {
+                return "army";
+            } else if (type == Unit.Type.FLEET) {
+                return "fleet";
+            } else if (type == Unit.Type.WING) {
+                return "wing";
+            } else if (type == Unit.Type.UNDEFINED) {
+                return UNIT_TYPE_UNDEFINED;
+            }
+
+            return null;
+        }// getUnitTypeName()
+
+
+        private void writeStrings(String[] values)
+                throws IOException {
+            if (values == null) {
+                out.writeInt(-1);
+                return;
+            }
+
+            out.writeInt(values.length);
+            for (String value : values) {
+                writeString(value);
+            }
+        }// writeStrings()
+
+
+        private void writeString(String value)
+                throws IOException {
+            if (value == null) {
+                out.writeInt(-1);
+                return;
+            }
+
+            Integer idx = strings.get(value);
+            if (idx == null) {
+                idx = strings.size();
+                strings.put(value, idx);
+            }
+
+            out.writeInt(idx);
+        }// writeString()
+
+    }// nested class Writer
+
+
+    /**
+     * Reads the cache format.
+     */
+    private static class Reader {
+        private final ByteBuffer buffer;
+        private String[] strings = null;
+
+
+        public Reader(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }// Reader()
+
+
+        /**
+         * Reads all Variants, or returns null if the header does not
+         * match the current format, or the given plugin.
+         */
+        public Variant[] readPlugin(long pluginLength, byte[] digest)
+                throws IOException {
+            try {
+                if (buffer.getInt() != MAGIC || buffer.getInt() != FORMAT_VERSION
+                        || buffer.getLong() != pluginLength || buffer.getInt() != digest.length) {
+                    return null;
+                }
+
+                final byte[] fileDigest = new byte[digest.length];
+                buffer.get(fileDigest);
+                if (!Arrays.equals(fileDigest, digest)) {
+                    return null;
+                }
+
+                strings = new String[buffer.getInt()];
+                for (int i = 0; i < strings.length; i++) {
+                    final byte[] bytes = new byte[buffer.getInt()];
+                    buffer.get(bytes);
+                    strings[i] = new String(bytes, StandardCharsets.UTF_8);
+                }
+
+                final ProvinceData[][] provinceData = new ProvinceData[buffer.getInt()][];
+                final BorderData[][] borderData = new BorderData[provinceData.length][];
+                for (int i = 0; i < provinceData.length; i++) {
+                    provinceData[i] = readProvinceData();
+                    borderData[i] = readBorderData();
+                }
+
+                final Variant[] variants = new Variant[buffer.getInt()];
+                for (int i = 0; i < variants.length; i++) {
+                    variants[i] = readVariant(provinceData, borderData);
+                }
+
+                if (buffer.hasRemaining()) {
+                    throw new IOException("unexpected data at end of cache file");
+                }
+
+                return variants;
+            } catch (BufferUnderflowException | IndexOutOfBoundsException e) {
+                throw new IOException("truncated or corrupt cache file", e);
+            }
+        }// readPlugin()
+
+
+        private ProvinceData[] readProvinceData() {
+            final ProvinceData[] provinceData = new ProvinceData[buffer.getInt()];
+            for (int i = 0; i < provinceData.length; i++) {
+                final ProvinceData pd = new ProvinceData();
+                pd.setFullName(readString());
+
+                final List<String> shortNames = readStringList();
+                if (shortNames != null) {
+                    pd.setShortNames(shortNames);
+                }
+
+                pd.setAdjacentProvinceNames(readStrings());
+                pd.setAdjacentProvinceTypes(readStrings());
+                pd.setConvoyableCoast(readBoolean());
+
+                final List<String> borders = readStringList();
+                if (borders != null) {
+                    pd.setBorders(borders);
+                }
+
+                provinceData[i] = pd;
+            }
+
+            return provinceData;
+        }// readProvinceData()
+
+
+        private BorderData[] readBorderData() {
+            final int length = buffer.getInt();
+            if (length < 0) {
+                return null;
+            }
+
+            final BorderData[] borderData = new BorderData[length];
+            for (int i = 0; i < length; i++) {
+                final BorderData bd = new BorderData();
+                bd.setID(readString());
+                bd.setDescription(readString());
+                bd.setUnitTypes(readString());
+                bd.setFrom(readString());
+                bd.setOrderTypes(readString());
+                bd.setBaseMoveModifier(readString());
+                bd.setYear(readString());
+                bd.setPhase(readString());
+                bd.setSeason(readString());
+                borderData[i] = bd;
+            }
+
+            return borderData;
+        }// readBorderData()
+
+
+        private Variant readVariant(ProvinceData[][] provinceData, BorderData[][] borderData)
+                throws IOException {
+            final Variant variant = new Variant();
+            variant.setName(readString());
+            variant.setVersion(buffer.getFloat());
+            variant.setAliases(readStrings());
+            variant.setDefault(readBoolean());
+            variant.setDescription(readString());
+            variant.setBCYearsAllowed(readBoolean());
+            variant.setNumSCForVictory(buffer.getInt());
+            variant.setMaxYearsNoSCChange(buffer.getInt());
+            variant.setMaxGameTimeYears(buffer.getInt());
+
+            final int adjIndex = buffer.getInt();
+            variant.setProvinceData(provinceData[adjIndex]);
+            variant.setBorderData(borderData[adjIndex]);
+
+            final Phase.SeasonType seasonType = Phase.SeasonType.parse(readString());
+            final int year = buffer.getInt();
+            final Phase.PhaseType phaseType = Phase.PhaseType.parse(readString());
+            if (seasonType == null || phaseType == null) {
+                throw new IOException("invalid starting phase");
+            }
+            variant.setStartingPhase(new Phase(seasonType, year, phaseType));
+
+            int length = buffer.getInt();
+            final List<Power> powers = new ArrayList<>(length);
+            for (int i = 0; i < length; i++) {
+                final String[] names = readStrings();
+                final String adjective = readString();
+                powers.add(new Power(names, adjective, readBoolean()));
+            }
+            variant.setPowers(powers);
+
+            length = buffer.getInt();
+            final List<SupplyCenter> supplyCenters = new ArrayList<>(length);
+            for (int i = 0; i < length; i++) {
+                final SupplyCenter sc = new SupplyCenter();
+                sc.setProvinceName(readString());
+                sc.setHomePowerName(readString());
+                sc.setOwnerName(readString());
+                supplyCenters.add(sc);
+            }
+            variant.setSupplyCenters(supplyCenters);
+
+            length = buffer.getInt();
+            final List<InitialState> initialStates = new ArrayList<>(length);
+            for (int i = 0; i < length; i++) {
+                final InitialState is = new InitialState();
+                is.setProvinceName(readString());
+                is.setPowerName(readString());
+                is.setUnitType(readUnitType());
+                final int coastIdx = buffer.getInt();
+                is.setCoast((coastIdx < 0) ? null : Coast.getCoast(coastIdx));
+                initialStates.add(is);
+            }
+            variant.setInitialStates(initialStates);
+
+            length = buffer.getInt();
+            final List<MapGraphic> mapGraphics = new ArrayList<>(length);
+            for (int i = 0; i < length; i++) {
+                final String name = readString();
+                final boolean isDefault = readBoolean();
+                final String description = readString();
+                final String uri = readString();
+                final String thumbURI = readString();
+                final String prefSPName = readString();
+                final MapGraphic mg = new MapGraphic(toURIText(uri), isDefault, name, description,
+                        toURIText(thumbURI), prefSPName);
+                mapGraphics.add(mg);
+            }
+            variant.setMapGraphics(mapGraphics);
+
+            length = buffer.getInt();
+            final List<Variant.NameValuePair> nvps = new ArrayList<>(length);
+            for (int i = 0; i < length; i++) {
+                final String name = readString();
+                nvps.add(new Variant.NameValuePair(name, readString()));
+            }
+            variant.setRuleOptionNVPs(nvps);
+
+            return variant;
+        }// readVariant()
+
+
+        /**
+         * MapGraphic URIs that could not be parsed are null; an
+         * unparseable URI text will result in a null URI again.
+         */
+        private String toURIText(String uri) {
+            return (uri == null) ? ":" : uri;
+        }// toURIText()
+
+
+        private Unit.Type readUnitType() {
+            final String name = readString();
+            if (name == null) {
+                return null;
+            } else if (UNIT_TYPE_UNDEFINED.equals(name)) {
+                return Unit.Type.UNDEFINED;
+            }
+
+            return Unit.Type.parse(name);
+        }// readUnitType()
+
+
+        private boolean readBoolean() {
+            return buffer.get() != 0;
+        }// readBoolean()
+
+
+        private String readString() {
+            final int idx = buffer.getInt();
+            return (idx < 0) ? null : strings[idx];
+        }// readString()
+
+
+        private String[] readStrings() {
+            final int length = buffer.getInt();
+            if (length < 0) {
+                return null;
+            }
+
+            final String[] values = new String[length];
+            for (int i = 0; i < length; i++) {
+                values[i] = readString();
+            }
+
+            return values;
+        }// readStrings()
+
+
+        private List<String> readStringList() {
+            final String[] values = readStrings();
+            return (values == null) ? null : Arrays.asList(values);
+        }// readStringList()
+
+    }// nested class Reader
+
+}// class VariantCache
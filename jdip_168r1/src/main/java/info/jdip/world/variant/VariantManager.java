@@ -31,17 +31,19 @@ import info.jdip.world.variant.parser.XMLSymbolParser;
 import info.jdip.world.variant.parser.XMLVariantParser;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.xml.sax.SAXException;
 
 import javax.xml.parsers.DocumentBuilderFactory;
 import java.io.BufferedInputStream;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.net.JarURLConnection;
 import java.net.MalformedURLException;
 import java.net.URI;
+import java.net.URISyntaxException;
 import java.net.URL;
 import java.net.URLClassLoader;
+import java.net.URLConnection;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Enumeration;
@@ -49,7 +51,9 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 
 /**
@@ -70,6 +74,9 @@ import java.util.Set;
  * </ol>
  * <p>
  * <p>
+ * Lookups do not lock; the loaded Variants and SymbolPacks are published
+ * as an immutable snapshot, which is replaced when plugins are (re)loaded.
+ * <p>
  * TODO: deconflict code may work better if we include the preceding "/" before
  * the .jar name.<br>
  * <br>
@@ -95,27 +102,29 @@ public class VariantManager {
     private static final String SYMBOL_FILE_NAME = "symbols.xml";
 
     // class variables
-    private static VariantManager vm = null;
-
-    // instance variables
-    private final boolean isInWebstart;
-    private HashMap<String, MapRec> variantMap = null;    // map of lowercased Variant names to MapRec objects (which contain VRecs)
-    private HashMap<String, MapRec> symbolMap = null;    // lowercase symbol names to MapRec objects (which contain SPRecs)
+    private static final boolean isInWebstart = Utils.isInWebstart();
+    private static final Map<String, PluginClassLoader> classLoaders = new ConcurrentHashMap<>();    // plugin URLs -> class loaders
+    private static volatile VariantManager vm = null;
 
-    // cached variables to enhance performance of getResource() methods
-    private transient Variant[] variants = new Variant[0];            // The sorted Variant list
-    private transient SymbolPack[] symbolPacks = new SymbolPack[0];    // The sorted SymbolPack list
-    private transient URLClassLoader currentUCL = null;                // The current class loader
-    private transient URL currentPackageURL = null;                    // The current class loader URL
+    // instance variables; these are not modified once a VariantManager is published.
+    private final File[] searchPaths;
+    private final boolean isValidating;
+    private final List<MapRecObj> records = new ArrayList<>();    // VRecs and SPRecs, in the order added
+    private final HashMap<String, MapRec> variantMap;    // map of lowercased Variant names to MapRec objects (which contain VRecs)
+    private final HashMap<String, MapRec> symbolMap;    // lowercase symbol names to MapRec objects (which contain SPRecs)
+    private Variant[] variants = new Variant[0];            // The sorted Variant list
+    private SymbolPack[] symbolPacks = new SymbolPack[0];    // The sorted SymbolPack list
 
 
     /**
-     * Singleton
+     * Singleton; each instance is an immutable snapshot of all loaded
+     * Variants and SymbolPacks, once published.
      */
-    private VariantManager() {
+    private VariantManager(File[] searchPaths, boolean isValidating) {
+        this.searchPaths = searchPaths.clone();
+        this.isValidating = isValidating;
         variantMap = new HashMap<>(53);
         symbolMap = new HashMap<>(17);
-        isInWebstart = Utils.isInWebstart();
     }// VariantManager()
 
     /**
@@ -125,6 +134,10 @@ public class VariantManager {
      * to specify th ecurrent directory.
      * <p>
      * Loaded XML may be validated if the isValidating flag is set to true.
+     * <p>
+     * Plugins are parsed concurrently; errors are reported in plugin order, once
+     * all plugins have been parsed. Lookups are not blocked during initialization;
+     * they use the previously loaded plugins (if any) until initialization completes.
      */
     public static synchronized void init(File[] searchPaths, boolean isValidating)
             throws javax.xml.parsers.ParserConfigurationException, NoVariantsException {
@@ -134,235 +147,162 @@ public class VariantManager {
             throw new IllegalArgumentException();
         }
 
-        if (vm != null) {
-            // perform cleanup
-            vm.variantMap.clear();
-            vm.variants = new Variant[0];
-            vm.currentUCL = null;
-            vm.currentPackageURL = null;
-
-            vm.symbolPacks = new SymbolPack[0];
-            vm.symbolMap.clear();
-        }
-
-        vm = new VariantManager();
-
-        // find plugins, create plugin loader
-        URL[] pluginURLs = vm.searchForFiles(searchPaths, VARIANT_EXTENSIONS);
-
-        // setup document builder
-        DocumentBuilderFactory dbf = DocumentBuilderFactory.newInstance();
-
-        try {
-            // this may improve performance, and really only apply to Xerces
-            dbf.setAttribute("http://apache.org/xml/features/dom/defer-node-expansion", Boolean.FALSE);
-            dbf.setAttribute("http://apache.org/xml/properties/input-buffer-size", 4096);
-            dbf.setAttribute("http://apache.org/xml/features/nonvalidating/load-external-dtd", Boolean.FALSE);
-        } catch (Exception e) {
-            logger.warn("VM: Could not set XML feature.", e);
-        }
-
-        dbf.setValidating(isValidating);
-        dbf.setCoalescing(false);
-        dbf.setIgnoringComments(true);
-
-        // setup variant parser
-        XMLVariantParser variantParser = new XMLVariantParser(dbf);
+        final VariantManager newVM = new VariantManager(searchPaths, isValidating);
+        final DocumentBuilderFactory dbf = createDocumentBuilderFactory(isValidating);
 
         // for each plugin, attempt to find the "variants.xml" file inside.
         // if it does not exist, we will not load the file. If it does, we will parse it,
         // and associate the variant with the URL in a hashtable.
-        for (URL pluginURL : pluginURLs) {
-            URLClassLoader urlCL = new URLClassLoader(new URL[]{pluginURL});
-            URL variantXMLURL = urlCL.findResource(VARIANT_FILE_NAME);
-            if (variantXMLURL != null) {
-                String pluginName = getFile(pluginURL);
-
-                // parse variant description file, and create hash entry of variant object -> URL
-                try (InputStream is = new BufferedInputStream(variantXMLURL.openStream())) {
-                    variantParser.parse(is, pluginURL);
-                    Variant[] variants = variantParser.getVariants();
-
-                    // add variants; variants with same name (but older versions) are
-                    // replaced with same-name newer versioned variants
-                    for (Variant variant : variants) {
-                        addVariant(variant, pluginName, pluginURL);
-                    }
-                } catch (IOException e) {
-                    // display error dialog
-                    ErrorDialog.displayFileIO(null, e, pluginURL.toString());
-                } catch (SAXException e) {
-                    // display error dialog
-                    ErrorDialog.displayGeneral(null, e);
-                }
-            }
+        List<PluginLoad> loads = new ArrayList<>();
+        for (URL pluginURL : searchForFiles(searchPaths, VARIANT_EXTENSIONS)) {
+            loads.add(new PluginLoad(pluginURL, getFile(pluginURL), null));
         }
 
-
         // if we are in webstart, search for variants within webstart jars
-        Enumeration enm = null;
-        ClassLoader cl = null;
+        loads.addAll(getWSPluginLoads(VARIANT_FILE_NAME));
 
-        if (vm.isInWebstart) {
-            cl = vm.getClass().getClassLoader();
+        // plugins which have changed are parsed with new class loaders; the
+        // previous class loaders are not closed until we publish, as their
+        // resources may still be in use.
+        final Map<String, PluginClassLoader> replaced = renewClassLoaders(loads, false);
+        boolean isPublished = false;
+        try {
+            parsePlugins(dbf, loads, false);
+            for (PluginLoad load : loads) {
+                newVM.addPluginLoad(load);
+            }
 
-            try {
-                enm = cl.getResources(VARIANT_FILE_NAME);
-            } catch (IOException e) {
-                enm = null;
+            // check: did we find *any* variants? Throw an exception.
+            if (newVM.variantMap.isEmpty()) {
+                throw new NoVariantsException(getNotFoundMessage("No variants found on path: ", searchPaths));
             }
 
-            if (enm != null) {
-                while (enm.hasMoreElements()) {
-                    URL variantURL = (URL) enm.nextElement();
+            logger.trace("Variant parsing finished.");
 
-                    // parse variant description file, and create hash entry of variant object -> URL
+            ///////////////// SYMBOLS /////////////////////////
 
-                    String pluginName = getWSPluginName(variantURL);
-                    try (InputStream is = new BufferedInputStream(variantURL.openStream())) {
+            // now, parse symbol packs
+            loads = new ArrayList<>();
+            for (URL pluginURL : searchForFiles(searchPaths, SYMBOL_EXTENSIONS)) {
+                loads.add(new PluginLoad(pluginURL, getFile(pluginURL), null));
+            }
 
-                        variantParser.parse(is, variantURL);
-                        Variant[] variants = variantParser.getVariants();
+            // if we are in webstart, search for symbol packs within webstart jars
+            loads.addAll(getWSPluginLoads(SYMBOL_FILE_NAME));
 
-                        // add variants; variants with same name (but older versions) are
-                        // replaced with same-name newer versioned variants
-                        for (Variant variant : variants) {
-                            addVariant(variant, pluginName, variantURL);
-                        }
-                    } catch (IOException e) {
-                        // display error dialog
-                        ErrorDialog.displayFileIO(null, e, variantURL.toString());
-                    } catch (org.xml.sax.SAXException e) {
-                        // display error dialog
-                        ErrorDialog.displayGeneral(null, e);
-                    }
-                }
-            }// if(enm != null)
-        }
+            replaced.putAll(renewClassLoaders(loads, false));
+            parsePlugins(dbf, loads, true);
+            for (PluginLoad load : loads) {
+                newVM.addPluginLoad(load);
+            }
 
-        // check: did we find *any* variants? Throw an exception.
-        if (vm.variantMap.isEmpty()) {
-            StringBuilder msg = new StringBuilder(256);
-            msg.append("No variants found on path: ");
-            for (File searchPath : searchPaths) {
-                msg.append(searchPath);
-                msg.append("; ");
+            // check: did we find *any* symbol packs? Throw an exception.
+            if (newVM.symbolMap.isEmpty()) {
+                throw new NoVariantsException(getNotFoundMessage("No SymbolPacks found on path: ", searchPaths));
             }
 
-            throw new NoVariantsException(msg.toString());
+            // publish
+            newVM.createSortedLists();
+            vm = newVM;
+            isPublished = true;
+        } finally {
+            releaseClassLoaders(replaced, isPublished);
         }
 
-        logger.trace("Variant parsing finished.");
+        logger.trace("Parsing finished.");
+    }// init()
 
-        ///////////////// SYMBOLS /////////////////////////
+    /**
+     * Reloads a single Variant or SymbolPack plugin, without reloading
+     * any other plugins. The plugin type is determined by the file name.
+     * If the file no longer exists, the plugin is removed.
+     * <p>
+     * If the reloaded plugin cannot be parsed, or conflicts with
+     * another plugin, an exception is thrown and the previously loaded
+     * plugins remain in use.
+     * <p>
+     * Variant and SymbolPack objects obtained before reloading are not
+     * modified.
+     */
+    public static synchronized void reloadPlugin(File pluginFile)
+            throws IOException, javax.xml.parsers.ParserConfigurationException, NoVariantsException {
+        final VariantManager oldVM = getVM();
 
+        if (pluginFile == null) {
+            throw new IllegalArgumentException();
+        }
 
-        // now, parse symbol packs
-        XMLSymbolParser symbolParser = new XMLSymbolParser(dbf);
+        final boolean isSymbolPack;
+        if (checkFileName(pluginFile.getPath(), VARIANT_EXTENSIONS)) {
+            isSymbolPack = false;
+        } else if (checkFileName(pluginFile.getPath(), SYMBOL_EXTENSIONS)) {
+            isSymbolPack = true;
+        } else {
+            throw new IllegalArgumentException("not a plugin: " + pluginFile);
+        }
 
-        // find plugins, create plugin loader
-        pluginURLs = vm.searchForFiles(searchPaths, SYMBOL_EXTENSIONS);
+        final URL pluginURL = pluginFile.toURI().toURL();
 
-        // for each plugin, attempt to find the "variants.xml" file inside.
-        // if it does not exist, we will not load the file. If it does, we will parse it,
-        // and associate the variant with the URL in a hashtable.
-        for (URL pluginURL : pluginURLs) {
-            URLClassLoader urlCL = new URLClassLoader(new URL[]{pluginURL});
-            URL symbolXMLURL = urlCL.findResource(SYMBOL_FILE_NAME);
-            if (symbolXMLURL != null) {
-                String pluginName = getFile(pluginURL);
-
-                // parse variant description file, and create hash entry of variant object -> URL
-                try (InputStream is = new BufferedInputStream(symbolXMLURL.openStream())) {
-                    symbolParser.parse(is, pluginURL);
-                    addSymbolPack(symbolParser.getSymbolPack(), pluginName, pluginURL);
-                } catch (IOException e) {
-                    // display error dialog
-                    ErrorDialog.displayFileIO(null, e, pluginURL.toString());
-                } catch (SAXException e) {
-                    // display error dialog
-                    ErrorDialog.displayGeneral(null, e);
+        // the plugin is parsed with a new class loader; the previous class
+        // loader is not closed until we publish, as its resources may still
+        // be in use.
+        final PluginLoad load = pluginFile.isFile() ? new PluginLoad(pluginURL, getFile(pluginURL), null) : null;
+        final Map<String, PluginClassLoader> replaced = renewClassLoaders(
+                (load == null) ? Collections.emptyList() : Collections.singletonList(load), true);
+        boolean isPublished = false;
+        try {
+            // parse the plugin (if it still exists)
+            if (load != null) {
+                parsePlugins(createDocumentBuilderFactory(oldVM.isValidating),
+                        Collections.singletonList(load), isSymbolPack);
+
+                if (load.error instanceof javax.xml.parsers.ParserConfigurationException) {
+                    throw (javax.xml.parsers.ParserConfigurationException) load.error;
+                } else if (load.error instanceof IOException) {
+                    throw (IOException) load.error;
+                } else if (load.error != null) {
+                    throw new IOException("Could not parse plugin: " + pluginURL, load.error);
                 }
             }
-        }
 
-        // if we are in webstart, search for variants within webstart jars
-        enm = null;
-        cl = null;
-
-        if (vm.isInWebstart) {
-            cl = vm.getClass().getClassLoader();
-
-            try {
-                enm = cl.getResources(SYMBOL_FILE_NAME);
-            } catch (IOException e) {
-                enm = null;
+            // copy the old records, replacing those of the reloaded plugin.
+            final VariantManager newVM = new VariantManager(oldVM.searchPaths, oldVM.isValidating);
+            for (MapRecObj mro : oldVM.records) {
+                if (!pluginURL.toString().equals(mro.getURL().toString())) {
+                    newVM.add(mro);
+                }
             }
 
-            if (enm != null) {
-                while (enm.hasMoreElements()) {
-                    URL symbolURL = (URL) enm.nextElement();
-
-                    // parse variant description file, and create hash entry of variant object -> URL
-
-                    String pluginName = getWSPluginName(symbolURL);
-                    try (InputStream is = new BufferedInputStream(symbolURL.openStream())) {
-                        symbolParser.parse(is, symbolURL);
-                        addSymbolPack(symbolParser.getSymbolPack(), pluginName, symbolURL);
-                    } catch (IOException e) {
-                        // display error dialog
-                        ErrorDialog.displayFileIO(null, e, symbolURL.toString());
-                    } catch (org.xml.sax.SAXException e) {
-                        // display error dialog
-                        ErrorDialog.displayGeneral(null, e);
-                    }
+            if (load != null) {
+                for (MapRecObj mro : load.records) {
+                    newVM.add(mro);
                 }
-            }// if(enm != null)
-        }// if(isInWebStart)
-
+            }
 
-        // check: did we find *any* symbol packs? Throw an exception.
-        if (vm.symbolMap.isEmpty()) {
-            StringBuilder msg = new StringBuilder(256);
-            msg.append("No SymbolPacks found on path: ");
-            for (File searchPath : searchPaths) {
-                msg.append(searchPath);
-                msg.append("; ");
+            if (newVM.variantMap.isEmpty()) {
+                throw new NoVariantsException(getNotFoundMessage("No variants found on path: ", oldVM.searchPaths));
+            } else if (newVM.symbolMap.isEmpty()) {
+                throw new NoVariantsException(getNotFoundMessage("No SymbolPacks found on path: ", oldVM.searchPaths));
             }
 
-            throw new NoVariantsException(msg.toString());
+            // publish
+            newVM.createSortedLists();
+            vm = newVM;
+            isPublished = true;
+        } finally {
+            releaseClassLoaders(replaced, isPublished);
         }
-        logger.trace("Parsing finished.");
-    }
+
+        logger.debug("Reloaded plugin: {}", pluginURL);
+    }// reloadPlugin()
 
     /**
      * Returns the known Variants. If multiple versions of a Variant
      * exist, only the latest version is returned. The list is
      * sorted in alphabetic order.
      */
-    public static synchronized Variant[] getVariants() {
-        checkVM();
-
-        if (vm.variants.length != vm.variantMap.size()) {
-            // note that we need to avoid putting duplicates
-            // into the array.
-            //
-            ArrayList<Variant> list = new ArrayList<>();        // list of variants
-            Set<MapRec> set = new HashSet<>();                // a set of MapRecs
-            set.addAll(vm.variantMap.values());
-
-            // fill variant list with variants.
-            for (MapRec mr : set) {
-                MapRecObj mro = mr.get(VERSION_NEWEST);
-                assert (mro != null);
-                list.add(((VRec) mro).getVariant());
-            }
-
-            Collections.sort(list);
-            vm.variants = list.toArray(new Variant[list.size()]);
-        }
-
-        return vm.variants;
+    public static Variant[] getVariants() {
+        return getVM().variants;
     }// getVariants()
 
     /**
@@ -370,27 +310,8 @@ public class VariantManager {
      * exist, only the latest version is returned. The list is
      * sorted in alphabetic order.
      */
-    public static synchronized SymbolPack[] getSymbolPacks() {
-        checkVM();
-
-        if (vm.symbolPacks.length != vm.symbolMap.size()) {
-            // avoid putting duplicates into the array.
-            ArrayList<SymbolPack> list = new ArrayList<>();        // list of SymbolPacks
-            Set<MapRec> set = new HashSet<>();                // a set of MapRecs
-            set.addAll(vm.symbolMap.values());
-
-            // fill variant list with variants.
-            for (MapRec mr : set) {
-                MapRecObj mro = mr.get(VERSION_NEWEST);
-                assert (mro != null);
-                list.add(((SPRec) mro).getSymbolPack());
-            }
-
-            Collections.sort(list);
-            vm.symbolPacks = list.toArray(new SymbolPack[list.size()]);
-        }
-
-        return vm.symbolPacks;
+    public static SymbolPack[] getSymbolPacks() {
+        return getVM().symbolPacks;
     }// getSymbolPacks()
 
     /**
@@ -400,9 +321,8 @@ public class VariantManager {
      * <p>
      * Note: Name is <b>not</b> case-sensitive.
      */
-    public static synchronized Variant getVariant(String name, float version) {
-        checkVM();
-        MapRec mr = vm.variantMap.get(name.toLowerCase());
+    public static Variant getVariant(String name, float version) {
+        MapRec mr = getVM().variantMap.get(name.toLowerCase());
         if (mr != null) {
             return ((VRec) mr.get(version)).getVariant();
         }
@@ -417,18 +337,8 @@ public class VariantManager {
      * <p>
      * Note: Name is <b>not</b> case-sensitive.
      */
-    public static synchronized SymbolPack getSymbolPack(String name, float version) {
-        checkVM();
-        if (name == null) {
-            return null;
-        }
-
-        MapRec mr = vm.symbolMap.get(name.toLowerCase());
-        if (mr != null) {
-            return ((SPRec) mr.get(version)).getSymbolPack();
-        }
-
-        return null;
+    public static SymbolPack getSymbolPack(String name, float version) {
+        return getVM().findSymbolPack(name, version);
     }// getSymbolPack()
 
     /**
@@ -442,8 +352,8 @@ public class VariantManager {
      * <p>
      * Thus it is assured that a SymbolPack will always be obtained.
      */
-    public static synchronized SymbolPack getSymbolPack(MapGraphic mg,
-                                                        String symbolPackName, final float symbolPackVersion) {
+    public static SymbolPack getSymbolPack(MapGraphic mg,
+                                           String symbolPackName, final float symbolPackVersion) {
         if (mg == null) {
             throw new IllegalArgumentException();
         }
@@ -457,15 +367,17 @@ public class VariantManager {
             spVersion = VERSION_NEWEST;
         }
 
-        SymbolPack sp = getSymbolPack(symbolPackName, spVersion);
+        // use a single snapshot for all lookups
+        final VariantManager v = getVM();
+        SymbolPack sp = v.findSymbolPack(symbolPackName, spVersion);
         if (sp == null) {
-            sp = getSymbolPack(symbolPackName, VERSION_NEWEST);
+            sp = v.findSymbolPack(symbolPackName, VERSION_NEWEST);
             if (sp == null && mg.getPreferredSymbolPackName() != null) {
-                sp = getSymbolPack(mg.getPreferredSymbolPackName(), VERSION_NEWEST);
+                sp = v.findSymbolPack(mg.getPreferredSymbolPackName(), VERSION_NEWEST);
             }
 
             if (sp == null) {
-                sp = getSymbolPacks()[0];
+                sp = v.symbolPacks[0];
             }
         }
 
@@ -496,9 +408,8 @@ public class VariantManager {
      * Returns the versions of a variant that are available.
      * If the variant is not found, a zero-length array is returned.
      */
-    public synchronized static float[] getVariantVersions(final String name) {
-        checkVM();
-        MapRec mr = vm.variantMap.get(name.toLowerCase());
+    public static float[] getVariantVersions(final String name) {
+        MapRec mr = getVM().variantMap.get(name.toLowerCase());
         if (mr != null) {
             return (mr.getVersions());
         }
@@ -510,9 +421,8 @@ public class VariantManager {
      * Returns the versions of a SymbolPack that are available.
      * If the SymbolPack is not found, a zero-length array is returned.
      */
-    public synchronized static float[] getSymbolPackVersions(String name) {
-        checkVM();
-        MapRec mr = vm.symbolMap.get(name.toLowerCase());
+    public static float[] getSymbolPackVersions(String name) {
+        MapRec mr = getVM().symbolMap.get(name.toLowerCase());
         if (mr != null) {
             return (mr.getVersions());
         }
@@ -533,15 +443,14 @@ public class VariantManager {
      * Gets a specific resource for a Variant or a SymbolPack, given a URL to
      * the package and a reference URI. Threadsafe.
      * <p>
+     * This may be called while plugins are being loaded.
+     * <p>
      * Typically, getResource(Variant, URI) or getResource(SymbolPack, URI) is
      * preferred to this method.
      */
-    public static synchronized URL getResource(URL packURL, URI uri) {
-        // ensure we have been initialized...
-        checkVM();
-
+    public static URL getResource(URL packURL, URI uri) {
         // if we are in webstart, assume that this is a webstart jar.
-        if (vm.isInWebstart) {
+        if (isInWebstart) {
             URL url = getWSResource(packURL, uri);
 
             // if cannot get it, fall through.
@@ -573,7 +482,7 @@ public class VariantManager {
         if (variant == null) {
             throw new IllegalArgumentException();
         }
-        return getResource(getVRec(variant), uri);
+        return getResource(getVM().getVRec(variant), uri);
     }// getResource()
 
     /**
@@ -585,7 +494,7 @@ public class VariantManager {
         if (symbolPack == null) {
             throw new IllegalArgumentException();
         }
-        return getResource(getSPRec(symbolPack), uri);
+        return getResource(getVM().getSPRec(symbolPack), uri);
     }// getResource()
 
     /**
@@ -599,39 +508,45 @@ public class VariantManager {
      */
     public static URL getVariantPackageJarURL(Variant variant) {
         if (variant != null) {
-            VRec vr = getVRec(variant);
+            VRec vr = getVM().getVRec(variant);
             if (vr != null) {
                 assert (vr.getURL() != null);
+                return toJarURL(vr.getURL());
+            }
+        }
+
+        return null;
+    }// getVariantPackageURL()
 
-                URL url = vr.getURL();
-                String txtUrl = url.toString();
+    /**
+     * Converts a plugin URL to a URL with a JAR prefix, or returns
+     * null if this is not possible.
+     */
+    private static URL toJarURL(URL url) {
+        String txtUrl = url.toString();
 
-                if (txtUrl.startsWith("jar:")) {
-                    return url;
-                } else {
-                    StringBuilder sb = new StringBuilder(txtUrl.length() + 8);
-                    sb.append("jar:");
-                    sb.append(txtUrl);
-                    sb.append("!/");
-
-                    try {
-                        return new URL(sb.toString());
-                    } catch (MalformedURLException e) {
-                        logger.warn("Could not convert {} to a JAR url.", url, e);
-                    }
-                }
+        if (txtUrl.startsWith("jar:")) {
+            return url;
+        } else {
+            StringBuilder sb = new StringBuilder(txtUrl.length() + 8);
+            sb.append("jar:");
+            sb.append(txtUrl);
+            sb.append("!/");
+
+            try {
+                return new URL(sb.toString());
+            } catch (MalformedURLException e) {
+                logger.warn("Could not convert {} to a JAR url.", url, e);
             }
         }
 
         return null;
-    }// getVariantPackageURL()
+    }// toJarURL()
 
     /**
      * Internal getResource() implementation
      */
-    private static synchronized URL getResource(MapRecObj mro, URI uri) {
-        // ensure we have been initialized...
-        checkVM();
+    private static URL getResource(MapRecObj mro, URI uri) {
         assert (mro != null);
 
         if (uri == null) {
@@ -639,7 +554,7 @@ public class VariantManager {
         }
 
         // if we are in webstart, assume that this is a webstart jar.
-        if (vm.isInWebstart) {
+        if (isInWebstart) {
             URL url = getWSResource(mro, uri);
 
             // if cannot get it, fall through.
@@ -667,33 +582,303 @@ public class VariantManager {
     }// getResource()
 
     /**
-     * Ensures that we have initialized the VariantManager
+     * Returns the current VariantManager, ensuring that we have been initialized.
      */
-    private static void checkVM() {
-        if (vm == null) {
+    private static VariantManager getVM() {
+        final VariantManager v = vm;
+        if (v == null) {
             throw new IllegalArgumentException("not initialized");
         }
-    }// checkVM()
+        return v;
+    }// getVM()
 
     /**
-     * Returns the URLClassLoader for a given URL, or creates a new one....
+     * Returns the URLClassLoader for a given URL, or creates a new one.
+     * Class loaders are cached, and may be shared between threads.
      */
     private static URLClassLoader getClassLoader(URL packageURL) {
-        // WARNING: this method is not (itself) threadsafe
         if (packageURL == null) {
             throw new IllegalArgumentException();
         }
 
-        // see if a classloader for this url already exists (cache of 1)
-        if (packageURL.equals(vm.currentPackageURL)) {
-            return vm.currentUCL;
+        final String key = packageURL.toString();
+        URLClassLoader ucl = classLoaders.get(key);
+        if (ucl == null) {
+            ucl = classLoaders.computeIfAbsent(key, k -> new PluginClassLoader(packageURL));
         }
 
-        vm.currentUCL = new URLClassLoader(new URL[]{packageURL});
-        vm.currentPackageURL = packageURL;
-        return vm.currentUCL;
+        return ucl;
     }// getClassLoader()
 
+    /**
+     * Replaces the cached class loaders of the given plugins with new ones,
+     * if the plugin file has changed since the class loader was created
+     * (or always, if isChanged is true). The replaced class loaders are
+     * returned; they are not closed, as resources obtained from them may
+     * still be in use.
+     */
+    private static Map<String, PluginClassLoader> renewClassLoaders(List<PluginLoad> loads, boolean isChanged) {
+        final Map<String, PluginClassLoader> replaced = new HashMap<>();
+        for (PluginLoad load : loads) {
+            if (load.xmlURL != null) {
+                continue;
+            }
+
+            final String key = load.pluginURL.toString();
+            final PluginClassLoader ucl = classLoaders.get(key);
+            if (isChanged || (ucl != null && !ucl.fileState.equals(getFileState(load.pluginURL)))) {
+                final PluginClassLoader old = classLoaders.put(key, new PluginClassLoader(load.pluginURL));
+                if (old != null) {
+                    replaced.put(key, old);
+                }
+            }
+        }
+
+        return replaced;
+    }// renewClassLoaders()
+
+    /**
+     * Called once plugins have been loaded. If the new VariantManager was
+     * published, the replaced class loaders are closed, and the cached data
+     * of the changed plugins (and of those no longer loaded) is discarded.
+     * Otherwise, the replaced class loaders are restored.
+     */
+    private static void releaseClassLoaders(Map<String, PluginClassLoader> replaced, boolean isPublished) {
+        if (!isPublished) {
+            for (Map.Entry<String, PluginClassLoader> entry : replaced.entrySet()) {
+                closeClassLoader(classLoaders.put(entry.getKey(), entry.getValue()));
+            }
+            return;
+        }
+
+        for (PluginClassLoader ucl : replaced.values()) {
+            closeClassLoader(ucl);
+            closeJarFile(ucl.pluginURL);
+        }
+
+        final Set<String> loaded = new HashSet<>();
+        for (MapRecObj mro : vm.records) {
+            loaded.add(mro.getURL().toString());
+        }
+
+        for (String key : new ArrayList<>(classLoaders.keySet())) {
+            if (!loaded.contains(key)) {
+                final PluginClassLoader ucl = classLoaders.remove(key);
+                if (ucl != null) {
+                    closeClassLoader(ucl);
+                    closeJarFile(ucl.pluginURL);
+                }
+            }
+        }
+    }// releaseClassLoaders()
+
+    /**
+     * Closes a class loader, if not null.
+     */
+    private static void closeClassLoader(PluginClassLoader ucl) {
+        if (ucl != null) {
+            try {
+                ucl.close();
+            } catch (IOException e) {
+                logger.debug("Could not close class loader for {}", ucl.pluginURL, e);
+            }
+        }
+    }// closeClassLoader()
+
+    /**
+     * Returns the last modified time and length of a plugin file, or
+     * an empty String if the plugin is not a file.
+     */
+    private static String getFileState(URL pluginURL) {
+        if ("file".equals(pluginURL.getProtocol())) {
+            try {
+                final File file = new File(URI.create(pluginURL.toString()));
+                return file.lastModified() + ":" + file.length();
+            } catch (IllegalArgumentException e) {
+                logger.debug("Not a plugin file: {}", pluginURL, e);
+            }
+        }
+
+        return "";
+    }// getFileState()
+
+    /**
+     * Discards the cached JAR file of a plugin (which would otherwise
+     * be used when resources from the plugin are opened).
+     */
+    private static void closeJarFile(URL pluginURL) {
+        // closing a cached JarFile removes it from the cache.
+        final URL jarURL = toJarURL(pluginURL);
+        if (jarURL != null && "file".equals(pluginURL.getProtocol())
+                && new File(URI.create(pluginURL.toString())).isFile()) {
+            try {
+                final URLConnection conn = jarURL.openConnection();
+                if (conn instanceof JarURLConnection) {
+                    ((JarURLConnection) conn).getJarFile().close();
+                }
+            } catch (IOException | IllegalArgumentException e) {
+                logger.debug("Could not evict cached JAR file for {}", pluginURL, e);
+            }
+        }
+    }// closeJarFile()
+
+    /**
+     * Creates the DocumentBuilderFactory used by the variant and symbol parsers.
+     */
+    private static DocumentBuilderFactory createDocumentBuilderFactory(boolean isValidating) {
+        DocumentBuilderFactory dbf = DocumentBuilderFactory.newInstance();
+
+        try {
+            // this may improve performance, and really only apply to Xerces
+            dbf.setAttribute("http://apache.org/xml/features/dom/defer-node-expansion", Boolean.FALSE);
+            dbf.setAttribute("http://apache.org/xml/properties/input-buffer-size", 4096);
+            dbf.setAttribute("http://apache.org/xml/features/nonvalidating/load-external-dtd", Boolean.FALSE);
+        } catch (Exception e) {
+            logger.warn("VM: Could not set XML feature.", e);
+        }
+
+        dbf.setValidating(isValidating);
+        dbf.setCoalescing(false);
+        dbf.setIgnoringComments(true);
+        return dbf;
+    }// createDocumentBuilderFactory()
+
+    /**
+     * Parses the given plugins concurrently. Each plugin is parsed by its
+     * own parser; results (or errors) are stored in the PluginLoad.
+     * The DocumentBuilderFactory is not threadsafe, so parser creation
+     * is synchronized upon it.
+     */
+    private static void parsePlugins(final DocumentBuilderFactory dbf,
+                                     final List<PluginLoad> loads, final boolean isSymbolPack) {
+        loads.parallelStream().forEach(load -> {
+            try {
+                // precompiled variants, if the plugin has not changed
+                final File pluginFile = isSymbolPack ? null : getCacheableFile(load);
+                byte[] digest = null;
+                if (pluginFile != null) {
+                    digest = VariantCache.getDigest(pluginFile);
+                    final Variant[] cached = VariantCache.read(pluginFile, digest);
+                    if (cached != null) {
+                        for (Variant variant : cached) {
+                            load.records.add(new VRec(variant, load.pluginName, load.pluginURL));
+                        }
+                        return;
+                    }
+                }
+
+                URL xmlURL = load.xmlURL;
+                if (xmlURL == null) {
+                    xmlURL = getClassLoader(load.pluginURL).findResource(
+                            isSymbolPack ? SYMBOL_FILE_NAME : VARIANT_FILE_NAME);
+                    if (xmlURL == null) {
+                        // not a plugin; nothing to load
+                        return;
+                    }
+                }
+
+                if (isSymbolPack) {
+                    final XMLSymbolParser symbolParser;
+                    synchronized (dbf) {
+                        symbolParser = new XMLSymbolParser(dbf);
+                    }
+
+                    try (InputStream is = new BufferedInputStream(openUncached(xmlURL))) {
+                        symbolParser.parse(is, load.pluginURL);
+                        load.records.add(new SPRec(symbolParser.getSymbolPack(), load.pluginName, load.pluginURL));
+                    }
+                } else {
+                    final XMLVariantParser variantParser;
+                    synchronized (dbf) {
+                        variantParser = new XMLVariantParser(dbf);
+                    }
+
+                    try (InputStream is = new BufferedInputStream(openUncached(xmlURL))) {
+                        variantParser.parse(is, load.pluginURL);
+                        final Variant[] variants = variantParser.getVariants();
+                        for (Variant variant : variants) {
+                            load.records.add(new VRec(variant, load.pluginName, load.pluginURL));
+                        }
+
+                        if (pluginFile != null) {
+                            VariantCache.write(pluginFile, digest, variants);
+                        }
+                    }
+                }
+            } catch (Exception e) {
+                load.error = e;
+            }
+        });
+    }// parsePlugins()
+
+    /**
+     * Opens a plugin resource without using (or adding to) the cached JAR
+     * files, which may be those of a previous version of the plugin.
+     */
+    private static InputStream openUncached(URL url) throws IOException {
+        final URLConnection conn = url.openConnection();
+        conn.setUseCaches(false);
+        return conn.getInputStream();
+    }// openUncached()
+
+    /**
+     * Returns the plugin File, if the plugin is a local file and
+     * the VariantCache is enabled; otherwise, returns null.
+     */
+    private static File getCacheableFile(PluginLoad load) {
+        if (load.xmlURL != null || VariantCache.getDirectory() == null
+                || !"file".equals(load.pluginURL.getProtocol())) {
+            return null;
+        }
+
+        try {
+            return new File(load.pluginURL.toURI());
+        } catch (URISyntaxException | IllegalArgumentException e) {
+            return null;
+        }
+    }// getCacheableFile()
+
+    /**
+     * Returns the plugins with the given descriptor file within webstart
+     * jars, or an empty list if not in webstart.
+     */
+    private static List<PluginLoad> getWSPluginLoads(String fileName) {
+        final List<PluginLoad> loads = new ArrayList<>();
+
+        if (isInWebstart) {
+            Enumeration<URL> enm = null;
+
+            try {
+                enm = VariantManager.class.getClassLoader().getResources(fileName);
+            } catch (IOException e) {
+                enm = null;
+            }
+
+            if (enm != null) {
+                while (enm.hasMoreElements()) {
+                    URL url = enm.nextElement();
+                    loads.add(new PluginLoad(url, getWSPluginName(url), url));
+                }
+            }
+        }
+
+        return loads;
+    }// getWSPluginLoads()
+
+    /**
+     * Creates a message for NoVariantsException
+     */
+    private static String getNotFoundMessage(String prefix, File[] searchPaths) {
+        StringBuilder msg = new StringBuilder(256);
+        msg.append(prefix);
+        for (File searchPath : searchPaths) {
+            msg.append(searchPath);
+            msg.append("; ");
+        }
+
+        return msg.toString();
+    }// getNotFoundMessage()
+
     /**
      * Returns the "file" part of the URL; e.g.: x/y/z.jar, returns z.jar
      */
@@ -725,13 +910,13 @@ public class VariantManager {
      * This primarily applies to Webstart resources
      */
     private static URL getWSResource(MapRecObj mro, URI uri) {
-        assert (vm.isInWebstart);
+        assert (isInWebstart);
 
         if (uri == null) {
             return null;
         }
 
-        ClassLoader cl = vm.getClass().getClassLoader();
+        ClassLoader cl = VariantManager.class.getClassLoader();
 
         if (mro != null) {
             Enumeration enm = null;
@@ -781,9 +966,9 @@ public class VariantManager {
 			has not yet been created. So we cannot use that; the internal
 			logic here is slightly different.
 		*/
-        assert (vm.isInWebstart);
+        assert (isInWebstart);
 
-        ClassLoader cl = vm.getClass().getClassLoader();
+        ClassLoader cl = VariantManager.class.getClassLoader();
         String deconflictName = getWSPluginName(packURL);
 
         Enumeration enm = null;
@@ -814,6 +999,92 @@ public class VariantManager {
         return null;
     }// getWSResource()
 
+    /**
+     * Adds the Variants or SymbolPack parsed from a plugin. Errors
+     * (including conflicts with previously added plugins) are displayed.
+     */
+    private void addPluginLoad(PluginLoad load)
+            throws javax.xml.parsers.ParserConfigurationException {
+        try {
+            if (load.error != null) {
+                throw load.error;
+            }
+
+            // add variants; variants with same name (but older versions) are
+            // replaced with same-name newer versioned variants
+            for (MapRecObj mro : load.records) {
+                add(mro);
+            }
+        } catch (IOException e) {
+            // display error dialog
+            ErrorDialog.displayFileIO(null, e, load.pluginURL.toString());
+        } catch (javax.xml.parsers.ParserConfigurationException e) {
+            throw e;
+        } catch (Exception e) {
+            // display error dialog
+            ErrorDialog.displayGeneral(null, e);
+        }
+    }// addPluginLoad()
+
+    /**
+     * Adds a VRec or SPRec
+     */
+    private void add(MapRecObj mro)
+            throws IOException {
+        if (mro instanceof VRec) {
+            addVariant((VRec) mro);
+        } else {
+            addSymbolPack((SPRec) mro);
+        }
+
+        records.add(mro);
+    }// add()
+
+    /**
+     * Creates the sorted Variant and SymbolPack lists. If multiple
+     * versions exist, only the newest is included.
+     */
+    private void createSortedLists() {
+        // note that we need to avoid putting duplicates
+        // into the array.
+        //
+        ArrayList<Variant> vList = new ArrayList<>();        // list of variants
+        for (MapRec mr : new HashSet<>(variantMap.values())) {
+            MapRecObj mro = mr.get(VERSION_NEWEST);
+            assert (mro != null);
+            vList.add(((VRec) mro).getVariant());
+        }
+
+        Collections.sort(vList);
+        variants = vList.toArray(new Variant[vList.size()]);
+
+        ArrayList<SymbolPack> spList = new ArrayList<>();        // list of SymbolPacks
+        for (MapRec mr : new HashSet<>(symbolMap.values())) {
+            MapRecObj mro = mr.get(VERSION_NEWEST);
+            assert (mro != null);
+            spList.add(((SPRec) mro).getSymbolPack());
+        }
+
+        Collections.sort(spList);
+        symbolPacks = spList.toArray(new SymbolPack[spList.size()]);
+    }// createSortedLists()
+
+    /**
+     * Finds a SymbolPack with the given name and version, or null.
+     */
+    private SymbolPack findSymbolPack(String name, float version) {
+        if (name == null) {
+            return null;
+        }
+
+        MapRec mr = symbolMap.get(name.toLowerCase());
+        if (mr != null) {
+            return ((SPRec) mr.get(version)).getSymbolPack();
+        }
+
+        return null;
+    }// findSymbolPack()
+
     /**
      * Adds a Variant. If the variant already exists with the same
      * name, checks the version. If the same version already exists,
@@ -827,30 +1098,22 @@ public class VariantManager {
      * <p>
      * NOTE: names and aliases are always mapped in all lower case.
      */
-    private static void addVariant(Variant v, String pluginName, URL pluginURL)
+    private void addVariant(VRec vr)
             throws IOException {
-        if (v == null || pluginName == null || pluginURL == null) {
-            throw new IllegalArgumentException();
-        }
-
-        VRec vr = new VRec();
-        vr.setPluginName(pluginName);
-        vr.setURL(pluginURL);
-        vr.setVariant(v);
-
+        final Variant v = vr.getVariant();
         final String vName = v.getName().toLowerCase();
 
         // see if we are mapped to a MapRec already.
         //
-        MapRec mapRec = vm.variantMap.get(vName);
+        MapRec mapRec = variantMap.get(vName);
         if (mapRec == null) {
             // not yet mapped! let's map it.
             mapRec = new MapRec(vr);
-            vm.variantMap.put(vName, mapRec);
+            variantMap.put(vName, mapRec);
         } else {
             // we are mapped. See if this version has been added.
             // If not, we'll add it.
-            if (!mapRec.add(vr) && !vm.isInWebstart) {
+            if (!mapRec.add(vr) && !isInWebstart) {
                 final VRec vrec2 = (VRec) mapRec.get(v.getVersion());
                 final Variant v2 = vrec2.getVariant();
 
@@ -874,10 +1137,10 @@ public class VariantManager {
             // not if it's "" though...
             if (!"".equals(alias)) {
                 alias = alias.toLowerCase();
-                MapRec testMapRec = vm.variantMap.get(alias);
+                MapRec testMapRec = variantMap.get(alias);
                 if (testMapRec == null) {
                     // add alias
-                    vm.variantMap.put(alias, mapRec);
+                    variantMap.put(alias, mapRec);
                 } else if (testMapRec != mapRec) {
                     // ERROR! incorrect alias map
                     final Variant v2 = ((VRec) testMapRec.get(VERSION_OLDEST)).getVariant();
@@ -902,29 +1165,21 @@ public class VariantManager {
      * <p>
      * Names are always mapped in all lower case.
      */
-    private static void addSymbolPack(SymbolPack sp, String pluginName, URL pluginURL)
+    private void addSymbolPack(SPRec spRec)
             throws IOException {
-        if (sp == null || pluginName == null || pluginURL == null) {
-            throw new IllegalArgumentException();
-        }
-
-        SPRec spRec = new SPRec();
-        spRec.setPluginName(pluginName);
-        spRec.setURL(pluginURL);
-        spRec.setSymbolPack(sp);
-
+        final SymbolPack sp = spRec.getSymbolPack();
         final String spName = sp.getName().toLowerCase();
 
         // see if we are mapped to a MapRec already.
         //
-        MapRec mapRec = vm.symbolMap.get(spName);
+        MapRec mapRec = symbolMap.get(spName);
         if (mapRec == null) {
             // not yet mapped! let's map it.
             mapRec = new MapRec(spRec);
-            vm.symbolMap.put(spName, mapRec);
+            symbolMap.put(spName, mapRec);
         } else {
             // we are mapped. See if this version has been added.
-            if (!mapRec.add(spRec) && !vm.isInWebstart) {
+            if (!mapRec.add(spRec) && !isInWebstart) {
                 SPRec spRec2 = (SPRec) mapRec.get(sp.getVersion());
                 final SymbolPack sp2 = spRec2.getSymbolPack();
                 if (sp2.getVersion() == sp.getVersion()) {
@@ -938,25 +1193,22 @@ public class VariantManager {
                     );
                 }
             }
-
-            // we haven't been added (not a dupe); add
-            mapRec.add(spRec);
         }
     }// addSymbolPack()
 
     /**
      * Gets the VRec associated with a Variant (via name and version)
      */
-    private static VRec getVRec(Variant v) {
-        MapRec mapRec = vm.variantMap.get(v.getName().toLowerCase());
+    private VRec getVRec(Variant v) {
+        MapRec mapRec = variantMap.get(v.getName().toLowerCase());
         return (VRec) mapRec.get(v.getVersion());
     }// getVRec()
 
     /**
      * Gets the SPRec associated with a SymbolPack (via name and version)
      */
-    private static SPRec getSPRec(SymbolPack sp) {
-        MapRec mapRec = vm.symbolMap.get(sp.getName().toLowerCase());
+    private SPRec getSPRec(SymbolPack sp) {
+        MapRec mapRec = symbolMap.get(sp.getName().toLowerCase());
         return (SPRec) mapRec.get(sp.getVersion());
     }// getSPRec()
 
@@ -964,7 +1216,7 @@ public class VariantManager {
      * Searches the given paths for files ending with the given extension(s).
      * Returns URLs.
      */
-    private URL[] searchForFiles(final File[] searchPaths, final String[] extensions) {
+    private static URL[] searchForFiles(final File[] searchPaths, final String[] extensions) {
         List<URL> urlList = new LinkedList<>();
 
         for (File searchPath : searchPaths) {
@@ -995,7 +1247,7 @@ public class VariantManager {
     /**
      * Checks if the fileName ends with an allowed extension; if so, returns true.
      */
-    private boolean checkFileName(String fileName, String[] extensions) {
+    private static boolean checkFileName(String fileName, String[] extensions) {
         for (String extension : extensions) {
             if (fileName.endsWith(extension)) {
                 return true;
@@ -1005,6 +1257,39 @@ public class VariantManager {
         return false;
     }// checkFileName()
 
+    /**
+     * The class loader of a plugin, and the state of the plugin file
+     * when it was created.
+     */
+    private static class PluginClassLoader extends URLClassLoader {
+        private final URL pluginURL;
+        private final String fileState;
+
+        public PluginClassLoader(URL pluginURL) {
+            super(new URL[]{pluginURL});
+            this.pluginURL = pluginURL;
+            this.fileState = getFileState(pluginURL);
+        }// PluginClassLoader()
+    }// inner class PluginClassLoader
+
+    /**
+     * The Variants or SymbolPack parsed from a single plugin,
+     * or the error which occured while parsing.
+     */
+    private static class PluginLoad {
+        private final URL pluginURL;
+        private final String pluginName;
+        private final URL xmlURL;    // null if it must be found within the plugin
+        private final List<MapRecObj> records = new ArrayList<>();
+        private Exception error = null;
+
+        public PluginLoad(URL pluginURL, String pluginName, URL xmlURL) {
+            this.pluginURL = pluginURL;
+            this.pluginName = pluginName;
+            this.xmlURL = xmlURL;
+        }// PluginLoad()
+    }// inner class PluginLoad
+
     /**
      * The value which is stored within the name mapping
      */
@@ -1089,25 +1374,25 @@ public class VariantManager {
      * MapRec stores a list of ObjRecs
      */
     private static abstract class MapRecObj {
-        private URL fileURL;
-        private String pluginName;
+        private final URL fileURL;
+        private final String pluginName;
 
-        public String getPluginName() {
-            return pluginName;
+        public MapRecObj(String pluginName, URL fileURL) {
+            if (pluginName == null || fileURL == null) {
+                throw new IllegalArgumentException();
+            }
+            this.pluginName = pluginName;
+            this.fileURL = fileURL;
         }
 
-        public void setPluginName(String value) {
-            pluginName = value;
+        public String getPluginName() {
+            return pluginName;
         }
 
         public URL getURL() {
             return fileURL;
         }
 
-        public void setURL(URL value) {
-            fileURL = value;
-        }
-
         public abstract float getVersion();
 
     }// inner class ObjRec
@@ -1117,14 +1402,18 @@ public class VariantManager {
      * An ObjRec for Variant objects
      */
     private static class VRec extends MapRecObj {
-        private Variant variant;
+        private final Variant variant;
 
-        public Variant getVariant() {
-            return variant;
+        public VRec(Variant variant, String pluginName, URL fileURL) {
+            super(pluginName, fileURL);
+            if (variant == null) {
+                throw new IllegalArgumentException();
+            }
+            this.variant = variant;
         }
 
-        public void setVariant(Variant value) {
-            variant = value;
+        public Variant getVariant() {
+            return variant;
         }
 
         public float getVersion() {
@@ -1136,14 +1425,18 @@ public class VariantManager {
      * An ObjRec for SymbolPack objects
      */
     private static class SPRec extends MapRecObj {
-        private SymbolPack symbolPack;
+        private final SymbolPack symbolPack;
 
-        public SymbolPack getSymbolPack() {
-            return symbolPack;
+        public SPRec(SymbolPack symbolPack, String pluginName, URL fileURL) {
+            super(pluginName, fileURL);
+            if (symbolPack == null) {
+                throw new IllegalArgumentException();
+            }
+            this.symbolPack = symbolPack;
         }
 
-        public void setSymbolPack(SymbolPack value) {
-            symbolPack = value;
+        public SymbolPack getSymbolPack() {
+            return symbolPack;
         }
 
         public float getVersion() {
@@ -45,6 +45,7 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.StringReader;
 import java.net.URL;
+import java.net.URLConnection;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -196,8 +197,11 @@ public class XMLSymbolParser implements SymbolParser {
                     symbolPack.getSVGURI() + " from SymbolPack: " + symbolPackURL);
         }
 
-        // parse resolved URI into a Document
-        try (InputStream is = new BufferedInputStream(url.openStream())) {
+        // parse resolved URI into a Document; cached JAR files may be those
+        // of a previous version of the plugin, so they are not used.
+        URLConnection conn = url.openConnection();
+        conn.setUseCaches(false);
+        try (InputStream is = new BufferedInputStream(conn.getInputStream())) {
             svgDoc = docBuilder.parse(is);
         }
 
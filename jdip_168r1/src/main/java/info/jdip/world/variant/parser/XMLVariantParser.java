@@ -52,6 +52,7 @@ import java.io.InputStream;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.net.URL;
+import java.net.URLConnection;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.LinkedList;
@@ -117,6 +118,7 @@ public class XMLVariantParser implements VariantParser {
     private DocumentBuilder docBuilder = null;
     private List<Variant> variantList = null;
     private XMLProvinceParser provinceParser = null;
+    private AdjCache adjCache = null;
 
 
     /** Create an XMLVariantParser */
@@ -150,7 +152,7 @@ public class XMLVariantParser implements VariantParser {
         provinceParser = new XMLProvinceParser(dbf);
 
         variantList = new LinkedList<>();
-        AdjCache.init(provinceParser);
+        adjCache = new AdjCache(provinceParser);
     }// XMLVariantParser()
 
 
@@ -165,14 +167,14 @@ public class XMLVariantParser implements VariantParser {
         logger.debug("Parsing: {}", variantPackageURL);
 
         // cleanup cache (very important to remove references!)
-        AdjCache.clear();
+        adjCache.clear();
         variantList.clear();
 
         if (variantPackageURL == null) {
             throw new IllegalArgumentException();
         }
 
-        AdjCache.setVariantPackageURL(variantPackageURL);
+        adjCache.setVariantPackageURL(variantPackageURL);
         doc = docBuilder.parse(is);
         procVariants();
         logger.trace("Parsing finished.");
@@ -183,7 +185,7 @@ public class XMLVariantParser implements VariantParser {
      * Cleanup, clearing any references/resources
      */
     public void close() {
-        AdjCache.clear();
+        adjCache.clear();
         variantList.clear();
     }// close()
 
@@ -344,8 +346,8 @@ public class XMLVariantParser implements VariantParser {
             // MAP adjacency URI; process it using ProvinceData parser
             try {
                 URI adjacencyURI = new URI(element.getAttribute(ATT_ADJACENCYURI));
-                variant.setProvinceData(AdjCache.getProvinceData(adjacencyURI));
-                variant.setBorderData(AdjCache.getBorderData(adjacencyURI));
+                variant.setProvinceData(adjCache.getProvinceData(adjacencyURI));
+                variant.setBorderData(adjCache.getBorderData(adjacencyURI));
             } catch (URISyntaxException e) {
                 throw new IOException(e.getMessage());
             }
@@ -467,35 +469,23 @@ public class XMLVariantParser implements VariantParser {
      * which may be shared between different variants (if the variants use the
      * same adjacency data).
      * <p>
-     * NOTE: this depends on the XMLVariantParser variable "adjCache", since inner classes
-     * cannot have statics (unless they inner class is static, which just creates more problems;
-     * this is a simpler solution)
+     * Each XMLVariantParser has its own AdjCache, so that different
+     * parsers may be used concurrently.
      */
     private static class AdjCache {
-        private static URL vpURL = null;
-        private static XMLProvinceParser pp = null;
-        private static LRUCache<URI, AdjCache> adjCache = null;    // URI -> AdjCache objects
+        private final XMLProvinceParser pp;
+        private final LRUCache<URI, Entry> cache = new LRUCache<>(6);    // URI -> Entry objects
+        private URL vpURL = null;
 
-        // instance variables
-        private ProvinceData[] provinceData;
-        private BorderData[] borderData;
 
-
-        public AdjCache() {
-        }// AdjCache()
-
-        /**
-         * initialization
-         */
-        public static void init(XMLProvinceParser provinceParser) {
+        public AdjCache(XMLProvinceParser provinceParser) {
             pp = provinceParser;
-            adjCache = new LRUCache<>(6);
         }// AdjCache()
 
         /**
          * Sets the variant package URL
          */
-        public static void setVariantPackageURL(URL variantPackageURL) {
+        public void setVariantPackageURL(URL variantPackageURL) {
             vpURL = variantPackageURL;
         }// setVariantPackageURL()
 
@@ -503,40 +493,38 @@ public class XMLVariantParser implements VariantParser {
         /**
          * Clears the cache.
          */
-        public static void clear() {
-            adjCache.clear();
+        public void clear() {
+            cache.clear();
         }// clear()
 
 
         /**
          * Gets the ProvinceData for a given adjacency URI
          */
-        public static ProvinceData[] getProvinceData(URI adjacencyURI)
+        public ProvinceData[] getProvinceData(URI adjacencyURI)
                 throws IOException, SAXException {
-            AdjCache ac = get(adjacencyURI);
-            return ac.provinceData;
+            return get(adjacencyURI).provinceData;
         }// getProvinceData()
 
 
         /**
          * Gets the BorderData for a given adjacency URI
          */
-        public static BorderData[] getBorderData(URI adjacencyURI)
+        public BorderData[] getBorderData(URI adjacencyURI)
                 throws IOException, SAXException {
-            AdjCache ac = get(adjacencyURI);
-            return ac.borderData;
+            return get(adjacencyURI).borderData;
         }// getBorderData()
 
 
         /**
-         * Gets the AdjCache object from the cache, or parses from the URI, as appropriate
+         * Gets the Entry from the cache, or parses from the URI, as appropriate
          */
-        private static AdjCache get(URI adjacencyURI)
+        private Entry get(URI adjacencyURI)
                 throws IOException, SAXException {
             // see if we already have the URI data cached.
-            if (adjCache.get(adjacencyURI) != null) {
-                //Log.println("  AdjCache: using cached adjacency data: ", adjacencyURI);
-                return adjCache.get(adjacencyURI);
+            Entry entry = cache.get(adjacencyURI);
+            if (entry != null) {
+                return entry;
             }
 
             // it's not cached. resolve URI.
@@ -545,20 +533,31 @@ public class XMLVariantParser implements VariantParser {
                 throw new IOException("Could not convert URI: " + adjacencyURI + " from variant package: " + vpURL);
             }
 
-            // parse resolved URI
-            //Log.println("  AdjCache: not in cache: ", adjacencyURI);
-            try (InputStream is = new BufferedInputStream(url.openStream())) {
+            // parse resolved URI; cached JAR files may be those of a previous
+            // version of the plugin, so they are not used.
+            URLConnection conn = url.openConnection();
+            conn.setUseCaches(false);
+            try (InputStream is = new BufferedInputStream(conn.getInputStream())) {
                 pp.parse(is);
             }
 
             // cache and return parsed data.
-            AdjCache ac = new AdjCache();
-            ac.provinceData = pp.getProvinceData();
-            ac.borderData = pp.getBorderData();
-            adjCache.put(adjacencyURI, ac);
-            return ac;
+            entry = new Entry();
+            entry.provinceData = pp.getProvinceData();
+            entry.borderData = pp.getBorderData();
+            cache.put(adjacencyURI, entry);
+            return entry;
         }// get()
 
+
+        /**
+         * Parsed adjacency data
+         */
+        private static class Entry {
+            private ProvinceData[] provinceData;
+            private BorderData[] borderData;
+        }// nested class Entry
+
     }// inner class AdjCache
 
 
@@ -35,4 +35,11 @@ public abstract class DATCTest {
         assertTimeoutPreemptively(ofSeconds(2), () -> TestCaseRunner.runCase(testCase));
 
     }
+
+    @ParameterizedTest(name = "[{index}] {0}")
+    @DisplayName("DATC incremental adjudication cases")
+    @MethodSource("sourceOfCases")
+    void incrementalMatchesFull(Case testCase) {
+        assertTimeoutPreemptively(ofSeconds(10), () -> TestCaseRunner.runIncrementalCase(testCase));
+    }
 }
@@ -0,0 +1,52 @@
+package info.jdip.datc;
+
+import info.jdip.misc.ParallelCaseRunner;
+import info.jdip.misc.ParallelCaseRunner.CaseReport;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Adjudicates all case files concurrently, and writes a per-case report to
+ * build/reports/adjudication.tsv. If the system property
+ * <code>jdip.baseline</code> names a previous report, cases which regressed
+ * fail the test.
+ */
+public class ParallelCasesTest {
+
+    private static final String[] CASE_FILES = {
+            "datc_v2.4_06.txt", "datc_v2.4_06_disable_failed_test.txt", "datc_v2.4_08.txt",
+            "datc_v2.4_09.txt", "datc_v2.4_10.txt", "datc_v2.4_10D.txt", "datc_v2.4_10F-10G-10L.txt",
+            "datc_v2.4_11.txt", "datc_v2.4_12.txt", "borders.txt", "dipai.txt", "explicitConvoys.txt",
+            "real.txt", "wing.txt"
+    };
+
+    @Test
+    void allCases() throws Exception {
+        ParallelCaseRunner runner = new ParallelCaseRunner(new File("build/tmp/variants"));
+        runner.setSlowThreshold(Long.getLong("jdip.slowMillis", 2000L));
+        runner.setParadoxThreshold(Integer.getInteger("jdip.paradoxBreaks", ParallelCaseRunner.DEFAULT_PARADOX_BREAKS));
+
+        List<File> files = new ArrayList<>();
+        for (String name : CASE_FILES) {
+            files.add(new File("etc/test_data", name));
+        }
+
+        List<CaseReport> reports = runner.run(files);
+        int regressed = 0;
+        String baseline = System.getProperty("jdip.baseline");
+        if (baseline != null) {
+            regressed = runner.compare(reports, ParallelCaseRunner.readReport(new File(baseline)));
+        }
+        ParallelCaseRunner.writeReport(reports, new File("build/reports/adjudication.tsv"));
+
+        assertEquals(0, ParallelCaseRunner.countFailed(reports), "failed cases");
+        assertEquals(0, ParallelCaseRunner.countFlagged(reports, ParallelCaseRunner.FLAG_UNRESOLVED), "unresolved paradoxes");
+        assertEquals(0, ParallelCaseRunner.countFlagged(reports, ParallelCaseRunner.FLAG_SLOW), "slow cases");
+        assertEquals(0, regressed, "regressed cases");
+    }
+}
@@ -0,0 +1,108 @@
+package info.jdip.gui.map;
+
+import info.jdip.misc.RandomGame;
+import info.jdip.world.Position;
+import info.jdip.world.TurnState;
+import info.jdip.world.World;
+import info.jdip.world.variant.VariantManager;
+import info.jdip.world.variant.data.MapGraphic;
+import info.jdip.world.variant.data.SymbolPack;
+import info.jdip.world.variant.data.Variant;
+import org.apache.batik.util.SVGConstants;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.w3c.dom.svg.SVGDocument;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.StringWriter;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Renders a Standard game, without a display, to SVG and PNG.
+ */
+public class HeadlessMapRendererTest {
+    private static final byte[] PNG_SIGNATURE = {(byte) 137, 80, 78, 71, 13, 10, 26, 10};
+    private static final int WIDTH = 400;
+
+    private static World world;
+    private static HeadlessMapRenderer renderer;
+
+    @BeforeAll
+    static void setUp() throws Exception {
+        System.setProperty("java.awt.headless", "true");
+
+        world = RandomGame.play("Standard", 1, 3);
+        Variant variant = VariantManager.getVariant("Standard", VariantManager.VERSION_NEWEST);
+        MapGraphic mg = variant.getDefaultMapGraphic();
+        SymbolPack sp = VariantManager.getSymbolPack(mg, null, VariantManager.VERSION_NEWEST);
+
+        World.VariantInfo vi = world.getVariantInfo();
+        vi.setVariantName(variant.getName());
+        vi.setVariantVersion(variant.getVersion());
+        vi.setMapName(mg.getName());
+        vi.setSymbolPackName(sp.getName());
+        vi.setSymbolPackVersion(sp.getVersion());
+        renderer = HeadlessMapRenderer.getInstance(world);
+    }
+
+    @Test
+    void cached() throws Exception {
+        assertSame(renderer, HeadlessMapRenderer.getInstance(world));
+    }
+
+    @Test
+    void svg() throws Exception {
+        TurnState ts = world.getLastTurnState();
+        Position pos = ts.getPosition();
+        SVGDocument doc = renderer.render(ts, MapRenderer2.VALUE_LABELS_BRIEF);
+
+        // a symbol for each supply center and unit, and more for the orders
+        int nUses = doc.getElementsByTagNameNS(SVGConstants.SVG_NAMESPACE_URI, SVGConstants.SVG_USE_TAG).getLength();
+        int nSymbols = pos.getUnitProvinces().length + pos.getDislodgedUnitProvinces().length;
+        for (info.jdip.world.Province province : world.getMap().getProvinces()) {
+            if (province.hasSupplyCenter()) {
+                nSymbols++;
+            }
+        }
+        assertTrue(nUses >= nSymbols, nUses + " < " + nSymbols);
+
+        // the base document is not altered
+        SVGDocument other = renderer.render(ts, MapRenderer2.VALUE_LABELS_BRIEF);
+        assertEquals(nUses, other.getElementsByTagNameNS(SVGConstants.SVG_NAMESPACE_URI,
+                SVGConstants.SVG_USE_TAG).getLength());
+
+        StringWriter sw = new StringWriter();
+        renderer.writeSVG(ts, MapRenderer2.VALUE_LABELS_NONE, sw);
+        assertTrue(sw.toString().contains("<svg"));
+    }
+
+    @Test
+    void png() throws Exception {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        renderer.writePNG(world.getInitialTurnState(), MapRenderer2.VALUE_LABELS_NONE, WIDTH, baos);
+        byte[] data = baos.toByteArray();
+        assertArrayEquals(PNG_SIGNATURE, Arrays.copyOf(data, PNG_SIGNATURE.length));
+
+        BufferedImage image = ImageIO.read(new ByteArrayInputStream(data));
+        assertEquals(WIDTH, image.getWidth());
+        assertTrue(image.getHeight() > 0);
+
+        // the map is drawn: not a single color
+        int rgb = image.getRGB(0, 0);
+        boolean isDrawn = false;
+        for (int y = 0; y < image.getHeight() && !isDrawn; y += 7) {
+            for (int x = 0; x < image.getWidth() && !isDrawn; x += 7) {
+                isDrawn = image.getRGB(x, y) != rgb;
+            }
+        }
+        assertTrue(isDrawn);
+    }
+}
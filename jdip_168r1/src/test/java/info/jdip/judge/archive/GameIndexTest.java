@@ -0,0 +1,66 @@
+package info.jdip.judge.archive;
+
+import info.jdip.world.Phase;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Finds entries of a GameIndex by game, phase and power, before and after
+ * the index is written and read back.
+ */
+public class GameIndexTest {
+    private static final Phase S1901M = new Phase(Phase.SeasonType.SPRING, 1901, Phase.PhaseType.MOVEMENT);
+    private static final Phase F1901M = new Phase(Phase.SeasonType.FALL, 1901, Phase.PhaseType.MOVEMENT);
+
+    @Test
+    void find() throws Exception {
+        File dir = Files.createTempDirectory("game-index-test").toFile();
+        try {
+            GameIndex index = new GameIndex(dir, Arrays.asList(createGame("a"), createGame("b")));
+            check(index);
+
+            index.write();
+            check(GameIndex.read(dir));
+        } finally {
+            new File(dir, GameIndex.INDEX_FILE_NAME).delete();
+            dir.delete();
+        }
+    }
+
+    private static void check(GameIndex index) {
+        // found by an equal (not identical) Phase
+        Phase phase = new Phase(Phase.SeasonType.FALL, 1901, Phase.PhaseType.MOVEMENT);
+        List<GameIndex.Entry> entries = index.find(null, null, phase, null);
+        assertEquals(4, entries.size());
+        for (GameIndex.Entry entry : entries) {
+            assertEquals(F1901M, entry.getPhase());
+        }
+
+        entries = index.find("B", "standard", phase, "england");
+        assertEquals(1, entries.size());
+        assertEquals("b", entries.get(0).getGame().getGameName());
+        assertEquals(3, entries.get(0).getSupplyCenterCount());
+
+        assertTrue(index.find(null, null, new Phase(Phase.SeasonType.SPRING, 1902,
+                Phase.PhaseType.MOVEMENT), null).isEmpty());
+    }
+
+    private static GameIndex.Game createGame(String name) {
+        GameIndex.Game game = new GameIndex.Game(name + ".txt", 1L, 1L, name + ".jdip",
+                "USTV", name, "Standard", false);
+        for (Phase phase : new Phase[]{S1901M, F1901M}) {
+            for (String power : new String[]{"England", "France"}) {
+                game.add(new GameIndex.Entry(game, phase, power, false, 3, 0,
+                        new String[]{"edi", "lon", "lvp"}, null));
+            }
+        }
+        return game;
+    }
+}
@@ -0,0 +1,77 @@
+package info.jdip.judge.parser;
+
+import info.jdip.misc.RandomGame;
+import info.jdip.order.OrderFactory;
+import info.jdip.process.Simulation;
+import info.jdip.world.Phase;
+import info.jdip.world.TurnState;
+import info.jdip.world.World;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Imports nJudge histories of a Standard game (running, and ended) from
+ * etc/test_data/judge, and compares the resulting Worlds with those
+ * imported by the previous (non-streaming) parser, as recorded in the
+ * .expected files. Each resolved turn is also re-adjudicated from its
+ * imported orders, and must result in the next imported turn.
+ */
+public class JudgeImportHistoryTest {
+    private static final File TEST_DATA = new File("etc/test_data/judge");
+
+    @BeforeAll
+    static void setUp() throws Exception {
+        // initializes the VariantManager
+        RandomGame.createWorld("Standard");
+    }
+
+    @Test
+    void history() throws Exception {
+        World world = importHistory("history");
+        assertFalse(world.getLastTurnState().isEnded());
+        assertEquals(new Phase(Phase.SeasonType.SPRING, 1905, Phase.PhaseType.MOVEMENT),
+                world.getLastTurnState().getPhase());
+    }
+
+    @Test
+    void endedHistory() throws Exception {
+        World world = importHistory("history_ended");
+        assertTrue(world.getLastTurnState().isEnded());
+    }
+
+    @Test
+    void turnsFollowFromOrders() throws Exception {
+        World world = importHistory("history");
+        List<TurnState> turnStates = world.getAllTurnStates();
+        assertTrue(turnStates.size() > 8);
+
+        for (int i = 0; i < turnStates.size() - 1; i++) {
+            TurnState ts = turnStates.get(i);
+            TurnState next = turnStates.get(i + 1);
+            Simulation.Outcome outcome = Simulation.fork(ts).adjudicate(new ArrayList<>(ts.getAllOrders()));
+            assertEquals(RandomGame.describe(next.getPosition()), RandomGame.describe(outcome.getPosition()),
+                    ts.getPhase().toString());
+        }
+    }
+
+    private static World importHistory(String name) throws Exception {
+        JudgeImport ji = new JudgeImport(OrderFactory.getDefault(), new File(TEST_DATA, name + ".txt"), null);
+        assertEquals(JudgeImport.JI_RESULT_NEWWORLD, ji.getResult());
+
+        World world = ji.getWorld();
+        String expected = new String(Files.readAllBytes(new File(TEST_DATA, name + ".expected").toPath()),
+                StandardCharsets.UTF_8);
+        assertEquals(expected, RandomGame.describe(world), name);
+        return world;
+    }
+}
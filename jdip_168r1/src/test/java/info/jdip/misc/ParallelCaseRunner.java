@@ -0,0 +1,726 @@
+//
+//  @(#)ParallelCaseRunner.java	1.00	10/2026
+//
+//
+//  This program is free software; you can redistribute it and/or modify
+//  it under the terms of the GNU General Public License as published by
+//  the Free Software Foundation; either version 2 of the License, or
+//  (at your option) any later version.
+//
+//  This program is distributed in the hope that it will be useful,
+//  but WITHOUT ANY WARRANTY; without even the implied warranty of
+//  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//  GNU General Public License for more details.
+//
+//  You should have received a copy of the GNU General Public License
+//  along with this program; if not, write to the Free Software
+//  Foundation, Inc., 675 Mass Ave, Cambridge, MA 02139, USA.
+//  Or from http://www.gnu.org/
+//
+package info.jdip.misc;
+
+import info.jdip.order.OrderFactory;
+import info.jdip.process.AdjudicationMonitor;
+import info.jdip.process.StdAdjudicator;
+import info.jdip.world.TurnState;
+import info.jdip.world.World;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * Runs the cases of one or more case files concurrently, and reports the
+ * adjudication time and evaluation counts of each case.
+ * <p>
+ * Each case file is parsed once (see TestSuite for the case file format).
+ * Each Case has its own World, so cases are adjudicated independently on a
+ * pool of threads. All cases are checked before any are timed, so that the
+ * JVM is warmed up. Times are measured by an AdjudicationMonitor, and cover
+ * adjudication only; if cases are repeated, the fastest time is reported.
+ * Iteration and paradox-break counts do not depend upon timing, and thus
+ * are reliable regression indicators regardless of machine load.
+ * <p>
+ * Cases are flagged as slow or paradox-heavy if they exceed the thresholds,
+ * and as regressed if they are slower, or need more iterations or paradox
+ * breaks, than in a baseline report.
+ * <p>
+ * Reports are tab-separated text; the first line names the columns.
+ */
+public final class ParallelCaseRunner {
+    /**
+     * Default slow-case threshold, in milliseconds
+     */
+    public static final long DEFAULT_SLOW_MILLIS = 250L;
+    /**
+     * Default paradox-heavy threshold (paradox breaks per case)
+     */
+    public static final int DEFAULT_PARADOX_BREAKS = 1;
+    /**
+     * Default factor by which a case may be slower than its baseline
+     */
+    public static final double DEFAULT_TIME_FACTOR = 2.0d;
+    /**
+     * Default number of times each case is timed
+     */
+    public static final int DEFAULT_REPETITIONS = 3;
+
+    /**
+     * Flag: case adjudication exceeded the slow threshold
+     */
+    public static final String FLAG_SLOW = "slow";
+    /**
+     * Flag: case exceeded the paradox-break threshold
+     */
+    public static final String FLAG_PARADOX = "paradox";
+    /**
+     * Flag: case ended with an unresolved paradox
+     */
+    public static final String FLAG_UNRESOLVED = "unresolved";
+    /**
+     * Flag: case regressed, compared to the baseline report
+     */
+    public static final String FLAG_REGRESSED = "regressed";
+
+    private static final Logger logger = LoggerFactory.getLogger(ParallelCaseRunner.class);
+    private static final String HEADER = "file\tcase\tphase\torders\tresult\tmicros\titerations\tevaluations\tparadoxBreaks\tflags";
+    private static final String PASS = "pass";
+    private static final String FAIL = "fail";
+    private static final String NO_FLAGS = "-";
+    // minimum increase, in nanoseconds, before a slower case is considered regressed
+    private static final long MIN_REGRESSION_NANOS = TimeUnit.MILLISECONDS.toNanos(5L);
+
+    private final File variantsDir;
+    private final Map<File, List<Case>> caseFiles = new LinkedHashMap<>();
+    private int threads = Runtime.getRuntime().availableProcessors();
+    private int repetitions = DEFAULT_REPETITIONS;
+    private long slowThresholdNanos = TimeUnit.MILLISECONDS.toNanos(DEFAULT_SLOW_MILLIS);
+    private int paradoxThreshold = DEFAULT_PARADOX_BREAKS;
+    private double timeFactor = DEFAULT_TIME_FACTOR;
+
+
+    /**
+     * Creates a ParallelCaseRunner, using variants from the given directory.
+     */
+    public ParallelCaseRunner(File variantsDir) {
+        if (variantsDir == null) {
+            throw new IllegalArgumentException();
+        }
+
+        this.variantsDir = variantsDir;
+    }// ParallelCaseRunner()
+
+
+    /**
+     * Runs case files from the command line.
+     */
+    public static void main(String[] args) throws Exception {
+        File variantsDir = new File("build/tmp/variants");
+        File reportFile = new File("build/reports/adjudication.tsv");
+        File baselineFile = null;
+        List<String> options = new ArrayList<>();
+        List<File> files = new ArrayList<>();
+
+        for (String arg : args) {
+            if (arg.startsWith("-variants:")) {
+                variantsDir = new File(getValue(arg));
+            } else if (arg.startsWith("-report:")) {
+                reportFile = new File(getValue(arg));
+            } else if (arg.startsWith("-baseline:")) {
+                baselineFile = new File(getValue(arg));
+            } else if (arg.startsWith("-")) {
+                options.add(arg);
+            } else {
+                files.add(new File(arg));
+            }
+        }
+
+        if (files.isEmpty()) {
+            printUsageAndExit();
+        }
+
+        ParallelCaseRunner runner = new ParallelCaseRunner(variantsDir);
+        try {
+            for (String option : options) {
+                if (option.startsWith("-threads:")) {
+                    runner.setThreads(Integer.parseInt(getValue(option)));
+                } else if (option.startsWith("-repeat:")) {
+                    runner.setRepetitions(Integer.parseInt(getValue(option)));
+                } else if (option.startsWith("-slow:")) {
+                    runner.setSlowThreshold(Long.parseLong(getValue(option)));
+                } else if (option.startsWith("-paradox:")) {
+                    runner.setParadoxThreshold(Integer.parseInt(getValue(option)));
+                } else {
+                    printUsageAndExit();
+                }
+            }
+        } catch (IllegalArgumentException e) {
+            logger.error("Invalid argument: {}", e.getMessage());
+            printUsageAndExit();
+        }
+
+        List<CaseReport> reports = runner.run(files);
+        int regressed = 0;
+        if (baselineFile != null) {
+            regressed = runner.compare(reports, readReport(baselineFile));
+        }
+
+        writeReport(reports, reportFile);
+        logger.info("Report written to {}", reportFile);
+        System.exit(countFailed(reports) + countFlagged(reports, FLAG_UNRESOLVED) + regressed);
+    }// main()
+
+
+    private static String getValue(String arg) {
+        return arg.substring(arg.indexOf(':') + 1);
+    }// getValue()
+
+
+    private static void printUsageAndExit() {
+        System.out.println("USAGE: ParallelCaseRunner [options] <case-file> [<case-file> ...]");
+        System.out.println("  -threads:n       adjudicate cases on n threads (default: number of processors)");
+        System.out.println("  -repeat:n        time each case n times; report the fastest time (default: " + DEFAULT_REPETITIONS + ")");
+        System.out.println("  -slow:ms         flag cases slower than ms milliseconds (default: " + DEFAULT_SLOW_MILLIS + ")");
+        System.out.println("  -paradox:n       flag cases with more than n paradox breaks (default: " + DEFAULT_PARADOX_BREAKS + ")");
+        System.out.println("  -variants:dir    variant directory (default: build/tmp/variants)");
+        System.out.println("  -report:file     report file (default: build/reports/adjudication.tsv)");
+        System.out.println("  -baseline:file   flag cases which regressed, compared to a previous report");
+        System.out.println();
+        System.out.println("  The exit code is the number of failed, unresolved, and regressed cases.");
+        System.exit(1);
+    }// printUsageAndExit()
+
+
+
+    /**
+     * Sets the number of threads used to adjudicate cases.
+     */
+    public void setThreads(int value) {
+        if (value < 1) {
+            throw new IllegalArgumentException("threads: " + value);
+        }
+
+        threads = value;
+    }// setThreads()
+
+
+    /**
+     * Sets the number of times each case is timed. The fastest time
+     * is reported.
+     */
+    public void setRepetitions(int value) {
+        if (value < 1) {
+            throw new IllegalArgumentException("repetitions: " + value);
+        }
+
+        repetitions = value;
+    }// setRepetitions()
+
+
+    /**
+     * Cases slower than this (in milliseconds) are flagged as slow.
+     */
+    public void setSlowThreshold(long slowMillis) {
+        if (slowMillis < 0) {
+            throw new IllegalArgumentException("slow threshold: " + slowMillis);
+        }
+
+        slowThresholdNanos = TimeUnit.MILLISECONDS.toNanos(slowMillis);
+    }// setSlowThreshold()
+
+
+    /**
+     * Cases with more than this number of paradox breaks are flagged
+     * as paradox-heavy.
+     */
+    public void setParadoxThreshold(int maxParadoxBreaks) {
+        if (maxParadoxBreaks < 0) {
+            throw new IllegalArgumentException("paradox threshold: " + maxParadoxBreaks);
+        }
+
+        paradoxThreshold = maxParadoxBreaks;
+    }// setParadoxThreshold()
+
+
+    /**
+     * Sets the factor by which a case may be slower than its baseline
+     * before it is flagged as regressed.
+     */
+    public void setTimeFactor(double value) {
+        if (value < 1.0d) {
+            throw new IllegalArgumentException("time factor: " + value);
+        }
+
+        timeFactor = value;
+    }// setTimeFactor()
+
+
+    /**
+     * Returns the Cases of the given case file. Each file is only parsed once.
+     */
+    public synchronized List<Case> getCases(File caseFile) {
+        final File key = caseFile.getAbsoluteFile();
+        List<Case> cases = caseFiles.get(key);
+        if (cases == null) {
+            TestSuite testSuite = new TestSuite(variantsDir);
+            testSuite.parseCases(caseFile);
+            cases = Collections.unmodifiableList(new ArrayList<>(testSuite.getAllCases()));
+            caseFiles.put(key, cases);
+        }
+
+        return cases;
+    }// getCases()
+
+
+    /**
+     * Adjudicates all cases of the given case files concurrently. Reports
+     * are returned in case file order, and case order within each file.
+     * <p>
+     * All cases are first adjudicated and checked; this also warms up the
+     * JVM. Cases are then adjudicated (and timed) again, once per repetition.
+     */
+    public List<CaseReport> run(List<File> files) throws InterruptedException {
+        final long startNanos = System.nanoTime();
+        final List<String> fileNames = new ArrayList<>();
+        final List<Case> cases = new ArrayList<>();
+        for (File file : files) {
+            for (Case testCase : getCases(file)) {
+                fileNames.add(file.getName());
+                cases.add(testCase);
+            }
+        }
+
+        final ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            final List<Boolean> results = checkAll(executor, cases);
+            final CaseMonitor[] best = new CaseMonitor[cases.size()];
+            for (int i = 0; i < repetitions; i++) {
+                final List<CaseMonitor> monitors = new ArrayList<>(cases.size());
+                final List<Callable<Boolean>> tasks = new ArrayList<>(cases.size());
+                for (final Case testCase : cases) {
+                    final CaseMonitor monitor = new CaseMonitor();
+                    monitors.add(monitor);
+                    tasks.add(() -> adjudicate(testCase, monitor, false));
+                }
+                getAll(executor.invokeAll(tasks));
+
+                for (int n = 0; n < best.length; n++) {
+                    if (best[n] == null || monitors.get(n).nanos < best[n].nanos) {
+                        best[n] = monitors.get(n);
+                    }
+                }
+            }
+
+            final List<CaseReport> reports = new ArrayList<>(cases.size());
+            for (int n = 0; n < cases.size(); n++) {
+                reports.add(createReport(fileNames.get(n), cases.get(n), results.get(n), best[n]));
+            }
+
+            logger.info("{} cases from {} files adjudicated on {} threads in {} ms: {} failed, {} slow, {} paradox-heavy, {} unresolved.",
+                    reports.size(), files.size(), threads,
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos), countFailed(reports),
+                    countFlagged(reports, FLAG_SLOW), countFlagged(reports, FLAG_PARADOX),
+                    countFlagged(reports, FLAG_UNRESOLVED));
+            return reports;
+        } finally {
+            executor.shutdownNow();
+        }
+    }// run()
+
+
+    /**
+     * Adjudicates (without timing) and checks all cases.
+     */
+    private static List<Boolean> checkAll(ExecutorService executor, List<Case> cases)
+            throws InterruptedException {
+        final List<Callable<Boolean>> tasks = new ArrayList<>(cases.size());
+        for (final Case testCase : cases) {
+            tasks.add(() -> adjudicate(testCase, AdjudicationMonitor.NONE, true));
+        }
+        return getAll(executor.invokeAll(tasks));
+    }// checkAll()
+
+
+    private static <T> List<T> getAll(List<Future<T>> futures) throws InterruptedException {
+        final List<T> values = new ArrayList<>(futures.size());
+        for (Future<T> future : futures) {
+            try {
+                values.add(future.get());
+            } catch (ExecutionException e) {
+                throw new IllegalStateException(e.getCause());
+            }
+        }
+        return values;
+    }// getAll()
+
+
+    /**
+     * Adjudicates a single case. Returns false if the case is checked, and
+     * the resolved position does not match the case, or if adjudication failed.
+     */
+    private static boolean adjudicate(Case testCase, AdjudicationMonitor monitor, boolean isChecked) {
+        final World world = testCase.getWorld();
+        final TurnState current = testCase.getCurrentTurnState();
+        world.setTurnState(current);
+        world.setTurnState(testCase.getPreviousTurnState());
+        try {
+            StdAdjudicator stdJudge = new StdAdjudicator(OrderFactory.getDefault(), current);
+            stdJudge.setMonitor(monitor);
+            stdJudge.process();
+            return !isChecked || TestCaseRunner.compareState(testCase, stdJudge.getNextTurnState());
+        } catch (RuntimeException e) {
+            logger.error("Case {} failed.", testCase.getName(), e);
+            return false;
+        } finally {
+            // cleanup: results must be cleared before the case is repeated
+            world.removeAllTurnStates();
+            current.getResultList().clear();
+        }
+    }// adjudicate()
+
+
+    /**
+     * Creates the report for a case, and flags it if required.
+     */
+    private CaseReport createReport(String fileName, Case testCase, boolean isPassed, CaseMonitor monitor) {
+        final CaseReport report = new CaseReport(fileName, testCase.getName(), String.valueOf(testCase.getPhase()),
+                testCase.getOrders().size(), isPassed, monitor.nanos, monitor.iterations, monitor.evaluations,
+                monitor.paradoxBreaks);
+        if (monitor.nanos > slowThresholdNanos) {
+            report.addFlag(FLAG_SLOW);
+        }
+        if (monitor.paradoxBreaks > paradoxThreshold) {
+            report.addFlag(FLAG_PARADOX);
+        }
+        if (monitor.isUnresolvedParadox) {
+            report.addFlag(FLAG_UNRESOLVED);
+        }
+        return report;
+    }// createReport()
+
+
+    /**
+     * Compares reports with those of a baseline report, and flags cases which
+     * need more iterations or paradox breaks, or which are slower by more than
+     * the time factor. Returns the number of regressed cases.
+     */
+    public int compare(List<CaseReport> reports, List<CaseReport> baseline) {
+        final Map<String, CaseReport> baseMap = new HashMap<>();
+        for (CaseReport report : baseline) {
+            baseMap.put(report.getKey(), report);
+        }
+
+        int count = 0;
+        for (CaseReport report : reports) {
+            final CaseReport base = baseMap.get(report.getKey());
+            if (base != null && isRegression(report, base)) {
+                logger.warn("Regressed case: {} ({}): {} us, {} iterations, {} paradox breaks; was {} us, {} iterations, {} paradox breaks",
+                        report.getName(), report.getFile(), report.getMicros(), report.getIterations(),
+                        report.getParadoxBreaks(), base.getMicros(), base.getIterations(), base.getParadoxBreaks());
+                report.addFlag(FLAG_REGRESSED);
+                count++;
+            }
+        }
+
+        return count;
+    }// compare()
+
+
+    private boolean isRegression(CaseReport report, CaseReport base) {
+        return report.getIterations() > base.getIterations()
+                || report.getParadoxBreaks() > base.getParadoxBreaks()
+                || (report.getNanos() > base.getNanos() * timeFactor
+                && report.getNanos() - base.getNanos() > MIN_REGRESSION_NANOS);
+    }// isRegression()
+
+
+    /**
+     * Returns the number of cases which failed.
+     */
+    public static int countFailed(List<CaseReport> reports) {
+        int count = 0;
+        for (CaseReport report : reports) {
+            if (!report.isPassed()) {
+                count++;
+            }
+        }
+        return count;
+    }// countFailed()
+
+
+    /**
+     * Returns the number of cases with the given flag.
+     */
+    public static int countFlagged(List<CaseReport> reports, String flag) {
+        int count = 0;
+        for (CaseReport report : reports) {
+            if (report.hasFlag(flag)) {
+                count++;
+            }
+        }
+        return count;
+    }// countFlagged()
+
+
+    /**
+     * Writes a report. Parent directories are created, if required.
+     */
+    public static void writeReport(List<CaseReport> reports, File file) throws IOException {
+        final File parent = file.getAbsoluteFile().getParentFile();
+        if (parent != null && !parent.isDirectory() && !parent.mkdirs()) {
+            throw new IOException("Cannot create directory " + parent);
+        }
+
+        try (PrintWriter pw = new PrintWriter(new OutputStreamWriter(new FileOutputStream(file), StandardCharsets.UTF_8))) {
+            pw.println(HEADER);
+            for (CaseReport report : reports) {
+                pw.println(report.toLine());
+            }
+            if (pw.checkError()) {
+                throw new IOException("Cannot write report " + file);
+            }
+        }
+    }// writeReport()
+
+
+    /**
+     * Reads a report written by writeReport().
+     */
+    public static List<CaseReport> readReport(File file) throws IOException {
+        final List<CaseReport> reports = new ArrayList<>();
+        try (BufferedReader br = new BufferedReader(new InputStreamReader(new FileInputStream(file), StandardCharsets.UTF_8))) {
+            String line = br.readLine();
+            if (!HEADER.equals(line)) {
+                throw new IOException("Not a case report: " + file);
+            }
+
+            while ((line = br.readLine()) != null) {
+                if (!line.isEmpty()) {
+                    reports.add(CaseReport.parse(line));
+                }
+            }
+        }
+        return reports;
+    }// readReport()
+
+
+    /**
+     * Timing and counts of a single case.
+     */
+    public static final class CaseReport {
+        private final String file;
+        private final String name;
+        private final String phase;
+        private final int orders;
+        private final boolean isPassed;
+        private final long nanos;
+        private final int iterations;
+        private final long evaluations;
+        private final int paradoxBreaks;
+        private final List<String> flags = new ArrayList<>(2);
+
+        private CaseReport(String file, String name, String phase, int orders, boolean isPassed,
+                           long nanos, int iterations, long evaluations, int paradoxBreaks) {
+            this.file = clean(file);
+            this.name = clean(name);
+            this.phase = clean(phase);
+            this.orders = orders;
+            this.isPassed = isPassed;
+            this.nanos = nanos;
+            this.iterations = iterations;
+            this.evaluations = evaluations;
+            this.paradoxBreaks = paradoxBreaks;
+        }// CaseReport()
+
+        private static CaseReport parse(String line) throws IOException {
+            final String[] fields = line.split("\t", -1);
+            if (fields.length != 10) {
+                throw new IOException("Invalid report line: " + line);
+            }
+
+            try {
+                CaseReport report = new CaseReport(fields[0], fields[1], fields[2], Integer.parseInt(fields[3]),
+                        PASS.equals(fields[4]), TimeUnit.MICROSECONDS.toNanos(Long.parseLong(fields[5])),
+                        Integer.parseInt(fields[6]), Long.parseLong(fields[7]), Integer.parseInt(fields[8]));
+                if (!NO_FLAGS.equals(fields[9])) {
+                    Collections.addAll(report.flags, fields[9].split(","));
+                }
+                return report;
+            } catch (NumberFormatException e) {
+                throw new IOException("Invalid report line: " + line, e);
+            }
+        }// parse()
+
+        // tabs and line breaks would corrupt the report
+        private static String clean(String in) {
+            return in.replace('\t', ' ').replace('\n', ' ').replace('\r', ' ');
+        }// clean()
+
+        private String getKey() {
+            return file + '\t' + name;
+        }// getKey()
+
+        private synchronized void addFlag(String flag) {
+            if (!flags.contains(flag)) {
+                flags.add(flag);
+            }
+        }// addFlag()
+
+        /**
+         * Case file name
+         */
+        public String getFile() {
+            return file;
+        }
+
+        /**
+         * Case name
+         */
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * Case phase
+         */
+        public String getPhase() {
+            return phase;
+        }
+
+        /**
+         * Number of orders adjudicated
+         */
+        public int getOrders() {
+            return orders;
+        }
+
+        /**
+         * True if the adjudicated position matched the case
+         */
+        public boolean isPassed() {
+            return isPassed;
+        }
+
+        /**
+         * Adjudication time, in nanoseconds
+         */
+        public long getNanos() {
+            return nanos;
+        }
+
+        /**
+         * Adjudication time, in microseconds
+         */
+        public long getMicros() {
+            return TimeUnit.NANOSECONDS.toMicros(nanos);
+        }
+
+        /**
+         * Evaluation iterations, including those of paradox-breaking attempts
+         */
+        public int getIterations() {
+            return iterations;
+        }
+
+        /**
+         * Order evaluations, over all iterations
+         */
+        public long getEvaluations() {
+            return evaluations;
+        }
+
+        /**
+         * Number of paradoxes broken
+         */
+        public int getParadoxBreaks() {
+            return paradoxBreaks;
+        }
+
+        /**
+         * True if the case has the given flag
+         */
+        public synchronized boolean hasFlag(String flag) {
+            return flags.contains(flag);
+        }
+
+        /**
+         * Returns the report line for this case.
+         */
+        private synchronized String toLine() {
+            final StringBuilder sb = new StringBuilder(128);
+            sb.append(file).append('\t');
+            sb.append(name).append('\t');
+            sb.append(phase).append('\t');
+            sb.append(orders).append('\t');
+            sb.append(isPassed ? PASS : FAIL).append('\t');
+            sb.append(getMicros()).append('\t');
+            sb.append(iterations).append('\t');
+            sb.append(evaluations).append('\t');
+            sb.append(paradoxBreaks).append('\t');
+            if (flags.isEmpty()) {
+                sb.append(NO_FLAGS);
+            } else {
+                for (int i = 0; i < flags.size(); i++) {
+                    if (i > 0) {
+                        sb.append(',');
+                    }
+                    sb.append(flags.get(i));
+                }
+            }
+            return sb.toString();
+        }// toLine()
+
+        public String toString() {
+            return toLine();
+        }
+    }// nested class CaseReport
+
+
+    /**
+     * Records the counts of a single adjudication. Only used by one thread.
+     */
+    private static final class CaseMonitor implements AdjudicationMonitor {
+        private long nanos;
+        private int iterations;
+        private long evaluations;
+        private int paradoxBreaks;
+        private boolean isUnresolvedParadox;
+
+        public void stageCompleted(TurnState ts, String stage, long nanos, long allocatedBytes, int orderCount) {
+        }
+
+        public void iterationCompleted(TurnState ts, int iteration, long nanos, int evaluated, int resolved) {
+            evaluations += evaluated;
+        }
+
+        public void adjudicationCompleted(TurnState ts, long nanos, long allocatedBytes,
+                                          int orderCount, int iterations, int paradoxBreaks, boolean isUnresolvedParadox) {
+            this.nanos += nanos;
+            this.iterations += iterations;
+            this.paradoxBreaks += paradoxBreaks;
+            this.isUnresolvedParadox |= isUnresolvedParadox;
+        }
+    }// nested class CaseMonitor
+
+}// class ParallelCaseRunner
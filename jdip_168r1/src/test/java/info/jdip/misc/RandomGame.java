@@ -0,0 +1,267 @@
+package info.jdip.misc;
+
+import info.jdip.order.OrderFactory;
+import info.jdip.order.Orderable;
+import info.jdip.order.result.Result;
+import info.jdip.order.result.TimeResult;
+import info.jdip.process.StdAdjudicator;
+import info.jdip.world.Location;
+import info.jdip.world.Phase;
+import info.jdip.world.Position;
+import info.jdip.world.Province;
+import info.jdip.world.RuleOptions;
+import info.jdip.world.TurnState;
+import info.jdip.world.Unit;
+import info.jdip.world.World;
+import info.jdip.world.WorldFactory;
+import info.jdip.world.variant.VariantManager;
+import info.jdip.world.variant.data.Variant;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Plays games with random (but mostly legal) orders, for tests which compare
+ * two ways of reaching the same result. Orders are generated from a seeded
+ * Random, so a game is reproducible from its seed.
+ * <p>
+ * Movement phases get Holds, Moves, Moves by convoy, Supports (of neighboring
+ * units, holding or moving) and Convoys; Retreat phases get Retreats for some dislodged
+ * units. Adjustment phases get no orders, so units in excess are disbanded
+ * by the adjudicator and no units are built.
+ */
+public final class RandomGame {
+    public static final File VARIANTS_DIR = new File("build/tmp/variants");
+    private static boolean isInitialized = false;
+
+    private RandomGame() {
+    }
+
+    /**
+     * Create a new World of the given variant, with the variant's rule options.
+     * The VariantManager is initialized on first use.
+     */
+    public static World createWorld(String variantName) throws Exception {
+        synchronized (RandomGame.class) {
+            if (!isInitialized) {
+                VariantManager.init(new File[]{VARIANTS_DIR}, false);
+                isInitialized = true;
+            }
+        }
+
+        Variant variant = VariantManager.getVariant(variantName, VariantManager.VERSION_NEWEST);
+        World world = WorldFactory.getInstance().createWorld(variant);
+        world.setRuleOptions(RuleOptions.createFromVariant(variant));
+        return world;
+    }
+
+    /**
+     * Random orders for all units (or dislodged units) of the given Position.
+     */
+    public static List<Orderable> randomOrders(Position pos, Phase phase, Random random) {
+        OrderFactory factory = OrderFactory.getDefault();
+        List<Orderable> orders = new ArrayList<>();
+
+        if (phase.getPhaseType() == Phase.PhaseType.MOVEMENT) {
+            Province[] unitProvinces = pos.getUnitProvinces();
+            Province[] provinces = pos.getProvinces();
+
+            // move destinations (null if not moving) of units not supporting
+            Map<Province, Location> dests = new HashMap<>();
+            List<Province> supporters = new ArrayList<>();
+
+            for (Province p : unitProvinces) {
+                Unit unit = pos.getUnit(p);
+                Location src = new Location(p, unit.getCoast());
+                Location[] adj = p.getAdjacentLocations(unit.getCoast());
+                int kind = random.nextInt(5);
+
+                if (kind == 0 || adj.length == 0) {
+                    orders.add(factory.createHold(unit.getPower(), src, unit.getType()));
+                    dests.put(p, null);
+                } else if (kind == 1 && hasNeighbor(pos, adj)) {
+                    supporters.add(p);
+                } else if (kind == 2 && unit.getType() == Unit.Type.FLEET && p.isSea()) {
+                    Province q = unitProvinces[random.nextInt(unitProvinces.length)];
+                    Unit qUnit = pos.getUnit(q);
+                    Province dest = provinces[random.nextInt(provinces.length)];
+                    orders.add(factory.createConvoy(unit.getPower(), src, unit.getType(),
+                            new Location(q, qUnit.getCoast()), qUnit.getPower(), qUnit.getType(),
+                            new Location(dest, qUnit.getCoast())));
+                    dests.put(p, null);
+                } else if (kind == 2 && unit.getType() == Unit.Type.ARMY && p.isCoastal()) {
+                    Location dest = new Location(provinces[random.nextInt(provinces.length)], unit.getCoast());
+                    orders.add(factory.createMove(unit.getPower(), src, unit.getType(), dest, true));
+                    dests.put(p, dest);
+                } else {
+                    // half of the time, attack a neighboring unit of another Power, if any
+                    List<Location> attacks = new ArrayList<>();
+                    for (Location loc : adj) {
+                        Unit other = pos.getUnit(loc.getProvince());
+                        if (other != null && other.getPower() != unit.getPower()) {
+                            attacks.add(loc);
+                        }
+                    }
+                    Location dest = (attacks.isEmpty() || random.nextBoolean())
+                            ? adj[random.nextInt(adj.length)] : attacks.get(random.nextInt(attacks.size()));
+                    orders.add(factory.createMove(unit.getPower(), src, unit.getType(), dest));
+                    dests.put(p, dest);
+                }
+            }
+
+            // supports of the order of a neighboring unit, preferring attacks on
+            // other units (as a hold, if it supports, or moves out of reach)
+            for (Province p : supporters) {
+                Unit unit = pos.getUnit(p);
+                List<Province> neighbors = new ArrayList<>();
+                List<Province> attackers = new ArrayList<>();
+                for (Location loc : p.getAdjacentLocations(unit.getCoast())) {
+                    Province q = loc.getProvince();
+                    if (pos.hasUnit(q) && !neighbors.contains(q)) {
+                        neighbors.add(q);
+                        Location qDest = dests.get(q);
+                        if (qDest != null && qDest.getProvince() != p && p.isTouching(qDest.getProvince())
+                                && pos.hasUnit(qDest.getProvince())) {
+                            attackers.add(q);
+                        }
+                    }
+                }
+
+                Province q = (attackers.isEmpty() || random.nextBoolean())
+                        ? neighbors.get(random.nextInt(neighbors.size())) : attackers.get(random.nextInt(attackers.size()));
+                Unit qUnit = pos.getUnit(q);
+                Location qDest = dests.get(q);
+                if (qDest != null && (qDest.getProvince() == p || !p.isTouching(qDest.getProvince()))) {
+                    qDest = null;
+                }
+                orders.add(factory.createSupport(unit.getPower(), new Location(p, unit.getCoast()), unit.getType(),
+                        new Location(q, qUnit.getCoast()), qUnit.getPower(), qUnit.getType(), qDest));
+            }
+        } else if (phase.getPhaseType() == Phase.PhaseType.RETREAT) {
+            for (Province p : pos.getDislodgedUnitProvinces()) {
+                Unit unit = pos.getDislodgedUnit(p);
+                Location[] adj = p.getAdjacentLocations(unit.getCoast());
+                if (adj.length > 0 && random.nextBoolean()) {
+                    orders.add(factory.createRetreat(unit.getPower(), new Location(p, unit.getCoast()),
+                            unit.getType(), adj[random.nextInt(adj.length)]));
+                }
+            }
+        }
+
+        return orders;
+    }
+
+    private static boolean hasNeighbor(Position pos, Location[] adj) {
+        for (Location loc : adj) {
+            if (pos.hasUnit(loc.getProvince())) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Add the given orders to the TurnState.
+     */
+    public static void setOrders(TurnState ts, List<Orderable> orders) {
+        for (Orderable order : orders) {
+            ts.getOrders(order.getPower()).add(order);
+        }
+    }
+
+    /**
+     * Play a game of at most maxPhases phases with random orders, adjudicated
+     * by a default StdAdjudicator. Returns the World, which holds every
+     * TurnState played.
+     */
+    public static World play(String variantName, long seed, int maxPhases) throws Exception {
+        World world = createWorld(variantName);
+        play(world, seed, maxPhases);
+        return world;
+    }
+
+    /**
+     * Play at most maxPhases phases of the given World with random orders,
+     * adjudicated by a default StdAdjudicator, from its last TurnState.
+     */
+    public static void play(World world, long seed, int maxPhases) {
+        Random random = new Random(seed);
+
+        for (int i = 0; i < maxPhases; i++) {
+            TurnState ts = world.getLastTurnState();
+            setOrders(ts, randomOrders(ts.getPosition(), ts.getPhase(), random));
+
+            StdAdjudicator adjudicator = new StdAdjudicator(OrderFactory.getDefault(), ts);
+            adjudicator.process();
+            TurnState next = adjudicator.getNextTurnState();
+            if (next == null) {
+                break;
+            }
+
+            world.setTurnState(next);
+            if (next.isEnded()) {
+                break;
+            }
+        }
+    }
+
+    /**
+     * A description of the positions, orders and results of every
+     * TurnState of a World, for comparisons.
+     */
+    public static String describe(World world) {
+        StringBuilder sb = new StringBuilder(65536);
+        for (TurnState ts : world.getTurnStates()) {
+            sb.append(ts.getPhase()).append(ts.isResolved() ? " resolved" : "")
+                    .append(ts.isEnded() ? " ended\n" : "\n");
+            sb.append(describe(ts.getPosition())).append('\n');
+
+            List<String> lines = new ArrayList<>();
+            for (Orderable order : ts.getAllOrders()) {
+                lines.add(order.toString());
+            }
+            for (Result result : ts.getResultList()) {
+                if (!(result instanceof TimeResult)) {
+                    lines.add(result.toString());
+                }
+            }
+            Collections.sort(lines);
+            sb.append(lines).append('\n');
+        }
+
+        return sb.toString();
+    }
+
+    /**
+     * A description of the units, dislodged units and supply center
+     * owners of a Position, for comparisons.
+     */
+    public static String describe(Position pos) {
+        StringBuilder sb = new StringBuilder(1024);
+        for (Province p : pos.getProvinces()) {
+            Unit unit = pos.getUnit(p);
+            if (unit != null) {
+                sb.append(p.getShortName()).append('=').append(unit.getPower())
+                        .append(' ').append(unit.getType()).append(' ').append(unit.getCoast()).append(';');
+            }
+
+            Unit dislodged = pos.getDislodgedUnit(p);
+            if (dislodged != null) {
+                sb.append(p.getShortName()).append('!').append(dislodged.getPower())
+                        .append(' ').append(dislodged.getType()).append(';');
+            }
+
+            if (p.hasSupplyCenter()) {
+                sb.append(p.getShortName()).append('$').append(pos.getSupplyCenterOwner(p)).append(';');
+            }
+        }
+
+        return sb.toString();
+    }
+}
@@ -2,18 +2,27 @@ package info.jdip.misc;
 
 import info.jdip.order.Order;
 import info.jdip.order.OrderFactory;
+import info.jdip.order.Orderable;
+import info.jdip.order.result.Result;
+import info.jdip.order.result.TimeResult;
+import info.jdip.process.IncrementalAdjudicator;
+import info.jdip.process.OrderState;
 import info.jdip.process.StdAdjudicator;
 import info.jdip.world.Position;
+import info.jdip.world.Power;
 import info.jdip.world.Province;
 import info.jdip.world.TurnState;
 import info.jdip.world.World;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class TestCaseRunner {
@@ -31,6 +40,118 @@ public class TestCaseRunner {
 
         assertTrue(compareState(testCase, stdJudge.getNextTurnState()));
     }
+
+    /**
+     * Checks that incremental adjudication of a case gives the same
+     * results as a full adjudication: for the case orders, after each
+     * Power's orders are removed, and after they are restored.
+     */
+    public static void runIncrementalCase(Case testCase) {
+        World world = testCase.getWorld();
+        world.setTurnState(testCase.getCurrentTurnState());
+        world.setTurnState(testCase.getPreviousTurnState());
+        TurnState current = testCase.getCurrentTurnState();
+
+        IncrementalAdjudicator incremental = new IncrementalAdjudicator(OrderFactory.getDefault(), current);
+        incremental.process();
+        assertEquivalent(adjudicate(current, null), incremental);
+
+        for (Power power : world.getMap().getPowers()) {
+            List<Orderable> orders = new ArrayList<>(current.getOrders(power));
+            if (orders.isEmpty()) {
+                continue;
+            }
+
+            incremental.setOrders(power, Collections.<Orderable>emptyList());
+            incremental.process();
+            assertEquivalent(adjudicate(current, power), incremental);
+
+            incremental.setOrders(power, orders);
+            incremental.process();
+            assertEquivalent(adjudicate(current, null), incremental);
+        }
+    }
+
+    /**
+     * Fully adjudicates a copy of the given TurnState, without
+     * the orders of the given Power (if not null).
+     */
+    private static StdAdjudicator adjudicate(TurnState current, Power without) {
+        TurnState ts = new TurnState(current.getPhase());
+        ts.setWorld(current.getWorld());
+        ts.setPosition(current.getPosition());
+        ts.setSCOwnerChanged(current.getSCOwnerChanged());
+        for (Power power : current.getWorld().getMap().getPowers()) {
+            if (power != without) {
+                ts.setOrders(power, new ArrayList<>(current.getOrders(power)));
+            }
+        }
+
+        StdAdjudicator stdJudge = new StdAdjudicator(OrderFactory.getDefault(), ts);
+        stdJudge.process();
+        return stdJudge;
+    }
+
+    private static void assertEquivalent(StdAdjudicator full, IncrementalAdjudicator incremental) {
+        assertEquals(full.isUnresolvedParadox(), incremental.isUnresolvedParadox());
+        assertEquals(describe(full.getOrderStates()), describe(incremental.getOrderStates()));
+        assertEquals(describe(full.getTurnState().getResultList()),
+                describe(incremental.getTurnState().getResultList()));
+
+        TurnState fullNext = full.getNextTurnState();
+        TurnState incrementalNext = incremental.getNextTurnState();
+        assertEquals(fullNext == null, incrementalNext == null);
+        if (fullNext != null) {
+            assertEquals(fullNext.getPhase(), incrementalNext.getPhase());
+            assertEquals(fullNext.isEnded(), incrementalNext.isEnded());
+            assertEquals(describe(fullNext.getPosition()), describe(incrementalNext.getPosition()));
+            assertEquals(describe(fullNext.getResultList()), describe(incrementalNext.getResultList()));
+        }
+    }
+
+    private static List<String> describe(OrderState[] orderStates) {
+        List<String> list = new ArrayList<>();
+        if (orderStates != null) {
+            for (OrderState os : orderStates) {
+                list.add(os.getOrder() + " " + os.getEvalState() + " " + os.getDislodgedState());
+            }
+        }
+
+        Collections.sort(list);
+        return list;
+    }
+
+    private static List<String> describe(List<Result> results) {
+        List<String> list = new ArrayList<>();
+        for (Result result : results) {
+            // timestamps differ
+            if (!(result instanceof TimeResult)) {
+                list.add(result.toString());
+            }
+        }
+
+        Collections.sort(list);
+        return list;
+    }
+
+    private static List<String> describe(Position pos) {
+        List<String> list = new ArrayList<>();
+        for (Province province : pos.getProvinces()) {
+            if (pos.hasUnit(province)) {
+                list.add(new TestSuite.UnitPos(pos, province, false).toString());
+            }
+
+            if (pos.hasDislodgedUnit(province)) {
+                list.add(new TestSuite.UnitPos(pos, province, true).toString());
+            }
+
+            if (province.hasSupplyCenter()) {
+                list.add(province + " owner " + pos.getSupplyCenterOwner(province));
+            }
+        }
+
+        return list;
+    }
     /**
      * compareState: checks to see if resolved state matches,
      * unit for unit, the Case POSTSTATEs. Units that match
@@ -49,7 +170,7 @@ public class TestCaseRunner {
      * Returns true if the states match (or game has been won);
      * otherwise, returns false.
      */
-    private static boolean compareState(Case c, TurnState resolvedTS) {
+    static boolean compareState(Case c, TurnState resolvedTS) {
         if (resolvedTS == null) {
             //position is won
             return true;
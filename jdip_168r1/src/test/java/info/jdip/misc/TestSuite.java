@@ -209,6 +209,7 @@ public final class TestSuite {
     private StdAdjudicator stdJudge = null;
     // VARIANT_ALL name
     private String variantName = null;
+    private Variant variant = null;
     private File variantsDir;
 
     public TestSuite(File variantsDir) {
@@ -318,11 +319,24 @@ public final class TestSuite {
 
             // load the default variant (Standard)
             // error if it cannot be found!!
-            Variant variant = VariantManager.getVariant(variantName, VariantManager.VERSION_NEWEST);
+            variant = VariantManager.getVariant(variantName, VariantManager.VERSION_NEWEST);
             if (variant == null) {
                 throw new Exception("Cannot find variant " + variantName);
             }
+        } catch (Exception e) {
+            logger.error("Init error: ", e);
+            throw new RuntimeException(e);
+        }
+    }// init()
 
+
+    /**
+     * Creates a new World (and template TurnState) for a case. Each case
+     * has its own World, so that cases may be adjudicated concurrently;
+     * Worlds of the same variant share the same Map.
+     */
+    private void createWorld() {
+        try {
             // create the world
             world = WorldFactory.getInstance().createWorld(variant);
             templateTurnState = world.getLastTurnState();
@@ -335,7 +349,7 @@ public final class TestSuite {
             logger.error("Init error: ", e);
             throw new RuntimeException(e);
         }
-    }// init()
+    }// createWorld()
 
     public void evaluate(TestStatistics statistics) {
 
@@ -369,8 +383,8 @@ public final class TestSuite {
         //
         for (Case currentCase : allCases) {
             // world: setup
-            world.setTurnState(currentCase.getCurrentTurnState());
-            world.setTurnState(currentCase.getPreviousTurnState());
+            currentCase.getWorld().setTurnState(currentCase.getCurrentTurnState());
+            currentCase.getWorld().setTurnState(currentCase.getPreviousTurnState());
 
             logger.info("Case: {}", currentCase.getName());
 
@@ -410,7 +424,7 @@ public final class TestSuite {
             counters.newCase();
 
             // cleanup: remove turnstates from world
-            world.removeAllTurnStates();
+            currentCase.getWorld().removeAllTurnStates();
 
             // cleanup: clear results in currentTurnSTate
             // this is absolutely essential!!
@@ -425,8 +439,8 @@ public final class TestSuite {
         for (int i = 0; i < benchTimes; i++) {
             for (Case currentCase : allCases) {
                 // world: setup
-                world.setTurnState(currentCase.getCurrentTurnState());
-                world.setTurnState(currentCase.getPreviousTurnState());
+                currentCase.getWorld().setTurnState(currentCase.getCurrentTurnState());
+                currentCase.getWorld().setTurnState(currentCase.getPreviousTurnState());
 
                 counters.addOrders(currentCase.getOrders().size());
 
@@ -439,7 +453,7 @@ public final class TestSuite {
                 counters.newCase();
 
                 // cleanup: remove turnstates from world
-                world.removeAllTurnStates();
+                currentCase.getWorld().removeAllTurnStates();
 
                 // cleanup: clear results in currentTurnSTate
                 // this is absolutely essential!!
@@ -458,14 +472,14 @@ public final class TestSuite {
         while (true) {
             for (Case currentCase : allCases) {
                 // world: setup
-                world.setTurnState(currentCase.getCurrentTurnState());
-                world.setTurnState(currentCase.getPreviousTurnState());
+                currentCase.getWorld().setTurnState(currentCase.getCurrentTurnState());
+                currentCase.getWorld().setTurnState(currentCase.getPreviousTurnState());
 
                 stdJudge = new StdAdjudicator(OrderFactory.getDefault(), currentCase.getCurrentTurnState());
                 stdJudge.process();
 
                 // cleanup: remove turnstates from world
-                world.removeAllTurnStates();
+                currentCase.getWorld().removeAllTurnStates();
 
                 // cleanup: clear results in currentTurnSTate
                 // this is absolutely essential!!
@@ -755,6 +769,7 @@ public final class TestSuite {
                         inCase = false;
 
                         // create the case
+                        createWorld();
                         Case aCase = new Case(caseName, phaseName,
                                 getListForKeyType(PRESTATE),        // prestate
                                 getListForKeyType(ORDERS),            // orders
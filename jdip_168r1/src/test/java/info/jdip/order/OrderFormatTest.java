@@ -0,0 +1,223 @@
+package info.jdip.order;
+
+import info.jdip.misc.Case;
+import info.jdip.misc.RandomGame;
+import info.jdip.misc.TestSuite;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Formats orders parsed from the DATC and explicit convoy test cases with
+ * each OrderFormatOptions preset (with and without a final dot), using
+ * their default formats, and a set of formats with malformed braces and
+ * unknown fields, methods, keywords, and modifiers. The output is compared
+ * with that of the previous (uncompiled) OrderFormat, as recorded in
+ * etc/test_data/orderformat/orders.expected.
+ * <p>
+ * The StringBuilder format() methods must append the same text, and only
+ * the appended text is considered when deciding whether to end with a dot.
+ */
+public class OrderFormatTest {
+    private static final File EXPECTED = new File("etc/test_data/orderformat/orders.expected");
+    private static final String[] CASE_FILES = {"etc/test_data/datc_v2.4_06.txt", "etc/test_data/explicitConvoys.txt"};
+    private static final int ORDERS_PER_CLASS = 4;
+    private static final String[] FORMATS = {
+            "",
+            "{_arrow_}",
+            "{getSource()} {_arrow_}",
+            "{getSource()} {_arrow_} ",
+            "{getSource()}{_orderName_}",
+            "{getPower():adjective} {getPower():showPossesivePower}|",
+            "{getSource():province}/{getSource():coast}",
+            "{getPower():?yes:no} {getPower():?:no}|{getPower():?yes:}|",
+            "{getPower():?{_arrow_}:{_orderName_}}",
+            "{isConvoying():?by convoy:direct}",
+            "{getConvoyRoute():path}",
+            "{dest} {supSrc} {convoySrc}",
+            // malformed braces
+            "{",
+            "}",
+            "{}",
+            "{getSource()",
+            "getSource()}",
+            "{{getSource()}}",
+            "{getSource()}}{_orderName_}",
+            "}{getPower()}{",
+            "{getPower():?yes:{getSource()}}",
+            // unknown fields, methods, keywords, and modifiers
+            "{noSuchField}",
+            "{noSuchMethod()}",
+            "{getSource(}",
+            "{_noSuchKeyword_}",
+            "{getSource():noSuchModifier}",
+            "{:orderName}",
+            "{src} {power}",
+    };
+
+    @Test
+    void matchesExpected() throws Exception {
+        List<String> expected = Files.readAllLines(EXPECTED.toPath(), StandardCharsets.UTF_8);
+        List<String> actual = formatAll();
+        for (int i = 0; i < Math.min(expected.size(), actual.size()); i++) {
+            assertEquals(expected.get(i), actual.get(i), "line " + (i + 1));
+        }
+
+        assertEquals(expected.size(), actual.size());
+    }
+
+    @Test
+    void appendsToStringBuilder() throws Exception {
+        Map<String, OrderFormatOptions> presets = getPresets();
+        List<Orderable> orders = getOrders();
+        for (Map.Entry<String, OrderFormatOptions> entry : presets.entrySet()) {
+            OrderFormatOptions ofo = entry.getValue();
+            // the prefix ends with a space, or an arrow, but the formatted text may not
+            for (String prefix : new String[]{"", "x", "x ", "x" + ofo.getArrow()}) {
+                for (Orderable order : orders) {
+                    StringBuilder sb = new StringBuilder(prefix);
+                    OrderFormat.format(ofo, order, sb);
+                    assertEquals(prefix + OrderFormat.format(ofo, order), sb.toString(), entry.getKey());
+
+                    for (String format : FORMATS) {
+                        sb.setLength(0);
+                        sb.append(prefix);
+                        OrderFormat.format(ofo, format, order, sb);
+                        assertEquals(prefix + OrderFormat.format(ofo, format, order), sb.toString(),
+                                entry.getKey() + ": " + format);
+                    }
+                }
+
+                StringBuilder sb = new StringBuilder(prefix);
+                OrderFormat.format(ofo, null, sb);
+                assertEquals(prefix, sb.toString());
+            }
+        }
+    }
+
+    @Test
+    void endWithDot() throws Exception {
+        Orderable order = getOrders().get(0);
+        OrderFormatOptions ofo = OrderFormatOptions.createTerse();
+        ofo.setEndWithDot(true);
+
+        assertEquals(".", OrderFormat.format(ofo, "", order));
+        assertEquals("x ", OrderFormat.format(ofo, "x ", order));
+        assertEquals("x" + ofo.getArrow(), OrderFormat.format(ofo, "x{_arrow_}", order));
+        assertTrue(OrderFormat.format(ofo, order).endsWith("."));
+
+        // nothing appended, after a prefix ending with a space or arrow
+        StringBuilder sb = new StringBuilder("x ");
+        OrderFormat.format(ofo, "", order, sb);
+        assertEquals("x .", sb.toString());
+        sb = new StringBuilder("x" + ofo.getArrow());
+        OrderFormat.format(ofo, "", order, sb);
+        assertEquals("x" + ofo.getArrow() + ".", sb.toString());
+
+        // an arrow split between the prefix and the appended text
+        ofo.setArrow("->");
+        sb = new StringBuilder("x-");
+        OrderFormat.format(ofo, ">", order, sb);
+        assertEquals("x->.", sb.toString());
+    }
+
+    /**
+     * Formats the orders with each preset, in their default format; and
+     * one order of each class with each of FORMATS.
+     */
+    static List<String> formatAll() throws Exception {
+        List<String> lines = new ArrayList<>();
+        List<Orderable> orders = getOrders();
+        for (Map.Entry<String, OrderFormatOptions> entry : getPresets().entrySet()) {
+            OrderFormatOptions ofo = entry.getValue();
+            List<String> formatted = new ArrayList<>();
+            for (Orderable order : orders) {
+                String key = getKey(order);
+                lines.add(entry.getKey() + " " + key + ": " + OrderFormat.format(ofo, order));
+                if (!formatted.contains(key)) {
+                    formatted.add(key);
+                    for (String format : FORMATS) {
+                        lines.add(entry.getKey() + " " + key + " \"" + format + "\": "
+                                + OrderFormat.format(ofo, format, order));
+                    }
+                }
+            }
+        }
+
+        return lines;
+    }
+
+    private static Map<String, OrderFormatOptions> getPresets() {
+        Map<String, OrderFormatOptions> presets = new LinkedHashMap<>();
+        presets.put("default", OrderFormatOptions.createDefault());
+        OrderFormatOptions ofo = OrderFormatOptions.createDefault();
+        ofo.setEndWithDot(true);
+        ofo.setArrow(OrderFormatOptions.ARROW_UNICODE);
+        presets.put("default.unicode", ofo);
+
+        presets.put("terse", OrderFormatOptions.createTerse());
+        ofo = OrderFormatOptions.createTerse();
+        ofo.setEndWithDot(true);
+        ofo.setArrow(OrderFormatOptions.ARROW_HYPHEN);
+        presets.put("terse.hyphen", ofo);
+
+        presets.put("verbose", OrderFormatOptions.createVerbose());
+        ofo = OrderFormatOptions.createVerbose();
+        ofo.setEndWithDot(true);
+        presets.put("verbose.dot", ofo);
+
+        presets.put("njudge", OrderFormatOptions.createNJudge());
+        ofo = OrderFormatOptions.createNJudge();
+        ofo.setEndWithDot(false);
+        presets.put("njudge.nodot", ofo);
+
+        presets.put("debug", OrderFormatOptions.createDebug());
+        ofo = OrderFormatOptions.createDebug();
+        ofo.setEndWithDot(true);
+        presets.put("debug.dot", ofo);
+        return presets;
+    }
+
+    /**
+     * The first orders of each class in the test case files; Moves with
+     * and without explicit convoy routes are counted separately.
+     */
+    private static List<Orderable> getOrders() {
+        List<Orderable> orders = new ArrayList<>();
+        Map<String, Integer> counts = new LinkedHashMap<>();
+        for (String caseFile : CASE_FILES) {
+            TestSuite testSuite = new TestSuite(RandomGame.VARIANTS_DIR);
+            testSuite.parseCases(new File(caseFile));
+            for (Case c : testSuite.getAllCases()) {
+                for (Order order : c.getOrders()) {
+                    String key = getKey(order);
+                    int count = counts.getOrDefault(key, 0);
+                    if (count < ORDERS_PER_CLASS) {
+                        counts.put(key, count + 1);
+                        orders.add(order);
+                    }
+                }
+            }
+        }
+
+        return orders;
+    }
+
+    private static String getKey(Orderable order) {
+        String key = order.getClass().getSimpleName();
+        if (order instanceof Move && ((Move) order).getConvoyRoute() != null) {
+            key += "(route)";
+        }
+
+        return key;
+    }
+}
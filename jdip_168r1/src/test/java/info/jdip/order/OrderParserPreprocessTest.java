@@ -0,0 +1,227 @@
+package info.jdip.order;
+
+import info.jdip.misc.RandomGame;
+import info.jdip.world.Map;
+import info.jdip.world.Province;
+import info.jdip.world.TurnState;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.StringTokenizer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+/**
+ * Compares the single-pass order preprocessor with the original one, on
+ * the order text of every case file in etc/test_data and of the order
+ * parser test suite (orders.txt). Each order is also tried in lower and
+ * upper case, and with province names replaced by their full (often
+ * multi-word) and short names.
+ * <p>
+ * Where the single-pass preprocessor handles an order, its output must
+ * consist of the same tokens as that of the original preprocessor, and the
+ * parsed Order (or parse error) must be the same. Only the tokens are used
+ * by the parser; the original preprocessor may leave repeated spaces.
+ * <p>
+ * Each of the preprocessor REPLACEMENTS is also tried within orders, as a
+ * token and as part of one, so that a replacement which the single-pass
+ * preprocessor neither handles nor declines is found.
+ */
+public class OrderParserPreprocessTest {
+    private static final File TEST_DATA = new File("etc/test_data");
+    private static final Pattern WORD = Pattern.compile("[A-Za-z]+");
+    // token separators, as used by OrderParser
+    private static final String WHITESPACE = ": \t\n\r";
+    // orders (for the Standard variant) in which each replacement is tried
+    private static final String[] REPLACEMENT_ORDERS = {
+            "England: %s", "England: %s lvp", "England: A lvp %s", "England: A lvp %s yor",
+            "England: F lon %s nth", "England: F lon %s A lvp %s yor", "England: %s A lvp yor",
+            "England: A lvp %s %s yor", "England: A lvp%s yor", "England: A %slvp yor",
+            "England: A lvp-%s-yor", "England: A lvp %sx yor", "England: A lvp x%s yor",
+    };
+
+    @Test
+    void corpus() throws Exception {
+        File[] files = TEST_DATA.listFiles((dir, name) -> name.endsWith(".txt"));
+        assertTrue(files != null && files.length > 0, "no test data in " + TEST_DATA);
+
+        OrderParser parser = OrderParser.getInstance();
+        int nOrders = 0;
+        int nFast = 0;
+
+        for (File file : files) {
+            List<String> lines = new ArrayList<>();
+            String variantName = readOrders(file, lines);
+            assertTrue(variantName != null, "no variant in " + file);
+            TurnState turnState = RandomGame.createWorld(variantName).getInitialTurnState();
+            Map map = turnState.getWorld().getMap();
+
+            for (String text : getVariations(lines, map)) {
+                nOrders++;
+                if (checkFast(parser, text, map, file.getName())) {
+                    nFast++;
+                    assertSameOrder(parser, text, turnState, file.getName());
+                }
+            }
+        }
+
+        // the fast path must be exercised
+        assertTrue(nFast * 2 > nOrders, "fast path used for " + nFast + " of " + nOrders + " orders");
+    }
+
+    @Test
+    void replacements() throws Exception {
+        OrderParser parser = OrderParser.getInstance();
+        TurnState turnState = RandomGame.createWorld("Standard").getInitialTurnState();
+        Map map = turnState.getWorld().getMap();
+        int nFast = 0;
+
+        for (String[] replacement : OrderParser.REPLACEMENTS) {
+            String keyword = replacement[0].trim();
+            for (String format : REPLACEMENT_ORDERS) {
+                for (String text : new String[]{format.replace("%s", keyword),
+                        format.replace("%s", keyword.toUpperCase(Locale.ENGLISH))}) {
+                    if (checkFast(parser, text, map, "\"" + replacement[0] + "\"")) {
+                        nFast++;
+                        assertSameOrder(parser, text, turnState, "\"" + replacement[0] + "\"");
+                    }
+                }
+            }
+        }
+
+        assertTrue(nFast > OrderParser.REPLACEMENTS.length, "fast path used for " + nFast + " orders");
+    }
+
+    /**
+     * If the single-pass preprocessor handles the order, checks that
+     * its tokens are those of the original preprocessor, and returns true.
+     */
+    private static boolean checkFast(OrderParser parser, String text, Map map, String source) {
+        String fast = parser.preprocessFast(text, map);
+        if (fast == null) {
+            return false;
+        }
+
+        try {
+            assertEquals(getTokens(parser.preprocess(text, map)), getTokens(fast),
+                    source + ": \"" + text + "\"");
+        } catch (OrderException e) {
+            fail(source + ": \"" + text + "\" fast: \"" + fast + "\" but: " + e.getMessage());
+        }
+
+        return true;
+    }
+
+    /**
+     * Checks that the Order (or the parse error) is the same whether or
+     * not the single-pass preprocessor is used.
+     */
+    private static void assertSameOrder(OrderParser parser, String text, TurnState turnState, String source) {
+        String message = source + ": \"" + text + "\"";
+        Order order = null;
+        String error = null;
+        try {
+            order = parser.parse(OrderFactory.getDefault(), text, null, turnState, false, false, false);
+        } catch (OrderException e) {
+            error = e.getMessage();
+        }
+
+        try {
+            Order fastOrder = parser.parse(OrderFactory.getDefault(), text, null, turnState, false, false, true);
+            assertNotNull(order, message + " fast: " + fastOrder + " but: " + error);
+            assertEquals(order.getClass(), fastOrder.getClass(), message);
+            // Order.equals() requires the power of supported units, which may be unknown
+            assertEquals(order.toFullString(), fastOrder.toFullString(), message);
+        } catch (OrderException e) {
+            assertEquals(error, e.getMessage(), message);
+        }
+    }
+
+    /**
+     * Adds the order text of a case file (the indented lines of each
+     * section) or of an order parser test suite (ORD: lines) to the
+     * given list, and returns the variant name.
+     */
+    private static String readOrders(File file, List<String> lines) throws IOException {
+        String variantName = null;
+
+        try (BufferedReader br = Files.newBufferedReader(file.toPath(), StandardCharsets.UTF_8)) {
+            String line = br.readLine();
+            while (line != null) {
+                boolean isIndented = !line.isEmpty() && Character.isWhitespace(line.charAt(0));
+                int cidx = line.indexOf('#');
+                line = ((cidx < 0) ? line : line.substring(0, cidx)).trim();
+                String lcLine = line.toLowerCase(Locale.ENGLISH);
+
+                if (lcLine.startsWith("variant_all ")) {
+                    variantName = line.substring(line.indexOf(' ') + 1).trim();
+                } else if (lcLine.startsWith("variant:")) {
+                    variantName = line.substring(line.indexOf(':') + 1).trim();
+                } else if (lcLine.startsWith("ord:")) {
+                    lines.add(line.substring(line.indexOf(':') + 1).trim());
+                } else if (isIndented && !line.isEmpty()) {
+                    lines.add(line);
+                }
+
+                line = br.readLine();
+            }
+        }
+
+        return variantName;
+    }
+
+    /**
+     * Each order as given, in lower and upper case, and with each word
+     * that names a province replaced by its full name, and by its short name.
+     */
+    private static Set<String> getVariations(List<String> lines, Map map) {
+        Set<String> variations = new LinkedHashSet<>();
+        for (String line : lines) {
+            variations.add(line);
+            variations.add(line.toLowerCase(Locale.ENGLISH));
+            variations.add(line.toUpperCase(Locale.ENGLISH));
+            variations.add(replaceProvinces(line, map, true));
+            variations.add(replaceProvinces(line, map, false));
+        }
+
+        return variations;
+    }
+
+    private static List<String> getTokens(String text) {
+        List<String> tokens = new ArrayList<>();
+        StringTokenizer st = new StringTokenizer(text, WHITESPACE, false);
+        while (st.hasMoreTokens()) {
+            tokens.add(st.nextToken());
+        }
+
+        return tokens;
+    }
+
+    private static String replaceProvinces(String line, Map map, boolean isFullName) {
+        StringBuffer sb = new StringBuffer(line.length() * 2);
+        Matcher m = WORD.matcher(line);
+        while (m.find()) {
+            Province province = (m.group().length() > 1) ? map.getProvince(m.group()) : null;
+            String name = (province == null) ? m.group()
+                    : (isFullName ? province.getFullName() : province.getShortName());
+            m.appendReplacement(sb, Matcher.quoteReplacement(name));
+        }
+
+        m.appendTail(sb);
+        return sb.toString();
+    }
+}
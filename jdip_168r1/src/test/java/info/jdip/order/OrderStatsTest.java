@@ -0,0 +1,79 @@
+package info.jdip.order;
+
+import info.jdip.misc.RandomGame;
+import info.jdip.order.result.OrderResult;
+import info.jdip.order.result.Result;
+import info.jdip.world.Power;
+import info.jdip.world.TurnState;
+import info.jdip.world.World;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Collects order statistics for the Movement phases of a random game, and
+ * checks them against the orders and results of each phase.
+ */
+public class OrderStatsTest {
+
+    @Test
+    void randomGame() throws Exception {
+        World world = RandomGame.play("Standard", 1, 40);
+        Power[] powers = world.getMap().getPowers();
+        int nPhases = 0;
+        int nSupports = 0;
+
+        for (TurnState ts : world.getTurnStates()) {
+            if (!OrderStats.isCollectable(ts)) {
+                continue;
+            }
+
+            nPhases++;
+            // default orders (for units without orders) are not counted
+            Set<Orderable> successful = new HashSet<>();
+            for (Result result : ts.getResultList()) {
+                if (result instanceof OrderResult
+                        && ((OrderResult) result).getResultType() == OrderResult.ResultType.SUCCESS) {
+                    successful.add(((OrderResult) result).getOrder());
+                }
+            }
+            successful.retainAll(ts.getAllOrders());
+
+            OrderStats[] stats = OrderStats.collect(ts, powers);
+            int nStatsSuccessful = 0;
+            for (int i = 0; i < powers.length; i++) {
+                OrderStats s = stats[i];
+                assertEquals(powers[i], s.getPower());
+                assertEquals(ts.getOrders(powers[i]).size(), s.getOrderCount());
+                assertEquals(s.getOrderCount(), s.getMoveCount() + s.getHoldCount()
+                        + s.getSupportCount() + s.getConvoyCount(), ts.getPhase().toString());
+                assertTrue(s.getSelfSupportCount() <= s.getSupportCount());
+                assertTrue(s.getSelfSupportSuccessCount() <= s.getSelfSupportCount());
+                assertTrue(s.getMoveSuccessCount() <= s.getMoveCount());
+
+                nStatsSuccessful += s.getMoveSuccessCount() + s.getHoldSuccessCount()
+                        + s.getSupportSuccessCount() + s.getConvoySuccessCount();
+                nSupports += s.getSupportCount();
+            }
+
+            assertEquals(successful.size(), nStatsSuccessful, ts.getPhase().toString());
+        }
+
+        assertTrue(nPhases > 5);
+        assertTrue(nSupports > 0);
+    }
+
+    @Test
+    void movementPhasesOnly() throws Exception {
+        World world = RandomGame.createWorld("Standard");
+        TurnState ts = world.getInitialTurnState();
+        assertFalse(OrderStats.isCollectable(ts));
+        assertThrows(IllegalArgumentException.class, () -> OrderStats.collect(ts, world.getMap().getPowers()));
+    }
+}
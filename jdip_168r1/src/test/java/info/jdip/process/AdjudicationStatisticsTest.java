@@ -0,0 +1,236 @@
+package info.jdip.process;
+
+import info.jdip.misc.Case;
+import info.jdip.misc.RandomGame;
+import info.jdip.misc.TestSuite;
+import info.jdip.order.OrderFactory;
+import info.jdip.world.Power;
+import info.jdip.world.TurnState;
+import info.jdip.world.World;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Adjudicates DATC cases (movement with and without a convoy paradox, a
+ * retreat, and an adjustment) with AdjudicationStatistics at several
+ * thresholds, and checks the recorded stages and counts against those
+ * reported by the adjudicator.
+ */
+public class AdjudicationStatisticsTest {
+    private static TestSuite testSuite;
+
+    @BeforeAll
+    static void setUp() {
+        testSuite = new TestSuite(RandomGame.VARIANTS_DIR);
+        testSuite.parseCases(new File("etc/test_data/datc_v2.4_06.txt"));
+    }
+
+    @Test
+    void convoyParadox() {
+        Case testCase = getCase("6.F.18");
+        Recorder recorder = adjudicate(testCase);
+        assertTrue(recorder.paradoxBreaks > 1);
+        assertTrue(recorder.iterations > recorder.paradoxBreaks);
+        assertEquals(testCase.getOrders().size(), recorder.orderCount);
+
+        for (AdjudicationStatistics stats : recorder.statistics) {
+            checkCounts(recorder, stats);
+            assertEquals(Arrays.asList(AdjudicationMonitor.STAGE_ADJUSTMENTS,
+                    AdjudicationMonitor.STAGE_CIRCULAR_PARADOX, AdjudicationMonitor.STAGE_SZYKMAN_PARADOX,
+                    AdjudicationMonitor.STAGE_CHECK_ORDERS, AdjudicationMonitor.STAGE_DEPENDENCIES,
+                    AdjudicationMonitor.STAGE_EVALUATION, AdjudicationMonitor.STAGE_NEXT_TURN,
+                    AdjudicationMonitor.STAGE_VALIDATION, AdjudicationMonitor.STAGE_VERIFICATION),
+                    stats.getStageNames());
+        }
+
+        // any adjudication takes more than 0 ms; none here takes a minute
+        assertEquals(1, recorder.statistics[0].getSlowCount());
+        assertEquals(0, recorder.statistics[1].getSlowCount());
+        assertEquals(0, recorder.statistics[2].getSlowCount());
+
+        // paradox-heavy if more breaks than the threshold
+        assertEquals(1, recorder.statistics[0].getParadoxHeavyCount());
+        assertEquals(1, recorder.statistics[1].getParadoxHeavyCount());
+        assertEquals(0, recorder.statistics[2].getParadoxHeavyCount());
+        assertEquals(0, recorder.statistics[0].getUnresolvedParadoxCount());
+    }
+
+    @Test
+    void withoutParadox() {
+        Recorder recorder = adjudicate(getCase("6.A.11"));
+        assertEquals(0, recorder.paradoxBreaks);
+        for (AdjudicationStatistics stats : recorder.statistics) {
+            checkCounts(recorder, stats);
+            assertNull(stats.getStageTimer(AdjudicationMonitor.STAGE_CIRCULAR_PARADOX));
+            assertNull(stats.getStageTimer(AdjudicationMonitor.STAGE_SZYKMAN_PARADOX));
+            assertEquals(0, stats.getParadoxHeavyCount());
+        }
+    }
+
+    @Test
+    void retreat() {
+        Recorder recorder = adjudicate(getCase("6.H.2"));
+        assertEquals(3, recorder.orderCount);
+        for (AdjudicationStatistics stats : recorder.statistics) {
+            checkCounts(recorder, stats);
+            assertNotNull(stats.getStageTimer(AdjudicationMonitor.STAGE_VALIDATION));
+            assertNotNull(stats.getStageTimer(AdjudicationMonitor.STAGE_NEXT_TURN));
+            assertEquals(0, stats.getParadoxHeavyCount());
+        }
+    }
+
+    @Test
+    void adjustment() {
+        Recorder recorder = adjudicate(getCase("6.J.2"));
+        assertEquals(2, recorder.orderCount);
+        for (AdjudicationStatistics stats : recorder.statistics) {
+            checkCounts(recorder, stats);
+            assertNotNull(stats.getStageTimer(AdjudicationMonitor.STAGE_VALIDATION));
+            assertNotNull(stats.getStageTimer(AdjudicationMonitor.STAGE_ADJUSTMENTS));
+            assertEquals(0, stats.getParadoxHeavyCount());
+        }
+    }
+
+    @Test
+    void reset() {
+        AdjudicationStatistics stats = adjudicate(getCase("6.F.18")).statistics[0];
+        stats.reset();
+        assertTrue(stats.getStageNames().isEmpty());
+        assertEquals(0, stats.getAdjudicationTimer().getCount());
+        assertEquals(0, stats.getIterationTimer().getCount());
+        assertEquals(0, stats.getOrderCount());
+        assertEquals(0, stats.getParadoxBreakCount());
+        assertEquals(0, stats.getSlowCount());
+        assertEquals(0, stats.getParadoxHeavyCount());
+    }
+
+    @Test
+    void negativeThresholds() {
+        assertThrows(IllegalArgumentException.class, () -> new AdjudicationStatistics(-1L, 0));
+        assertThrows(IllegalArgumentException.class, () -> new AdjudicationStatistics(0L, -1));
+    }
+
+    /**
+     * Checks the statistics against the stages, iterations, and counts
+     * reported by the adjudicator.
+     */
+    private static void checkCounts(Recorder recorder, AdjudicationStatistics stats) {
+        assertEquals(1, stats.getAdjudicationTimer().getCount());
+        assertEquals(recorder.iterations, stats.getIterationTimer().getCount());
+        assertEquals(recorder.iterationReports, stats.getIterationTimer().getCount());
+        assertEquals(recorder.orderCount, stats.getOrderCount());
+        assertEquals(recorder.paradoxBreaks, stats.getParadoxBreakCount());
+        assertEquals(new ArrayList<>(recorder.stages.keySet()), stats.getStageNames());
+        for (Map.Entry<String, Integer> entry : recorder.stages.entrySet()) {
+            assertEquals((long) entry.getValue(), stats.getStageTimer(entry.getKey()).getCount(), entry.getKey());
+        }
+
+        assertTrue(stats.getAdjudicationTimer().getTotalNanos() > 0);
+        assertTrue(stats.getAdjudicationTimer().getMaxNanos() <= stats.getAdjudicationTimer().getTotalNanos());
+    }
+
+    /**
+     * Adjudicates a case, with statistics at thresholds of 0 ms and 0
+     * breaks, 1 minute and 1 break fewer than required, and 1 minute and
+     * the breaks required.
+     */
+    private static Recorder adjudicate(Case testCase) {
+        World world = testCase.getWorld();
+        world.setTurnState(testCase.getCurrentTurnState());
+        world.setTurnState(testCase.getPreviousTurnState());
+
+        // the number of paradox breaks required is found by a first adjudication
+        Recorder first = new Recorder(new AdjudicationStatistics());
+        process(copy(testCase.getCurrentTurnState()), first);
+        int breaks = first.paradoxBreaks;
+
+        Recorder recorder = new Recorder(new AdjudicationStatistics(0L, 0),
+                new AdjudicationStatistics(60000L, Math.max(0, breaks - 1)),
+                new AdjudicationStatistics(60000L, breaks));
+        process(testCase.getCurrentTurnState(), recorder);
+        assertEquals(breaks, recorder.paradoxBreaks);
+        return recorder;
+    }
+
+    private static void process(TurnState ts, Recorder recorder) {
+        StdAdjudicator adjudicator = new StdAdjudicator(OrderFactory.getDefault(), ts);
+        adjudicator.setMonitor(recorder);
+        adjudicator.setPowerOrderChecking(true);
+        adjudicator.process();
+        assertNotNull(adjudicator.getNextTurnState());
+    }
+
+    private static TurnState copy(TurnState current) {
+        TurnState ts = new TurnState(current.getPhase());
+        ts.setWorld(current.getWorld());
+        ts.setPosition(current.getPosition().copy());
+        ts.setSCOwnerChanged(current.getSCOwnerChanged());
+        for (Power power : current.getWorld().getMap().getPowers()) {
+            ts.setOrders(power, new ArrayList<>(current.getOrders(power)));
+        }
+        return ts;
+    }
+
+    private static Case getCase(String name) {
+        for (Case c : testSuite.getAllCases()) {
+            if (c.getName().equalsIgnoreCase(name)) {
+                return c;
+            }
+        }
+        throw new IllegalArgumentException(name);
+    }
+
+    /**
+     * Records what the adjudicator reports, and passes it on to statistics.
+     */
+    private static final class Recorder implements AdjudicationMonitor {
+        private final AdjudicationStatistics[] statistics;
+        private final Map<String, Integer> stages = new TreeMap<>();
+        private int iterationReports;
+        private int iterations;
+        private int orderCount;
+        private int paradoxBreaks;
+
+        Recorder(AdjudicationStatistics... statistics) {
+            this.statistics = statistics;
+        }
+
+        public void stageCompleted(TurnState ts, String stage, long nanos, long allocatedBytes, int orderCount) {
+            stages.merge(stage, 1, Integer::sum);
+            for (AdjudicationStatistics stats : statistics) {
+                stats.stageCompleted(ts, stage, nanos, allocatedBytes, orderCount);
+            }
+        }
+
+        public void iterationCompleted(TurnState ts, int iteration, long nanos, int evaluated, int resolved) {
+            iterationReports++;
+            assertEquals(iterationReports, iteration);
+            for (AdjudicationStatistics stats : statistics) {
+                stats.iterationCompleted(ts, iteration, nanos, evaluated, resolved);
+            }
+        }
+
+        public void adjudicationCompleted(TurnState ts, long nanos, long allocatedBytes, int orderCount,
+                                          int iterations, int paradoxBreaks, boolean isUnresolvedParadox) {
+            this.iterations = iterations;
+            this.orderCount = orderCount;
+            this.paradoxBreaks = paradoxBreaks;
+            for (AdjudicationStatistics stats : statistics) {
+                stats.adjudicationCompleted(ts, nanos, allocatedBytes, orderCount, iterations,
+                        paradoxBreaks, isUnresolvedParadox);
+            }
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package info.jdip.process;
+
+import info.jdip.misc.RandomGame;
+import info.jdip.order.OrderFactory;
+import info.jdip.order.Orderable;
+import info.jdip.order.result.Result;
+import info.jdip.order.result.TimeResult;
+import info.jdip.world.TurnState;
+import info.jdip.world.World;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Plays random games twice in lock-step, adjudicating every phase with
+ * worklist evaluation enabled in one game and disabled in the other, and
+ * checks that the results (in order) and resulting positions are identical.
+ */
+public class EvaluationEquivalenceTest {
+    private static final int GAMES = 12;
+    private static final int MAX_PHASES = 80;
+
+    @Test
+    void standard() throws Exception {
+        compare("Standard", GAMES);
+    }
+
+    @Test
+    void ancientMediterranean() throws Exception {
+        compare("Ancient Mediterranean", GAMES);
+    }
+
+    @Test
+    void milan() throws Exception {
+        compare("Milan", 20);
+    }
+
+    private static void compare(String variantName, int games) throws Exception {
+        for (long seed = 0; seed < games; seed++) {
+            World sweepWorld = RandomGame.createWorld(variantName);
+            World worklistWorld = RandomGame.createWorld(variantName);
+            Random random = new Random(seed);
+
+            for (int i = 0; i < MAX_PHASES; i++) {
+                TurnState sweepTS = sweepWorld.getLastTurnState();
+                TurnState worklistTS = worklistWorld.getLastTurnState();
+                List<Orderable> orders = RandomGame.randomOrders(sweepTS.getPosition(), sweepTS.getPhase(), random);
+                RandomGame.setOrders(sweepTS, orders);
+                RandomGame.setOrders(worklistTS, orders);
+
+                TurnState sweepNext = adjudicate(sweepTS, false);
+                TurnState worklistNext = adjudicate(worklistTS, true);
+
+                String where = variantName + ", seed " + seed + ", " + sweepTS.getPhase();
+                assertEquals(getResults(sweepTS), getResults(worklistTS), where);
+                if (sweepNext == null || worklistNext == null) {
+                    assertEquals(sweepNext, worklistNext, where);
+                    break;
+                }
+
+                assertEquals(RandomGame.describe(sweepNext.getPosition()),
+                        RandomGame.describe(worklistNext.getPosition()), where);
+                if (sweepNext.isEnded()) {
+                    break;
+                }
+
+                sweepWorld.setTurnState(sweepNext);
+                worklistWorld.setTurnState(worklistNext);
+            }
+        }
+    }
+
+    private static TurnState adjudicate(TurnState ts, boolean isWorklist) {
+        StdAdjudicator adjudicator = new StdAdjudicator(OrderFactory.getDefault(), ts);
+        adjudicator.setWorklistEvaluation(isWorklist);
+        adjudicator.process();
+        return adjudicator.getNextTurnState();
+    }
+
+    private static List<String> getResults(TurnState ts) {
+        List<String> results = new ArrayList<>();
+        for (Result result : ts.getResultList()) {
+            if (!(result instanceof TimeResult)) {
+                results.add(result.getPower() + ": " + result.getMessage());
+            }
+        }
+
+        return results;
+    }
+}
@@ -0,0 +1,175 @@
+package info.jdip.process;
+
+import info.jdip.misc.RandomGame;
+import info.jdip.order.Disband;
+import info.jdip.order.Hold;
+import info.jdip.order.Move;
+import info.jdip.order.Order;
+import info.jdip.order.Retreat;
+import info.jdip.order.Support;
+import info.jdip.world.Phase;
+import info.jdip.world.Power;
+import info.jdip.world.Province;
+import info.jdip.world.TurnState;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests candidate generation, pruning, determinism and the time
+ * budget of OrderSearch, in Standard.
+ */
+public class OrderSearchTest {
+
+    @Test
+    void movementCandidates() throws Exception {
+        TurnState ts = RandomGame.createWorld("Standard").getInitialTurnState();
+        Power austria = ts.getWorld().getMap().getPower("Austria");
+        List<List<Order>> candidates = new OrderSearch(ts, austria).getCandidateOrders();
+
+        // A vie, A bud, F tri
+        assertEquals(3, candidates.size());
+        Set<String> all = new HashSet<>();
+        for (List<Order> list : candidates) {
+            assertTrue(list.get(0) instanceof Hold);
+            for (Order order : list) {
+                assertEquals(austria, order.getPower());
+                assertTrue(all.add(order.toString()), "duplicate " + order);
+            }
+        }
+
+        assertTrue(all.contains("Austria: A vie-gal"), all.toString());
+        assertTrue(all.contains("Austria: A bud S A vie-gal"), all.toString());
+        assertTrue(all.contains("Austria: F tri-alb"), all.toString());
+        assertFalse(all.contains("Austria: A vie-ven"), all.toString());
+    }
+
+    @Test
+    void retreatCandidates() throws Exception {
+        // the first Retreat phase of a game
+        TurnState ts = null;
+        for (TurnState played : RandomGame.play("Standard", 1, 60).getTurnStates()) {
+            if (ts == null && played.getPhase().getPhaseType() == Phase.PhaseType.RETREAT) {
+                ts = played;
+            }
+        }
+        assertNotNull(ts);
+
+        Province province = ts.getPosition().getDislodgedUnitProvinces()[0];
+        Power power = ts.getPosition().getDislodgedUnit(province).getPower();
+        List<List<Order>> candidates = new OrderSearch(ts, power).getCandidateOrders();
+
+        assertFalse(candidates.isEmpty());
+        for (List<Order> list : candidates) {
+            assertTrue(list.get(0) instanceof Disband);
+            for (Order order : list.subList(1, list.size())) {
+                assertTrue(order instanceof Retreat, order.toString());
+            }
+        }
+    }
+
+    @Test
+    void pruning() throws Exception {
+        OrderSearch search = createSearch("Austria");
+        OrderSearch.Candidate best = search.search();
+        assertNotNull(best);
+        assertFalse(search.isTimedOut());
+
+        long nCombinations = 1;
+        for (List<Order> list : search.getCandidateOrders()) {
+            nCombinations *= list.size();
+        }
+        assertTrue(search.getEvaluatedCount() > 0);
+        assertTrue(search.getEvaluatedCount() < nCombinations,
+                search.getEvaluatedCount() + " of " + nCombinations);
+
+        // the best orders are consistent with one another
+        List<Order> orders = best.getOrders();
+        Set<Province> dests = new HashSet<>();
+        for (Order order : orders) {
+            if (order instanceof Move) {
+                assertTrue(dests.add(((Move) order).getDest().getProvince()), orders.toString());
+            } else if (order instanceof Support) {
+                Province supported = ((Support) order).getSupportedSrc().getProvince();
+                for (Order other : orders) {
+                    if (other.getSource().getProvince() == supported) {
+                        assertEquals(((Support) order).isSupportingHold(), !(other instanceof Move), orders.toString());
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    void determinism() throws Exception {
+        OrderSearch search = createSearch("Austria");
+        OrderSearch.Candidate first = search.search();
+
+        OrderSearch other = createSearch("Austria");
+        ForkJoinPool pool = new ForkJoinPool(1);
+        try {
+            other.setPool(pool);
+            OrderSearch.Candidate second = other.search();
+            assertEquals(first.getOrders().toString(), second.getOrders().toString());
+            assertEquals(first.getScore(), second.getScore());
+            assertEquals(search.getEvaluatedCount(), other.getEvaluatedCount());
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void concurrentSearches() throws Exception {
+        OrderSearch search = createSearch("Austria");
+        String expected = search.search().getOrders().toString();
+
+        ExecutorService executor = Executors.newFixedThreadPool(3);
+        try {
+            List<Future<OrderSearch.Candidate>> futures = new ArrayList<>();
+            for (int i = 0; i < 3; i++) {
+                futures.add(executor.submit(search::search));
+            }
+
+            for (Future<OrderSearch.Candidate> future : futures) {
+                assertEquals(expected, future.get().getOrders().toString());
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void timeBudget() throws Exception {
+        OrderSearch search = createSearch("Russia");
+        long nCombinations = 1;
+        for (List<Order> list : search.getCandidateOrders()) {
+            nCombinations *= list.size();
+        }
+
+        search.setTimeBudget(1);
+        long start = System.nanoTime();
+        search.search();
+        long millis = (System.nanoTime() - start) / 1000000L;
+
+        assertTrue(search.isTimedOut());
+        assertTrue(search.getEvaluatedCount() < nCombinations);
+        assertTrue(millis < 5000, millis + " ms");
+    }
+
+    private static OrderSearch createSearch(String powerName) throws Exception {
+        TurnState ts = RandomGame.createWorld("Standard").getInitialTurnState();
+        return new OrderSearch(ts, ts.getWorld().getMap().getPower(powerName));
+    }
+}
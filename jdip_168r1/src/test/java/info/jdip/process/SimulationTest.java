@@ -0,0 +1,136 @@
+package info.jdip.process;
+
+import info.jdip.misc.RandomGame;
+import info.jdip.order.OrderFactory;
+import info.jdip.world.Phase;
+import info.jdip.world.Position;
+import info.jdip.world.Province;
+import info.jdip.world.TurnState;
+import info.jdip.world.VictoryConditions;
+import info.jdip.world.World;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Plays random games with a StdAdjudicator, and in lock-step with a chain of
+ * Simulations forked from the initial TurnState, and checks that each Outcome
+ * matches the World. The games end by the victory condition of no supply
+ * center changes for a number of years, which Simulations track themselves.
+ */
+public class SimulationTest {
+    private static final int GAMES = 6;
+    private static final int MAX_PHASES = 200;
+
+    @Test
+    void chainedSimulationMatchesWorld() throws Exception {
+        int nEnded = 0;
+        for (long seed = 0; seed < GAMES; seed++) {
+            World world = createWorld();
+            Simulation sim = Simulation.fork(world.getInitialTurnState());
+            Random random = new Random(seed);
+            Random simRandom = new Random(seed);
+
+            for (int i = 0; i < MAX_PHASES; i++) {
+                TurnState ts = world.getLastTurnState();
+                String where = "seed " + seed + ", " + ts.getPhase();
+                assertNotNull(sim, where);
+                assertEquals(ts.getPhase(), sim.getPhase(), where);
+                assertEquals(RandomGame.describe(ts.getPosition()), RandomGame.describe(sim.getPosition()), where);
+
+                // the same orders, as separate objects
+                Simulation.Outcome outcome = sim.adjudicate(
+                        RandomGame.randomOrders(sim.getPosition(), sim.getPhase(), simRandom));
+                RandomGame.setOrders(ts, RandomGame.randomOrders(ts.getPosition(), ts.getPhase(), random));
+                StdAdjudicator adjudicator = new StdAdjudicator(OrderFactory.getDefault(), ts);
+                adjudicator.process();
+                TurnState next = adjudicator.getNextTurnState();
+
+                assertEquals(ts.getPhase(), outcome.getPhase(), where);
+                assertEquals(next == null || next.isEnded(), outcome.isEnded(), where);
+                if (next == null) {
+                    break;
+                }
+
+                checkOutcome(outcome, ts, next, where);
+                world.setTurnState(next);
+                if (next.isEnded()) {
+                    assertNull(outcome.getNext(), where);
+                    nEnded++;
+                    break;
+                }
+
+                sim = outcome.getNext();
+            }
+        }
+
+        // victory conditions are evaluated by the Simulations
+        assertTrue(nEnded > 0);
+    }
+
+    @Test
+    void worldIsNotModified() throws Exception {
+        World world = RandomGame.play("Standard", 1, 12);
+        TurnState ts = world.getLastTurnState();
+        String expected = RandomGame.describe(world);
+        int nTurns = world.getAllTurnStates().size();
+
+        Simulation sim = Simulation.fork(ts);
+        for (int i = 0; i < 8 && sim != null; i++) {
+            Simulation.Outcome outcome = sim.adjudicate(
+                    RandomGame.randomOrders(sim.getPosition(), sim.getPhase(), new Random(i)));
+            sim = outcome.getNext();
+        }
+
+        assertEquals(nTurns, world.getAllTurnStates().size());
+        assertEquals(expected, RandomGame.describe(world));
+    }
+
+    private static void checkOutcome(Simulation.Outcome outcome, TurnState ts, TurnState next, String where) {
+        Position before = ts.getPosition();
+        Position after = next.getPosition();
+        assertEquals(RandomGame.describe(after), RandomGame.describe(outcome.getPosition()), where);
+
+        // each successful move leaves a unit at its destination
+        Province[] sources = outcome.getMoveSources();
+        Province[] dests = outcome.getMoveDestinations();
+        assertEquals(sources.length, dests.length, where);
+        for (Province dest : dests) {
+            assertTrue(after.hasUnit(dest), where + ": move to " + dest);
+        }
+
+        // dislodged units are those to retreat in the next phase
+        if (next.getPhase().getPhaseType() == Phase.PhaseType.RETREAT) {
+            assertEquals(toSet(after.getDislodgedUnitProvinces()), toSet(outcome.getDislodged()), where);
+        }
+
+        List<Province> scChanges = new ArrayList<>();
+        for (Province province : before.getProvinces()) {
+            if (province.hasSupplyCenter()
+                    && before.getSupplyCenterOwner(province) != after.getSupplyCenterOwner(province)) {
+                scChanges.add(province);
+            }
+        }
+        assertEquals(toSet(scChanges.toArray(new Province[0])), toSet(outcome.getSupplyCenterChanges()), where);
+    }
+
+    private static Set<Province> toSet(Province[] provinces) {
+        return new HashSet<>(Arrays.asList(provinces));
+    }
+
+    private static World createWorld() throws Exception {
+        World world = RandomGame.createWorld("Standard");
+        world.setVictoryConditions(new VictoryConditions(0, 2, 0, world.getInitialTurnState().getPhase()));
+        return world;
+    }
+}
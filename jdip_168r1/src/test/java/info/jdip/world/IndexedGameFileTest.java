@@ -0,0 +1,154 @@
+package info.jdip.world;
+
+import info.jdip.misc.RandomGame;
+import info.jdip.order.Orderable;
+import info.jdip.order.result.Result;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Writes random games to indexed game files, and checks that they read back
+ * identically after a complete write, after appends, after compaction, and
+ * after an interrupted append.
+ */
+public class IndexedGameFileTest {
+    private static final int PHASES = 40;
+
+    private File dir;
+    private File file;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        dir = Files.createTempDirectory("jdip-test").toFile();
+        file = new File(dir, "game.jdip");
+    }
+
+    @AfterEach
+    void tearDown() {
+        File[] files = dir.listFiles();
+        if (files != null) {
+            for (File f : files) {
+                f.delete();
+            }
+        }
+        dir.delete();
+    }
+
+    @Test
+    void roundTrip() throws Exception {
+        World world = RandomGame.play("Standard", 1, PHASES);
+        World.save(file, world, true);
+        assertTrue(World.isIndexedFile(file));
+
+        World read = World.open(file);
+        assertEquals(RandomGame.describe(world), RandomGame.describe(read));
+    }
+
+    @Test
+    void originalFormatIsDefault() throws Exception {
+        World world = RandomGame.play("Standard", 1, PHASES);
+        World.save(file, world);
+        assertFalse(World.isIndexedFile(file));
+
+        World read = World.open(file);
+        assertEquals(RandomGame.describe(world), RandomGame.describe(read));
+    }
+
+    @Test
+    void appendWritesModifiedTurnsOnly() throws Exception {
+        World.save(file, RandomGame.play("Standard", 2, PHASES), true);
+        long length = file.length();
+
+        // loading every TurnState does not modify them, whether or not they are paged out
+        World world = World.open(file);
+        world.setResidentTurnLimit(4);
+        String expected = RandomGame.describe(world);
+        World.save(file, world, true);
+        long growth = file.length() - length;
+        assertTrue(growth > 0 && growth * 10 < length, "grew by " + growth + " of " + length);
+
+        // a TurnState marked modified is appended
+        List<TurnState> turnStates = world.getAllTurnStates();
+        TurnState ts = turnStates.get(turnStates.size() / 2);
+        ts.getResultList().add(new Result("modified"));
+        world.setTurnStateModified(ts);
+        World.save(file, world, true);
+
+        World read = World.open(file);
+        assertEquals(RandomGame.describe(world), RandomGame.describe(read));
+        assertFalse(expected.equals(RandomGame.describe(read)));
+    }
+
+    @Test
+    void compaction() throws Exception {
+        World world = RandomGame.play("Standard", 3, PHASES);
+        World.save(file, world, true);
+        long length = file.length();
+
+        // each save appends every TurnState, until the file is compacted
+        boolean isCompacted = false;
+        for (int i = 0; i < 4 && !isCompacted; i++) {
+            for (TurnState ts : world.getTurnStates()) {
+                world.setTurnStateModified(ts);
+            }
+
+            long before = file.length();
+            World.save(file, world, true);
+            isCompacted = file.length() < before;
+        }
+
+        assertTrue(isCompacted);
+        assertTrue(file.length() < length + length / 10, file.length() + " vs. " + length);
+        assertEquals(RandomGame.describe(world), RandomGame.describe(World.open(file)));
+    }
+
+    @Test
+    void interruptedAppend() throws Exception {
+        World world = RandomGame.play("Standard", 4, PHASES);
+        World.save(file, world, true);
+        String expected = RandomGame.describe(World.open(file));
+
+        world.getInitialTurnState().getResultList().add(new Result("modified"));
+        world.setTurnStateModified(world.getInitialTurnState());
+        World.save(file, world, true);
+
+        // cut the trailer of the appended index; the previous index is used
+        try (RandomAccessFile raf = new RandomAccessFile(file, "rw")) {
+            raf.setLength(raf.length() - 1);
+        }
+
+        assertEquals(expected, RandomGame.describe(World.open(file)));
+    }
+
+    @Test
+    void references() throws Exception {
+        World.save(file, RandomGame.play("Standard", 5, PHASES), true);
+
+        World world = World.open(file);
+        Map map = world.getMap();
+        int nOrders = 0;
+        for (TurnState ts : world.getTurnStates()) {
+            assertSame(world, ts.getWorld());
+            for (Orderable order : ts.getAllOrders()) {
+                assertSame(map.getPower(order.getPower().getName()), order.getPower());
+                Province province = order.getSource().getProvince();
+                assertSame(map.reverseIndex(province.getIndex()), province);
+                nOrders++;
+            }
+        }
+
+        assertTrue(nOrders > 0);
+    }
+}
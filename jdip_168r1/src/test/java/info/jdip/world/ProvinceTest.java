@@ -0,0 +1,98 @@
+package info.jdip.world;
+
+import info.jdip.misc.RandomGame;
+import info.jdip.world.variant.VariantManager;
+import info.jdip.world.variant.data.Variant;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks the adjacency bits of each Province against a scan of its
+ * adjacent Locations, for every province and coast of the shipped variants,
+ * and for a coast without adjacent Locations.
+ */
+public class ProvinceTest {
+    private static final Coast[] COASTS = {Coast.NONE, Coast.SINGLE, Coast.NORTH, Coast.SOUTH,
+            Coast.WEST, Coast.EAST, Coast.WING};
+
+    @Test
+    void adjacencyMatchesLocations() throws Exception {
+        // initializes the VariantManager
+        RandomGame.createWorld("Standard");
+        Variant[] variants = VariantManager.getVariants();
+        assertTrue(variants.length > 10);
+
+        for (Variant variant : variants) {
+            World world = WorldFactory.getInstance().createWorld(variant);
+            Province[] provinces = world.getMap().getProvinces();
+            for (Province p : provinces) {
+                for (Coast coast : COASTS) {
+                    Location[] locations = p.getAdjacentLocations(coast);
+                    for (Province dest : provinces) {
+                        String message = variant.getName() + ": " + p.getShortName() + "/" + coast.getAbbreviation()
+                                + " - " + dest.getShortName();
+                        assertEquals(contains(locations, dest), p.isAdjacent(coast, dest), message);
+                        for (Coast destCoast : COASTS) {
+                            Location destLoc = new Location(dest, destCoast);
+                            assertEquals(contains(locations, destLoc), p.isAdjacent(coast, destLoc),
+                                    message + "/" + destCoast.getAbbreviation());
+                        }
+                    }
+                }
+
+                for (Province dest : provinces) {
+                    boolean touching = false;
+                    for (Coast coast : Coast.ALL_COASTS) {
+                        touching |= contains(p.getAdjacentLocations(coast), dest);
+                    }
+                    assertEquals(touching, p.isTouching(dest), variant.getName() + ": " + p.getShortName()
+                            + " - " + dest.getShortName());
+                }
+            }
+        }
+    }
+
+    @Test
+    void emptyCoast() {
+        Province p = new Province("Test", new String[]{"tst"}, 0, false);
+        Province other = new Province("Other", new String[]{"oth"}, 70, false);
+        Province.Adjacency adjacency = p.getAdjacency();
+        adjacency.setLocations(Coast.NONE, new Location[]{new Location(other, Coast.NONE)});
+        adjacency.setLocations(Coast.NORTH, Location.EMPTY);
+        adjacency.createWingCoasts();
+
+        long[][] bits = adjacency.createAdjacencyBits();
+        assertNull(bits[Coast.NORTH.getIndex()]);
+        assertEquals(2, bits[Coast.NONE.getIndex()].length);
+
+        assertFalse(p.isAdjacent(Coast.NORTH, other));
+        assertFalse(p.isAdjacent(Coast.NORTH, new Location(other, Coast.NONE)));
+        assertFalse(p.isAdjacent(Coast.SOUTH, other));
+        assertTrue(p.isAdjacent(Coast.NONE, other));
+        assertTrue(p.isAdjacent(Coast.NONE, new Location(other, Coast.NONE)));
+        assertTrue(p.isTouching(other));
+        assertFalse(p.isTouching(p));
+    }
+
+    private static boolean contains(Location[] locations, Province province) {
+        for (Location location : locations) {
+            if (location.getProvince().equals(province)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean contains(Location[] locations, Location location) {
+        for (Location l : locations) {
+            if (l.equals(location)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,53 @@
+package info.jdip.world;
+
+import info.jdip.misc.RandomGame;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Plays random games with all TurnStates resident, and with only a few
+ * resident (the others being paged out), and checks that the games are
+ * identical. The games end by the victory condition of no supply center
+ * changes for a number of years, which is evaluated by looking up earlier
+ * TurnStates, most of which are paged out.
+ */
+public class WorldPagingTest {
+    private static final int GAMES = 6;
+    private static final int MAX_PHASES = 200;
+    private static final int RESIDENT_LIMIT = 2;
+
+    @Test
+    void defaultIsUnlimited() {
+        assertEquals(0, World.getDefaultResidentTurnLimit());
+    }
+
+    @Test
+    void pagedGamesAreIdentical() throws Exception {
+        for (long seed = 0; seed < GAMES; seed++) {
+            World world = createWorld(0);
+            World pagedWorld = createWorld(RESIDENT_LIMIT);
+            RandomGame.play(world, seed, MAX_PHASES);
+            RandomGame.play(pagedWorld, seed, MAX_PHASES);
+
+            assertEquals(RandomGame.describe(world), RandomGame.describe(pagedWorld), "seed " + seed);
+            assertTrue(world.getLastTurnState().isEnded(), "seed " + seed);
+
+            // every TurnState can be found by an equal (but not identical) Phase
+            for (TurnState ts : world.getTurnStates()) {
+                Phase phase = ts.getPhase();
+                Phase copy = new Phase(phase.getSeasonType(), phase.getYear(), phase.getPhaseType());
+                assertNotNull(pagedWorld.getTurnState(copy), "seed " + seed + ", " + phase);
+            }
+        }
+    }
+
+    private static World createWorld(int residentLimit) throws Exception {
+        World world = RandomGame.createWorld("Standard");
+        world.setResidentTurnLimit(residentLimit);
+        world.setVictoryConditions(new VictoryConditions(0, 2, 0, world.getInitialTurnState().getPhase()));
+        return world;
+    }
+}
@@ -0,0 +1,231 @@
+package info.jdip.world.variant;
+
+import info.jdip.misc.RandomGame;
+import info.jdip.order.Build;
+import info.jdip.order.Convoy;
+import info.jdip.order.Disband;
+import info.jdip.order.Hold;
+import info.jdip.order.Move;
+import info.jdip.order.Remove;
+import info.jdip.order.Retreat;
+import info.jdip.order.Support;
+import info.jdip.world.Border;
+import info.jdip.world.Coast;
+import info.jdip.world.Location;
+import info.jdip.world.Phase;
+import info.jdip.world.Power;
+import info.jdip.world.Province;
+import info.jdip.world.Unit;
+import info.jdip.world.VictoryConditions;
+import info.jdip.world.World;
+import info.jdip.world.WorldFactory;
+import info.jdip.world.variant.data.Variant;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFileAttributeView;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Writes variants to a cache in a temporary directory, for copies of their
+ * plugins, and checks that Worlds created from the cached variants match
+ * those created from the parsed variants; and that cache files are not read
+ * once the plugin has changed, or if they may have been written by others.
+ */
+public class VariantCacheTest {
+    private static final String PLUGIN_NAME = "stdVariantsVariants.zip";
+    private static final Class<?>[] ORDER_CLASSES = {Hold.class, Move.class, Support.class, Convoy.class,
+            Retreat.class, Disband.class, Build.class, Remove.class};
+    private static final Unit.Type[] UNIT_TYPES = {Unit.Type.ARMY, Unit.Type.FLEET, Unit.Type.WING};
+
+    private File savedDirectory;
+    private Path tmpDir;
+    private File cacheDir;
+    private File pluginFile;
+    private Variant[] variants;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        RandomGame.createWorld("Standard");
+        variants = new Variant[]{VariantManager.getVariant("Standard", VariantManager.VERSION_NEWEST)};
+
+        tmpDir = Files.createTempDirectory("variant-cache-test");
+        cacheDir = tmpDir.resolve("cache").toFile();
+        pluginFile = copyPlugin(PLUGIN_NAME);
+
+        savedDirectory = VariantCache.getDirectory();
+        VariantCache.setDirectory(cacheDir);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        VariantCache.setDirectory(savedDirectory);
+        try (Stream<Path> paths = Files.walk(tmpDir)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @Test
+    void disabledByDefault() {
+        assumeTrue(System.getProperty("jdip.variant.cache") == null);
+        assertNull(savedDirectory);
+
+        File userDir = VariantCache.getUserDirectory();
+        assertNotNull(userDir);
+        assertTrue(userDir.toPath().startsWith(System.getProperty("user.home")), userDir.toString());
+    }
+
+    @Test
+    void roundTrip() throws Exception {
+        // Loeb9, Imperium and Octarine have Borders
+        roundTrip(PLUGIN_NAME, "Standard");
+        roundTrip("loeb9Variants.zip", "Loeb9");
+        roundTrip("imperiumVariants.zip", "Imperium");
+        roundTrip("octarineVariants.zip", "Octarine");
+    }
+
+    @Test
+    void changedPluginInvalidatesCache() throws Exception {
+        byte[] digest = VariantCache.getDigest(pluginFile);
+        VariantCache.write(pluginFile, digest, variants);
+
+        // the same length, but not the same content
+        try (RandomAccessFile raf = new RandomAccessFile(pluginFile, "rw")) {
+            raf.seek(raf.length() / 2);
+            int b = raf.read();
+            raf.seek(raf.length() / 2);
+            raf.write(b ^ 0xFF);
+        }
+
+        byte[] newDigest = VariantCache.getDigest(pluginFile);
+        assertFalse(Arrays.equals(digest, newDigest));
+        assertNull(VariantCache.read(pluginFile, newDigest));
+
+        // a cache file for the new digest replaces the stale one
+        VariantCache.write(pluginFile, newDigest, variants);
+        assertNotNull(VariantCache.read(pluginFile, newDigest));
+        assertEquals(1, cacheDir.listFiles().length);
+    }
+
+    @Test
+    void untrustedFileIsIgnored() throws Exception {
+        byte[] digest = VariantCache.getDigest(pluginFile);
+        VariantCache.write(pluginFile, digest, variants);
+        Path cacheFile = cacheDir.listFiles()[0].toPath();
+        assumeTrue(Files.getFileAttributeView(cacheFile, PosixFileAttributeView.class) != null);
+
+        // the cache directory is private
+        assertEquals("rwx------", PosixFilePermissions.toString(Files.getPosixFilePermissions(cacheDir.toPath())));
+        assertNotNull(VariantCache.read(pluginFile, digest));
+
+        Files.setPosixFilePermissions(cacheFile, PosixFilePermissions.fromString("rw-rw-rw-"));
+        assertNull(VariantCache.read(pluginFile, digest));
+        Files.setPosixFilePermissions(cacheFile, PosixFilePermissions.fromString("rw-r--r--"));
+        assertNotNull(VariantCache.read(pluginFile, digest));
+
+        Files.setPosixFilePermissions(cacheDir.toPath(), PosixFilePermissions.fromString("rwxrwxrwx"));
+        assertNull(VariantCache.read(pluginFile, digest));
+    }
+
+    private void roundTrip(String pluginName, String variantName) throws Exception {
+        File plugin = pluginName.equals(PLUGIN_NAME) ? pluginFile : copyPlugin(pluginName);
+        Variant variant = VariantManager.getVariant(variantName, VariantManager.VERSION_NEWEST);
+        byte[] digest = VariantCache.getDigest(plugin);
+        VariantCache.write(plugin, digest, new Variant[]{variant});
+
+        Variant[] cached = VariantCache.read(plugin, digest);
+        assertNotNull(cached, variantName);
+        assertEquals(1, cached.length);
+        assertEquals(variant.getName(), cached[0].getName());
+        assertEquals(variant.getVersion(), cached[0].getVersion());
+
+        World expected = WorldFactory.getInstance().createWorld(variant);
+        World actual = WorldFactory.getInstance().createWorld(cached[0]);
+        assertEquals(describe(expected), describe(actual), variantName);
+    }
+
+    private File copyPlugin(String pluginName) throws IOException {
+        File file = tmpDir.resolve(pluginName).toFile();
+        Files.copy(new File(RandomGame.VARIANTS_DIR, pluginName).toPath(), file.toPath());
+        return file;
+    }
+
+    /**
+     * Describes the Map (powers, provinces, adjacency and borders), the
+     * initial Phase and Position, and the victory conditions of a World.
+     */
+    private static String describe(World world) {
+        StringBuilder sb = new StringBuilder(65536);
+        for (Power power : world.getMap().getPowers()) {
+            sb.append(Arrays.toString(power.getNames())).append(' ').append(power.getAdjective())
+                    .append(' ').append(power.isActive()).append('\n');
+        }
+
+        Phase initialPhase = world.getInitialTurnState().getPhase();
+        sb.append(initialPhase).append('\n');
+        List<Phase> phases = new ArrayList<>();
+        for (int year = initialPhase.getYear(); year < initialPhase.getYear() + 2; year++) {
+            for (Phase.SeasonType season : Phase.SeasonType.ALL) {
+                for (Phase.PhaseType phaseType : Phase.PhaseType.ALL) {
+                    if (Phase.isValid(season, phaseType)) {
+                        phases.add(new Phase(season, year, phaseType));
+                    }
+                }
+            }
+        }
+
+        for (Province p : world.getMap().getProvinces()) {
+            sb.append(p.getIndex()).append(' ').append(p.getFullName()).append(' ')
+                    .append(Arrays.toString(p.getShortNames())).append(' ').append(p.hasSupplyCenter())
+                    .append(' ').append(p.isConvoyableCoast()).append('\n');
+            for (Coast coast : Coast.ALL_COASTS) {
+                sb.append(coast).append(Arrays.toString(p.getAdjacentLocations(coast))).append('\n');
+            }
+
+            for (Location from : p.getAllAdjacent()) {
+                sb.append(from).append(" modifier ").append(p.getBaseMoveModifier(from)).append('\n');
+                for (Unit.Type unitType : UNIT_TYPES) {
+                    for (Phase phase : phases) {
+                        for (Class<?> orderClass : ORDER_CLASSES) {
+                            Border border = p.getTransit(from, unitType, phase, orderClass);
+                            if (border != null) {
+                                sb.append(from).append(' ').append(unitType).append(' ').append(phase)
+                                        .append(' ').append(orderClass.getSimpleName()).append(": ")
+                                        .append(border.getDescription()).append('\n');
+                            }
+                        }
+                    }
+                }
+            }
+        }
+
+        sb.append(RandomGame.describe(world.getInitialTurnState().getPosition())).append('\n');
+        for (Province p : world.getInitialTurnState().getPosition().getHomeSupplyCenters()) {
+            sb.append(p.getShortName()).append('^')
+                    .append(world.getInitialTurnState().getPosition().getSupplyCenterHomePower(p)).append(';');
+        }
+
+        VictoryConditions vc = world.getVictoryConditions();
+        sb.append('\n').append(vc.getSCsRequiredForVictory()).append(' ').append(vc.getYearsWithoutSCChange())
+                .append(' ').append(vc.getMaxGameDurationYears()).append('\n');
+        return sb.toString();
+    }
+}
@@ -0,0 +1,193 @@
+package info.jdip.world.variant;
+
+import info.jdip.misc.RandomGame;
+import info.jdip.world.variant.data.Variant;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+import java.util.zip.ZipOutputStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Reloads a plugin (a copy of the DATC test variants, renamed) as it is
+ * added, changed, broken, and removed; and reinitializes with a changed
+ * plugin. Resources opened before reloading must remain readable, unless
+ * their plugin has changed and the new plugin has been published; and
+ * resources opened afterwards must be those of the new plugin.
+ */
+public class VariantManagerTest {
+    private static final String VARIANT_NAME = "Reload_DATC_Standard";
+    private static final URI VARIANTS_XML = URI.create("variants.xml");
+
+    private Path tmpDir;
+    private File pluginFile;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        RandomGame.createWorld("Standard");
+        tmpDir = Files.createTempDirectory("variant-manager-test");
+        pluginFile = tmpDir.resolve("reloadVariants.zip").toFile();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        if (pluginFile.delete() || VariantManager.getVariant(VARIANT_NAME, VariantManager.VERSION_NEWEST) != null) {
+            VariantManager.reloadPlugin(pluginFile);
+        }
+
+        try (Stream<Path> paths = Files.walk(tmpDir)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @Test
+    void reloadPlugin() throws Exception {
+        Variant standard = VariantManager.getVariant("Standard", VariantManager.VERSION_NEWEST);
+        assertNull(VariantManager.getVariant(VARIANT_NAME, VariantManager.VERSION_NEWEST));
+
+        writePlugin("1.0");
+        VariantManager.reloadPlugin(pluginFile);
+        Variant variant = VariantManager.getVariant(VARIANT_NAME, VariantManager.VERSION_NEWEST);
+        assertNotNull(variant);
+        assertEquals(1.0f, variant.getVersion());
+
+        try (InputStream is = VariantManager.getResource(variant, VARIANTS_XML).openStream();
+             InputStream stdIs = VariantManager.getResource(standard, VARIANTS_XML).openStream()) {
+            assertTrue(is.read() >= 0);
+            assertTrue(stdIs.read() >= 0);
+
+            // a broken plugin (the version is not a number) is not loaded, and
+            // the previous plugin remains in use
+            writePlugin("x");
+            assertThrows(IOException.class, () -> VariantManager.reloadPlugin(pluginFile));
+            assertSame(variant, VariantManager.getVariant(VARIANT_NAME, VariantManager.VERSION_NEWEST));
+            assertTrue(read(is).contains("version=\"1.0\""));
+
+            // other plugins are not affected by a reload
+            writePlugin("2.0");
+            VariantManager.reloadPlugin(pluginFile);
+            assertTrue(read(stdIs).contains("name=\"Standard\""));
+        }
+
+        Variant newVariant = VariantManager.getVariant(VARIANT_NAME, VariantManager.VERSION_NEWEST);
+        assertEquals(2.0f, newVariant.getVersion());
+        assertEquals(1.0f, variant.getVersion());
+        assertSame(standard, VariantManager.getVariant("Standard", VariantManager.VERSION_NEWEST));
+        try (InputStream is = VariantManager.getResource(newVariant, VARIANTS_XML).openStream()) {
+            assertTrue(read(is).contains("version=\"2.0\""));
+        }
+
+        // the plugin is removed once deleted
+        assertTrue(pluginFile.delete());
+        VariantManager.reloadPlugin(pluginFile);
+        assertNull(VariantManager.getVariant(VARIANT_NAME, VariantManager.VERSION_NEWEST));
+        assertSame(standard, VariantManager.getVariant("Standard", VariantManager.VERSION_NEWEST));
+
+        assertThrows(IllegalArgumentException.class,
+                () -> VariantManager.reloadPlugin(new File(tmpDir.toFile(), "reload.zip")));
+    }
+
+    @Test
+    void initWithChangedPlugin() throws Exception {
+        File[] searchPaths = {RandomGame.VARIANTS_DIR, tmpDir.toFile()};
+        try {
+            writePlugin("1.0");
+            VariantManager.init(searchPaths, false);
+            Variant variant = VariantManager.getVariant(VARIANT_NAME, VariantManager.VERSION_NEWEST);
+            Variant standard = VariantManager.getVariant("Standard", VariantManager.VERSION_NEWEST);
+            assertEquals(1.0f, variant.getVersion());
+
+            try (InputStream stdIs = VariantManager.getResource(standard, VARIANTS_XML).openStream()) {
+                assertTrue(stdIs.read() >= 0);
+
+                // unchanged plugins are not closed
+                writePlugin("2.0");
+                VariantManager.init(searchPaths, false);
+                assertTrue(read(stdIs).contains("name=\"Standard\""));
+            }
+
+            Variant newVariant = VariantManager.getVariant(VARIANT_NAME, VariantManager.VERSION_NEWEST);
+            assertEquals(2.0f, newVariant.getVersion());
+            try (InputStream is = VariantManager.getResource(newVariant, VARIANTS_XML).openStream()) {
+                assertTrue(read(is).contains("version=\"2.0\""));
+            }
+        } finally {
+            VariantManager.init(new File[]{RandomGame.VARIANTS_DIR}, false);
+        }
+    }
+
+    /**
+     * Writes a copy of the DATC test variants plugin, with renamed variants,
+     * and the given version of the DATC_Standard variant.
+     */
+    private void writePlugin(String version) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ZipFile zipFile = new ZipFile(new File(RandomGame.VARIANTS_DIR, "testVariants.zip"));
+             ZipOutputStream zos = new ZipOutputStream(out)) {
+            for (ZipEntry entry : Collections.list(zipFile.entries())) {
+                byte[] data;
+                try (InputStream is = zipFile.getInputStream(entry)) {
+                    data = readBytes(is);
+                }
+
+                if (entry.getName().equals("variants.xml")) {
+                    String xml = new String(data, StandardCharsets.UTF_8)
+                            .replace("<VARIANT name=\"", "<VARIANT name=\"Reload_")
+                            .replace("name=\"" + VARIANT_NAME + "\" version=\"1.0\"",
+                                    "name=\"" + VARIANT_NAME + "\" version=\"" + version + "\"");
+                    data = xml.getBytes(StandardCharsets.UTF_8);
+                }
+
+                zos.putNextEntry(new ZipEntry(entry.getName()));
+                zos.write(data);
+                zos.closeEntry();
+            }
+        }
+
+        writeFile(out.toByteArray());
+    }
+
+    /**
+     * Replaces the plugin file; any open plugin file is not modified.
+     */
+    private void writeFile(byte[] data) throws IOException {
+        Path tmpFile = tmpDir.resolve("plugin.tmp");
+        Files.write(tmpFile, data);
+        Files.move(tmpFile, pluginFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    private static String read(InputStream is) throws IOException {
+        return new String(readBytes(is), StandardCharsets.UTF_8);
+    }
+
+    private static byte[] readBytes(InputStream is) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        byte[] buffer = new byte[8192];
+        int n;
+        while ((n = is.read(buffer)) >= 0) {
+            out.write(buffer, 0, n);
+        }
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,120 @@
+//
+//  @(#)AdjudicationBenchmark.java	1.00	10/2026
+//
+//
+//  This program is free software; you can redistribute it and/or modify
+//  it under the terms of the GNU General Public License as published by
+//  the Free Software Foundation; either version 2 of the License, or
+//  (at your option) any later version.
+//
+//  This program is distributed in the hope that it will be useful,
+//  but WITHOUT ANY WARRANTY; without even the implied warranty of
+//  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//  GNU General Public License for more details.
+//
+//  You should have received a copy of the GNU General Public License
+//  along with this program; if not, write to the Free Software
+//  Foundation, Inc., 675 Mass Ave, Cambridge, MA 02139, USA.
+//  Or from http://www.gnu.org/
+//
+package info.jdip.jmh;
+
+import info.jdip.misc.Case;
+import info.jdip.misc.TestSuite;
+import info.jdip.order.OrderFactory;
+import info.jdip.order.Orderable;
+import info.jdip.process.StdAdjudicator;
+import info.jdip.world.Power;
+import info.jdip.world.TurnState;
+import info.jdip.world.World;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * Adjudication throughput over the regression and DATC case files: every
+ * case file in etc/test_data, except datc_v2.4_06-6.e.4.txt (which only
+ * repeats case 6.E.4 of datc_v2.4_06.txt).
+ * <p>
+ * Each invocation adjudicates every case in the file once, using fresh
+ * copies of the case TurnStates so that no adjudicator state leaks between
+ * invocations. Case parsing and copying are excluded from the measurement.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class AdjudicationBenchmark {
+    @Param({"datc_v2.4_06.txt", "datc_v2.4_06_disable_failed_test.txt", "datc_v2.4_08.txt",
+            "datc_v2.4_09.txt", "datc_v2.4_10.txt", "datc_v2.4_10D.txt", "datc_v2.4_10F-10G-10L.txt",
+            "datc_v2.4_11.txt", "datc_v2.4_12.txt", "borders.txt", "dipai.txt", "explicitConvoys.txt",
+            "real.txt", "wing.txt"})
+    private String caseFile;
+
+    private List<Case> cases;
+    private TurnState[] current;
+    private TurnState[] previous;
+
+
+    @Setup(Level.Trial)
+    public void parseCases() {
+        final TestSuite suite = new TestSuite(BenchmarkData.getVariantsDir());
+        suite.parseCases(BenchmarkData.getTestDataFile(caseFile));
+        cases = suite.getAllCases();
+        current = new TurnState[cases.size()];
+        previous = new TurnState[cases.size()];
+    }// parseCases()
+
+
+    @Setup(Level.Invocation)
+    public void copyTurnStates() {
+        for (int i = 0; i < current.length; i++) {
+            final Case c = cases.get(i);
+            current[i] = copy(c.getWorld(), c.getCurrentTurnState());
+            previous[i] = copy(c.getWorld(), c.getPreviousTurnState());
+        }
+    }// copyTurnStates()
+
+
+    @Benchmark
+    public void adjudicate(Blackhole bh) {
+        for (int i = 0; i < current.length; i++) {
+            final World world = cases.get(i).getWorld();
+            world.setTurnState(current[i]);
+            world.setTurnState(previous[i]);
+
+            final StdAdjudicator adjudicator = new StdAdjudicator(OrderFactory.getDefault(), current[i]);
+            adjudicator.process();
+            bh.consume(adjudicator.getNextTurnState());
+        }
+    }// adjudicate()
+
+
+    /**
+     * Copy the Position, orders and results of a TurnState.
+     */
+    private static TurnState copy(World world, TurnState template) {
+        final TurnState ts = new TurnState(template.getPhase());
+        ts.setWorld(world);
+        ts.setPosition(template.getPosition().copy());
+        ts.setResultList(new ArrayList<>(template.getResultList()));
+
+        for (Power power : world.getMap().getPowers()) {
+            ts.setOrders(power, new ArrayList<Orderable>(template.getOrders(power)));
+        }
+
+        return ts;
+    }// copy()
+
+}// class AdjudicationBenchmark
@@ -0,0 +1,109 @@
+//
+//  @(#)BenchmarkData.java	1.00	10/2026
+//
+//
+//  This program is free software; you can redistribute it and/or modify
+//  it under the terms of the GNU General Public License as published by
+//  the Free Software Foundation; either version 2 of the License, or
+//  (at your option) any later version.
+//
+//  This program is distributed in the hope that it will be useful,
+//  but WITHOUT ANY WARRANTY; without even the implied warranty of
+//  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//  GNU General Public License for more details.
+//
+//  You should have received a copy of the GNU General Public License
+//  along with this program; if not, write to the Free Software
+//  Foundation, Inc., 675 Mass Ave, Cambridge, MA 02139, USA.
+//  Or from http://www.gnu.org/
+//
+package info.jdip.jmh;
+
+import info.jdip.world.InvalidWorldException;
+import info.jdip.world.RuleOptions;
+import info.jdip.world.World;
+import info.jdip.world.WorldFactory;
+import info.jdip.world.variant.VariantManager;
+import info.jdip.world.variant.data.Variant;
+
+import java.io.File;
+
+
+/**
+ * Shared setup for benchmarks: locations of variants and test data, and
+ * World creation.
+ * <p>
+ * The variant directory is given by the <code>jdip.variants</code> system
+ * property, and the test case directory by <code>jdip.testdata</code>;
+ * the Gradle build sets both.
+ */
+final class BenchmarkData {
+    /**
+     * Variant name for the standard map
+     */
+    static final String STANDARD = "Standard";
+
+    /**
+     * Variant name for the 34-power chaos map
+     */
+    static final String CHAOS = "Chaos";
+
+    private static boolean isInitialized = false;
+
+
+    private BenchmarkData() {
+    }// BenchmarkData()
+
+
+    /**
+     * Directory containing variant and symbol pack zips.
+     */
+    static File getVariantsDir() {
+        return new File(System.getProperty("jdip.variants", "../jdip_168r1/build/tmp/variants"));
+    }// getVariantsDir()
+
+
+    /**
+     * Get a test case file (in etc/test_data) by name.
+     */
+    static File getTestDataFile(String name) {
+        return new File(System.getProperty("jdip.testdata", "../jdip_168r1/etc/test_data"), name);
+    }// getTestDataFile()
+
+
+    /**
+     * Create a new World, at the starting position, for the named variant.
+     */
+    static World createWorld(String variantName)
+            throws InvalidWorldException {
+        final Variant variant = getVariant(variantName);
+        final World world = WorldFactory.getInstance().createWorld(variant);
+        world.setRuleOptions(RuleOptions.createFromVariant(variant));
+        return world;
+    }// createWorld()
+
+
+    /**
+     * Get the newest version of the named variant, initializing the
+     * VariantManager if required.
+     */
+    static synchronized Variant getVariant(String variantName) {
+        if (!isInitialized) {
+            try {
+                VariantManager.init(new File[]{getVariantsDir()}, false);
+            } catch (Exception e) {
+                throw new IllegalStateException("cannot load variants from " + getVariantsDir(), e);
+            }
+
+            isInitialized = true;
+        }
+
+        final Variant variant = VariantManager.getVariant(variantName, VariantManager.VERSION_NEWEST);
+        if (variant == null) {
+            throw new IllegalArgumentException("no variant: " + variantName);
+        }
+
+        return variant;
+    }// getVariant()
+
+}// class BenchmarkData
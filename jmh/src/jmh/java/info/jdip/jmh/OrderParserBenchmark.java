@@ -0,0 +1,191 @@
+//
+//  @(#)OrderParserBenchmark.java	1.00	10/2026
+//
+//
+//  This program is free software; you can redistribute it and/or modify
+//  it under the terms of the GNU General Public License as published by
+//  the Free Software Foundation; either version 2 of the License, or
+//  (at your option) any later version.
+//
+//  This program is distributed in the hope that it will be useful,
+//  but WITHOUT ANY WARRANTY; without even the implied warranty of
+//  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//  GNU General Public License for more details.
+//
+//  You should have received a copy of the GNU General Public License
+//  along with this program; if not, write to the Free Software
+//  Foundation, Inc., 675 Mass Ave, Cambridge, MA 02139, USA.
+//  Or from http://www.gnu.org/
+//
+package info.jdip.jmh;
+
+import info.jdip.order.DefineState;
+import info.jdip.order.Order;
+import info.jdip.order.OrderException;
+import info.jdip.order.OrderFactory;
+import info.jdip.order.OrderParser;
+import info.jdip.world.InvalidWorldException;
+import info.jdip.world.Location;
+import info.jdip.world.Position;
+import info.jdip.world.Province;
+import info.jdip.world.TurnState;
+import info.jdip.world.Unit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * Order parsing throughput.
+ * <p>
+ * The order text is every <code>ORD:</code> line of the order parser test
+ * suite (etc/test_data/orders.txt), parsed against the position set up by
+ * its <code>SETUP</code> and <code>SETUPDISLODGED</code> blocks. This
+ * includes abbreviations, misspellings and orders which cannot be parsed.
+ * Both the strict parse and the guessing parse (as used by the GUI, and by
+ * the order parser test suite) are measured.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class OrderParserBenchmark {
+    private static final String ORDER_FILE = "orders.txt";
+
+    private final List<String> texts = new ArrayList<>();
+    private TurnState turnState;
+
+
+    @Setup(Level.Trial)
+    public void readOrders()
+            throws IOException, InvalidWorldException, OrderException {
+        final File file = BenchmarkData.getTestDataFile(ORDER_FILE);
+        List<String> block = null;
+        final List<String> units = new ArrayList<>();
+        final List<String> dislodged = new ArrayList<>();
+
+        try (BufferedReader br = Files.newBufferedReader(file.toPath(), StandardCharsets.UTF_8)) {
+            String line = br.readLine();
+            while (line != null) {
+                final int cidx = line.indexOf('#');
+                line = ((cidx < 0) ? line : line.substring(0, cidx)).trim();
+                final String lcLine = line.toLowerCase(Locale.ENGLISH);
+
+                if (line.isEmpty()) {
+                    // ignore
+                } else if (lcLine.startsWith("variant:")) {
+                    turnState = BenchmarkData.createWorld(getText(line)).getLastTurnState();
+                } else if (lcLine.equals("setupdislodged")) {
+                    block = dislodged;
+                } else if (lcLine.equals("setup")) {
+                    block = units;
+                } else if (lcLine.equals("end")) {
+                    block = null;
+                } else if (lcLine.startsWith("ord:") || lcLine.startsWith("order:")) {
+                    texts.add(getText(line));
+                } else if (block != null) {
+                    block.add(line);
+                }
+
+                line = br.readLine();
+            }
+        }
+
+        if (turnState == null || texts.isEmpty()) {
+            throw new IOException("no VARIANT or orders in " + file);
+        }
+
+        final Position position = turnState.getPosition();
+        for (Province province : position.getProvinces()) {
+            position.setUnit(province, null);
+            position.setDislodgedUnit(province, null);
+        }
+
+        for (String text : units) {
+            final DefineState ds = parseSetup(text);
+            position.setUnit(ds.getSource().getProvince(), createUnit(ds));
+        }
+
+        for (String text : dislodged) {
+            final DefineState ds = parseSetup(text);
+            position.setDislodgedUnit(ds.getSource().getProvince(), createUnit(ds));
+        }
+    }// readOrders()
+
+
+    @Benchmark
+    public void parse(Blackhole bh) {
+        parseAll(bh, false);
+    }// parse()
+
+
+    @Benchmark
+    public void parseGuessing(Blackhole bh) {
+        parseAll(bh, true);
+    }// parseGuessing()
+
+
+    private void parseAll(Blackhole bh, boolean guess) {
+        final OrderParser parser = OrderParser.getInstance();
+        final OrderFactory factory = OrderFactory.getDefault();
+
+        for (String text : texts) {
+            try {
+                bh.consume(parser.parse(factory, text, null, turnState, false, guess));
+            } catch (OrderException e) {
+                bh.consume(e);
+            }
+        }
+    }// parseAll()
+
+
+    /**
+     * Text following the keyword of a line
+     */
+    private static String getText(String line) {
+        return line.substring(line.indexOf(':') + 1).trim();
+    }// getText()
+
+
+    /**
+     * Parse a setup line (e.g., "England: F nao") as a DefineState order.
+     */
+    private DefineState parseSetup(String text)
+            throws OrderException {
+        final Order order = OrderParser.getInstance().parse(OrderFactory.getDefault(),
+                text, null, turnState, false, false);
+        if (!(order instanceof DefineState)) {
+            throw new OrderException("not a unit position: " + text);
+        }
+
+        return (DefineState) order;
+    }// parseSetup()
+
+
+    /**
+     * Create the Unit of a setup line
+     */
+    private static Unit createUnit(DefineState ds)
+            throws OrderException {
+        final Location location = ds.getSource().getValidatedSetup(ds.getSourceUnitType());
+        final Unit unit = new Unit(ds.getPower(), ds.getSourceUnitType());
+        unit.setCoast(location.getCoast());
+        return unit;
+    }// createUnit()
+
+}// class OrderParserBenchmark
@@ -0,0 +1,117 @@
+//
+//  @(#)PathBenchmark.java	1.00	10/2026
+//
+//
+//  This program is free software; you can redistribute it and/or modify
+//  it under the terms of the GNU General Public License as published by
+//  the Free Software Foundation; either version 2 of the License, or
+//  (at your option) any later version.
+//
+//  This program is distributed in the hope that it will be useful,
+//  but WITHOUT ANY WARRANTY; without even the implied warranty of
+//  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//  GNU General Public License for more details.
+//
+//  You should have received a copy of the GNU General Public License
+//  along with this program; if not, write to the Free Software
+//  Foundation, Inc., 675 Mass Ave, Cambridge, MA 02139, USA.
+//  Or from http://www.gnu.org/
+//
+package info.jdip.jmh;
+
+import info.jdip.world.Coast;
+import info.jdip.world.InvalidWorldException;
+import info.jdip.world.Location;
+import info.jdip.world.Path;
+import info.jdip.world.Position;
+import info.jdip.world.Province;
+import info.jdip.world.World;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * Path queries used by the adjudicator and by AI/analysis code:
+ * minimum distance, theoretical convoy routes, and enumeration of all
+ * sea paths (as used for convoy path results).
+ * <p>
+ * Province pairs are a fixed, seeded sample so that results are
+ * comparable between runs.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PathBenchmark {
+    private static final int N_PAIRS = 64;
+
+    @Param({BenchmarkData.STANDARD, BenchmarkData.CHAOS})
+    private String variantName;
+
+    private final Path.FAPEvaluator evaluator = new Path.FAPEvaluator();
+    private Path path;
+    private Province[] srcs;
+    private Province[] dests;
+
+
+    @Setup(Level.Trial)
+    public void createWorld()
+            throws InvalidWorldException {
+        final World world = BenchmarkData.createWorld(variantName);
+        final Position position = world.getLastTurnState().getPosition();
+        path = new Path(position);
+
+        final List<Province> coastal = new ArrayList<>();
+        for (Province province : world.getMap().getProvinces()) {
+            if (province.isCoastal()) {
+                coastal.add(province);
+            }
+        }
+
+        final Random random = new Random(42L);
+        srcs = new Province[N_PAIRS];
+        dests = new Province[N_PAIRS];
+        for (int i = 0; i < N_PAIRS; i++) {
+            srcs[i] = coastal.get(random.nextInt(coastal.size()));
+            dests[i] = coastal.get(random.nextInt(coastal.size()));
+        }
+    }// createWorld()
+
+
+    @Benchmark
+    public void minDistance(Blackhole bh) {
+        for (int i = 0; i < N_PAIRS; i++) {
+            bh.consume(path.getMinDistance(srcs[i], dests[i]));
+        }
+    }// minDistance()
+
+
+    @Benchmark
+    public void possibleConvoyRoute(Blackhole bh) {
+        for (int i = 0; i < N_PAIRS; i++) {
+            bh.consume(path.isPossibleConvoyRoute(new Location(srcs[i], Coast.NONE),
+                    new Location(dests[i], Coast.NONE)));
+        }
+    }// possibleConvoyRoute()
+
+
+    @Benchmark
+    public void allSeaPaths(Blackhole bh) {
+        for (int i = 0; i < N_PAIRS; i++) {
+            bh.consume(Path.findAllSeaPaths(evaluator, srcs[i], dests[i]));
+        }
+    }// allSeaPaths()
+
+}// class PathBenchmark
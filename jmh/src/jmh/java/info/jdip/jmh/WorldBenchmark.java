@@ -0,0 +1,118 @@
+//
+//  @(#)WorldBenchmark.java	1.00	10/2026
+//
+//
+//  This program is free software; you can redistribute it and/or modify
+//  it under the terms of the GNU General Public License as published by
+//  the Free Software Foundation; either version 2 of the License, or
+//  (at your option) any later version.
+//
+//  This program is distributed in the hope that it will be useful,
+//  but WITHOUT ANY WARRANTY; without even the implied warranty of
+//  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//  GNU General Public License for more details.
+//
+//  You should have received a copy of the GNU General Public License
+//  along with this program; if not, write to the Free Software
+//  Foundation, Inc., 675 Mass Ave, Cambridge, MA 02139, USA.
+//  Or from http://www.gnu.org/
+//
+package info.jdip.jmh;
+
+import info.jdip.world.InvalidWorldException;
+import info.jdip.world.Position;
+import info.jdip.world.World;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * World persistence and Position copying.
+ * <p>
+ * Saving to the file a World was last saved to only appends changed data,
+ * so <code>save</code> alternates between two files; each save is a
+ * complete write. Files are written to a temporary directory, which is
+ * deleted at the end of the trial.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class WorldBenchmark {
+    @Param({BenchmarkData.STANDARD, BenchmarkData.CHAOS})
+    private String variantName;
+
+    private World world;
+    private Position position;
+    private File dir;
+    private File saved;
+    private File[] scratch;
+    private int nSaves = 0;
+
+
+    @Setup(Level.Trial)
+    public void createWorld()
+            throws InvalidWorldException, IOException {
+        world = BenchmarkData.createWorld(variantName);
+        position = world.getLastTurnState().getPosition();
+
+        dir = Files.createTempDirectory("jdip-bench-").toFile();
+        saved = new File(dir, "saved.jdip");
+        scratch = new File[]{new File(dir, "scratch-0.jdip"), new File(dir, "scratch-1.jdip")};
+        World.save(saved, world);
+    }// createWorld()
+
+
+    @TearDown(Level.Trial)
+    public void deleteFiles()
+            throws IOException {
+        // includes any temporary files left by an interrupted save
+        final File[] files = dir.listFiles();
+        if (files != null) {
+            for (File file : files) {
+                Files.deleteIfExists(file.toPath());
+            }
+        }
+
+        Files.deleteIfExists(dir.toPath());
+    }// deleteFiles()
+
+
+    @Benchmark
+    public void save()
+            throws IOException {
+        World.save(scratch[nSaves++ & 1], world);
+    }// save()
+
+
+    @Benchmark
+    public World open()
+            throws IOException {
+        return World.open(saved);
+    }// open()
+
+
+    @Benchmark
+    public Position copyPosition() {
+        return position.copy();
+    }// copyPosition()
+
+
+    @Benchmark
+    public Position cloneExceptUnits() {
+        return position.cloneExceptUnits();
+    }// cloneExceptUnits()
+
+}// class WorldBenchmark